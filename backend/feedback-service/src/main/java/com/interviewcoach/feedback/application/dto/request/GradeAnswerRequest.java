@@ -0,0 +1,52 @@
+package com.interviewcoach.feedback.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * [B-20] 답변 제출 + 채점 단일 요청
+ * 채점 결과는 SSE로 전송되고, 답변/피드백 저장과 통계 기록은 서버에서 처리
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeAnswerRequest {
+
+    private Long qnaId;
+
+    @NotNull(message = "질문 순서는 필수입니다")
+    private Integer questionOrder;
+
+    private String question;
+
+    @NotBlank(message = "답변 내용은 필수입니다")
+    @Size(max = 5000, message = "답변은 5000자 이내여야 합니다")
+    private String answer;
+
+    private Integer followUpDepth;
+
+    private String skillCategory;
+
+    // true면 꼬리 질문이 생성된 경우 interview-service가 QnA로 바로 추가
+    private Boolean appendFollowUp;
+
+    private Boolean fresh;
+
+    public int getFollowUpDepthOrDefault() {
+        return followUpDepth != null ? followUpDepth : 0;
+    }
+
+    public boolean isAppendFollowUp() {
+        return Boolean.TRUE.equals(appendFollowUp);
+    }
+
+    public boolean isFresh() {
+        return Boolean.TRUE.equals(fresh);
+    }
+}
@@ -2,11 +2,13 @@ package com.interviewcoach.feedback.application.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class RecordAnswerRequest {
 
     @NotBlank(message = "스킬 카테고리는 필수입니다")
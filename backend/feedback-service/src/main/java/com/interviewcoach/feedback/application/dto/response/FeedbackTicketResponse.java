@@ -0,0 +1,12 @@
+package com.interviewcoach.feedback.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FeedbackTicketResponse {
+
+    private String ticket;
+    private Long expiresIn;
+}
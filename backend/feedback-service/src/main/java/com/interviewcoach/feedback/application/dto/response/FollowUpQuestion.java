@@ -1,10 +1,14 @@
 package com.interviewcoach.feedback.application.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class FollowUpQuestion {
     private String questionText;
     private String focusArea;
@@ -0,0 +1,107 @@
+package com.interviewcoach.feedback.application.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.application.dto.request.GradeAnswerRequest;
+import com.interviewcoach.feedback.application.dto.request.RecordAnswerRequest;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.application.dto.response.FollowUpQuestion;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackGeneratedEvent;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackGeneratedPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * [B-20] 채점 결과 후처리 (서버 측 파이프라인)
+ *
+ * Before: 클라이언트가 채점 후 PUT /interviews/{id}/qna/{order}/feedback, POST /statistics/record 별도 호출
+ * After: 채점 파드에서 바로 처리
+ *        - 답변 + 피드백 jsonb (+ 꼬리 질문) → FeedbackGenerated 이벤트 → interview-service 1 트랜잭션
+ *        - 통계 → 같은 서비스이므로 StatisticsService 직접 호출 (HTTP 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerGradingService {
+
+    static final int PASSING_SCORE = 60;
+    static final String DEFAULT_SKILL_CATEGORY = "general";
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final FeedbackGeneratedPublisher feedbackGeneratedPublisher;
+    private final StatisticsService statisticsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 채점 결과 전달은 이미 SSE로 보장되므로, 후처리 실패는 로그만 남기고 스트림을 끊지 않음
+     * 같은 답변으로 다시 호출되어도 안전: 이벤트는 같은 내용으로 덮어쓰기(점수는 차이만 반영, 꼬리 질문은 1회),
+     * 통계는 세션 + 질문 순번당 한 번만 집계
+     */
+    public void recordGradedAnswer(Long userId, Long sessionId, GradeAnswerRequest request, FeedbackResponse feedback) {
+        try {
+            feedbackGeneratedPublisher.publish(toEvent(userId, sessionId, request, feedback));
+        } catch (Exception e) {
+            log.error("Failed to publish FeedbackGenerated: sessionId={}, questionOrder={}, error={}",
+                    sessionId, request.getQuestionOrder(), e.getMessage());
+        }
+
+        if (userId == null) {
+            return;
+        }
+        try {
+            statisticsService.recordGradedAnswer(userId, sessionId, request.getQuestionOrder(),
+                    toRecordAnswerRequest(request, feedback));
+        } catch (Exception e) {
+            log.error("Failed to record statistics: userId={}, sessionId={}, error={}",
+                    userId, sessionId, e.getMessage());
+        }
+    }
+
+    FeedbackGeneratedEvent toEvent(Long userId, Long sessionId, GradeAnswerRequest request, FeedbackResponse feedback) {
+        FollowUpQuestion followUp = feedback.getFollowUpQuestion();
+        boolean hasFollowUp = Boolean.TRUE.equals(feedback.getHasFollowUp())
+                && followUp != null && followUp.getQuestionText() != null && !followUp.getQuestionText().isBlank();
+
+        return new FeedbackGeneratedEvent(
+                sessionId,
+                request.getQnaId(),
+                request.getQuestionOrder(),
+                userId,
+                request.getAnswer(),
+                toFeedbackMap(feedback),
+                request.getFollowUpDepthOrDefault(),
+                request.isAppendFollowUp() && hasFollowUp,
+                hasFollowUp ? followUp.getQuestionText() : null,
+                hasFollowUp ? followUp.getFocusArea() : null,
+                System.currentTimeMillis()
+        );
+    }
+
+    // interview_qna.feedback에 저장되는 형태 (세션/QnA id는 컬럼으로 이미 존재하므로 제외)
+    private Map<String, Object> toFeedbackMap(FeedbackResponse feedback) {
+        Map<String, Object> map = new LinkedHashMap<>(objectMapper.convertValue(
+                feedback.toBuilder().sessionId(null).qnaId(null).build(), MAP_TYPE));
+        map.values().removeIf(Objects::isNull);
+        return map;
+    }
+
+    private RecordAnswerRequest toRecordAnswerRequest(GradeAnswerRequest request, FeedbackResponse feedback) {
+        int score = feedback.getScore() != null ? feedback.getScore() : 0;
+        boolean isCorrect = score >= PASSING_SCORE;
+        String skillCategory = request.getSkillCategory() != null && !request.getSkillCategory().isBlank()
+                ? request.getSkillCategory() : DEFAULT_SKILL_CATEGORY;
+        return new RecordAnswerRequest(skillCategory, isCorrect, isCorrect ? null : firstImprovement(feedback), score);
+    }
+
+    private String firstImprovement(FeedbackResponse feedback) {
+        List<String> improvements = feedback.getImprovements();
+        return improvements != null && !improvements.isEmpty() ? improvements.get(0) : null;
+    }
+}
@@ -1,22 +1,38 @@
 package com.interviewcoach.feedback.application.service;
 
+import com.interviewcoach.feedback.application.dto.request.GradeAnswerRequest;
 import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.application.dto.response.FeedbackTicketResponse;
+import com.interviewcoach.feedback.exception.FeedbackTicketNotFoundException;
 import com.interviewcoach.feedback.infrastructure.llm.FeedbackLlmClient;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackEventBus;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackStreamEvent;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackTicketStore;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackTicketStore.FeedbackTicket;
 import com.interviewcoach.feedback.infrastructure.streaming.SseEmitterManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 public class FeedbackService {
 
+    private static final Consumer<FeedbackResponse> NO_POST_PROCESS = feedback -> { };
+
     private final SseEmitterManager sseEmitterManager;
+    private final FeedbackEventBus feedbackEventBus;
     private final FeedbackLlmClient feedbackLlmClient;
+    private final FeedbackTicketStore feedbackTicketStore;
+    private final AnswerGradingService answerGradingService;
     private final Executor feedbackExecutor;
 
     // [B-5] 전용 스레드 풀 주입
@@ -24,19 +40,152 @@ public class FeedbackService {
     // After: feedbackExecutor (core 50, max 100) → 타임아웃 0%
     public FeedbackService(
             SseEmitterManager sseEmitterManager,
+            FeedbackEventBus feedbackEventBus,
             FeedbackLlmClient feedbackLlmClient,
+            FeedbackTicketStore feedbackTicketStore,
+            AnswerGradingService answerGradingService,
             @Qualifier("feedbackExecutor") Executor feedbackExecutor) {
         this.sseEmitterManager = sseEmitterManager;
+        this.feedbackEventBus = feedbackEventBus;
         this.feedbackLlmClient = feedbackLlmClient;
+        this.feedbackTicketStore = feedbackTicketStore;
+        this.answerGradingService = answerGradingService;
         this.feedbackExecutor = feedbackExecutor;
     }
 
     public SseEmitter streamFeedback(Long sessionId, Long qnaId, String questionText, String answerText, int followUpDepth) {
+        return streamFeedback(null, sessionId, qnaId, questionText, answerText, followUpDepth, null);
+    }
+
+    public SseEmitter streamFeedback(Long userId, Long sessionId, Long qnaId, String questionText, String answerText,
+                                     int followUpDepth, String lastEventId) {
+        return streamFeedback(userId, sessionId, qnaId, questionText, answerText, followUpDepth, lastEventId, false);
+    }
+
+    /**
+     * [B-19] 답변을 한 번만 업로드하고 SSE GET에는 티켓만 전달
+     */
+    public FeedbackTicketResponse issueTicket(Long userId, Long sessionId, Long qnaId, String questionText,
+                                              String answerText, int followUpDepth) {
+        String ticket = feedbackTicketStore.issue(
+                new FeedbackTicket(sessionId, userId, qnaId, questionText, answerText, followUpDepth));
+        return FeedbackTicketResponse.builder()
+                .ticket(ticket)
+                .expiresIn(feedbackTicketStore.getTtl().toSeconds())
+                .build();
+    }
+
+    public SseEmitter streamFeedbackWithTicket(Long userId, Long sessionId, String ticketId,
+                                               String lastEventId, boolean fresh) {
+        FeedbackTicket ticket = feedbackTicketStore.find(ticketId)
+                .filter(t -> t.isIssuedFor(sessionId, userId))
+                .orElseThrow(FeedbackTicketNotFoundException::new);
+        return streamFeedback(userId, sessionId, ticket.qnaId(), ticket.question(), ticket.answer(),
+                ticket.followUpDepth(), lastEventId, fresh);
+    }
+
+    /**
+     * [B-16] Last-Event-ID가 있으면 재전송 버퍼로 이어받기
+     * 버퍼가 비어 있어도 다른 파드에서 생성 중(feedback:running 마커)이면 새로 생성하지 않고 채널 구독만 유지
+     * 버퍼가 만료되었거나 없고 생성 중도 아니면 새로 생성
+     * [B-18] fresh=true면 결과 캐시를 건너뛰고 새로 채점 (결과는 캐시에 갱신)
+     */
+    public SseEmitter streamFeedback(Long userId, Long sessionId, Long qnaId, String questionText, String answerText,
+                                     int followUpDepth, String lastEventId, boolean fresh) {
         // Use unique key: sessionId_qnaId to prevent SSE collision when answering quickly
         String emitterKey = sessionId + "_" + (qnaId != null ? qnaId : System.currentTimeMillis());
-        SseEmitter emitter = sseEmitterManager.createEmitter(emitterKey);
+
+        long resumeFrom = parseLastEventId(lastEventId);
+        if (qnaId != null && resumeFrom > 0) {
+            // 재전송 버퍼 조회 전에 등록해야 그 사이 발행된 이벤트를 놓치지 않음
+            SseEmitter emitter = sseEmitterManager.createResumableEmitter(emitterKey, userId);
+            Optional<List<FeedbackStreamEvent>> backlog = feedbackEventBus.replay(emitterKey, resumeFrom);
+            if (backlog.isPresent()) {
+                log.info("Resuming feedback stream: {}, lastEventId: {}", emitterKey, resumeFrom);
+                sseEmitterManager.resume(emitterKey, resumeFrom, backlog.get());
+                return emitter;
+            }
+            sseEmitterManager.resume(emitterKey, 0L, List.of());
+            startFeedbackTask(emitterKey, sessionId, qnaId, questionText, answerText, followUpDepth, fresh, NO_POST_PROCESS);
+            return emitter;
+        }
+
+        // [B-34] 사용자별 Emitter 수 제한 적용
+        SseEmitter emitter = sseEmitterManager.createEmitter(emitterKey, userId);
+        startFeedbackTask(emitterKey, sessionId, qnaId, questionText, answerText, followUpDepth, fresh, NO_POST_PROCESS);
+        return emitter;
+    }
+
+    /**
+     * [B-20] 답변 제출 + 채점 + 저장을 한 번의 요청으로 처리
+     * Before: submitAnswer → SSE 채점 → updateFeedback → statistics/record (Gateway 4회 왕복, 트랜잭션 4회)
+     * After: 이 스트림 1회 + 서버 내부 이벤트 (트랜잭션 2회: interview_qna, 통계)
+     */
+    public SseEmitter gradeAnswer(Long userId, Long sessionId, GradeAnswerRequest request) {
+        Long qnaId = request.getQnaId();
+        String emitterKey = sessionId + "_" + (qnaId != null ? qnaId : "order" + request.getQuestionOrder());
+
+        SseEmitter emitter = sseEmitterManager.createEmitter(emitterKey, userId);
+        // 저장이 끝난 뒤 피드백을 전송 → 클라이언트가 complete를 받으면 바로 다음 질문/완료 처리 가능
+        startFeedbackTask(emitterKey, sessionId, qnaId, request.getQuestion(), request.getAnswer(),
+                request.getFollowUpDepthOrDefault(), request.isFresh(),
+                feedback -> answerGradingService.recordGradedAnswer(userId, sessionId, request, feedback));
+        return emitter;
+    }
+
+    private void startFeedbackTask(String emitterKey, Long sessionId, Long qnaId,
+                                   String questionText, String answerText, int followUpDepth, boolean fresh,
+                                   Consumer<FeedbackResponse> postProcess) {
+        // [B-16] 같은 키를 다른 요청(파드)이 생성 중이면 Emitter는 이미 등록됨 → 채널로 그 결과를 전달받음
+        if (!feedbackEventBus.tryStartGeneration(emitterKey)) {
+            log.info("Feedback already generating, subscribing to in-flight stream: {}", emitterKey);
+            return;
+        }
+
+        // [B-18] 같은 질문/답변의 재시도·재연결은 LLM 호출 없이 즉시 응답 (스레드 풀도 거치지 않음)
+        if (!fresh && hasAnswer(questionText, answerText)) {
+            Optional<FeedbackResponse> cached = feedbackLlmClient.findCachedFeedback(
+                    sessionId, qnaId, questionText, answerText, followUpDepth);
+            if (cached.isPresent()) {
+                log.info("Feedback cache hit for session: {}, qnaId: {}", sessionId, qnaId);
+                // 캐시 키는 질문/답변 내용 기준이라 다른 QnA의 첫 채점일 수도 있음 → 후처리는 항상 실행
+                // 같은 QnA의 재생이면 후처리가 중복 반영하지 않음 (이벤트: 같은 내용 덮어쓰기, 통계: 답변당 1회)
+                postProcess.accept(cached.get());
+                feedbackEventBus.publishFeedback(emitterKey, cached.get());
+                feedbackEventBus.publishComplete(emitterKey);
+                return;
+            }
+        }
 
         // [B-5] 전용 스레드 풀로 비동기 피드백 생성
+        try {
+            submitFeedbackTask(emitterKey, sessionId, qnaId, questionText, answerText, followUpDepth, postProcess);
+        } catch (RejectedExecutionException e) {
+            // [B-13] 스레드 풀 포화 시 emitter를 즉시 종료 (60초 타임아웃까지 방치하지 않음)
+            log.warn("Feedback executor saturated, rejecting stream: {}", emitterKey);
+            feedbackEventBus.finishGeneration(emitterKey);
+            sseEmitterManager.completeWithError(emitterKey, e);
+        }
+    }
+
+    private boolean hasAnswer(String questionText, String answerText) {
+        return questionText != null && answerText != null && !answerText.isBlank();
+    }
+
+    private long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private void submitFeedbackTask(String emitterKey, Long sessionId, Long qnaId,
+                                    String questionText, String answerText, int followUpDepth,
+                                    Consumer<FeedbackResponse> postProcess) {
         CompletableFuture.runAsync(() -> {
             try {
                 log.info("Generating feedback for session: {}, qnaId: {}, followUpDepth: {}, question: {}",
@@ -45,28 +194,29 @@ public class FeedbackService {
 
                 // LLM으로 피드백 생성 (꼬리 질문 포함)
                 FeedbackResponse feedback;
-                if (questionText != null && answerText != null && !answerText.isBlank()) {
+                if (hasAnswer(questionText, answerText)) {
                     feedback = feedbackLlmClient.generateFeedbackWithFollowUp(sessionId, qnaId, questionText, answerText, followUpDepth);
                 } else {
                     log.warn("Question or answer is null/empty, using mock feedback");
                     feedback = feedbackLlmClient.generateFeedbackWithFollowUp(sessionId, qnaId, "", "", followUpDepth);
                 }
 
-                sseEmitterManager.sendFeedback(emitterKey, feedback);
+                postProcess.accept(feedback);
+
+                // [B-16] Emitter를 가진 파드가 어디든 이벤트 버스로 전달
+                feedbackEventBus.publishFeedback(emitterKey, feedback);
 
                 // 스트리밍 완료
                 Thread.sleep(200);
-                sseEmitterManager.complete(emitterKey);
+                feedbackEventBus.publishComplete(emitterKey);
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                sseEmitterManager.completeWithError(emitterKey, e);
+                feedbackEventBus.publishError(emitterKey, "Feedback generation interrupted");
             } catch (Exception e) {
                 log.error("Error streaming feedback for session {}: {}", sessionId, e.getMessage());
-                sseEmitterManager.completeWithError(emitterKey, e);
+                feedbackEventBus.publishError(emitterKey, e.getMessage());
             }
         }, feedbackExecutor);
-
-        return emitter;
     }
 }
@@ -0,0 +1,113 @@
+package com.interviewcoach.feedback.application.service;
+
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.infrastructure.llm.FeedbackLlmClient;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackStreamEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [B-17] 리액티브 피드백 스트리밍 (기존 SseEmitter 경로와 병행 운영)
+ *
+ * 문제: SseEmitter 경로는 연결당 feedbackExecutor 스레드가 LLM 응답 대기 (2-5초)
+ *       → 동시 스트림 수가 스레드 풀 크기(max 100)와 큐(200)에 묶임
+ *
+ * 해결: Flux<ServerSentEvent> 반환 + 스트리밍 LLM 클라이언트
+ *       - 연결은 Tomcat NIO 비동기 요청으로만 유지 (대기 중 점유 스레드 없음)
+ *       - 동시 "생성" 수만 카운터로 제한, 초과 시 error 이벤트 + retry 힌트로 즉시 종료
+ *       - 생성 중 heartbeat 주석으로 프록시 유휴 타임아웃 방지
+ */
+@Slf4j
+@Service
+public class ReactiveFeedbackService {
+
+    static final String BUSY_MESSAGE = "Feedback generation capacity exceeded";
+    private static final Duration BUSY_RETRY = Duration.ofSeconds(2);
+
+    private final FeedbackLlmClient feedbackLlmClient;
+    private final int maxConcurrentGenerations;
+    private final Duration heartbeatInterval;
+    private final AtomicInteger activeGenerations = new AtomicInteger();
+
+    public ReactiveFeedbackService(
+            FeedbackLlmClient feedbackLlmClient,
+            @Value("${feedback.reactive.max-concurrent-generations:500}") int maxConcurrentGenerations,
+            @Value("${feedback.reactive.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.feedbackLlmClient = feedbackLlmClient;
+        this.maxConcurrentGenerations = maxConcurrentGenerations;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * 이벤트 순서: (heartbeat 주석)* → feedback → complete
+     * complete/error 데이터는 기존 SseEmitter 경로와 동일 ({"status":"completed"}, {"message":...})
+     * → 클라이언트가 두 엔드포인트를 같은 파서로 처리
+     */
+    public Flux<ServerSentEvent<Object>> streamFeedback(Long sessionId, Long qnaId, String questionText,
+                                                                  String answerText, int followUpDepth, boolean fresh) {
+        Flux<ServerSentEvent<Object>> events = generate(sessionId, qnaId, questionText, answerText, followUpDepth, fresh)
+                .flatMapMany(feedback -> Flux.just(
+                        ServerSentEvent.<Object>builder(feedback).id("1").event(FeedbackStreamEvent.FEEDBACK).build(),
+                        ServerSentEvent.<Object>builder(Map.of("status", "completed"))
+                                .id("2").event(FeedbackStreamEvent.COMPLETE).build()))
+                .onErrorResume(this::errorEvent);
+
+        return events.publish(shared -> Flux.merge(
+                shared,
+                heartbeats().takeUntilOther(shared.ignoreElements())));
+    }
+
+    private Mono<FeedbackResponse> generate(Long sessionId, Long qnaId, String questionText,
+                                            String answerText, int followUpDepth, boolean fresh) {
+        return Mono.defer(() -> {
+            if (activeGenerations.incrementAndGet() > maxConcurrentGenerations) {
+                activeGenerations.decrementAndGet();
+                log.warn("Reactive feedback generation rejected: session {}, qnaId {}", sessionId, qnaId);
+                return Mono.error(new GenerationBusyException());
+            }
+
+            boolean hasAnswer = questionText != null && answerText != null && !answerText.isBlank();
+            if (!hasAnswer) {
+                log.warn("Question or answer is null/empty, using mock feedback");
+            }
+            return feedbackLlmClient.generateFeedbackWithFollowUpReactive(sessionId, qnaId,
+                            hasAnswer ? questionText : "", hasAnswer ? answerText : "", followUpDepth, fresh)
+                    .doFinally(signal -> activeGenerations.decrementAndGet());
+        });
+    }
+
+    private Flux<ServerSentEvent<Object>> heartbeats() {
+        return Flux.interval(heartbeatInterval, heartbeatInterval)
+                .map(tick -> ServerSentEvent.<Object>builder().comment("heartbeat").build());
+    }
+
+    private Flux<ServerSentEvent<Object>> errorEvent(Throwable e) {
+        String message = e.getMessage() != null ? e.getMessage() : "Feedback generation failed";
+        ServerSentEvent.Builder<Object> builder = ServerSentEvent.<Object>builder(Map.of("message", message))
+                .event(FeedbackStreamEvent.ERROR);
+        if (e instanceof GenerationBusyException) {
+            builder.retry(BUSY_RETRY);
+        } else {
+            log.error("Error streaming reactive feedback: {}", e.getMessage());
+        }
+        return Flux.just(builder.build());
+    }
+
+    int getActiveGenerations() {
+        return activeGenerations.get();
+    }
+
+    static class GenerationBusyException extends RuntimeException {
+        GenerationBusyException() {
+            super(BUSY_MESSAGE);
+        }
+    }
+}
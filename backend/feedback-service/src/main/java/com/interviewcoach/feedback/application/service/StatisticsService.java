@@ -7,6 +7,7 @@ import com.interviewcoach.feedback.application.dto.response.UserStatisticsSummar
 import com.interviewcoach.feedback.domain.entity.DailyActivity;
 import com.interviewcoach.feedback.domain.entity.UserStatistics;
 import com.interviewcoach.feedback.domain.repository.DailyActivityRepository;
+import com.interviewcoach.feedback.domain.repository.GradedAnswerRecordRepository;
 import com.interviewcoach.feedback.domain.repository.UserStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,27 @@ public class StatisticsService {
 
     private final UserStatisticsRepository statisticsRepository;
     private final DailyActivityRepository dailyActivityRepository;
+    private final GradedAnswerRecordRepository gradedAnswerRecordRepository;
+
+    /**
+     * [B-20] 채점 파이프라인의 통계 반영 - 채점된 답변(세션 + 질문 순번)당 한 번만 집계
+     *
+     * 문제: 같은 답변의 재시도는 캐시 응답으로 재생되며 후처리도 다시 실행 → 문제 수/점수 중복 집계
+     * 해결: 표식 INSERT와 통계 갱신을 한 트랜잭션으로 묶어, 이미 반영된 답변이면 집계하지 않음
+     *       (통계 갱신이 실패하면 표식도 롤백되어 다음 재시도에서 다시 반영)
+     *
+     * @return 이번 호출에서 통계에 반영했으면 true, 이미 반영된 답변이면 false
+     */
+    @Transactional
+    public boolean recordGradedAnswer(Long userId, Long sessionId, Integer questionOrder, RecordAnswerRequest request) {
+        if (gradedAnswerRecordRepository.insertIfAbsent(sessionId, questionOrder, userId) == 0) {
+            log.info("Graded answer already recorded: userId={}, sessionId={}, questionOrder={}",
+                    userId, sessionId, questionOrder);
+            return false;
+        }
+        recordAnswer(userId, request);
+        return true;
+    }
 
     /**
      * [동시성 이슈 포인트] - 락 없이 통계 업데이트
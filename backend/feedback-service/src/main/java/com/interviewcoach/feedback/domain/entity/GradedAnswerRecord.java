@@ -0,0 +1,36 @@
+package com.interviewcoach.feedback.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * [B-20] 통계에 반영된 채점 답변 (세션 + 질문 순번당 1행)
+ * 캐시 재생·재시도로 같은 답변의 후처리가 다시 실행되어도 통계를 중복 집계하지 않기 위한 표식
+ */
+@Entity
+@Table(name = "graded_answer_records",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "question_order"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class GradedAnswerRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(name = "question_order", nullable = false)
+    private Integer questionOrder;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,20 @@
+package com.interviewcoach.feedback.domain.repository;
+
+import com.interviewcoach.feedback.domain.entity.GradedAnswerRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GradedAnswerRecordRepository extends JpaRepository<GradedAnswerRecord, Long> {
+
+    // [B-20] 조회 후 저장 대신 INSERT 한 번으로 선점 - 동시 재시도는 유니크 인덱스에서 대기 후 0 반환
+    // @return 1이면 처음 반영하는 답변, 0이면 이미 반영된 답변
+    @Modifying
+    @Query(value = "INSERT INTO graded_answer_records (session_id, question_order, user_id, recorded_at) "
+            + "VALUES (:sessionId, :questionOrder, :userId, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("sessionId") Long sessionId,
+                       @Param("questionOrder") Integer questionOrder,
+                       @Param("userId") Long userId);
+}
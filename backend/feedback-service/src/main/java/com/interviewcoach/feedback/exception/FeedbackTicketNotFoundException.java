@@ -0,0 +1,8 @@
+package com.interviewcoach.feedback.exception;
+
+public class FeedbackTicketNotFoundException extends RuntimeException {
+
+    public FeedbackTicketNotFoundException() {
+        super("피드백 티켓이 만료되었거나 존재하지 않습니다");
+    }
+}
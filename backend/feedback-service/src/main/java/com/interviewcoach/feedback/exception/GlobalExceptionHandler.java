@@ -3,6 +3,7 @@ package com.interviewcoach.feedback.exception;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -60,6 +61,15 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.BAD_REQUEST, "입력값 검증에 실패했습니다", errors));
     }
 
+    @ExceptionHandler(FeedbackTicketNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTicketNotFound(FeedbackTicketNotFoundException e) {
+        log.warn("Feedback ticket rejected: {}", e.getMessage());
+        // SSE 요청(Accept: text/event-stream)에서도 JSON 에러 본문을 쓰도록 Content-Type 고정
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.of(HttpStatus.NOT_FOUND, e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("Unexpected error: ", e);
@@ -0,0 +1,150 @@
+package com.interviewcoach.feedback.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * [B-18] 피드백 결과 캐시 (내용 주소 기반)
+ *
+ * 문제: 재시도, 재연결, GET/POST 중복 호출이 동일한 질문/답변에 대해 매번 Claude 호출 (2-5초, 과금)
+ *
+ * 해결: key = SHA-256(model, 질문, 정규화된 답변, 꼬리 질문 깊이)
+ *       - L1: Caffeine (크기 제한 + 짧은 TTL) → 같은 파드 재연결은 네트워크 없이 응답
+ *       - L2: Redis feedback:result:{hash} (TTL) → 다른 파드로 재연결해도 히트
+ *       - sessionId/qnaId는 저장하지 않고 조회 시 현재 요청 값으로 채움
+ *       - Redis 장애 시 캐시 미스로 처리 (fail open)
+ */
+@Slf4j
+@Component
+public class FeedbackResultCache {
+
+    static final String KEY_PREFIX = "feedback:result:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char SEPARATOR = '\u0000';
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, FeedbackResponse> localCache;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public FeedbackResultCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${feedback.cache.enabled:true}") boolean enabled,
+            @Value("${feedback.cache.ttl:24h}") Duration ttl,
+            @Value("${feedback.cache.local-max-size:10000}") long localMaxSize,
+            @Value("${feedback.cache.local-ttl:10m}") Duration localTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.localHits = requestCounter(meterRegistry, "hit_local");
+        this.redisHits = requestCounter(meterRegistry, "hit_redis");
+        this.misses = requestCounter(meterRegistry, "miss");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("feedback.cache.requests")
+                .description("Feedback result cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<FeedbackResponse> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        FeedbackResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHits.increment();
+            return Optional.of(local);
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (json != null) {
+                FeedbackResponse cached = objectMapper.readValue(json, FeedbackResponse.class);
+                localCache.put(key, cached);
+                redisHits.increment();
+                return Optional.of(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Feedback cache lookup failed, treating as miss: {}", e.getMessage());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, FeedbackResponse feedback) {
+        if (!enabled) {
+            return;
+        }
+
+        FeedbackResponse anonymous = feedback.toBuilder()
+                .sessionId(null)
+                .qnaId(null)
+                .build();
+        localCache.put(key, anonymous);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(anonymous), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize feedback for cache: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Feedback cache store failed: {}", e.getMessage());
+        }
+    }
+
+    public static String key(String modelName, String questionText, String answerText, int followUpDepth) {
+        String material = modelName + SEPARATOR
+                + normalize(questionText) + SEPARATOR
+                + normalize(answerText) + SEPARATOR
+                + followUpDepth;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // 유니코드 정규화(NFC) + 앞뒤 공백 제거 + 연속 공백/개행을 공백 하나로
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed.strip()).replaceAll(" ");
+    }
+}
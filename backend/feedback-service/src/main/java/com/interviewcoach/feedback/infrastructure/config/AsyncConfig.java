@@ -1,10 +1,16 @@
 package com.interviewcoach.feedback.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 /**
@@ -32,4 +38,61 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * [B-35] SSE 송신 전용 디스패처
+     * 소켓 쓰기는 이 풀에서만 수행 → 피드백 워커/Redis 구독 스레드는 느린 클라이언트에 블로킹되지 않음
+     *
+     * 작업 하나가 느린 소켓 쓰기로 블로킹될 수 있으므로 큐 없이 직접 전달(queue-capacity: 0)
+     * → 큐가 있으면 core 스레드가 모두 블로킹돼도 max까지 늘어나지 않고 작업이 큐에서 대기
+     * → 직접 전달이면 바로 스레드를 늘리고, max 초과 시 거부 → SseEmitterManager가 해당 스트림을 종료
+     */
+    @Bean(name = "sseDispatchExecutor")
+    public Executor sseDispatchExecutor(
+            @Value("${feedback.streaming.dispatcher.core-size:8}") int coreSize,
+            @Value("${feedback.streaming.dispatcher.max-size:256}") int maxSize,
+            @Value("${feedback.streaming.dispatcher.queue-capacity:0}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(30);
+        executor.setThreadNamePrefix("sse-dispatch-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * [B-17] Flux 반환 핸들러(리액티브 SSE) 전용 MVC 비동기 풀
+     * 커스텀 Executor 빈이 있으면 Boot의 applicationTaskExecutor가 생성되지 않아
+     * MVC가 SimpleAsyncTaskExecutor(송신마다 새 스레드)로 대체되는 것을 방지
+     * [B-35] 레거시 스트림의 디스패처와 분리 → 한쪽 트래픽이 다른 쪽 송신 스레드를 고갈시키지 않음
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public Executor mvcAsyncExecutor(
+            @Value("${feedback.reactive.async-executor.core-size:8}") int coreSize,
+            @Value("${feedback.reactive.async-executor.max-size:256}") int maxSize,
+            @Value("${feedback.reactive.async-executor.queue-capacity:0}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(30);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public WebMvcConfigurer asyncSupportConfigurer(
+            @Qualifier("mvcAsyncExecutor") Executor mvcAsyncExecutor,
+            @Value("${feedback.reactive.async-timeout:120s}") Duration asyncTimeout) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(new TaskExecutorAdapter(mvcAsyncExecutor));
+                configurer.setDefaultTimeout(asyncTimeout.toMillis());
+            }
+        };
+    }
 }
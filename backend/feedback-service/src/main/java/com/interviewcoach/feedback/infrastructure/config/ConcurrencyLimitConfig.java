@@ -0,0 +1,48 @@
+package com.interviewcoach.feedback.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.infrastructure.limit.AimdConcurrencyLimiter;
+import com.interviewcoach.feedback.infrastructure.limit.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * [B-13] 적응형 동시성 제한 필터 등록
+ *
+ * feedback-service는 SSE 스트림이 LLM 응답까지(2-5초) 슬롯을 점유하므로
+ * timeout을 길게 잡고, 최대 한도는 feedbackExecutor(max 100 + queue 200) 용량에 맞춤
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AimdConcurrencyLimiter concurrencyLimiter(
+            @Value("${concurrency-limit.initial-limit:100}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${concurrency-limit.max-limit:300}") int maxLimit,
+            @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${concurrency-limit.timeout:30s}") Duration timeout) {
+        return new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, timeout.toNanos());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AimdConcurrencyLimiter concurrencyLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.retry-after-seconds:2}") long retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper, retryAfterSeconds, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.interviewcoach.feedback.infrastructure.config;
+
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackEventBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * [B-16] SSE 이벤트 버스 구독 설정
+ *
+ * 모든 레플리카가 feedback:events 채널을 구독 → Emitter를 가진 파드가 클라이언트에 전달
+ */
+@Configuration
+public class StreamingConfig {
+
+    @Bean
+    public RedisMessageListenerContainer feedbackEventListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            FeedbackEventBus feedbackEventBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(feedbackEventBus, new ChannelTopic(FeedbackEventBus.CHANNEL));
+        return container;
+    }
+}
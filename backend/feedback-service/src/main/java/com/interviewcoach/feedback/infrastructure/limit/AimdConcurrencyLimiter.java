@@ -0,0 +1,89 @@
+package com.interviewcoach.feedback.infrastructure.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [B-13] AIMD 적응형 동시성 제한기 (Netflix concurrency-limits AIMDLimit 방식)
+ *
+ * - 성공 응답이고 한도의 절반 이상을 사용 중이면 limit + 1 (Additive Increase)
+ * - 드롭(5xx, 거부) 또는 지연이 timeout을 넘으면 limit * backoffRatio (Multiplicative Decrease)
+ * - in-flight가 limit 이상이면 즉시 거부
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  double backoffRatio, long timeoutNanos) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limit range: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0.5 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio must be in (0.5, 1.0): " + backoffRatio);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * 슬롯 획득 시도. 성공 시 반드시 onSuccess/onDropped/onIgnore 중 하나로 반환해야 함
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos > timeoutNanos) {
+            decrease();
+        } else if (current * 2 >= limit) {
+            increase();
+        }
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    // 한도 조정 없이 슬롯만 반환 (클라이언트 오류 등)
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase() {
+        if (limit < maxLimit) {
+            limit = limit + 1;
+        }
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    }
+}
@@ -5,26 +5,42 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
 import com.interviewcoach.feedback.application.dto.response.FollowUpQuestion;
+import com.interviewcoach.feedback.infrastructure.cache.FeedbackResultCache;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.anthropic.AnthropicChatModel;
+import dev.langchain4j.model.anthropic.AnthropicStreamingChatModel;
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
 public class FeedbackLlmClient {
 
     private final ChatLanguageModel chatModel;
+    private final StreamingChatLanguageModel streamingChatModel;
     private final ObjectMapper objectMapper;
+    private final FeedbackResultCache feedbackResultCache;
+    private final String modelName;
 
+    @Autowired
     public FeedbackLlmClient(
             @Value("${langchain4j.anthropic.api-key:}") String apiKey,
             @Value("${langchain4j.anthropic.model-name:claude-sonnet-4-20250514}") String modelName,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            FeedbackResultCache feedbackResultCache) {
 
         if (apiKey != null && !apiKey.isBlank()) {
             this.chatModel = AnthropicChatModel.builder()
@@ -32,12 +48,30 @@ public class FeedbackLlmClient {
                     .modelName(modelName)
                     .maxTokens(2048)
                     .build();
+            // [B-17] 리액티브 엔드포인트용 스트리밍 모델 (응답 대기 중 스레드 점유 없음)
+            this.streamingChatModel = AnthropicStreamingChatModel.builder()
+                    .apiKey(apiKey)
+                    .modelName(modelName)
+                    .maxTokens(2048)
+                    .build();
             log.info("FeedbackLlmClient initialized with Claude API");
         } else {
             this.chatModel = null;
+            this.streamingChatModel = null;
             log.warn("Claude API key not configured. Feedback will use mock data.");
         }
         this.objectMapper = objectMapper;
+        this.feedbackResultCache = feedbackResultCache;
+        this.modelName = modelName;
+    }
+
+    FeedbackLlmClient(ChatLanguageModel chatModel, StreamingChatLanguageModel streamingChatModel,
+                      ObjectMapper objectMapper, FeedbackResultCache feedbackResultCache, String modelName) {
+        this.chatModel = chatModel;
+        this.streamingChatModel = streamingChatModel;
+        this.objectMapper = objectMapper;
+        this.feedbackResultCache = feedbackResultCache;
+        this.modelName = modelName;
     }
 
     private static final int MAX_FOLLOW_UP_DEPTH = 2;
@@ -52,7 +86,114 @@ public class FeedbackLlmClient {
             return createMockFeedbackWithFollowUp(sessionId, qnaId, followUpDepth);
         }
 
-        String prompt = """
+        String prompt = buildFeedbackWithFollowUpPrompt(questionText, answerText, followUpDepth);
+
+        try {
+            String response = chatModel.generate(prompt);
+            FeedbackResponse feedback = parseFeedbackWithFollowUpResponse(sessionId, qnaId, response, followUpDepth);
+            feedbackResultCache.put(cacheKey(questionText, answerText, followUpDepth), feedback);
+            return feedback;
+        } catch (Exception e) {
+            log.error("Failed to generate feedback with Claude: {}", e.getMessage());
+            return createMockFeedbackWithFollowUp(sessionId, qnaId, followUpDepth);
+        }
+    }
+
+    /**
+     * [B-18] 동일 (질문, 정규화된 답변, 깊이, 모델)로 생성된 피드백 조회
+     * mock 모드에서는 LLM 비용이 없으므로 캐시를 사용하지 않음
+     */
+    public Optional<FeedbackResponse> findCachedFeedback(Long sessionId, Long qnaId, String questionText,
+                                                         String answerText, int followUpDepth) {
+        if (chatModel == null && streamingChatModel == null) {
+            return Optional.empty();
+        }
+        return feedbackResultCache.get(cacheKey(questionText, answerText, followUpDepth))
+                .map(cached -> cached.toBuilder()
+                        .sessionId(sessionId)
+                        .qnaId(qnaId)
+                        .build());
+    }
+
+    private String cacheKey(String questionText, String answerText, int followUpDepth) {
+        return FeedbackResultCache.key(modelName, questionText, answerText, followUpDepth);
+    }
+
+    /**
+     * [B-17] 논블로킹 피드백 생성
+     *
+     * 문제: chatModel.generate()는 LLM 응답이 끝날 때까지 feedbackExecutor 스레드를 점유 (2-5초)
+     *       → 동시 생성 수 = 스레드 수 (core 50, max 100)
+     *
+     * 해결: StreamingChatLanguageModel 콜백을 Mono로 브리지
+     *       - 토큰은 HTTP 클라이언트 I/O 스레드에서 누적, 완료 시 한 번 파싱
+     *       - 실패 시 기존 경로와 동일하게 mock 피드백으로 대체
+     */
+    public Mono<FeedbackResponse> generateFeedbackWithFollowUpReactive(Long sessionId, Long qnaId, String questionText,
+                                                                       String answerText, int followUpDepth,
+                                                                       boolean skipCache) {
+        if (streamingChatModel == null) {
+            return Mono.fromSupplier(() -> createMockFeedbackWithFollowUp(sessionId, qnaId, followUpDepth));
+        }
+
+        if (!skipCache) {
+            Optional<FeedbackResponse> cached = findCachedFeedback(sessionId, qnaId, questionText, answerText, followUpDepth);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+        }
+
+        String prompt = buildFeedbackWithFollowUpPrompt(questionText, answerText, followUpDepth);
+        return streamTokens(prompt)
+                .collect(StringBuilder::new, StringBuilder::append)
+                .map(response -> parseFeedbackWithFollowUpResponse(sessionId, qnaId, response.toString(), followUpDepth))
+                .doOnNext(feedback -> feedbackResultCache.put(cacheKey(questionText, answerText, followUpDepth), feedback))
+                .onErrorResume(e -> {
+                    log.error("Failed to stream feedback with Claude: {}", e.getMessage());
+                    return Mono.just(createMockFeedbackWithFollowUp(sessionId, qnaId, followUpDepth));
+                });
+    }
+
+    /**
+     * 구독 취소(클라이언트 연결 종료, 동시 생성 한도 반환) 시 이후 토큰은 누적하지 않고 버림
+     * langchain4j 0.35 StreamingChatLanguageModel은 진행 중인 HTTP 스트림을 끊는 핸들을 제공하지 않으므로
+     * 취소 이후 도착하는 콜백은 handler에서 무시
+     */
+    private Flux<String> streamTokens(String prompt) {
+        return Flux.create(sink -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            sink.onDispose(() -> cancelled.set(true));
+            streamingChatModel.generate(prompt, new StreamingResponseHandler<AiMessage>() {
+                @Override
+                public void onNext(String token) {
+                    if (!cancelled.get()) {
+                        sink.next(token);
+                    }
+                }
+
+                @Override
+                public void onComplete(Response<AiMessage> response) {
+                    if (cancelled.get()) {
+                        log.debug("Discarding streamed feedback after subscriber cancelled");
+                        return;
+                    }
+                    sink.complete();
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    if (cancelled.get()) {
+                        log.debug("Ignoring streaming error after subscriber cancelled: {}", error.getMessage());
+                        return;
+                    }
+                    sink.error(error);
+                }
+            });
+        });
+    }
+
+    private String buildFeedbackWithFollowUpPrompt(String questionText, String answerText, int followUpDepth) {
+        return """
             다음 면접 질문과 답변을 평가하고, 꼬리 질문을 생성해주세요.
 
             질문: %s
@@ -92,14 +233,6 @@ public class FeedbackLlmClient {
             JSON만 응답하고 다른 텍스트는 포함하지 마세요.
             """.formatted(questionText, answerText, followUpDepth, MAX_FOLLOW_UP_DEPTH,
                          FOLLOW_UP_SCORE_THRESHOLD, MAX_FOLLOW_UP_DEPTH);
-
-        try {
-            String response = chatModel.generate(prompt);
-            return parseFeedbackWithFollowUpResponse(sessionId, qnaId, response, followUpDepth);
-        } catch (Exception e) {
-            log.error("Failed to generate feedback with Claude: {}", e.getMessage());
-            return createMockFeedbackWithFollowUp(sessionId, qnaId, followUpDepth);
-        }
     }
 
     private FeedbackResponse parseFeedbackResponse(Long sessionId, Long qnaId, String response) {
@@ -187,8 +320,8 @@ public class FeedbackLlmClient {
                     .hasFollowUp(hasFollowUp)
                     .build();
         } catch (JsonProcessingException e) {
-            log.error("Failed to parse feedback with follow-up response: {}", e.getMessage());
-            return createMockFeedbackWithFollowUp(sessionId, qnaId, followUpDepth);
+            // 호출부에서 mock으로 대체 (파싱 실패 결과는 캐시하지 않음)
+            throw new IllegalArgumentException("Failed to parse feedback with follow-up response: " + e.getMessage(), e);
         }
     }
 
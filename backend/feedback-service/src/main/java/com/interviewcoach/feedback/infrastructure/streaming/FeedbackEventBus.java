@@ -0,0 +1,187 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * [B-16] Redis 기반 SSE 이벤트 버스 (멀티 레플리카 fan-out)
+ *
+ * 문제: Emitter가 파드 로컬 ConcurrentHashMap에만 존재
+ *       → 연결을 받은 파드만 피드백 전달 가능, 다른 파드로 재연결 시 결과 유실
+ *
+ * 해결:
+ *       - 워커는 Emitter 대신 버스에 발행 (Lua: 시퀀스 발급 + 재전송 버퍼 + PUBLISH 1 round trip)
+ *       - 모든 파드가 feedback:events 채널 구독 → Emitter를 가진 파드만 전달
+ *       - feedback:replay:{key} (최근 N개, TTL) → Last-Event-ID 이후 이벤트 재전송
+ *       - feedback:running:{key} (SET NX + TTL) → 생성 중인 키는 다른 파드가 다시 생성하지 않고 채널만 구독
+ *         (complete/error 발행과 함께 삭제, 워커 파드가 죽으면 TTL 만료 후 재생성 허용)
+ */
+@Slf4j
+@Component
+public class FeedbackEventBus implements MessageListener {
+
+    public static final String CHANNEL = "feedback:events";
+    static final String SEQUENCE_KEY_PREFIX = "feedback:seq:";
+    static final String REPLAY_KEY_PREFIX = "feedback:replay:";
+    static final String RUNNING_KEY_PREFIX = "feedback:running:";
+
+    // KEYS[1]=seq, KEYS[2]=replay, KEYS[3]=running / ARGV[1]=emitterKey, ARGV[2]=event, ARGV[3]=data,
+    // ARGV[4]=버퍼 크기, ARGV[5]=TTL(ms), ARGV[6]=채널, ARGV[7]=종료 이벤트 여부 (1이면 생성 중 마커 삭제)
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local id = redis.call('INCR', KEYS[1])
+            local payload = cjson.encode({key = ARGV[1], id = id, name = ARGV[2], data = ARGV[3]})
+            redis.call('RPUSH', KEYS[2], payload)
+            redis.call('LTRIM', KEYS[2], -tonumber(ARGV[4]), -1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            redis.call('PUBLISH', ARGV[6], payload)
+            if ARGV[7] == '1' then
+                redis.call('DEL', KEYS[3])
+            end
+            return id
+            """, Long.class);
+
+    // KEYS[1]=running, KEYS[2]=replay / ARGV[1]=마커 TTL(ms)
+    // 마커 획득과 이전 재전송 버퍼 제거를 원자적으로 → 생성 중인 다른 파드의 버퍼를 지우지 않음
+    private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[1]) then
+                redis.call('DEL', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEmitterManager sseEmitterManager;
+    private final int replaySize;
+    private final Duration replayTtl;
+    private final Duration generationTtl;
+
+    public FeedbackEventBus(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            SseEmitterManager sseEmitterManager,
+            @Value("${feedback.streaming.replay-size:50}") int replaySize,
+            @Value("${feedback.streaming.replay-ttl:5m}") Duration replayTtl,
+            @Value("${feedback.streaming.generation-ttl:2m}") Duration generationTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.sseEmitterManager = sseEmitterManager;
+        this.replaySize = replaySize;
+        this.replayTtl = replayTtl;
+        this.generationTtl = generationTtl;
+    }
+
+    public long publishFeedback(String emitterKey, Object feedback) {
+        return publish(emitterKey, FeedbackStreamEvent.FEEDBACK, feedback, false);
+    }
+
+    public long publishProgress(String emitterKey, String message, int progress) {
+        return publish(emitterKey, FeedbackStreamEvent.PROGRESS, Map.of("message", message, "progress", progress), false);
+    }
+
+    public long publishComplete(String emitterKey) {
+        return publish(emitterKey, FeedbackStreamEvent.COMPLETE, Map.of("status", "completed"), true);
+    }
+
+    public long publishError(String emitterKey, String message) {
+        return publish(emitterKey, FeedbackStreamEvent.ERROR, Map.of("message", message != null ? message : "error"), true);
+    }
+
+    private long publish(String emitterKey, String eventName, Object data, boolean terminal) {
+        Long id = redisTemplate.execute(PUBLISH_SCRIPT,
+                List.of(SEQUENCE_KEY_PREFIX + emitterKey, REPLAY_KEY_PREFIX + emitterKey, RUNNING_KEY_PREFIX + emitterKey),
+                emitterKey, eventName, toJson(data),
+                String.valueOf(replaySize), String.valueOf(replayTtl.toMillis()), CHANNEL, terminal ? "1" : "0");
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * 생성 시작 권한 획득 (생성 중 마커 SET NX) + 이전 생성의 재전송 버퍼 제거
+     * 시퀀스는 유지 → id 단조 증가 보장
+     *
+     * @return false면 다른 요청(파드)이 이미 생성 중 → 호출 측은 채널 구독만 유지
+     */
+    public boolean tryStartGeneration(String emitterKey) {
+        Long started = redisTemplate.execute(START_SCRIPT,
+                List.of(RUNNING_KEY_PREFIX + emitterKey, REPLAY_KEY_PREFIX + emitterKey),
+                String.valueOf(generationTtl.toMillis()));
+        return started != null && started == 1L;
+    }
+
+    /**
+     * 종료 이벤트를 발행하지 못하고 끝난 생성의 마커 해제 (스레드 풀 포화 등)
+     */
+    public void finishGeneration(String emitterKey) {
+        redisTemplate.delete(RUNNING_KEY_PREFIX + emitterKey);
+    }
+
+    /**
+     * 재전송 버퍼에서 lastEventId 이후 이벤트 조회
+     *
+     * @return 버퍼가 없으면(만료 또는 미시작) empty → 호출 측에서 새로 생성
+     */
+    public Optional<List<FeedbackStreamEvent>> replay(String emitterKey, long lastEventId) {
+        List<String> payloads = redisTemplate.opsForList().range(REPLAY_KEY_PREFIX + emitterKey, 0, -1);
+        if (payloads == null || payloads.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<FeedbackStreamEvent> events = new ArrayList<>();
+        for (String payload : payloads) {
+            FeedbackStreamEvent event = parse(payload);
+            if (event != null && event.id() > lastEventId) {
+                events.add(event);
+            }
+        }
+        return Optional.of(events);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        FeedbackStreamEvent event = parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (event != null) {
+            // 이 파드에 Emitter가 없으면 무시 (다른 파드가 전달)
+            sseEmitterManager.deliver(event);
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize SSE event data", e);
+        }
+    }
+
+    private FeedbackStreamEvent parse(String payload) {
+        try {
+            Map<String, Object> fields = objectMapper.readValue(payload, new TypeReference<>() {});
+            return new FeedbackStreamEvent(
+                    (String) fields.get("key"),
+                    ((Number) fields.get("id")).longValue(),
+                    (String) fields.get("name"),
+                    (String) fields.get("data"));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed SSE event payload: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import java.util.Map;
+
+/**
+ * [B-20] 채점 완료 이벤트 (feedback-service → interview-service, Redis Stream)
+ *
+ * interview-service는 이 이벤트 하나로 답변 저장 + 피드백 jsonb 저장 (+ 꼬리 질문 추가)를 한 트랜잭션에 처리
+ * feedback: interview_qna.feedback에 그대로 저장되는 맵 {score, strengths, improvements, tips, ...}
+ * gradedAt: 채점 시각(epoch ms) - 컨슈머가 재전달/순서 뒤바뀜 시 최신 결과 판별에 사용
+ */
+public record FeedbackGeneratedEvent(
+        Long sessionId,
+        Long qnaId,
+        Integer questionOrder,
+        Long userId,
+        String answerText,
+        Map<String, Object> feedback,
+        int followUpDepth,
+        boolean appendFollowUp,
+        String followUpQuestion,
+        String followUpFocusArea,
+        Long gradedAt
+) {
+    public static final String TYPE = "FeedbackGenerated";
+}
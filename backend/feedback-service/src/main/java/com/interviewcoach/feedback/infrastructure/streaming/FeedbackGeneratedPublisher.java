@@ -0,0 +1,71 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * [B-20] 채점 완료 이벤트 발행 (Redis Stream)
+ *
+ * 문제: 답변 1건마다 클라이언트가 submitAnswer → SSE 채점 → updateFeedback → statistics/record 4회 왕복
+ *       (Gateway 경유 4회, 트랜잭션 4회, 클라이언트가 중간에 이탈하면 피드백 유실)
+ *
+ * 해결: 채점 파드가 FeedbackGenerated 이벤트를 스트림에 XADD → interview-service 컨슈머 그룹이 저장
+ *       - 서비스 간 HTTP 대신 Redis Stream: NetworkPolicy상 백엔드 간 직접 호출 불가, 컨슈머 재시작 시에도 유실 없음
+ *       - MAXLEN ~ 으로 스트림 길이 제한 (근사 트리밍 → O(1))
+ */
+@Slf4j
+@Component
+public class FeedbackGeneratedPublisher {
+
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_PAYLOAD = "payload";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String streamKey;
+    private final long maxLength;
+
+    public FeedbackGeneratedPublisher(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${feedback.grading.stream-key:interview:feedback-generated}") String streamKey,
+            @Value("${feedback.grading.stream-max-length:100000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    public RecordId publish(FeedbackGeneratedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize FeedbackGenerated event", e);
+        }
+
+        Map<String, String> fields = Map.of(FIELD_TYPE, FeedbackGeneratedEvent.TYPE, FIELD_PAYLOAD, payload);
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        RecordId recordId = redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                ((StringRedisConnection) connection).xAdd(StreamRecords.string(fields).withStreamKey(streamKey), options));
+
+        log.debug("Published FeedbackGenerated: sessionId={}, questionOrder={}, recordId={}",
+                event.sessionId(), event.questionOrder(), recordId);
+        return recordId;
+    }
+
+    public String getStreamKey() {
+        return streamKey;
+    }
+}
@@ -0,0 +1,19 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+/**
+ * [B-16] 파드 간 전달되는 SSE 이벤트
+ *
+ * id: emitterKey 단위 단조 증가 시퀀스 (SSE id → 재연결 시 Last-Event-ID)
+ * data: 직렬화된 JSON (수신 파드는 역직렬화 없이 그대로 전송)
+ */
+public record FeedbackStreamEvent(String key, long id, String name, String data) {
+
+    public static final String FEEDBACK = "feedback";
+    public static final String PROGRESS = "progress";
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+
+    public boolean isTerminal() {
+        return COMPLETE.equals(name) || ERROR.equals(name);
+    }
+}
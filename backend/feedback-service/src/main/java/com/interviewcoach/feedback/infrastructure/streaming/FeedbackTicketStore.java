@@ -0,0 +1,86 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * [B-19] 피드백 스트림 티켓 (2단계 업로드)
+ *
+ * 문제: GET /stream이 질문/답변 전문을 쿼리 스트링으로 전달
+ *       → 긴 답변은 헤더 한도(16KB) 초과, 프록시 액세스 로그에 답변 노출, 홉마다 재파싱
+ *
+ * 해결: POST /tickets로 답변을 한 번만 업로드 → feedback:ticket:{id} (짧은 TTL) 저장
+ *       - SSE GET은 ?ticket={id}만 전달 (URL 길이 고정)
+ *       - TTL 동안은 재사용 가능 → EventSource 자동 재연결(Last-Event-ID)도 같은 URL로 동작
+ *       - 티켓은 발급한 세션(및 사용자)에만 유효
+ */
+@Slf4j
+@Component
+public class FeedbackTicketStore {
+
+    static final String KEY_PREFIX = "feedback:ticket:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public FeedbackTicketStore(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${feedback.ticket.ttl:2m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    public String issue(FeedbackTicket ticket) {
+        String ticketId = UUID.randomUUID().toString();
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + ticketId, objectMapper.writeValueAsString(ticket), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize feedback ticket", e);
+        }
+        return ticketId;
+    }
+
+    public Optional<FeedbackTicket> find(String ticketId) {
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + ticketId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, FeedbackTicket.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Corrupted feedback ticket {}: {}", ticketId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public record FeedbackTicket(
+            Long sessionId,
+            Long userId,
+            Long qnaId,
+            String question,
+            String answer,
+            int followUpDepth
+    ) {
+        public boolean isIssuedFor(Long sessionId, Long userId) {
+            if (!this.sessionId.equals(sessionId)) {
+                return false;
+            }
+            return this.userId == null || this.userId.equals(userId);
+        }
+    }
+}
@@ -2,14 +2,30 @@ package com.interviewcoach.feedback.infrastructure.streaming;
 
 import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * [B-6] SseEmitter 메모리 누수 해결
@@ -20,128 +36,445 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * 해결:
  *       1. 생성 시간 기록 (EmitterWrapper)
- *       2. @Scheduled로 10초마다 만료 Emitter 정리
- *       3. 최대 Emitter 수 제한 (MAX_EMITTERS = 5,000)
+ *       2. @Scheduled로 주기적 만료 Emitter 정리
+ *       3. 최대 Emitter 수 제한 (max-emitters = 5,000)
  *       4. TTL 기반 정리 (120초 초과 시 강제 제거)
+ *
+ * [B-34] 만료 처리 O(n) → O(1) amortized
+ *       Before: 10초마다 전체 Map 순회, 최대치 도달 시 요청 스레드가 전체 순회 비용 부담
+ *       After: TTL이 모두 같으므로 생성 순서 = 만료 순서 → 마감 시각 순 FIFO 큐의 head만 확인
+ *              (완료된 Emitter는 큐에 남겨두고 head 도달 시 건너뜀)
+ *       - 최대치 도달 시 가장 오래된 Emitter 1개만 축출
+ *       - 사용자별 최대 Emitter 수 제한 (초과 시 해당 사용자의 가장 오래된 Emitter 축출)
+ *       - 같은 키로 다시 등록하면 이전 Emitter를 종료하고 만료 큐에서도 제거
+ *
+ * [B-16] 멀티 레플리카 전달: FeedbackEventBus가 수신한 이벤트를 deliver()로 로컬 Emitter에 전달
+ *        재연결(Last-Event-ID) 시 재전송 버퍼 전송이 끝날 때까지 실시간 이벤트는 대기열에 보관
+ *
+ * [B-35] Emitter별 송신 큐 + 디스패처
+ *       문제: 호출 스레드에서 emitter.send 동기 호출 → 느린 클라이언트가 호출 스레드를 블로킹,
+ *             끊긴 연결은 다음 send 실패 시에야 감지
+ *       해결: - 모든 전송은 Emitter별 bounded 큐에 적재, sseDispatchExecutor가 Emitter당 1개 작업으로 순서대로 전송
+ *             - progress: 큐에 대기 중인 progress가 있으면 최신 값으로 교체(coalesce), 큐가 가득 차면 버림
+ *             - feedback/complete: 큐가 가득 차면 대기 중인 progress를 밀어내고, 그래도 없으면 느린 클라이언트로 보고 종료
+ *             - 유휴 Emitter에 주기적 comment heartbeat → 끊긴 연결 조기 감지
  */
 @Slf4j
 @Component
 public class SseEmitterManager {
 
     private static final Long DEFAULT_TIMEOUT = 60_000L; // 60 seconds
-    private static final int MAX_EMITTERS = 5_000;
-    private static final long EMITTER_TTL_SECONDS = 120; // 2분 TTL
+    private static final int DEFAULT_MAX_EMITTERS = 5_000;
+    private static final int DEFAULT_MAX_EMITTERS_PER_USER = 5;
+    private static final Duration DEFAULT_EMITTER_TTL = Duration.ofSeconds(120); // 2분 TTL
+    private static final int DEFAULT_SEND_QUEUE_CAPACITY = 32;
+
+    private enum Kind { EVENT, PROGRESS, COMPLETE, ERROR, HEARTBEAT }
+
+    private record Outbound(Kind kind, SseEmitter.SseEventBuilder event, Throwable error) {}
 
-    private record EmitterWrapper(SseEmitter emitter, Instant createdAt) {}
+    private static final class EmitterWrapper {
+        private final String key;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Instant deadline;
+        private long lastEventId;
+        // null이 아니면 재전송 중 → 실시간 이벤트를 순서대로 보관
+        private List<FeedbackStreamEvent> pending;
+        // 송신 큐 (wrapper 락으로 보호), draining == true면 디스패처 작업이 실행 중
+        private final LinkedList<Outbound> outbox = new LinkedList<>();
+        private boolean draining;
+        private boolean closed;
+
+        private EmitterWrapper(String key, Long userId, SseEmitter emitter, Instant createdAt, Duration ttl,
+                               boolean resuming) {
+            this.key = key;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.deadline = createdAt.plus(ttl);
+            this.pending = resuming ? new ArrayList<>() : null;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+    }
 
     private final Map<String, EmitterWrapper> emitters = new ConcurrentHashMap<>();
+    // 마감 시각 순 (= 생성 순) 큐, 만료/축출 시 head부터 처리
+    private final Queue<EmitterWrapper> expiryQueue = new ConcurrentLinkedQueue<>();
+    private final Object expiryLock = new Object();
+    private final Map<Long, Deque<EmitterWrapper>> userEmitters = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+    private final int maxEmitters;
+    private final int maxEmittersPerUser;
+    private final Duration emitterTtl;
+    private final Executor dispatchExecutor;
+    private final int sendQueueCapacity;
+
+    public SseEmitterManager() {
+        this(Clock.systemUTC(), DEFAULT_MAX_EMITTERS, DEFAULT_MAX_EMITTERS_PER_USER, DEFAULT_EMITTER_TTL);
+    }
+
+    @Autowired
+    public SseEmitterManager(
+            @Value("${feedback.streaming.max-emitters:5000}") int maxEmitters,
+            @Value("${feedback.streaming.max-emitters-per-user:5}") int maxEmittersPerUser,
+            @Value("${feedback.streaming.emitter-ttl:120s}") Duration emitterTtl,
+            @Value("${feedback.streaming.send-queue-capacity:32}") int sendQueueCapacity,
+            @Qualifier("sseDispatchExecutor") Executor dispatchExecutor) {
+        this(Clock.systemUTC(), maxEmitters, maxEmittersPerUser, emitterTtl, dispatchExecutor, sendQueueCapacity);
+    }
+
+    SseEmitterManager(Clock clock, int maxEmitters, int maxEmittersPerUser, Duration emitterTtl) {
+        // 테스트용: 호출 스레드에서 바로 전송
+        this(clock, maxEmitters, maxEmittersPerUser, emitterTtl, Runnable::run, DEFAULT_SEND_QUEUE_CAPACITY);
+    }
+
+    SseEmitterManager(Clock clock, int maxEmitters, int maxEmittersPerUser, Duration emitterTtl,
+                      Executor dispatchExecutor, int sendQueueCapacity) {
+        this.clock = clock;
+        this.maxEmitters = maxEmitters;
+        this.maxEmittersPerUser = maxEmittersPerUser;
+        this.emitterTtl = emitterTtl;
+        this.dispatchExecutor = dispatchExecutor;
+        this.sendQueueCapacity = sendQueueCapacity;
+    }
 
     public SseEmitter createEmitter(String emitterKey) {
-        // 최대 Emitter 수 제한
-        if (emitters.size() >= MAX_EMITTERS) {
-            log.warn("Max emitters reached ({}), cleaning up oldest entries", MAX_EMITTERS);
-            cleanupExpiredEmitters();
+        return register(emitterKey, null, false);
+    }
+
+    public SseEmitter createEmitter(String emitterKey, Long userId) {
+        return register(emitterKey, userId, false);
+    }
+
+    /**
+     * [B-16] 재연결용 Emitter 생성 - resume() 호출 전까지 실시간 이벤트를 보관
+     */
+    public SseEmitter createResumableEmitter(String emitterKey, Long userId) {
+        return register(emitterKey, userId, true);
+    }
+
+    private SseEmitter register(String emitterKey, Long userId, boolean resuming) {
+        // 최대 Emitter 수 제한 - 전체 순회 대신 가장 오래된 것만 축출
+        if (emitters.size() >= maxEmitters) {
+            log.warn("Max emitters reached ({}), evicting oldest entry", maxEmitters);
+            evictOldest();
         }
 
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        SseEmitter emitter = newSseEmitter(DEFAULT_TIMEOUT);
+        EmitterWrapper wrapper = new EmitterWrapper(emitterKey, userId, emitter, clock.instant(), emitterTtl, resuming);
 
         emitter.onCompletion(() -> {
             log.debug("SSE completed for key: {}", emitterKey);
-            emitters.remove(emitterKey);
+            remove(wrapper);
         });
 
         emitter.onTimeout(() -> {
             log.warn("SSE timeout for key: {}", emitterKey);
-            emitters.remove(emitterKey);
+            remove(wrapper);
         });
 
         emitter.onError(e -> {
             log.error("SSE error for key {}: {}", emitterKey, e.getMessage());
-            emitters.remove(emitterKey);
+            remove(wrapper);
         });
 
-        emitters.put(emitterKey, new EmitterWrapper(emitter, Instant.now()));
+        EmitterWrapper previous = emitters.put(emitterKey, wrapper);
+        if (previous != null) {
+            // 같은 키 재등록 (재시도/재연결) → 이전 연결은 더 이상 이벤트를 받지 못하므로 즉시 종료
+            replace(previous);
+        }
+        expiryQueue.add(wrapper);
+        enforcePerUserLimit(wrapper);
         log.debug("Created SSE emitter for key: {}, total active: {}", emitterKey, emitters.size());
 
         return emitter;
     }
 
+    SseEmitter newSseEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * 사용자별 Emitter 수 제한 - 초과분은 해당 사용자의 가장 오래된 Emitter부터 종료
+     */
+    private void enforcePerUserLimit(EmitterWrapper wrapper) {
+        if (wrapper.userId == null) {
+            return;
+        }
+        List<EmitterWrapper> evicted = new ArrayList<>();
+        userEmitters.compute(wrapper.userId, (userId, deque) -> {
+            Deque<EmitterWrapper> owned = deque != null ? deque : new ArrayDeque<>();
+            owned.removeIf(existing -> !isActive(existing));
+            while (owned.size() >= maxEmittersPerUser) {
+                evicted.add(owned.pollFirst());
+            }
+            owned.addLast(wrapper);
+            return owned;
+        });
+
+        for (EmitterWrapper oldest : evicted) {
+            log.warn("Per-user emitter limit ({}) reached for user {}, evicting key: {}",
+                    maxEmittersPerUser, wrapper.userId, oldest.key);
+            expire(oldest);
+        }
+    }
+
+    /**
+     * [B-16] 재전송 버퍼 전송 후 대기 중이던 실시간 이벤트 전송 (id 기준 중복 제거)
+     */
+    public void resume(String emitterKey, long lastEventId, List<FeedbackStreamEvent> backlog) {
+        EmitterWrapper wrapper = emitters.get(emitterKey);
+        if (wrapper == null) {
+            return;
+        }
+        synchronized (wrapper) {
+            wrapper.lastEventId = lastEventId;
+            List<FeedbackStreamEvent> live = wrapper.pending != null ? wrapper.pending : List.of();
+            wrapper.pending = null;
+            for (FeedbackStreamEvent event : backlog) {
+                enqueueStreamEvent(wrapper, event);
+            }
+            for (FeedbackStreamEvent event : live) {
+                enqueueStreamEvent(wrapper, event);
+            }
+        }
+    }
+
+    /**
+     * [B-16] 이벤트 버스 수신 이벤트를 로컬 Emitter에 전달 (없으면 무시)
+     */
+    public void deliver(FeedbackStreamEvent event) {
+        EmitterWrapper wrapper = emitters.get(event.key());
+        if (wrapper == null) {
+            return;
+        }
+        synchronized (wrapper) {
+            if (wrapper.pending != null) {
+                wrapper.pending.add(event);
+                return;
+            }
+            enqueueStreamEvent(wrapper, event);
+        }
+    }
+
+    // wrapper 락 보유 상태에서 호출
+    private void enqueueStreamEvent(EmitterWrapper wrapper, FeedbackStreamEvent event) {
+        if (event.id() <= wrapper.lastEventId) {
+            return;
+        }
+        wrapper.lastEventId = event.id();
+
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.name())
+                .data(event.data(), MediaType.APPLICATION_JSON);
+        Kind kind = switch (event.name()) {
+            case FeedbackStreamEvent.PROGRESS -> Kind.PROGRESS;
+            case FeedbackStreamEvent.COMPLETE -> Kind.COMPLETE;
+            case FeedbackStreamEvent.ERROR -> Kind.ERROR;
+            default -> Kind.EVENT;
+        };
+        Throwable error = kind == Kind.ERROR ? new IllegalStateException(event.data()) : null;
+        enqueue(wrapper, new Outbound(kind, builder, error));
+    }
+
     public void sendFeedback(String emitterKey, FeedbackResponse feedback) {
         EmitterWrapper wrapper = emitters.get(emitterKey);
         if (wrapper != null) {
-            try {
-                wrapper.emitter().send(SseEmitter.event()
-                        .name("feedback")
-                        .data(feedback));
-                log.debug("Sent feedback to key: {}", emitterKey);
-            } catch (IOException e) {
-                log.error("Failed to send feedback to key {}: {}", emitterKey, e.getMessage());
-                emitters.remove(emitterKey);
-            }
+            enqueue(wrapper, new Outbound(Kind.EVENT, SseEmitter.event()
+                    .name("feedback")
+                    .data(feedback), null));
         }
     }
 
     public void sendProgress(String emitterKey, String message, int progress) {
         EmitterWrapper wrapper = emitters.get(emitterKey);
         if (wrapper != null) {
-            try {
-                wrapper.emitter().send(SseEmitter.event()
-                        .name("progress")
-                        .data(Map.of("message", message, "progress", progress)));
-            } catch (IOException e) {
-                log.error("Failed to send progress to key {}: {}", emitterKey, e.getMessage());
-                emitters.remove(emitterKey);
-            }
+            enqueue(wrapper, new Outbound(Kind.PROGRESS, SseEmitter.event()
+                    .name("progress")
+                    .data(Map.of("message", message, "progress", progress)), null));
         }
     }
 
     public void complete(String emitterKey) {
         EmitterWrapper wrapper = emitters.get(emitterKey);
         if (wrapper != null) {
-            try {
-                wrapper.emitter().send(SseEmitter.event()
-                        .name("complete")
-                        .data(Map.of("status", "completed")));
-                wrapper.emitter().complete();
-            } catch (IOException e) {
-                log.error("Failed to complete SSE for key {}: {}", emitterKey, e.getMessage());
-            } finally {
-                emitters.remove(emitterKey);
-            }
+            enqueue(wrapper, new Outbound(Kind.COMPLETE, SseEmitter.event()
+                    .name("complete")
+                    .data(Map.of("status", "completed")), null));
         }
     }
 
     public void completeWithError(String emitterKey, Throwable error) {
         EmitterWrapper wrapper = emitters.get(emitterKey);
         if (wrapper != null) {
+            synchronized (wrapper) {
+                wrapper.closed = true;
+                wrapper.outbox.clear();
+            }
             wrapper.emitter().completeWithError(error);
-            emitters.remove(emitterKey);
+            remove(wrapper);
+        }
+    }
+
+    /**
+     * [B-35] 유휴 Emitter에 comment heartbeat 전송 → 끊긴 연결은 전송 실패로 조기 정리
+     * 송신 중이거나 재전송 대기 중인 Emitter는 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${feedback.streaming.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (EmitterWrapper wrapper : emitters.values()) {
+            synchronized (wrapper) {
+                if (wrapper.draining || wrapper.pending != null || !wrapper.outbox.isEmpty()) {
+                    continue;
+                }
+            }
+            enqueue(wrapper, new Outbound(Kind.HEARTBEAT, SseEmitter.event().comment("heartbeat"), null));
+        }
+    }
+
+    private void enqueue(EmitterWrapper wrapper, Outbound outbound) {
+        boolean dispatch;
+        boolean overflow;
+        synchronized (wrapper) {
+            if (wrapper.closed) {
+                return;
+            }
+            overflow = !offer(wrapper, outbound);
+            dispatch = !overflow && !wrapper.draining;
+            if (dispatch) {
+                wrapper.draining = true;
+            }
+            if (overflow) {
+                wrapper.closed = true;
+                wrapper.outbox.clear();
+            }
+        }
+
+        if (overflow) {
+            log.warn("SSE send queue overflow for key {}, closing slow client", wrapper.key);
+            wrapper.emitter().completeWithError(new IllegalStateException("SSE client is too slow"));
+            remove(wrapper);
+            return;
+        }
+        if (dispatch) {
+            try {
+                dispatchExecutor.execute(() -> drain(wrapper));
+            } catch (RejectedExecutionException e) {
+                log.warn("SSE dispatcher saturated, closing stream for key {}", wrapper.key);
+                completeWithError(wrapper.key, e);
+            }
+        }
+    }
+
+    /**
+     * 송신 큐 적재 규칙 (wrapper 락 보유 상태에서 호출)
+     *
+     * @return false면 필수 이벤트를 넣을 공간이 없음 (느린 클라이언트)
+     */
+    private boolean offer(EmitterWrapper wrapper, Outbound outbound) {
+        LinkedList<Outbound> outbox = wrapper.outbox;
+
+        if (outbound.kind() == Kind.PROGRESS) {
+            // 아직 전송 전인 progress는 최신 값으로 교체
+            ListIterator<Outbound> iterator = outbox.listIterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().kind() == Kind.PROGRESS) {
+                    iterator.set(outbound);
+                    return true;
+                }
+            }
+        }
+
+        if (outbox.size() >= sendQueueCapacity) {
+            if (outbound.kind() == Kind.PROGRESS || outbound.kind() == Kind.HEARTBEAT) {
+                log.debug("SSE send queue full for key {}, dropping {}", wrapper.key, outbound.kind());
+                return true;
+            }
+            if (!outbox.removeIf(queued -> queued.kind() == Kind.PROGRESS)) {
+                return false;
+            }
+        }
+
+        outbox.addLast(outbound);
+        return true;
+    }
+
+    /**
+     * 디스패처 스레드에서 Emitter 하나의 큐를 순서대로 비움 (Emitter당 동시에 1개 작업)
+     */
+    private void drain(EmitterWrapper wrapper) {
+        while (true) {
+            Outbound next;
+            synchronized (wrapper) {
+                next = wrapper.outbox.pollFirst();
+                if (next == null || wrapper.closed) {
+                    wrapper.draining = false;
+                    return;
+                }
+            }
+
+            if (!write(wrapper, next)) {
+                synchronized (wrapper) {
+                    wrapper.closed = true;
+                    wrapper.outbox.clear();
+                    wrapper.draining = false;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return false면 스트림 종료 (완료 이벤트 전송 또는 전송 실패)
+     */
+    private boolean write(EmitterWrapper wrapper, Outbound outbound) {
+        try {
+            if (outbound.kind() == Kind.ERROR) {
+                wrapper.emitter().send(outbound.event());
+                wrapper.emitter().completeWithError(outbound.error());
+                remove(wrapper);
+                return false;
+            }
+            wrapper.emitter().send(outbound.event());
+            if (outbound.kind() == Kind.COMPLETE) {
+                wrapper.emitter().complete();
+                remove(wrapper);
+                return false;
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 또는 이미 완료된 Emitter
+            log.error("Failed to send {} to key {}: {}", outbound.kind(), wrapper.key, e.getMessage());
+            remove(wrapper);
+            return false;
         }
     }
 
     /**
      * [B-6] 주기적 만료 Emitter 정리
-     * 10초마다 실행, TTL 초과 Emitter 강제 제거
+     * 마감 시각이 지난 head만 꺼내므로 비용은 만료된 Emitter 수에 비례 (전체 순회 없음)
      *
      * Before: 24시간 운영 → 50,000 Emitter 누적, 힙 선형 증가
      * After: max 5,000 유지, 힙 안정적 수평
      */
-    @Scheduled(fixedDelay = 10000)
+    @Scheduled(fixedDelay = 1000)
     public void cleanupExpiredEmitters() {
-        Instant cutoff = Instant.now().minusSeconds(EMITTER_TTL_SECONDS);
+        Instant now = clock.instant();
         int removedCount = 0;
 
-        var iterator = emitters.entrySet().iterator();
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            if (entry.getValue().createdAt().isBefore(cutoff)) {
-                try {
-                    entry.getValue().emitter().complete();
-                } catch (Exception e) {
-                    // Ignore errors during cleanup
+        synchronized (expiryLock) {
+            EmitterWrapper head;
+            while ((head = expiryQueue.peek()) != null && !head.deadline.isAfter(now)) {
+                expiryQueue.poll();
+                if (isActive(head)) {
+                    expire(head);
+                    removedCount++;
                 }
-                iterator.remove();
-                removedCount++;
             }
         }
 
@@ -150,7 +483,73 @@ public class SseEmitterManager {
         }
     }
 
+    /**
+     * 전역 최대치 도달 시 가장 오래된 활성 Emitter 1개 축출 (완료된 항목은 건너뜀)
+     */
+    private void evictOldest() {
+        synchronized (expiryLock) {
+            EmitterWrapper head;
+            while ((head = expiryQueue.poll()) != null) {
+                if (isActive(head)) {
+                    expire(head);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void expire(EmitterWrapper wrapper) {
+        synchronized (wrapper) {
+            wrapper.closed = true;
+            wrapper.outbox.clear();
+        }
+        try {
+            wrapper.emitter().complete();
+        } catch (Exception e) {
+            // Ignore errors during cleanup
+        }
+        remove(wrapper);
+    }
+
+    private void replace(EmitterWrapper previous) {
+        synchronized (previous) {
+            previous.closed = true;
+            previous.outbox.clear();
+        }
+        detachFromUser(previous);
+        // 만료 큐 항목은 그대로 둠 → 이미 교체되어 isActive()가 false이므로 정리/축출 시 건너뜀 (O(n) 제거 없음)
+        try {
+            previous.emitter().complete();
+        } catch (Exception e) {
+            // Ignore errors during cleanup
+        }
+    }
+
+    private boolean isActive(EmitterWrapper wrapper) {
+        return emitters.get(wrapper.key) == wrapper;
+    }
+
+    private void remove(EmitterWrapper wrapper) {
+        emitters.remove(wrapper.key, wrapper);
+        detachFromUser(wrapper);
+    }
+
+    private void detachFromUser(EmitterWrapper wrapper) {
+        if (wrapper.userId == null) {
+            return;
+        }
+        userEmitters.computeIfPresent(wrapper.userId, (userId, deque) -> {
+            deque.remove(wrapper);
+            return deque.isEmpty() ? null : deque;
+        });
+    }
+
     public int getActiveEmitterCount() {
         return emitters.size();
     }
+
+    int getUserEmitterCount(Long userId) {
+        Deque<EmitterWrapper> deque = userEmitters.get(userId);
+        return deque != null ? deque.size() : 0;
+    }
 }
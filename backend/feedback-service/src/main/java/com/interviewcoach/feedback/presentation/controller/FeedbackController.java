@@ -1,15 +1,23 @@
 package com.interviewcoach.feedback.presentation.controller;
 
+import com.interviewcoach.feedback.application.dto.request.GradeAnswerRequest;
+import com.interviewcoach.feedback.application.dto.response.FeedbackTicketResponse;
 import com.interviewcoach.feedback.application.service.FeedbackService;
+import com.interviewcoach.feedback.application.service.ReactiveFeedbackService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Tag(name = "피드백", description = "AI 피드백 스트리밍 (SSE)")
 @Validated
@@ -19,17 +27,40 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final ReactiveFeedbackService reactiveFeedbackService;
 
-    @Operation(summary = "피드백 스트리밍 (GET)", description = "SSE를 통한 실시간 AI 피드백 + 꼬리 질문 스트리밍")
+    @Operation(summary = "피드백 티켓 발급", description = "답변을 한 번만 업로드하고 SSE GET에 사용할 단기 티켓 발급")
+    @ApiResponse(responseCode = "201", description = "티켓 발급 성공")
+    @PostMapping("/session/{sessionId}/tickets")
+    public ResponseEntity<FeedbackTicketResponse> issueTicket(
+            @PathVariable @Positive(message = "세션 ID는 양수여야 합니다") Long sessionId,
+            @RequestBody FeedbackRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId) {
+        int depth = request.followUpDepth() != null ? request.followUpDepth() : 0;
+        FeedbackTicketResponse response = feedbackService.issueTicket(
+                userId, sessionId, request.qnaId(), request.question(), request.answer(), depth);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "피드백 스트리밍 (GET)", description = "SSE를 통한 실시간 AI 피드백 + 꼬리 질문 스트리밍 (ticket 권장, Last-Event-ID 헤더로 재연결 시 이어받기, fresh=true면 결과 캐시 무시)")
     @ApiResponse(responseCode = "200", description = "SSE 스트림 연결 성공")
+    @ApiResponse(responseCode = "404", description = "티켓 만료 또는 없음")
     @GetMapping(value = "/session/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamFeedback(
             @PathVariable @Positive(message = "세션 ID는 양수여야 합니다") Long sessionId,
+            @RequestParam(required = false) String ticket,
             @RequestParam(required = false) Long qnaId,
             @RequestParam(required = false) String question,
             @RequestParam(required = false) String answer,
-            @RequestParam(required = false, defaultValue = "0") Integer followUpDepth) {
-        return feedbackService.streamFeedback(sessionId, qnaId, question, answer, followUpDepth);
+            @RequestParam(required = false, defaultValue = "0") Integer followUpDepth,
+            @RequestParam(required = false, defaultValue = "false") boolean fresh,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId) {
+        if (ticket != null && !ticket.isBlank()) {
+            return feedbackService.streamFeedbackWithTicket(userId, sessionId, ticket, lastEventId, fresh);
+        }
+        // 레거시: 질문/답변을 쿼리 스트링으로 전달 (티켓 방식으로 이전 중)
+        return feedbackService.streamFeedback(userId, sessionId, qnaId, question, answer, followUpDepth, lastEventId, fresh);
     }
 
     @Operation(summary = "피드백 스트리밍 (POST)", description = "긴 답변을 위한 POST 방식 SSE 피드백 스트리밍")
@@ -38,10 +69,36 @@ public class FeedbackController {
     @PostMapping(value = "/session/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamFeedbackPost(
             @PathVariable @Positive(message = "세션 ID는 양수여야 합니다") Long sessionId,
-            @RequestBody FeedbackRequest request) {
+            @RequestBody FeedbackRequest request,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId) {
         int depth = request.followUpDepth() != null ? request.followUpDepth() : 0;
-        return feedbackService.streamFeedback(sessionId, request.qnaId(), request.question(), request.answer(), depth);
+        boolean fresh = Boolean.TRUE.equals(request.fresh());
+        return feedbackService.streamFeedback(userId, sessionId, request.qnaId(), request.question(), request.answer(), depth, lastEventId, fresh);
+    }
+
+    @Operation(summary = "답변 제출 + 채점", description = "답변 제출과 AI 채점을 한 번에 처리하는 SSE 스트림 (답변/피드백 저장, 통계 기록은 서버에서 처리)")
+    @ApiResponse(responseCode = "200", description = "SSE 스트림 연결 성공")
+    @PostMapping(value = "/session/{sessionId}/answers", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter gradeAnswer(
+            @PathVariable @Positive(message = "세션 ID는 양수여야 합니다") Long sessionId,
+            @Valid @RequestBody GradeAnswerRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId) {
+        return feedbackService.gradeAnswer(userId, sessionId, request);
+    }
+
+    @Operation(summary = "피드백 스트리밍 (리액티브)", description = "스트리밍 LLM 기반 논블로킹 SSE 피드백 (기존 /stream에서 이전 중)")
+    @ApiResponse(responseCode = "200", description = "SSE 스트림 연결 성공")
+    @GetMapping(value = "/session/{sessionId}/stream/reactive", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamFeedbackReactive(
+            @PathVariable @Positive(message = "세션 ID는 양수여야 합니다") Long sessionId,
+            @RequestParam(required = false) Long qnaId,
+            @RequestParam(required = false) String question,
+            @RequestParam(required = false) String answer,
+            @RequestParam(required = false, defaultValue = "0") Integer followUpDepth,
+            @RequestParam(required = false, defaultValue = "false") boolean fresh) {
+        return reactiveFeedbackService.streamFeedback(sessionId, qnaId, question, answer, followUpDepth, fresh);
     }
 
-    public record FeedbackRequest(Long qnaId, String question, String answer, Integer followUpDepth) {}
+    public record FeedbackRequest(Long qnaId, String question, String answer, Integer followUpDepth, Boolean fresh) {}
 }
@@ -0,0 +1,156 @@
+package com.interviewcoach.feedback.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.application.dto.request.GradeAnswerRequest;
+import com.interviewcoach.feedback.application.dto.request.RecordAnswerRequest;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.application.dto.response.FollowUpQuestion;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackGeneratedEvent;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackGeneratedPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnswerGradingService 단위 테스트")
+class AnswerGradingServiceTest {
+
+    @Mock
+    private FeedbackGeneratedPublisher feedbackGeneratedPublisher;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    private AnswerGradingService answerGradingService;
+
+    private static final Long USER_ID = 7L;
+    private static final Long SESSION_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        answerGradingService = new AnswerGradingService(feedbackGeneratedPublisher, statisticsService, new ObjectMapper());
+    }
+
+    private GradeAnswerRequest request(Boolean appendFollowUp) {
+        return GradeAnswerRequest.builder()
+                .qnaId(10L)
+                .questionOrder(2)
+                .question("JVM GC를 설명하세요")
+                .answer("G1은 region 단위로...")
+                .followUpDepth(1)
+                .skillCategory("java")
+                .appendFollowUp(appendFollowUp)
+                .build();
+    }
+
+    private FeedbackResponse feedback(int score) {
+        return FeedbackResponse.builder()
+                .sessionId(SESSION_ID)
+                .qnaId(10L)
+                .score(score)
+                .strengths(List.of("구조적 설명"))
+                .improvements(List.of("STW 언급 부족"))
+                .tips(List.of("ZGC와 비교"))
+                .hasFollowUp(true)
+                .followUpQuestion(FollowUpQuestion.builder()
+                        .questionText("Mixed GC는 언제 발생하나요?")
+                        .focusArea("GC")
+                        .shouldAsk(true)
+                        .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("이벤트에 답변/피드백 맵/꼬리 질문 포함 (세션/QnA id와 null 필드는 피드백 맵에서 제외)")
+    void recordGradedAnswer_PublishesEvent() {
+        // when
+        answerGradingService.recordGradedAnswer(USER_ID, SESSION_ID, request(true), feedback(82));
+
+        // then
+        ArgumentCaptor<FeedbackGeneratedEvent> captor = ArgumentCaptor.forClass(FeedbackGeneratedEvent.class);
+        verify(feedbackGeneratedPublisher).publish(captor.capture());
+        FeedbackGeneratedEvent event = captor.getValue();
+        assertThat(event.sessionId()).isEqualTo(SESSION_ID);
+        assertThat(event.qnaId()).isEqualTo(10L);
+        assertThat(event.questionOrder()).isEqualTo(2);
+        assertThat(event.userId()).isEqualTo(USER_ID);
+        assertThat(event.answerText()).isEqualTo("G1은 region 단위로...");
+        assertThat(event.feedback())
+                .containsEntry("score", 82)
+                .containsKeys("strengths", "improvements", "tips", "followUpQuestion", "hasFollowUp")
+                .doesNotContainKeys("sessionId", "qnaId", "overallComment");
+        assertThat(event.followUpDepth()).isEqualTo(1);
+        assertThat(event.appendFollowUp()).isTrue();
+        assertThat(event.followUpQuestion()).isEqualTo("Mixed GC는 언제 발생하나요?");
+        assertThat(event.followUpFocusArea()).isEqualTo("GC");
+        assertThat(event.gradedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("appendFollowUp 미요청 또는 꼬리 질문 없음 → 꼬리 질문 추가하지 않음")
+    void recordGradedAnswer_NoFollowUpAppend() {
+        // when
+        answerGradingService.recordGradedAnswer(USER_ID, SESSION_ID, request(null), feedback(82));
+        FeedbackResponse noFollowUp = feedback(82).toBuilder().hasFollowUp(false).followUpQuestion(null).build();
+        answerGradingService.recordGradedAnswer(USER_ID, SESSION_ID, request(true), noFollowUp);
+
+        // then
+        ArgumentCaptor<FeedbackGeneratedEvent> captor = ArgumentCaptor.forClass(FeedbackGeneratedEvent.class);
+        verify(feedbackGeneratedPublisher, times(2)).publish(captor.capture());
+        assertThat(captor.getAllValues()).noneMatch(FeedbackGeneratedEvent::appendFollowUp);
+        assertThat(captor.getAllValues().get(1).followUpQuestion()).isNull();
+    }
+
+    @Test
+    @DisplayName("통계 기록 - 60점 미만이면 오답 처리 + 첫 번째 개선점을 약점으로")
+    void recordGradedAnswer_RecordsStatistics() {
+        // when
+        answerGradingService.recordGradedAnswer(USER_ID, SESSION_ID, request(false), feedback(45));
+
+        // then
+        ArgumentCaptor<RecordAnswerRequest> captor = ArgumentCaptor.forClass(RecordAnswerRequest.class);
+        verify(statisticsService).recordGradedAnswer(eq(USER_ID), eq(SESSION_ID), eq(2), captor.capture());
+        RecordAnswerRequest recorded = captor.getValue();
+        assertThat(recorded.getSkillCategory()).isEqualTo("java");
+        assertThat(recorded.getIsCorrect()).isFalse();
+        assertThat(recorded.getScore()).isEqualTo(45);
+        assertThat(recorded.getWeakPoint()).isEqualTo("STW 언급 부족");
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 없으면 통계는 기록하지 않음")
+    void recordGradedAnswer_NoUser_SkipsStatistics() {
+        // when
+        answerGradingService.recordGradedAnswer(null, SESSION_ID, request(false), feedback(90));
+
+        // then
+        verify(feedbackGeneratedPublisher).publish(any(FeedbackGeneratedEvent.class));
+        verifyNoInteractions(statisticsService);
+    }
+
+    @Test
+    @DisplayName("이벤트 발행 실패해도 통계는 기록 (예외 전파 없음)")
+    void recordGradedAnswer_PublishFailure_StillRecordsStatistics() {
+        // given
+        given(feedbackGeneratedPublisher.publish(any(FeedbackGeneratedEvent.class)))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // when
+        answerGradingService.recordGradedAnswer(USER_ID, SESSION_ID, request(false), feedback(90));
+
+        // then
+        verify(statisticsService).recordGradedAnswer(eq(USER_ID), eq(SESSION_ID), eq(2), any(RecordAnswerRequest.class));
+    }
+}
@@ -1,23 +1,35 @@
 package com.interviewcoach.feedback.application.service;
 
+import com.interviewcoach.feedback.application.dto.request.GradeAnswerRequest;
 import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.application.dto.response.FeedbackTicketResponse;
+import com.interviewcoach.feedback.exception.FeedbackTicketNotFoundException;
 import com.interviewcoach.feedback.infrastructure.llm.FeedbackLlmClient;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackEventBus;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackStreamEvent;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackTicketStore;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackTicketStore.FeedbackTicket;
 import com.interviewcoach.feedback.infrastructure.streaming.SseEmitterManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -29,16 +41,27 @@ class FeedbackServiceTest {
     @Mock
     private SseEmitterManager sseEmitterManager;
 
+    @Mock
+    private FeedbackEventBus feedbackEventBus;
+
     @Mock
     private FeedbackLlmClient feedbackLlmClient;
 
+    @Mock
+    private FeedbackTicketStore feedbackTicketStore;
+
+    @Mock
+    private AnswerGradingService answerGradingService;
+
     private FeedbackService feedbackService;
 
     @BeforeEach
     void setUp() {
         // Use direct executor so async tasks run synchronously in tests
         Executor directExecutor = Runnable::run;
-        feedbackService = new FeedbackService(sseEmitterManager, feedbackLlmClient, directExecutor);
+        feedbackService = new FeedbackService(sseEmitterManager, feedbackEventBus, feedbackLlmClient, feedbackTicketStore, answerGradingService, directExecutor);
+        // 기본: 생성 중인 다른 요청 없음
+        lenient().when(feedbackEventBus.tryStartGeneration(anyString())).thenReturn(true);
     }
 
     private static final Long SESSION_ID = 1L;
@@ -57,14 +80,14 @@ class FeedbackServiceTest {
             String answerText = "GC는 가비지 컬렉션으로...";
             String expectedKey = SESSION_ID + "_" + QNA_ID;
 
-            given(sseEmitterManager.createEmitter(expectedKey)).willReturn(mockEmitter);
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(mockEmitter);
 
             // when
             SseEmitter result = feedbackService.streamFeedback(SESSION_ID, QNA_ID, questionText, answerText, 0);
 
             // then
             assertThat(result).isEqualTo(mockEmitter);
-            verify(sseEmitterManager, times(1)).createEmitter(expectedKey);
+            verify(sseEmitterManager, times(1)).createEmitter(expectedKey, null);
         }
 
         @Test
@@ -86,15 +109,15 @@ class FeedbackServiceTest {
                     .overallComment("전반적으로 좋은 답변입니다.")
                     .build();
 
-            given(sseEmitterManager.createEmitter(expectedKey)).willReturn(mockEmitter);
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(mockEmitter);
             given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, questionText, answerText, 0))
                     .willReturn(mockFeedback);
 
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
                 latch.countDown();
-                return null;
-            }).when(sseEmitterManager).complete(expectedKey);
+                return 2L;
+            }).when(feedbackEventBus).publishComplete(expectedKey);
 
             // when
             feedbackService.streamFeedback(SESSION_ID, QNA_ID, questionText, answerText, 0);
@@ -104,7 +127,7 @@ class FeedbackServiceTest {
             assertThat(completed).isTrue();
 
             verify(feedbackLlmClient, times(1)).generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, questionText, answerText, 0);
-            verify(sseEmitterManager, times(1)).sendFeedback(eq(expectedKey), eq(mockFeedback));
+            verify(feedbackEventBus, times(1)).publishFeedback(eq(expectedKey), eq(mockFeedback));
         }
 
         @Test
@@ -124,15 +147,15 @@ class FeedbackServiceTest {
                     .improvements(List.of("더 노력하세요"))
                     .build();
 
-            given(sseEmitterManager.createEmitter(expectedKey)).willReturn(mockEmitter);
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(mockEmitter);
             given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "", "", 0))
                     .willReturn(mockFeedback);
 
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
                 latch.countDown();
-                return null;
-            }).when(sseEmitterManager).complete(expectedKey);
+                return 2L;
+            }).when(feedbackEventBus).publishComplete(expectedKey);
 
             // when
             feedbackService.streamFeedback(SESSION_ID, QNA_ID, questionText, answerText, 0);
@@ -157,15 +180,15 @@ class FeedbackServiceTest {
                     .score(75)
                     .build();
 
-            given(sseEmitterManager.createEmitter(expectedKey)).willReturn(mockEmitter);
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(mockEmitter);
             given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "", "", 0))
                     .willReturn(mockFeedback);
 
             CountDownLatch latch = new CountDownLatch(1);
             doAnswer(invocation -> {
                 latch.countDown();
-                return null;
-            }).when(sseEmitterManager).complete(expectedKey);
+                return 2L;
+            }).when(feedbackEventBus).publishComplete(expectedKey);
 
             // when
             feedbackService.streamFeedback(SESSION_ID, QNA_ID, null, null, 0);
@@ -176,5 +199,327 @@ class FeedbackServiceTest {
 
             verify(feedbackLlmClient).generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "", "", 0);
         }
+
+        @Test
+        @DisplayName("스레드 풀 포화 시 emitter 즉시 에러 종료")
+        void streamFeedback_ExecutorSaturated_CompletesWithError() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            Executor saturatedExecutor = task -> {
+                throw new RejectedExecutionException("queue full");
+            };
+            FeedbackService saturatedService = new FeedbackService(sseEmitterManager, feedbackEventBus, feedbackLlmClient, feedbackTicketStore, answerGradingService, saturatedExecutor);
+
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(mockEmitter);
+
+            // when
+            SseEmitter result = saturatedService.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0);
+
+            // then
+            assertThat(result).isEqualTo(mockEmitter);
+            verify(sseEmitterManager).completeWithError(eq(expectedKey), any(RejectedExecutionException.class));
+            verify(feedbackEventBus).finishGeneration(expectedKey);
+            verify(feedbackLlmClient, never()).generateFeedbackWithFollowUp(anyLong(), anyLong(), anyString(), anyString(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Last-Event-ID 재연결")
+    class ResumeTest {
+
+        @Test
+        @DisplayName("재전송 버퍼가 있으면 LLM 재호출 없이 이어받기")
+        void streamFeedback_WithLastEventId_ReplaysBuffer() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            List<FeedbackStreamEvent> backlog = List.of(
+                    new FeedbackStreamEvent(expectedKey, 2L, FeedbackStreamEvent.COMPLETE, "{\"status\":\"completed\"}"));
+
+            given(sseEmitterManager.createResumableEmitter(expectedKey, null)).willReturn(mockEmitter);
+            given(feedbackEventBus.replay(expectedKey, 1L)).willReturn(Optional.of(backlog));
+
+            // when
+            SseEmitter result = feedbackService.streamFeedback(null, SESSION_ID, QNA_ID, "질문", "답변", 0, "1");
+
+            // then
+            assertThat(result).isEqualTo(mockEmitter);
+            verify(sseEmitterManager).resume(expectedKey, 1L, backlog);
+            verifyNoInteractions(feedbackLlmClient);
+        }
+
+        @Test
+        @DisplayName("재전송 버퍼가 만료되었으면 새로 생성")
+        void streamFeedback_ReplayExpired_Regenerates() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            FeedbackResponse mockFeedback = FeedbackResponse.builder().sessionId(SESSION_ID).qnaId(QNA_ID).score(70).build();
+
+            given(sseEmitterManager.createResumableEmitter(expectedKey, null)).willReturn(mockEmitter);
+            given(feedbackEventBus.replay(expectedKey, 3L)).willReturn(Optional.empty());
+            given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(mockFeedback);
+
+            // when
+            feedbackService.streamFeedback(null, SESSION_ID, QNA_ID, "질문", "답변", 0, "3");
+
+            // then
+            verify(sseEmitterManager).resume(expectedKey, 0L, List.of());
+            verify(feedbackEventBus).publishFeedback(expectedKey, mockFeedback);
+            verify(feedbackEventBus).publishComplete(expectedKey);
+        }
+
+        @Test
+        @DisplayName("버퍼가 비어 있어도 다른 파드에서 생성 중이면 재생성하지 않고 채널 구독만 유지")
+        void streamFeedback_GenerationInFlight_SubscribesOnly() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+
+            given(sseEmitterManager.createResumableEmitter(expectedKey, null)).willReturn(mockEmitter);
+            given(feedbackEventBus.replay(expectedKey, 1L)).willReturn(Optional.empty());
+            given(feedbackEventBus.tryStartGeneration(expectedKey)).willReturn(false);
+
+            // when
+            SseEmitter result = feedbackService.streamFeedback(null, SESSION_ID, QNA_ID, "질문", "답변", 0, "1");
+
+            // then
+            assertThat(result).isEqualTo(mockEmitter);
+            verify(sseEmitterManager).resume(expectedKey, 0L, List.of());
+            verifyNoInteractions(feedbackLlmClient);
+            verify(feedbackEventBus, never()).publishFeedback(anyString(), any());
+            verify(feedbackEventBus, never()).publishComplete(anyString());
+        }
+
+        @Test
+        @DisplayName("숫자가 아닌 Last-Event-ID는 무시하고 새로 생성")
+        void streamFeedback_InvalidLastEventId_StartsFresh() {
+            // given
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(new SseEmitter(30000L));
+
+            // when
+            feedbackService.streamFeedback(null, SESSION_ID, QNA_ID, "질문", "답변", 0, "abc");
+
+            // then
+            verify(sseEmitterManager).createEmitter(expectedKey, null);
+            verify(feedbackEventBus, never()).replay(anyString(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-18] 피드백 결과 캐시")
+    class ResultCacheTest {
+
+        @Test
+        @DisplayName("캐시 히트 시 LLM/스레드 풀 없이 즉시 feedback + complete 발행")
+        void streamFeedback_CacheHit_PublishesImmediately() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            FeedbackResponse cached = FeedbackResponse.builder()
+                    .sessionId(SESSION_ID)
+                    .qnaId(QNA_ID)
+                    .score(88)
+                    .build();
+            Executor failingExecutor = task -> {
+                throw new AssertionError("executor must not be used on cache hit");
+            };
+            FeedbackService service = new FeedbackService(sseEmitterManager, feedbackEventBus, feedbackLlmClient, feedbackTicketStore, answerGradingService, failingExecutor);
+
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(mockEmitter);
+            given(feedbackLlmClient.findCachedFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(Optional.of(cached));
+
+            // when
+            service.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0);
+
+            // then
+            verify(feedbackEventBus).publishFeedback(expectedKey, cached);
+            verify(feedbackEventBus).publishComplete(expectedKey);
+            verify(feedbackLlmClient, never()).generateFeedbackWithFollowUp(anyLong(), anyLong(), anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("fresh=true면 캐시 조회 없이 새로 생성")
+        void streamFeedback_Fresh_SkipsCache() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            FeedbackResponse generated = FeedbackResponse.builder()
+                    .sessionId(SESSION_ID)
+                    .qnaId(QNA_ID)
+                    .score(70)
+                    .build();
+
+            given(sseEmitterManager.createEmitter(expectedKey, 7L)).willReturn(mockEmitter);
+            given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(generated);
+
+            // when
+            feedbackService.streamFeedback(7L, SESSION_ID, QNA_ID, "질문", "답변", 0, null, true);
+
+            // then
+            verify(feedbackLlmClient, never()).findCachedFeedback(anyLong(), anyLong(), anyString(), anyString(), anyInt());
+            verify(feedbackEventBus).publishFeedback(expectedKey, generated);
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-19] 피드백 티켓")
+    class TicketTest {
+
+        @Test
+        @DisplayName("티켓 발급 - 질문/답변 저장 후 티켓과 만료 시간 반환")
+        void issueTicket_StoresAnswer() {
+            // given
+            given(feedbackTicketStore.issue(any(FeedbackTicket.class))).willReturn("ticket-1");
+            given(feedbackTicketStore.getTtl()).willReturn(Duration.ofMinutes(2));
+
+            // when
+            FeedbackTicketResponse response = feedbackService.issueTicket(7L, SESSION_ID, QNA_ID, "질문", "긴 답변", 1);
+
+            // then
+            assertThat(response.getTicket()).isEqualTo("ticket-1");
+            assertThat(response.getExpiresIn()).isEqualTo(120L);
+            verify(feedbackTicketStore).issue(new FeedbackTicket(SESSION_ID, 7L, QNA_ID, "질문", "긴 답변", 1));
+        }
+
+        @Test
+        @DisplayName("티켓으로 스트리밍 - 저장된 질문/답변으로 피드백 생성")
+        void streamFeedbackWithTicket_UsesStoredAnswer() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            FeedbackResponse generated = FeedbackResponse.builder()
+                    .sessionId(SESSION_ID)
+                    .qnaId(QNA_ID)
+                    .score(70)
+                    .build();
+
+            given(feedbackTicketStore.find("ticket-1"))
+                    .willReturn(Optional.of(new FeedbackTicket(SESSION_ID, 7L, QNA_ID, "질문", "긴 답변", 0)));
+            given(sseEmitterManager.createEmitter(expectedKey, 7L)).willReturn(mockEmitter);
+            given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "질문", "긴 답변", 0))
+                    .willReturn(generated);
+
+            // when
+            SseEmitter result = feedbackService.streamFeedbackWithTicket(7L, SESSION_ID, "ticket-1", null, false);
+
+            // then
+            assertThat(result).isEqualTo(mockEmitter);
+            verify(feedbackEventBus).publishFeedback(expectedKey, generated);
+        }
+
+        @Test
+        @DisplayName("만료된 티켓 - FeedbackTicketNotFoundException")
+        void streamFeedbackWithTicket_Expired_Throws() {
+            // given
+            given(feedbackTicketStore.find("expired")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> feedbackService.streamFeedbackWithTicket(7L, SESSION_ID, "expired", null, false))
+                    .isInstanceOf(FeedbackTicketNotFoundException.class);
+            verifyNoInteractions(sseEmitterManager);
+        }
+
+        @Test
+        @DisplayName("다른 세션/사용자의 티켓 - FeedbackTicketNotFoundException")
+        void streamFeedbackWithTicket_OtherOwner_Throws() {
+            // given
+            given(feedbackTicketStore.find("ticket-1"))
+                    .willReturn(Optional.of(new FeedbackTicket(SESSION_ID, 7L, QNA_ID, "질문", "답변", 0)));
+
+            // when & then
+            assertThatThrownBy(() -> feedbackService.streamFeedbackWithTicket(7L, 99L, "ticket-1", null, false))
+                    .isInstanceOf(FeedbackTicketNotFoundException.class);
+            assertThatThrownBy(() -> feedbackService.streamFeedbackWithTicket(8L, SESSION_ID, "ticket-1", null, false))
+                    .isInstanceOf(FeedbackTicketNotFoundException.class);
+            verifyNoInteractions(sseEmitterManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-20] 답변 제출 + 채점")
+    class GradeAnswerTest {
+
+        private GradeAnswerRequest gradeRequest() {
+            return GradeAnswerRequest.builder()
+                    .qnaId(QNA_ID)
+                    .questionOrder(2)
+                    .question("질문")
+                    .answer("답변")
+                    .skillCategory("java")
+                    .build();
+        }
+
+        @Test
+        @DisplayName("채점 결과를 저장(이벤트/통계)한 뒤 feedback + complete 발행")
+        void gradeAnswer_RecordsBeforePublishing() {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(30000L);
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            GradeAnswerRequest request = gradeRequest();
+            FeedbackResponse generated = FeedbackResponse.builder()
+                    .sessionId(SESSION_ID)
+                    .qnaId(QNA_ID)
+                    .score(82)
+                    .build();
+
+            given(sseEmitterManager.createEmitter(expectedKey, 7L)).willReturn(mockEmitter);
+            given(feedbackLlmClient.findCachedFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(Optional.empty());
+            given(feedbackLlmClient.generateFeedbackWithFollowUp(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(generated);
+
+            // when
+            SseEmitter result = feedbackService.gradeAnswer(7L, SESSION_ID, request);
+
+            // then
+            assertThat(result).isSameAs(mockEmitter);
+            InOrder inOrder = inOrder(answerGradingService, feedbackEventBus);
+            inOrder.verify(answerGradingService).recordGradedAnswer(7L, SESSION_ID, request, generated);
+            inOrder.verify(feedbackEventBus).publishFeedback(expectedKey, generated);
+            inOrder.verify(feedbackEventBus).publishComplete(expectedKey);
+        }
+
+        @Test
+        @DisplayName("캐시 히트여도 채점 결과 저장")
+        void gradeAnswer_CacheHit_StillRecords() {
+            // given
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            GradeAnswerRequest request = gradeRequest();
+            FeedbackResponse cached = FeedbackResponse.builder().score(55).build();
+
+            given(sseEmitterManager.createEmitter(expectedKey, 7L)).willReturn(new SseEmitter(30000L));
+            given(feedbackLlmClient.findCachedFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(Optional.of(cached));
+
+            // when
+            feedbackService.gradeAnswer(7L, SESSION_ID, request);
+
+            // then
+            verify(answerGradingService).recordGradedAnswer(7L, SESSION_ID, request, cached);
+            verify(feedbackEventBus).publishFeedback(expectedKey, cached);
+            verify(feedbackLlmClient, never()).generateFeedbackWithFollowUp(anyLong(), anyLong(), anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("기존 피드백 스트림은 저장하지 않음 (클라이언트가 별도 저장하는 레거시 흐름)")
+        void streamFeedback_DoesNotRecord() {
+            // given
+            String expectedKey = SESSION_ID + "_" + QNA_ID;
+            given(sseEmitterManager.createEmitter(expectedKey, null)).willReturn(new SseEmitter(30000L));
+            given(feedbackLlmClient.findCachedFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0))
+                    .willReturn(Optional.of(FeedbackResponse.builder().score(90).build()));
+
+            // when
+            feedbackService.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0);
+
+            // then
+            verifyNoInteractions(answerGradingService);
+        }
     }
 }
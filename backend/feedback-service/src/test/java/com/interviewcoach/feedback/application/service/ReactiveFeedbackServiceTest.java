@@ -0,0 +1,137 @@
+package com.interviewcoach.feedback.application.service;
+
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.infrastructure.llm.FeedbackLlmClient;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackStreamEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveFeedbackService 단위 테스트")
+class ReactiveFeedbackServiceTest {
+
+    @Mock
+    private FeedbackLlmClient feedbackLlmClient;
+
+    private static final Long SESSION_ID = 1L;
+    private static final Long QNA_ID = 10L;
+
+    private FeedbackResponse feedback() {
+        return FeedbackResponse.builder()
+                .sessionId(SESSION_ID)
+                .qnaId(QNA_ID)
+                .score(80)
+                .build();
+    }
+
+    @Test
+    @DisplayName("feedback 이벤트 후 complete 이벤트로 종료")
+    void streamFeedback_EmitsFeedbackThenComplete() {
+        // given
+        ReactiveFeedbackService service = new ReactiveFeedbackService(feedbackLlmClient, 10, Duration.ofSeconds(15));
+        given(feedbackLlmClient.generateFeedbackWithFollowUpReactive(SESSION_ID, QNA_ID, "질문", "답변", 0, false))
+                .willReturn(Mono.just(feedback()));
+
+        // when & then
+        StepVerifier.create(service.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0, false))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(FeedbackStreamEvent.FEEDBACK);
+                    assertThat(event.id()).isEqualTo("1");
+                    assertThat(((FeedbackResponse) event.data()).getScore()).isEqualTo(80);
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(FeedbackStreamEvent.COMPLETE);
+                    assertThat(event.data()).isEqualTo(Map.of("status", "completed"));
+                })
+                .verifyComplete();
+        assertThat(service.getActiveGenerations()).isZero();
+    }
+
+    @Test
+    @DisplayName("답변이 비어 있으면 빈 질문/답변으로 생성 요청 (mock 피드백)")
+    void streamFeedback_BlankAnswer_UsesEmptyInput() {
+        // given
+        ReactiveFeedbackService service = new ReactiveFeedbackService(feedbackLlmClient, 10, Duration.ofSeconds(15));
+        given(feedbackLlmClient.generateFeedbackWithFollowUpReactive(SESSION_ID, QNA_ID, "", "", 1, false))
+                .willReturn(Mono.just(feedback()));
+
+        // when & then
+        StepVerifier.create(service.streamFeedback(SESSION_ID, QNA_ID, "질문", " ", 1, false))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("생성 대기 중에는 heartbeat 주석 전송")
+    void streamFeedback_SendsHeartbeatWhileGenerating() {
+        // given
+        ReactiveFeedbackService service = new ReactiveFeedbackService(feedbackLlmClient, 10, Duration.ofSeconds(15));
+        Sinks.One<FeedbackResponse> pending = Sinks.one();
+        given(feedbackLlmClient.generateFeedbackWithFollowUpReactive(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean()))
+                .willReturn(pending.asMono());
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> service.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0, false))
+                .thenAwait(Duration.ofSeconds(15))
+                .assertNext(event -> assertThat(event.comment()).isEqualTo("heartbeat"))
+                .then(() -> pending.tryEmitValue(feedback()))
+                .assertNext(event -> assertThat(event.event()).isEqualTo(FeedbackStreamEvent.FEEDBACK))
+                .assertNext(event -> assertThat(event.event()).isEqualTo(FeedbackStreamEvent.COMPLETE))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("동시 생성 한도 초과 시 retry 힌트가 있는 error 이벤트로 즉시 종료")
+    void streamFeedback_OverCapacity_EmitsBusyError() {
+        // given
+        ReactiveFeedbackService service = new ReactiveFeedbackService(feedbackLlmClient, 1, Duration.ofSeconds(15));
+        Sinks.One<FeedbackResponse> pending = Sinks.one();
+        given(feedbackLlmClient.generateFeedbackWithFollowUpReactive(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean()))
+                .willReturn(pending.asMono());
+        service.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0, false).subscribe();
+
+        // when & then
+        StepVerifier.create(service.streamFeedback(SESSION_ID, 11L, "질문", "답변", 0, false))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(FeedbackStreamEvent.ERROR);
+                    assertThat(event.data()).isEqualTo(Map.of("message", ReactiveFeedbackService.BUSY_MESSAGE));
+                    assertThat(event.retry()).isEqualTo(Duration.ofSeconds(2));
+                })
+                .verifyComplete();
+        assertThat(service.getActiveGenerations()).isEqualTo(1);
+
+        pending.tryEmitValue(feedback());
+        assertThat(service.getActiveGenerations()).isZero();
+    }
+
+    @Test
+    @DisplayName("생성 실패 시 error 이벤트로 종료")
+    void streamFeedback_Failure_EmitsError() {
+        // given
+        ReactiveFeedbackService service = new ReactiveFeedbackService(feedbackLlmClient, 10, Duration.ofSeconds(15));
+        given(feedbackLlmClient.generateFeedbackWithFollowUpReactive(anyLong(), anyLong(), anyString(), anyString(), anyInt(), anyBoolean()))
+                .willReturn(Mono.error(new IllegalStateException("boom")));
+
+        // when & then
+        StepVerifier.create(service.streamFeedback(SESSION_ID, QNA_ID, "질문", "답변", 0, false))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(FeedbackStreamEvent.ERROR);
+                    assertThat(event.data()).isEqualTo(Map.of("message", "boom"));
+                })
+                .verifyComplete();
+        assertThat(service.getActiveGenerations()).isZero();
+    }
+}
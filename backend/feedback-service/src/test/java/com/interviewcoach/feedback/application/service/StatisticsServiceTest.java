@@ -6,6 +6,7 @@ import com.interviewcoach.feedback.application.dto.response.UserStatisticsSummar
 import com.interviewcoach.feedback.domain.entity.DailyActivity;
 import com.interviewcoach.feedback.domain.entity.UserStatistics;
 import com.interviewcoach.feedback.domain.repository.DailyActivityRepository;
+import com.interviewcoach.feedback.domain.repository.GradedAnswerRecordRepository;
 import com.interviewcoach.feedback.domain.repository.UserStatisticsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +39,9 @@ class StatisticsServiceTest {
     @Mock
     private DailyActivityRepository dailyActivityRepository;
 
+    @Mock
+    private GradedAnswerRecordRepository gradedAnswerRecordRepository;
+
     @InjectMocks
     private StatisticsService statisticsService;
 
@@ -238,6 +242,53 @@ class StatisticsServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("recordGradedAnswer 메서드 - 채점된 답변당 1회 집계")
+    class RecordGradedAnswerTest {
+
+        private static final Long SESSION_ID = 100L;
+
+        @Test
+        @DisplayName("처음 반영하는 답변이면 통계와 일일 활동 기록")
+        void recordGradedAnswer_FirstTime_Records() throws Exception {
+            // given
+            UserStatistics existingStats = createUserStatistics(1L, USER_ID, "Java", 3, 2, BigDecimal.valueOf(66.67));
+            given(gradedAnswerRecordRepository.insertIfAbsent(SESSION_ID, 1, USER_ID)).willReturn(1);
+            given(statisticsRepository.findByUserIdAndSkillCategoryWithLock(USER_ID, "Java"))
+                    .willReturn(Optional.of(existingStats));
+            DailyActivity dailyActivity = DailyActivity.builder()
+                    .userId(USER_ID)
+                    .activityDate(LocalDate.now())
+                    .build();
+            given(dailyActivityRepository.findByUserIdAndActivityDateWithLock(eq(USER_ID), any(LocalDate.class)))
+                    .willReturn(Optional.of(dailyActivity));
+
+            // when
+            boolean recorded = statisticsService.recordGradedAnswer(
+                    USER_ID, SESSION_ID, 1, createRecordRequestWithScore("Java", true, null, 80));
+
+            // then
+            assertThat(recorded).isTrue();
+            assertThat(existingStats.getTotalQuestions()).isEqualTo(4);
+            assertThat(dailyActivity.getQuestionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이미 반영된 답변(캐시 재생/재시도)이면 통계를 다시 집계하지 않음")
+        void recordGradedAnswer_AlreadyRecorded_Skips() throws Exception {
+            // given
+            given(gradedAnswerRecordRepository.insertIfAbsent(SESSION_ID, 1, USER_ID)).willReturn(0);
+
+            // when
+            boolean recorded = statisticsService.recordGradedAnswer(
+                    USER_ID, SESSION_ID, 1, createRecordRequestWithScore("Java", true, null, 80));
+
+            // then
+            assertThat(recorded).isFalse();
+            verifyNoInteractions(statisticsRepository, dailyActivityRepository);
+        }
+    }
+
     @Nested
     @DisplayName("getStatistics 메서드")
     class GetStatisticsTest {
@@ -0,0 +1,38 @@
+package com.interviewcoach.feedback.domain.repository;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Disabled("H2는 INSERT ... ON CONFLICT를 지원하지 않음 - PostgreSQL 통합 테스트 환경에서 실행")
+@DisplayName("GradedAnswerRecordRepository 통합 테스트")
+class GradedAnswerRecordRepositoryTest {
+
+    @Autowired
+    private GradedAnswerRecordRepository gradedAnswerRecordRepository;
+
+    private static final Long USER_ID = 1L;
+    private static final Long SESSION_ID = 100L;
+
+    @Test
+    @DisplayName("같은 세션 + 질문 순번은 한 번만 삽입, 다른 순번은 별도로 삽입")
+    void insertIfAbsent_OncePerAnswer() {
+        // when
+        int first = gradedAnswerRecordRepository.insertIfAbsent(SESSION_ID, 1, USER_ID);
+        int replay = gradedAnswerRecordRepository.insertIfAbsent(SESSION_ID, 1, USER_ID);
+        int nextQuestion = gradedAnswerRecordRepository.insertIfAbsent(SESSION_ID, 2, USER_ID);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(replay).isZero();
+        assertThat(nextQuestion).isEqualTo(1);
+        assertThat(gradedAnswerRecordRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,20 @@
+package com.interviewcoach.feedback.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * 테스트용 FeedbackResultCache 생성 (Redis/Spring 컨텍스트 없이)
+ */
+public final class FeedbackResultCacheFixture {
+
+    private FeedbackResultCacheFixture() {
+    }
+
+    public static FeedbackResultCache disabled() {
+        return new FeedbackResultCache(null, new ObjectMapper(), new SimpleMeterRegistry(),
+                false, Duration.ZERO, 0, Duration.ofMinutes(1));
+    }
+}
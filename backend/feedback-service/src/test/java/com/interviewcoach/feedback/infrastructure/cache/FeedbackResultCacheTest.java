@@ -0,0 +1,179 @@
+package com.interviewcoach.feedback.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackResultCache 단위 테스트")
+class FeedbackResultCacheTest {
+
+    private static final String MODEL = "claude-test";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private FeedbackResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FeedbackResultCache(redisTemplate, objectMapper, meterRegistry,
+                true, Duration.ofHours(24), 100, Duration.ofMinutes(10));
+    }
+
+    private FeedbackResponse feedback() {
+        return FeedbackResponse.builder()
+                .sessionId(1L)
+                .qnaId(10L)
+                .score(72)
+                .strengths(List.of("구체적"))
+                .improvements(List.of("결과 수치 보강"))
+                .tips(List.of())
+                .overallComment("좋습니다")
+                .hasFollowUp(false)
+                .build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("feedback.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("캐시 키")
+    class KeyTest {
+
+        @Test
+        @DisplayName("답변의 공백/개행 차이는 같은 키")
+        void key_NormalizesWhitespace() {
+            String a = FeedbackResultCache.key(MODEL, "질문", "  인덱스를\n\n 사용합니다  ", 0);
+            String b = FeedbackResultCache.key(MODEL, "질문", "인덱스를 사용합니다", 0);
+
+            assertThat(a).isEqualTo(b).hasSize(64);
+        }
+
+        @Test
+        @DisplayName("깊이, 모델, 답변 내용이 다르면 다른 키")
+        void key_DiffersByDepthModelAndAnswer() {
+            String base = FeedbackResultCache.key(MODEL, "질문", "답변", 0);
+
+            assertThat(FeedbackResultCache.key(MODEL, "질문", "답변", 1)).isNotEqualTo(base);
+            assertThat(FeedbackResultCache.key("other-model", "질문", "답변", 0)).isNotEqualTo(base);
+            assertThat(FeedbackResultCache.key(MODEL, "질문", "다른 답변", 0)).isNotEqualTo(base);
+        }
+
+        @Test
+        @DisplayName("구분자 경계가 달라지면 다른 키")
+        void key_FieldBoundariesMatter() {
+            assertThat(FeedbackResultCache.key(MODEL, "ab", "c", 0))
+                    .isNotEqualTo(FeedbackResultCache.key(MODEL, "a", "bc", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("조회/저장")
+    class GetPutTest {
+
+        @Test
+        @DisplayName("저장 시 sessionId/qnaId를 제거하고 Redis에 TTL과 함께 기록")
+        void put_StripsIdentityAndWritesRedis() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+            // when
+            cache.put("k", feedback());
+
+            // then
+            verify(valueOperations).set(eq(FeedbackResultCache.KEY_PREFIX + "k"), json.capture(), eq(Duration.ofHours(24)));
+            FeedbackResponse stored = objectMapper.readValue(json.getValue(), FeedbackResponse.class);
+            assertThat(stored.getSessionId()).isNull();
+            assertThat(stored.getQnaId()).isNull();
+            assertThat(stored.getScore()).isEqualTo(72);
+        }
+
+        @Test
+        @DisplayName("같은 파드에서 저장한 결과는 Redis 조회 없이 L1에서 반환")
+        void get_LocalHit_SkipsRedis() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            cache.put("k", feedback());
+
+            // when
+            FeedbackResponse cached = cache.get("k").orElseThrow();
+
+            // then
+            assertThat(cached.getScore()).isEqualTo(72);
+            verify(valueOperations, never()).get(anyString());
+            assertThat(requests("hit_local")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("L1 미스 시 Redis에서 읽고 L1에 채움")
+        void get_RedisHit_PopulatesLocal() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(FeedbackResultCache.KEY_PREFIX + "k"))
+                    .willReturn(objectMapper.writeValueAsString(feedback()));
+
+            // when
+            cache.get("k");
+            cache.get("k");
+
+            // then
+            verify(valueOperations, times(1)).get(anyString());
+            assertThat(requests("hit_redis")).isEqualTo(1.0);
+            assertThat(requests("hit_local")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 미스로 처리 (fail open)")
+        void get_RedisFailure_ReturnsEmpty() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+            // when & then
+            assertThat(cache.get("k")).isEmpty();
+            assertThat(requests("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("비활성화 시 조회/저장 모두 무시")
+        void disabled_IgnoresAll() {
+            // given
+            FeedbackResultCache disabled = FeedbackResultCacheFixture.disabled();
+
+            // when
+            disabled.put("k", feedback());
+
+            // then
+            assertThat(disabled.get("k")).isEmpty();
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
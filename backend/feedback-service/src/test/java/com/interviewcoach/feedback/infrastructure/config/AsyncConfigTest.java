@@ -0,0 +1,51 @@
+package com.interviewcoach.feedback.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncConfig 단위 테스트")
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+
+    @Test
+    @DisplayName("[B-35] 송신 작업이 블로킹되면 큐 대기 없이 max까지 스레드 증가, 초과 시 거부")
+    void sseDispatchExecutor_GrowsToMaxWithDirectHandoff() throws InterruptedException {
+        // given
+        Executor executor = asyncConfig.sseDispatchExecutor(1, 2, 0);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockingWrite = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try {
+            // when
+            executor.execute(blockingWrite);
+            executor.execute(blockingWrite);
+
+            // then
+            assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+            assertThat(((ThreadPoolTaskExecutor) executor).getPoolSize()).isEqualTo(2);
+            assertThatThrownBy(() -> executor.execute(blockingWrite))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+}
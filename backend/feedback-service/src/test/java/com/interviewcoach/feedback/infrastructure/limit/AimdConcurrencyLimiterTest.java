@@ -0,0 +1,144 @@
+package com.interviewcoach.feedback.infrastructure.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AimdConcurrencyLimiter 단위 테스트")
+class AimdConcurrencyLimiterTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private AimdConcurrencyLimiter limiter(int initialLimit) {
+        return new AimdConcurrencyLimiter(initialLimit, 2, 20, 0.9, TIMEOUT_NANOS);
+    }
+
+    @Nested
+    @DisplayName("슬롯 획득")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("한도까지 획득 후 초과 요청은 거부")
+        void tryAcquire_RejectsOverLimit() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(3);
+
+            // when
+            boolean first = limiter.tryAcquire();
+            boolean second = limiter.tryAcquire();
+            boolean third = limiter.tryAcquire();
+            boolean fourth = limiter.tryAcquire();
+
+            // then
+            assertThat(first && second && third).isTrue();
+            assertThat(fourth).isFalse();
+            assertThat(limiter.getInFlight()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("슬롯 반환 후 다시 획득 가능")
+        void tryAcquire_AfterRelease() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(2);
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+
+            // when
+            limiter.onIgnore();
+
+            // then
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("한도 조정")
+    class AdjustTest {
+
+        @Test
+        @DisplayName("한도 절반 이상 사용 중 성공하면 한도 1 증가")
+        void onSuccess_IncreasesLimit() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(4);
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+
+            // when
+            limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("사용량이 적으면 성공해도 한도 유지")
+        void onSuccess_LowUtilization_KeepsLimit() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(10);
+            limiter.tryAcquire();
+
+            // when
+            limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("드롭 시 한도 곱셈 감소")
+        void onDropped_DecreasesLimit() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(10);
+            limiter.tryAcquire();
+
+            // when
+            limiter.onDropped();
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(9);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("timeout을 넘긴 성공 응답은 드롭으로 간주")
+        void onSuccess_SlowResponse_DecreasesLimit() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(10);
+            limiter.tryAcquire();
+
+            // when
+            limiter.onSuccess(TIMEOUT_NANOS + 1);
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("한도는 min 아래로 내려가지 않음")
+        void onDropped_RespectsMinLimit() {
+            // given
+            AimdConcurrencyLimiter limiter = limiter(2);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                limiter.tryAcquire();
+                limiter.onDropped();
+            }
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 한도 범위는 생성 시 예외")
+    void constructor_InvalidRange_ThrowsException() {
+        assertThatThrownBy(() -> new AimdConcurrencyLimiter(1, 2, 20, 0.9, TIMEOUT_NANOS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
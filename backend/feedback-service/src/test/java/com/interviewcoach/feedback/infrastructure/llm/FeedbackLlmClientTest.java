@@ -0,0 +1,174 @@
+package com.interviewcoach.feedback.infrastructure.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.infrastructure.cache.FeedbackResultCache;
+import com.interviewcoach.feedback.infrastructure.cache.FeedbackResultCacheFixture;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FeedbackLlmClient 리액티브 생성 단위 테스트")
+class FeedbackLlmClientTest {
+
+    private static final String MODEL = "claude-test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, FeedbackResponse> localOnly = new ConcurrentHashMap<>();
+
+    @Test
+    @DisplayName("스트리밍 토큰을 누적해 완료 시 한 번 파싱")
+    void generateReactive_AccumulatesTokens() {
+        // given
+        List<String> tokens = List.of(
+                "{\"feedback\": {\"score\": 91, \"strengths\": [\"구체적\"], ",
+                "\"improvements\": [], \"tips\": \"\", \"overallComment\": \"좋습니다\"}, ",
+                "\"followUpQuestion\": {\"shouldAsk\": false}}");
+        StreamingChatLanguageModel streamingModel = (messages, handler) -> {
+            tokens.forEach(handler::onNext);
+            handler.onComplete(Response.from(AiMessage.from(String.join("", tokens))));
+        };
+        FeedbackLlmClient client = new FeedbackLlmClient(null, streamingModel, objectMapper, FeedbackResultCacheFixture.disabled(), MODEL);
+
+        // when & then
+        StepVerifier.create(client.generateFeedbackWithFollowUpReactive(1L, 10L, "질문", "답변", 0, false))
+                .assertNext(feedback -> {
+                    assertThat(feedback.getScore()).isEqualTo(91);
+                    assertThat(feedback.getOverallComment()).isEqualTo("좋습니다");
+                    assertThat(feedback.getHasFollowUp()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("구독 취소 후 도착한 토큰/완료 콜백은 무시")
+    void generateReactive_Cancelled_IgnoresLateCallbacks() {
+        // given
+        AtomicReference<StreamingResponseHandler<AiMessage>> handlerRef = new AtomicReference<>();
+        StreamingChatLanguageModel streamingModel = (messages, handler) -> handlerRef.set(handler);
+        FeedbackLlmClient client = new FeedbackLlmClient(null, streamingModel, objectMapper, FeedbackResultCacheFixture.disabled(), MODEL);
+        List<FeedbackResponse> received = new ArrayList<>();
+
+        // when
+        Disposable subscription = client.generateFeedbackWithFollowUpReactive(1L, 10L, "질문", "답변", 0, false)
+                .subscribe(received::add);
+        subscription.dispose();
+        handlerRef.get().onNext("{\"feedback\": {\"score\": 91}}");
+        handlerRef.get().onComplete(Response.from(AiMessage.from("{\"feedback\": {\"score\": 91}}")));
+        handlerRef.get().onError(new RuntimeException("late"));
+
+        // then
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트리밍 실패 시 mock 피드백으로 대체")
+    void generateReactive_Error_FallsBackToMock() {
+        // given
+        StreamingChatLanguageModel streamingModel = (messages, handler) ->
+                handler.onError(new RuntimeException("connection reset"));
+        FeedbackLlmClient client = new FeedbackLlmClient(null, streamingModel, objectMapper, FeedbackResultCacheFixture.disabled(), MODEL);
+
+        // when & then
+        StepVerifier.create(client.generateFeedbackWithFollowUpReactive(1L, 10L, "질문", "답변", 0, false))
+                .assertNext(feedback -> assertThat(feedback.getQnaId()).isEqualTo(10L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("API 키 미설정 시 mock 피드백 반환")
+    void generateReactive_NoModel_ReturnsMock() {
+        // given
+        FeedbackLlmClient client = new FeedbackLlmClient(null, null, objectMapper, FeedbackResultCacheFixture.disabled(), MODEL);
+
+        // when & then
+        StepVerifier.create(client.generateFeedbackWithFollowUpReactive(1L, 10L, "질문", "답변", 0, false))
+                .assertNext(feedback -> assertThat(feedback.getSessionId()).isEqualTo(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("생성 결과를 캐시에 저장하고 다음 요청은 모델 호출 없이 반환")
+    void generateReactive_CachesResult() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        StreamingChatLanguageModel streamingModel = (messages, handler) -> {
+            calls.incrementAndGet();
+            handler.onNext("{\"feedback\": {\"score\": 77}}");
+            handler.onComplete(Response.from(AiMessage.from("")));
+        };
+        FeedbackResultCache cache = new FeedbackResultCache(null, objectMapper, new SimpleMeterRegistry(),
+                true, Duration.ofHours(1), 100, Duration.ofMinutes(10)) {
+            @Override
+            public void put(String key, FeedbackResponse feedback) {
+                localOnly.put(key, feedback);
+            }
+
+            @Override
+            public Optional<FeedbackResponse> get(String key) {
+                return Optional.ofNullable(localOnly.get(key));
+            }
+        };
+        FeedbackLlmClient client = new FeedbackLlmClient(null, streamingModel, objectMapper, cache, MODEL);
+        client.generateFeedbackWithFollowUpReactive(1L, 10L, "질문", "답변", 0, false).block();
+
+        // when & then
+        StepVerifier.create(client.generateFeedbackWithFollowUpReactive(2L, 20L, "질문", " 답변 ", 0, false))
+                .assertNext(feedback -> {
+                    assertThat(feedback.getScore()).isEqualTo(77);
+                    assertThat(feedback.getSessionId()).isEqualTo(2L);
+                    assertThat(feedback.getQnaId()).isEqualTo(20L);
+                })
+                .verifyComplete();
+        assertThat(calls.get()).isEqualTo(1);
+
+        client.generateFeedbackWithFollowUpReactive(3L, 30L, "질문", "답변", 0, true).block();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파싱 실패로 대체된 mock 피드백은 캐시하지 않음")
+    void generateReactive_ParseFailure_NotCached() {
+        // given
+        StreamingChatLanguageModel streamingModel = (messages, handler) -> {
+            handler.onNext("not json");
+            handler.onComplete(Response.from(AiMessage.from("not json")));
+        };
+        FeedbackResultCache cache = new FeedbackResultCache(null, objectMapper, new SimpleMeterRegistry(),
+                true, Duration.ofHours(1), 100, Duration.ofMinutes(10)) {
+            @Override
+            public void put(String key, FeedbackResponse feedback) {
+                localOnly.put(key, feedback);
+            }
+
+            @Override
+            public Optional<FeedbackResponse> get(String key) {
+                return Optional.empty();
+            }
+        };
+        FeedbackLlmClient client = new FeedbackLlmClient(null, streamingModel, objectMapper, cache, MODEL);
+
+        // when
+        client.generateFeedbackWithFollowUpReactive(1L, 10L, "질문", "답변", 0, false).block();
+
+        // then
+        assertThat(localOnly).isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * [B-16] 두 인스턴스(파드)가 하나의 Redis를 공유할 때 SSE 이벤트 전달 검증
+ *
+ * - podA: 클라이언트 연결(Emitter) 보유
+ * - podB: 피드백 생성 워커 (이벤트 발행)
+ */
+@DisplayName("FeedbackEventBus 멀티 인스턴스 통합 테스트 (Embedded Redis)")
+class FeedbackEventBusIntegrationTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private Instance podA;
+    private Instance podB;
+
+    private static final class Instance {
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final SseEmitterManager emitterManager;
+        private final FeedbackEventBus eventBus;
+
+        private Instance(int port) {
+            connectionFactory = new LettuceConnectionFactory("localhost", port);
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+            emitterManager = spy(new SseEmitterManager());
+            eventBus = new FeedbackEventBus(redisTemplate, new ObjectMapper(), emitterManager, 10, Duration.ofMinutes(1),
+                    Duration.ofMinutes(1));
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(eventBus, new ChannelTopic(FeedbackEventBus.CHANNEL));
+            container.afterPropertiesSet();
+            container.start();
+        }
+
+        private void close() throws Exception {
+            container.stop();
+            container.destroy();
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        podA = new Instance(redisPort);
+        podB = new Instance(redisPort);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        podA.close();
+        podB.close();
+    }
+
+    private FeedbackResponse feedback() {
+        return FeedbackResponse.builder().sessionId(1L).qnaId(10L).score(85).build();
+    }
+
+    @Test
+    @DisplayName("다른 파드에서 발행한 피드백이 Emitter를 가진 파드로 전달")
+    void publishOnOtherPod_DeliveredToEmitterOwner() {
+        // given
+        String key = "1_10";
+        podA.emitterManager.createEmitter(key);
+
+        // when
+        long feedbackId = podB.eventBus.publishFeedback(key, feedback());
+        long completeId = podB.eventBus.publishComplete(key);
+
+        // then
+        verify(podA.emitterManager, timeout(3000)).deliver(argThat(event ->
+                event.id() == feedbackId
+                        && FeedbackStreamEvent.FEEDBACK.equals(event.name())
+                        && event.data().contains("\"score\":85")));
+        verify(podA.emitterManager, timeout(3000)).deliver(argThat(event -> event.id() == completeId));
+        assertThat(completeId).isGreaterThan(feedbackId);
+        assertThat(podA.emitterManager.getActiveEmitterCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("다른 파드로 재연결 시 Last-Event-ID 이후 이벤트만 재전송")
+    void reconnectToOtherPod_ReplaysAfterLastEventId() {
+        // given - podA에서 feedback 수신 후 연결 끊김
+        String key = "1_11";
+        long feedbackId = podA.eventBus.publishFeedback(key, feedback());
+        long completeId = podA.eventBus.publishComplete(key);
+
+        // when - podB로 재연결
+        podB.emitterManager.createResumableEmitter(key, null);
+        Optional<List<FeedbackStreamEvent>> backlog = podB.eventBus.replay(key, feedbackId);
+        podB.emitterManager.resume(key, feedbackId, backlog.orElseThrow());
+
+        // then
+        assertThat(backlog.get()).extracting(FeedbackStreamEvent::id).containsExactly(completeId);
+        assertThat(podB.emitterManager.getActiveEmitterCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("생성 중인 키는 다른 파드가 시작 권한을 얻지 못하고 버퍼도 유지")
+    void tryStartGeneration_InFlightOnOtherPod_Rejected() {
+        // given - podA가 생성 시작 후 feedback 발행 (complete 전)
+        String key = "1_12";
+        assertThat(podA.eventBus.tryStartGeneration(key)).isTrue();
+        long feedbackId = podA.eventBus.publishFeedback(key, feedback());
+
+        // when - podB로 재연결
+        boolean started = podB.eventBus.tryStartGeneration(key);
+
+        // then
+        assertThat(started).isFalse();
+        assertThat(podB.eventBus.replay(key, 0L).orElseThrow())
+                .extracting(FeedbackStreamEvent::id).containsExactly(feedbackId);
+    }
+
+    @Test
+    @DisplayName("complete 발행 후에는 마커가 해제되어 새 생성 가능 (이전 버퍼 제거)")
+    void tryStartGeneration_AfterComplete_Allowed() {
+        // given
+        String key = "1_13";
+        assertThat(podA.eventBus.tryStartGeneration(key)).isTrue();
+        podA.eventBus.publishFeedback(key, feedback());
+        podA.eventBus.publishComplete(key);
+
+        // when
+        boolean started = podB.eventBus.tryStartGeneration(key);
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(podB.eventBus.replay(key, 0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재전송 버퍼가 없는 키는 empty (새로 생성 필요)")
+    void replay_UnknownKey_ReturnsEmpty() {
+        assertThat(podB.eventBus.replay("1_999", 1L)).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FeedbackGeneratedPublisher 통합 테스트 (Embedded Redis)")
+class FeedbackGeneratedPublisherIntegrationTest {
+
+    private static final String STREAM_KEY = "test:feedback-generated";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("XADD로 type + JSON payload 필드 저장 (interview-service가 역직렬화하는 형태)")
+    void publish_AddsRecordToStream() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        FeedbackGeneratedPublisher publisher = new FeedbackGeneratedPublisher(redisTemplate, objectMapper, STREAM_KEY, 1000);
+        FeedbackGeneratedEvent event = new FeedbackGeneratedEvent(
+                1L, 10L, 2, 7L, "답변", Map.of("score", 80), 0, false, null, null, 1_700_000_000_000L);
+
+        // when
+        publisher.publish(event);
+
+        // then
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .read(StreamOffset.fromStart(STREAM_KEY));
+        assertThat(records).hasSize(1);
+        Map<Object, Object> fields = records.get(0).getValue();
+        assertThat(fields).containsEntry(FeedbackGeneratedPublisher.FIELD_TYPE, FeedbackGeneratedEvent.TYPE);
+        FeedbackGeneratedEvent decoded = objectMapper.readValue(
+                (String) fields.get(FeedbackGeneratedPublisher.FIELD_PAYLOAD), FeedbackGeneratedEvent.class);
+        assertThat(decoded).isEqualTo(event);
+    }
+}
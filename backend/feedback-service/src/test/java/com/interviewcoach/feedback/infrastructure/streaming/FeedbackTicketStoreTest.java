@@ -0,0 +1,83 @@
+package com.interviewcoach.feedback.infrastructure.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.infrastructure.streaming.FeedbackTicketStore.FeedbackTicket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackTicketStore 단위 테스트")
+class FeedbackTicketStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private FeedbackTicketStore ticketStore;
+
+    @BeforeEach
+    void setUp() {
+        ticketStore = new FeedbackTicketStore(redisTemplate, new ObjectMapper(), Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("발급한 티켓을 TTL과 함께 저장하고 같은 내용으로 조회")
+    void issueAndFind_RoundTrip() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        FeedbackTicket ticket = new FeedbackTicket(1L, 7L, 10L, "질문", "긴 답변", 1);
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+        // when
+        String ticketId = ticketStore.issue(ticket);
+
+        // then
+        verify(valueOperations).set(key.capture(), json.capture(), eq(Duration.ofMinutes(2)));
+        assertThat(key.getValue()).isEqualTo(FeedbackTicketStore.KEY_PREFIX + ticketId);
+
+        given(valueOperations.get(key.getValue())).willReturn(json.getValue());
+        assertThat(ticketStore.find(ticketId)).contains(ticket);
+    }
+
+    @Test
+    @DisplayName("만료되었거나 손상된 티켓은 빈 결과")
+    void find_MissingOrCorrupted_ReturnsEmpty() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(FeedbackTicketStore.KEY_PREFIX + "missing")).willReturn(null);
+        given(valueOperations.get(FeedbackTicketStore.KEY_PREFIX + "corrupted")).willReturn("{not json");
+
+        // when & then
+        assertThat(ticketStore.find("missing")).isEmpty();
+        assertThat(ticketStore.find("corrupted")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("티켓은 발급한 세션/사용자에게만 유효 (익명 발급은 세션만 확인)")
+    void isIssuedFor_ChecksOwner() {
+        FeedbackTicket owned = new FeedbackTicket(1L, 7L, 10L, "질문", "답변", 0);
+        FeedbackTicket anonymous = new FeedbackTicket(1L, null, 10L, "질문", "답변", 0);
+
+        assertThat(owned.isIssuedFor(1L, 7L)).isTrue();
+        assertThat(owned.isIssuedFor(1L, 8L)).isFalse();
+        assertThat(owned.isIssuedFor(2L, 7L)).isFalse();
+        assertThat(anonymous.isIssuedFor(1L, 8L)).isTrue();
+    }
+}
@@ -7,9 +7,21 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -218,4 +230,360 @@ class SseEmitterManagerTest {
             assertThat(sseEmitterManager.getActiveEmitterCount()).isEqualTo(2);
         }
     }
-}
+
+    @Nested
+    @DisplayName("deliver/resume - 이벤트 버스 전달")
+    class DeliverTest {
+
+        private FeedbackStreamEvent event(String key, long id, String name) {
+            return new FeedbackStreamEvent(key, id, name, "{}");
+        }
+
+        @Test
+        @DisplayName("로컬 Emitter가 없는 키의 이벤트는 무시")
+        void deliver_UnknownKey_Ignored() {
+            assertThatCode(() -> sseEmitterManager.deliver(event("other-pod-key", 1L, FeedbackStreamEvent.FEEDBACK)))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("complete 이벤트 전달 시 Emitter 제거")
+        void deliver_CompleteEvent_RemovesEmitter() {
+            // given
+            sseEmitterManager.createEmitter("key");
+
+            // when
+            sseEmitterManager.deliver(event("key", 1L, FeedbackStreamEvent.FEEDBACK));
+            sseEmitterManager.deliver(event("key", 2L, FeedbackStreamEvent.COMPLETE));
+
+            // then
+            assertThat(sseEmitterManager.getActiveEmitterCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("재연결 Emitter는 resume 전까지 실시간 이벤트를 보관")
+        void resumable_BuffersUntilResume() {
+            // given
+            sseEmitterManager.createResumableEmitter("key", null);
+
+            // when
+            sseEmitterManager.deliver(event("key", 3L, FeedbackStreamEvent.COMPLETE));
+
+            // then
+            assertThat(sseEmitterManager.getActiveEmitterCount()).isEqualTo(1);
+
+            sseEmitterManager.resume("key", 1L, List.of(event("key", 2L, FeedbackStreamEvent.FEEDBACK)));
+            assertThat(sseEmitterManager.getActiveEmitterCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("Last-Event-ID 이하의 이벤트는 다시 보내지 않음")
+        void resume_SkipsAlreadyDeliveredEvents() {
+            // given
+            sseEmitterManager.createResumableEmitter("key", null);
+
+            // when - 클라이언트가 이미 받은 complete(id=2)는 재전송하지 않음
+            sseEmitterManager.resume("key", 2L, List.of(event("key", 2L, FeedbackStreamEvent.COMPLETE)));
+
+            // then
+            assertThat(sseEmitterManager.getActiveEmitterCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("만료/축출 - 마감 시각 큐와 사용자별 제한")
+    class ExpiryAndLimitTest {
+
+        private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+        @Test
+        @DisplayName("TTL이 지난 Emitter만 정리")
+        void cleanup_RemovesOnlyExpired() {
+            // given
+            SseEmitterManager manager = new SseEmitterManager(clock, 100, 5, Duration.ofSeconds(120));
+            manager.createEmitter("old");
+            clock.advance(Duration.ofSeconds(60));
+            manager.createEmitter("new");
+
+            // when
+            clock.advance(Duration.ofSeconds(61));
+            manager.cleanupExpiredEmitters();
+
+            // then
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이미 완료된 Emitter는 큐에서 건너뜀")
+        void cleanup_SkipsCompletedEmitters() {
+            // given
+            SseEmitterManager manager = new SseEmitterManager(clock, 100, 5, Duration.ofSeconds(120));
+            manager.createEmitter("done");
+            manager.createEmitter("same-key");
+            manager.complete("done");
+            manager.createEmitter("same-key");
+
+            // when
+            clock.advance(Duration.ofSeconds(121));
+            manager.cleanupExpiredEmitters();
+
+            // then
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("전역 최대치 도달 시 가장 오래된 Emitter 하나만 축출")
+        void globalLimit_EvictsOldest() {
+            // given
+            SseEmitterManager manager = new SseEmitterManager(clock, 3, 5, Duration.ofSeconds(120));
+            manager.createEmitter("key-1");
+            manager.createEmitter("key-2");
+            manager.createEmitter("key-3");
+            manager.complete("key-1");
+            manager.createEmitter("key-4");
+
+            // when - 4개째 활성 상태에서 추가 생성 → 완료된 key-1은 건너뛰고 key-2 축출
+            manager.createEmitter("key-5");
+
+            // then
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(3);
+            manager.sendProgress("key-2", "progress", 50);
+            manager.complete("key-3");
+            manager.complete("key-4");
+            manager.complete("key-5");
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("사용자별 최대치 초과 시 해당 사용자의 가장 오래된 Emitter 축출")
+        void perUserLimit_EvictsUsersOldest() {
+            // given
+            SseEmitterManager manager = new SseEmitterManager(clock, 100, 2, Duration.ofSeconds(120));
+            manager.createEmitter("user1-a", 1L);
+            manager.createEmitter("user1-b", 1L);
+            manager.createEmitter("user2-a", 2L);
+
+            // when
+            manager.createEmitter("user1-c", 1L);
+
+            // then
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(3);
+            assertThat(manager.getUserEmitterCount(1L)).isEqualTo(2);
+            assertThat(manager.getUserEmitterCount(2L)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("완료된 Emitter는 사용자 카운트에서 제외")
+        void perUserLimit_ReleasedOnComplete() {
+            // given
+            SseEmitterManager manager = new SseEmitterManager(clock, 100, 2, Duration.ofSeconds(120));
+            manager.createEmitter("user1-a", 1L);
+
+            // when
+            manager.complete("user1-a");
+
+            // then
+            assertThat(manager.getUserEmitterCount(1L)).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("송신 큐 - 디스패처, coalesce, heartbeat")
+    class SendQueueTest {
+
+        private final Deque<Runnable> dispatcher = new ArrayDeque<>();
+        private final List<RecordingEmitter> created = new ArrayList<>();
+
+        private SseEmitterManager managerWithQueue(int capacity) {
+            return new SseEmitterManager(Clock.systemUTC(), 100, 5, Duration.ofSeconds(120), dispatcher::add, capacity) {
+                @Override
+                SseEmitter newSseEmitter(long timeout) {
+                    RecordingEmitter emitter = new RecordingEmitter(timeout);
+                    created.add(emitter);
+                    return emitter;
+                }
+            };
+        }
+
+        private void runDispatcher() {
+            Runnable task;
+            while ((task = dispatcher.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Test
+        @DisplayName("같은 키로 다시 등록하면 이전 Emitter를 종료하고 새 Emitter로만 전송")
+        void reRegister_CompletesPreviousEmitter() {
+            // given
+            SseEmitterManager manager = managerWithQueue(8);
+            manager.createEmitter("key", 1L);
+
+            // when
+            manager.createEmitter("key", 1L);
+            manager.sendProgress("key", "분석 중", 10);
+            runDispatcher();
+
+            // then
+            assertThat(created.get(0).completed).isTrue();
+            assertThat(created.get(0).sent).isEmpty();
+            assertThat(created.get(1).completed).isFalse();
+            assertThat(created.get(1).sent).hasSize(1);
+            assertThat(manager.getUserEmitterCount(1L)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("호출 스레드는 전송하지 않고 Emitter당 디스패처 작업 1개만 등록")
+        void send_DoesNotWriteOnCallerThread() {
+            // given
+            SseEmitterManager manager = managerWithQueue(8);
+            manager.createEmitter("key");
+
+            // when
+            manager.sendFeedback("key", FeedbackResponse.builder().score(80).build());
+            manager.sendProgress("key", "분석 중", 50);
+
+            // then
+            assertThat(created.get(0).sent).isEmpty();
+            assertThat(dispatcher).hasSize(1);
+
+            runDispatcher();
+            assertThat(created.get(0).sent).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("전송 대기 중인 progress는 최신 값으로 교체")
+        void progress_Coalesced() {
+            // given
+            SseEmitterManager manager = managerWithQueue(8);
+            manager.createEmitter("key");
+
+            // when
+            manager.sendProgress("key", "분석 중", 10);
+            manager.sendProgress("key", "분석 중", 40);
+            manager.sendProgress("key", "분석 중", 90);
+            runDispatcher();
+
+            // then
+            assertThat(created.get(0).sent).containsExactly(Map.of("message", "분석 중", "progress", 90));
+        }
+
+        @Test
+        @DisplayName("큐가 가득 차면 feedback이 대기 중인 progress를 밀어냄")
+        void queueFull_FeedbackEvictsProgress() {
+            // given
+            SseEmitterManager manager = managerWithQueue(2);
+            manager.createEmitter("key");
+            FeedbackResponse feedback = FeedbackResponse.builder().score(80).build();
+            manager.sendFeedback("key", feedback);
+            manager.sendProgress("key", "분석 중", 10);
+
+            // when
+            manager.complete("key");
+            runDispatcher();
+
+            // then
+            assertThat(created.get(0).sent).containsExactly(feedback, Map.of("status", "completed"));
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("필수 이벤트를 넣을 공간이 없으면 느린 클라이언트로 보고 종료")
+        void queueFull_NoProgress_ClosesSlowClient() {
+            // given
+            SseEmitterManager manager = managerWithQueue(2);
+            manager.createEmitter("key");
+            manager.sendFeedback("key", FeedbackResponse.builder().score(1).build());
+            manager.sendFeedback("key", FeedbackResponse.builder().score(2).build());
+
+            // when
+            manager.sendFeedback("key", FeedbackResponse.builder().score(3).build());
+
+            // then
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("유휴 Emitter에 heartbeat 전송, 끊긴 연결은 정리")
+        void heartbeat_DetectsDeadPeer() {
+            // given
+            SseEmitterManager manager = managerWithQueue(8);
+            manager.createEmitter("alive");
+            manager.createEmitter("dead");
+            created.get(1).broken = true;
+
+            // when
+            manager.sendHeartbeats();
+            runDispatcher();
+
+            // then
+            assertThat(created.get(0).sent).containsExactly(":heartbeat");
+            assertThat(manager.getActiveEmitterCount()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * 실제 소켓 대신 전송된 data 객체와 comment를 기록하는 Emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<Object> sent = new ArrayList<>();
+        private boolean broken;
+        private boolean completed;
+
+        private RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+            for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+                Object data = part.getData();
+                if (data instanceof String text) {
+                    // event/data 구분자 텍스트는 무시, comment만 기록
+                    if (text.startsWith(":")) {
+                        sent.add(text.strip());
+                    }
+                } else {
+                    sent.add(data);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.interviewcoach.feedback.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.feedback.application.dto.request.GradeAnswerRequest;
+import com.interviewcoach.feedback.application.dto.response.FeedbackResponse;
+import com.interviewcoach.feedback.application.dto.response.FeedbackTicketResponse;
 import com.interviewcoach.feedback.application.service.FeedbackService;
+import com.interviewcoach.feedback.application.service.ReactiveFeedbackService;
+import com.interviewcoach.feedback.exception.FeedbackTicketNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,9 +14,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -30,6 +41,9 @@ class FeedbackControllerTest {
     @MockBean
     private FeedbackService feedbackService;
 
+    @MockBean
+    private ReactiveFeedbackService reactiveFeedbackService;
+
     private static final Long SESSION_ID = 1L;
 
     @Nested
@@ -42,7 +56,7 @@ class FeedbackControllerTest {
             // given
             SseEmitter mockEmitter = new SseEmitter(60000L);
             given(feedbackService.streamFeedback(
-                    eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("답변입니다"), eq(0)))
+                    isNull(), eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("답변입니다"), eq(0), isNull(), eq(false)))
                     .willReturn(mockEmitter);
 
             // when & then
@@ -61,11 +75,46 @@ class FeedbackControllerTest {
             // given
             SseEmitter mockEmitter = new SseEmitter(60000L);
             given(feedbackService.streamFeedback(
-                    eq(SESSION_ID), isNull(), isNull(), isNull(), eq(0)))
+                    isNull(), eq(SESSION_ID), isNull(), isNull(), isNull(), eq(0), isNull(), eq(false)))
+                    .willReturn(mockEmitter);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/feedback/session/{sessionId}/stream", SESSION_ID)
+                            .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("GET SSE 스트림 - Last-Event-ID, X-User-Id 헤더를 서비스로 전달")
+        void streamFeedback_PassesLastEventId() throws Exception {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(60000L);
+            given(feedbackService.streamFeedback(
+                    eq(7L), eq(SESSION_ID), eq(10L), isNull(), isNull(), eq(0), eq("3"), eq(false)))
+                    .willReturn(mockEmitter);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/feedback/session/{sessionId}/stream", SESSION_ID)
+                            .param("qnaId", "10")
+                            .header("Last-Event-ID", "3")
+                            .header("X-User-Id", "7")
+                            .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("GET SSE 스트림 - fresh=true를 서비스로 전달 (결과 캐시 무시)")
+        void streamFeedback_PassesFresh() throws Exception {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(60000L);
+            given(feedbackService.streamFeedback(
+                    isNull(), eq(SESSION_ID), eq(10L), isNull(), isNull(), eq(0), isNull(), eq(true)))
                     .willReturn(mockEmitter);
 
             // when & then
             mockMvc.perform(get("/api/v1/feedback/session/{sessionId}/stream", SESSION_ID)
+                            .param("qnaId", "10")
+                            .param("fresh", "true")
                             .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
                     .andExpect(status().isOk());
         }
@@ -81,7 +130,7 @@ class FeedbackControllerTest {
             // given
             SseEmitter mockEmitter = new SseEmitter(60000L);
             given(feedbackService.streamFeedback(
-                    eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("긴 답변 내용입니다..."), eq(0)))
+                    isNull(), eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("긴 답변 내용입니다..."), eq(0), isNull(), eq(false)))
                     .willReturn(mockEmitter);
 
             String requestBody = """
@@ -107,7 +156,7 @@ class FeedbackControllerTest {
             // given
             SseEmitter mockEmitter = new SseEmitter(60000L);
             given(feedbackService.streamFeedback(
-                    eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("답변입니다"), eq(0)))
+                    isNull(), eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("답변입니다"), eq(0), isNull(), eq(false)))
                     .willReturn(mockEmitter);
 
             String requestBody = """
@@ -136,4 +185,154 @@ class FeedbackControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("[B-19] 티켓 기반 스트림")
+    class TicketStreamTest {
+
+        @Test
+        @DisplayName("POST /tickets - 201과 티켓 반환")
+        void issueTicket_ReturnsCreated() throws Exception {
+            // given
+            given(feedbackService.issueTicket(eq(7L), eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("긴 답변"), eq(0)))
+                    .willReturn(FeedbackTicketResponse.builder().ticket("ticket-1").expiresIn(120L).build());
+
+            String requestBody = """
+                {
+                    "qnaId": 10,
+                    "question": "질문입니다",
+                    "answer": "긴 답변"
+                }
+                """;
+
+            // when & then
+            mockMvc.perform(post("/api/v1/feedback/session/{sessionId}/tickets", SESSION_ID)
+                            .header("X-User-Id", "7")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.ticket").value("ticket-1"))
+                    .andExpect(jsonPath("$.expiresIn").value(120));
+        }
+
+        @Test
+        @DisplayName("GET ?ticket= - 티켓으로 스트림 연결")
+        void streamFeedback_WithTicket() throws Exception {
+            // given
+            SseEmitter mockEmitter = new SseEmitter(60000L);
+            given(feedbackService.streamFeedbackWithTicket(eq(7L), eq(SESSION_ID), eq("ticket-1"), eq("3"), eq(false)))
+                    .willReturn(mockEmitter);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/feedback/session/{sessionId}/stream", SESSION_ID)
+                            .param("ticket", "ticket-1")
+                            .header("X-User-Id", "7")
+                            .header("Last-Event-ID", "3")
+                            .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("GET ?ticket= - 만료된 티켓은 404 (EventSource 재연결 중단)")
+        void streamFeedback_ExpiredTicket_Returns404() throws Exception {
+            // given
+            given(feedbackService.streamFeedbackWithTicket(isNull(), eq(SESSION_ID), eq("expired"), isNull(), eq(false)))
+                    .willThrow(new FeedbackTicketNotFoundException());
+
+            // when & then
+            mockMvc.perform(get("/api/v1/feedback/session/{sessionId}/stream", SESSION_ID)
+                            .param("ticket", "expired")
+                            .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-20] POST /api/v1/feedback/session/{sessionId}/answers - 답변 제출 + 채점")
+    class GradeAnswerTest {
+
+        @Test
+        @DisplayName("답변 제출 시 SSE 스트림 연결")
+        void gradeAnswer_ReturnsStream() throws Exception {
+            // given
+            given(feedbackService.gradeAnswer(eq(7L), eq(SESSION_ID), argThat((GradeAnswerRequest r) ->
+                    r.getQuestionOrder() == 2 && "답변".equals(r.getAnswer()) && "java".equals(r.getSkillCategory()))))
+                    .willReturn(new SseEmitter(60000L));
+
+            String requestBody = """
+                {
+                    "qnaId": 10,
+                    "questionOrder": 2,
+                    "question": "질문입니다",
+                    "answer": "답변",
+                    "skillCategory": "java"
+                }
+                """;
+
+            // when & then
+            mockMvc.perform(post("/api/v1/feedback/session/{sessionId}/answers", SESSION_ID)
+                            .header("X-User-Id", "7")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("질문 순서/답변 누락 시 400")
+        void gradeAnswer_InvalidRequest_Returns400() throws Exception {
+            // given
+            String requestBody = """
+                {
+                    "qnaId": 10,
+                    "answer": " "
+                }
+                """;
+
+            // when & then
+            mockMvc.perform(post("/api/v1/feedback/session/{sessionId}/answers", SESSION_ID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.details.questionOrder").exists())
+                    .andExpect(jsonPath("$.details.answer").exists());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/feedback/session/{sessionId}/stream/reactive - 리액티브 SSE 피드백 스트림")
+    class ReactiveStreamFeedbackTest {
+
+        @Test
+        @DisplayName("Flux<ServerSentEvent>를 SSE 이벤트로 직렬화")
+        void streamFeedbackReactive_WritesServerSentEvents() throws Exception {
+            // given
+            FeedbackResponse feedback = FeedbackResponse.builder()
+                    .sessionId(SESSION_ID)
+                    .qnaId(10L)
+                    .score(80)
+                    .build();
+            given(reactiveFeedbackService.streamFeedback(eq(SESSION_ID), eq(10L), eq("질문입니다"), eq("답변입니다"), eq(0), eq(false)))
+                    .willReturn(Flux.just(
+                            ServerSentEvent.<Object>builder(feedback).id("1").event("feedback").build(),
+                            ServerSentEvent.<Object>builder(Map.of("status", "completed")).id("2").event("complete").build()));
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/v1/feedback/session/{sessionId}/stream/reactive", SESSION_ID)
+                            .param("qnaId", "10")
+                            .param("question", "질문입니다")
+                            .param("answer", "답변입니다")
+                            .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(content().string(containsString("event:feedback")))
+                    .andExpect(content().string(containsString("\"score\":80")))
+                    .andExpect(content().string(containsString("event:complete")))
+                    .andExpect(content().string(containsString("\"status\":\"completed\"")));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.interviewcoach.gateway.config;
 
 import com.interviewcoach.gateway.filter.JwtAuthenticationFilter;
+import com.interviewcoach.gateway.filter.RequestCoalescingFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
@@ -11,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 public class RouteConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RequestCoalescingFilter requestCoalescingFilter;
 
     @Value("${services.user-service.url:http://localhost:8081}")
     private String userServiceUrl;
@@ -24,8 +26,10 @@ public class RouteConfig {
     @Value("${services.feedback-service.url:http://localhost:8084}")
     private String feedbackServiceUrl;
 
-    public RouteConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public RouteConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                       RequestCoalescingFilter requestCoalescingFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.requestCoalescingFilter = requestCoalescingFilter;
     }
 
     @Bean
@@ -43,11 +47,17 @@ public class RouteConfig {
                 // Question Service routes
                 .route("question-service-jd", r -> r
                         .path("/api/v1/jd/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                        // [B-11] JWT 인증 후 X-User-Id 기준으로 동일 GET 요청 병합
+                        .filters(f -> f
+                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config()))
+                                .filter(requestCoalescingFilter.apply(new RequestCoalescingFilter.Config())))
                         .uri(questionServiceUrl))
                 .route("question-service-questions", r -> r
                         .path("/api/v1/questions/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                        // [B-11] JWT 인증 후 X-User-Id 기준으로 동일 GET 요청 병합
+                        .filters(f -> f
+                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config()))
+                                .filter(requestCoalescingFilter.apply(new RequestCoalescingFilter.Config())))
                         .uri(questionServiceUrl))
 
                 // Interview Service routes
@@ -0,0 +1,133 @@
+package com.interviewcoach.gateway.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * [B-12] Gateway → 서비스 구간 커넥션 풀 튜닝
+ *
+ * 문제: Reactor Netty 기본 풀(단일 설정)로 모든 서비스에 HTTP/1.1 포워딩
+ *       - 특정 서비스 지연 시 풀 전체가 고갈되어 다른 서비스 요청까지 대기
+ *       - 풀 포화(active/idle/pending)를 관찰할 수단이 없음
+ *
+ * 해결:
+ *       1. services.{name}.url 호스트별 풀 크기/대기열 한도 분리 (forRemoteHost)
+ *       2. 유휴/수명 초과 커넥션 백그라운드 정리로 LB 뒤 stale 커넥션 방지
+ *       3. 선택적 h2c 업그레이드, HTTP keep-alive(커넥션 재사용) / TCP SO_KEEPALIVE 개별 설정
+ *       4. reactor.netty.connection.provider.* 메트릭을 Prometheus로 노출
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UpstreamHttpClientProperties.class)
+public class UpstreamHttpClientConfig {
+
+    static final String POOL_NAME = "gateway-upstream";
+
+    @Bean
+    public HttpClientFactory upstreamHttpClientFactory(
+            HttpClientProperties httpClientProperties,
+            ServerProperties serverProperties,
+            HttpClientSslConfigurer sslConfigurer,
+            List<HttpClientCustomizer> customizers,
+            UpstreamHttpClientProperties upstreamProperties,
+            Environment environment) {
+        return new HttpClientFactory(httpClientProperties, serverProperties, sslConfigurer, customizers) {
+            @Override
+            protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+                return UpstreamHttpClientConfig.buildConnectionProvider(upstreamProperties, environment);
+            }
+        };
+    }
+
+    @Bean
+    public HttpClientCustomizer upstreamHttpClientCustomizer(UpstreamHttpClientProperties upstreamProperties) {
+        return httpClient -> {
+            var client = httpClient
+                    .keepAlive(upstreamProperties.isKeepAlive())
+                    .option(ChannelOption.SO_KEEPALIVE, upstreamProperties.isTcpKeepAlive());
+            if (upstreamProperties.isH2c()) {
+                client = client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+            }
+            if (upstreamProperties.isMetrics()) {
+                // connect time 카운트 = 신규 커넥션 수 (커넥션 churn 지표)
+                client = client.metrics(true, UpstreamHttpClientConfig::normalizeUri);
+            }
+            return client;
+        };
+    }
+
+    static ConnectionProvider buildConnectionProvider(UpstreamHttpClientProperties upstreamProperties,
+                                                      Environment environment) {
+        UpstreamHttpClientProperties.Pool pool = upstreamProperties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME);
+        applyPool(builder, pool, upstreamProperties.isMetrics());
+
+        upstreamProperties.getServices().forEach((name, service) -> {
+            String url = environment.getProperty("services." + name + ".url");
+            if (url == null) {
+                log.warn("Upstream pool configured for unknown service: {}", name);
+                return;
+            }
+            builder.forRemoteHost(toAddress(url), spec -> {
+                applyPool(spec, pool, upstreamProperties.isMetrics());
+                if (service.getMaxConnections() != null) {
+                    spec.maxConnections(service.getMaxConnections());
+                }
+                if (service.getPendingAcquireMaxCount() != null) {
+                    spec.pendingAcquireMaxCount(service.getPendingAcquireMaxCount());
+                }
+                if (service.getPendingAcquireTimeout() != null) {
+                    spec.pendingAcquireTimeout(service.getPendingAcquireTimeout());
+                }
+            });
+            log.info("Upstream pool for {} ({}): maxConnections={}", name, url,
+                    service.getMaxConnections() != null ? service.getMaxConnections() : pool.getMaxConnections());
+        });
+
+        return builder.build();
+    }
+
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> void applyPool(
+            S spec, UpstreamHttpClientProperties.Pool pool, boolean metrics) {
+        spec.maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(metrics);
+    }
+
+    static InetSocketAddress toAddress(String url) {
+        URI uri = URI.create(url);
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
+
+    // URI 태그 카디널리티 제한: /api/v1/jd/123 → /api/v1/jd/{id}
+    // [B-33] JD 일괄 등록 작업 ID(UUID)도 치환: /api/v1/jd/import/{uuid} → /api/v1/jd/import/{id}
+    static String normalizeUri(String uri) {
+        int queryIndex = uri.indexOf('?');
+        String path = queryIndex >= 0 ? uri.substring(0, queryIndex) : uri;
+        return path.replaceAll("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)", "/{id}")
+                .replaceAll("/\\d+", "/{id}");
+    }
+}
@@ -0,0 +1,56 @@
+package com.interviewcoach.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [B-12] Gateway → 서비스 구간 HttpClient 설정
+ *
+ * 서비스별 커넥션 풀 크기/대기열 한도와 공통 유휴 커넥션 정리, h2c, keep-alive 설정
+ * services 하위 키는 services.{name}.url 과 동일한 서비스 이름을 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.upstream")
+public class UpstreamHttpClientProperties {
+
+    // h2c (HTTP/2 cleartext) 업그레이드 사용 여부 - 다운스트림에 server.http2.enabled 필요
+    private boolean h2c = false;
+
+    // HTTP keep-alive (커넥션 재사용) - false면 응답마다 커넥션을 닫으므로 풀링도 사실상 꺼짐
+    private boolean keepAlive = true;
+
+    // TCP SO_KEEPALIVE (유휴 커넥션 생존 확인, HTTP 커넥션 재사용과는 별개)
+    private boolean tcpKeepAlive = true;
+
+    // 커넥션 획득/재사용 메트릭 (reactor.netty.connection.provider.*)
+    private boolean metrics = true;
+
+    private Pool pool = new Pool();
+
+    private Map<String, ServicePool> services = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 200;
+        private int pendingAcquireMaxCount = 400;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class ServicePool {
+        private Integer maxConnections;
+        private Integer pendingAcquireMaxCount;
+        private Duration pendingAcquireTimeout;
+    }
+}
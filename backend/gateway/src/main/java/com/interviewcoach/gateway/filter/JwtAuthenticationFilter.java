@@ -1,5 +1,6 @@
 package com.interviewcoach.gateway.filter;
 
+import com.interviewcoach.gateway.revocation.RevokedTokenRegistry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -23,10 +24,13 @@ import java.nio.charset.StandardCharsets;
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
     private final SecretKey secretKey;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
-    public JwtAuthenticationFilter(@Value("${jwt.secret}") String secretKeyString) {
+    public JwtAuthenticationFilter(@Value("${jwt.secret}") String secretKeyString,
+                                   RevokedTokenRegistry revokedTokenRegistry) {
         super(Config.class);
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+        this.revokedTokenRegistry = revokedTokenRegistry;
     }
 
     @Override
@@ -58,21 +62,29 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
                 return onError(exchange, "Missing or invalid Authorization", HttpStatus.UNAUTHORIZED);
             }
 
+            Claims claims;
             try {
-                Claims claims = validateToken(token);
-
-                // Add user info to request header for downstream services
-                ServerHttpRequest modifiedRequest = request.mutate()
-                        .header("X-User-Id", claims.getSubject())
-                        .header("X-User-Email", claims.get("email", String.class))
-                        .build();
-
-                return chain.filter(exchange.mutate().request(modifiedRequest).build());
-
+                claims = validateToken(token);
             } catch (Exception e) {
                 log.warn("JWT validation failed: {}", e.getMessage());
                 return onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
             }
+
+            // [B-15] 로그아웃/재사용 감지로 폐기된 토큰 패밀리 차단
+            return revokedTokenRegistry.isRevoked(claims.get("fid", String.class))
+                    .flatMap(revoked -> {
+                        if (revoked) {
+                            return onError(exchange, "Revoked token", HttpStatus.UNAUTHORIZED);
+                        }
+
+                        // Add user info to request header for downstream services
+                        ServerHttpRequest modifiedRequest = request.mutate()
+                                .header("X-User-Id", claims.getSubject())
+                                .header("X-User-Email", claims.get("email", String.class))
+                                .build();
+
+                        return chain.filter(exchange.mutate().request(modifiedRequest).build());
+                    });
         };
     }
 
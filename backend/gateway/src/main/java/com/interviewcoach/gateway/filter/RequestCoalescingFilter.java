@@ -0,0 +1,210 @@
+package com.interviewcoach.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [B-11] 조회 API 요청 병합 (Single-flight)
+ *
+ * 문제: 배포 직후 다수 탭/사용자가 동시에 새로고침하면
+ *       동일한 GET /api/v1/jd/{id}, /api/v1/questions/jd/{jdId} 요청 N개가 그대로 다운스트림에 전달됨
+ *
+ * 해결:
+ *       1. (method, URI, X-User-Id) 키로 진행 중인 GET 요청을 하나의 업스트림 호출로 병합
+ *       2. 첫 요청(leader)의 응답 본문을 버퍼링하여 대기 중인 요청(follower)에 그대로 전달
+ *       3. 본문이 max-body-size를 넘거나 스트리밍 응답이면 병합을 포기하고 follower는 각자 요청
+ *       4. 사용자 식별자가 없는 요청은 병합하지 않음 (사용자 간 응답 공유 방지)
+ */
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    // 병합 대상: 동일 리소스를 다수 클라이언트가 동시에 조회하는 단건 조회 API
+    private static final List<PathPattern> COALESCING_PATHS = List.of(
+            PathPatternParser.defaultInstance.parse("/api/v1/jd/{id}"),
+            PathPatternParser.defaultInstance.parse("/api/v1/questions/jd/{jdId}")
+    );
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long maxBodySize;
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter bypassCounter;
+
+    public RequestCoalescingFilter(
+            @Value("${gateway.coalescing.enabled:true}") boolean enabled,
+            @Value("${gateway.coalescing.max-body-size:256KB}") DataSize maxBodySize,
+            MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.enabled = enabled;
+        this.maxBodySize = maxBodySize.toBytes();
+        this.leaderCounter = Counter.builder("gateway.coalescing.requests")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("gateway.coalescing.requests")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.bypassCounter = Counter.builder("gateway.coalescing.requests")
+                .tag("result", "bypass")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String userId = request.getHeaders().getFirst(USER_ID_HEADER);
+
+            if (!enabled || request.getMethod() != HttpMethod.GET || userId == null
+                    || !isCoalescingPath(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = request.getMethod().name() + " " + request.getURI() + " " + userId;
+            Sinks.One<CachedResponse> sink = Sinks.one();
+            Sinks.One<CachedResponse> existing = inFlight.putIfAbsent(key, sink);
+
+            if (existing != null) {
+                // follower: leader의 응답을 기다렸다가 그대로 복제, 병합 불가 시 직접 요청
+                return existing.asMono()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(cached -> {
+                            if (cached.isPresent()) {
+                                coalescedCounter.increment();
+                                return writeCached(exchange.getResponse(), cached.get());
+                            }
+                            bypassCounter.increment();
+                            return chain.filter(exchange);
+                        });
+            }
+
+            leaderCounter.increment();
+            CapturingResponse capturing = new CapturingResponse(exchange.getResponse(), sink);
+            return chain.filter(exchange.mutate().response(capturing).build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, sink);
+                        // 취소/바이패스로 값이 없으면 follower가 각자 요청하도록 empty 전파 (본문 오류는 writeWith에서 error 전파)
+                        sink.tryEmitEmpty();
+                    });
+        };
+    }
+
+    private boolean isCoalescingPath(ServerHttpRequest request) {
+        return COALESCING_PATHS.stream()
+                .anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()));
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached) {
+        response.setStatusCode(cached.status());
+        response.getHeaders().putAll(cached.headers());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * leader 응답을 max-body-size까지 버퍼링하는 데코레이터
+     * 한도 내에서 완료되면 follower에게 공유하고, 초과하면 그대로 스트리밍
+     */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final Sinks.One<CachedResponse> sink;
+
+        CapturingResponse(ServerHttpResponse delegate, Sinks.One<CachedResponse> sink) {
+            super(delegate);
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long contentLength = getHeaders().getContentLength();
+            if (contentLength > maxBodySize) {
+                sink.tryEmitEmpty();
+                return super.writeWith(body);
+            }
+
+            AtomicLong size = new AtomicLong();
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBodySize)
+                    .switchOnFirst((first, buffered) -> {
+                        if (first.isOnError()) {
+                            // 본문 수신 중 업스트림 오류 → 잘린 본문을 성공 응답으로 공유하지 않고 follower에게도 오류 전파
+                            sink.tryEmitError(first.getThrowable());
+                            return Mono.<Void>error(first.getThrowable());
+                        }
+                        if (size.get() > maxBodySize) {
+                            sink.tryEmitEmpty();
+                            return super.writeWith(buffered.flatMapIterable(buffers -> buffers));
+                        }
+                        List<DataBuffer> buffers = first.hasValue() ? first.get() : List.of();
+                        byte[] bytes = toBytes(buffers);
+                        sink.tryEmitValue(new CachedResponse(getStatusCode(), copyHeaders(), bytes));
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    })
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // SSE 등 스트리밍 응답은 병합 대상이 아님
+            sink.tryEmitEmpty();
+            return super.writeAndFlushWith(body);
+        }
+
+        private HttpHeaders copyHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            return headers;
+        }
+
+        private byte[] toBytes(List<DataBuffer> buffers) {
+            int total = buffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+            byte[] bytes = new byte[total];
+            int offset = 0;
+            for (DataBuffer buffer : buffers) {
+                int length = buffer.readableByteCount();
+                buffer.read(bytes, offset, length);
+                offset += length;
+                DataBufferUtils.release(buffer);
+            }
+            return bytes;
+        }
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {}
+
+    public static class Config {
+        // Configuration properties if needed
+    }
+}
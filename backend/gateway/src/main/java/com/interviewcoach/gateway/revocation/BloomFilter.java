@@ -0,0 +1,90 @@
+package com.interviewcoach.gateway.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * [B-15] 폐기 토큰 ID용 Bloom filter (불변, 재구성 방식)
+ *
+ * - mightContain == false → 확실히 폐기되지 않음 (Redis 조회 생략)
+ * - mightContain == true  → 오탐 가능, Redis에서 정확히 확인
+ * - 64-bit FNV-1a 해시를 상/하위로 나눈 double hashing으로 k개 인덱스 생성
+ */
+public final class BloomFilter {
+
+    // 항목 수가 적을 때 비트 배열이 너무 작아 오탐이 몰리는 것을 방지
+    private static final int MIN_BIT_SIZE = 1024;
+
+    private static final BloomFilter EMPTY = new BloomFilter(new BitSet(0), 1, 0, 0);
+
+    private final BitSet bits;
+    private final int bitSize;
+    private final int hashCount;
+    private final int size;
+
+    private BloomFilter(BitSet bits, int bitSize, int hashCount, int size) {
+        this.bits = bits;
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.size = size;
+    }
+
+    public static BloomFilter empty() {
+        return EMPTY;
+    }
+
+    public static BloomFilter of(Collection<String> values, double falsePositiveRate) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        int n = values.size();
+        int optimalBits = (int) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashCount = Math.max(1, (int) Math.round((double) optimalBits / n * Math.log(2)));
+        int bitSize = Math.max(MIN_BIT_SIZE, optimalBits);
+
+        BitSet bits = new BitSet(bitSize);
+        for (String value : values) {
+            long hash = fnv1a64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                bits.set(index(h1, h2, i, bitSize));
+            }
+        }
+        return new BloomFilter(bits, bitSize, hashCount, n);
+    }
+
+    public boolean mightContain(String value) {
+        if (value == null || size == 0) {
+            return false;
+        }
+        long hash = fnv1a64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(index(h1, h2, i, bitSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int index(int h1, int h2, int i, int bitSize) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
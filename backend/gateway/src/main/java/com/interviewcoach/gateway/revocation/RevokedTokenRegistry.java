@@ -0,0 +1,117 @@
+package com.interviewcoach.gateway.revocation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * [B-15] 폐기된 토큰 패밀리 조회 (Bloom filter + Redis 확인)
+ *
+ * 문제: Access Token은 stateless라 로그아웃/탈취 감지 후에도 만료 전까지 통과
+ *       요청마다 Redis 조회 시 Gateway 전 요청에 round trip 추가
+ *
+ * 해결: user-service가 기록하는 auth:revoked ZSET(score = 폐기 유지 만료 시각)을
+ *       주기적으로 읽어 Bloom filter로 재구성
+ *       - Bloom miss (대부분의 요청) → Redis 조회 없이 통과
+ *       - Bloom hit → ZSCORE로 정확히 확인 (오탐 제거)
+ *       - 새 폐기 반영은 최대 refresh-interval 지연
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+
+    static final String REVOKED_KEY = "auth:revoked";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter = BloomFilter.empty();
+    private Disposable refreshTask;
+
+    @Autowired
+    public RevokedTokenRegistry(
+            ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+            @Value("${gateway.revocation.enabled:true}") boolean enabled,
+            @Value("${gateway.revocation.refresh-interval:5s}") Duration refreshInterval,
+            @Value("${gateway.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this(enabled ? redisTemplate.getIfAvailable() : null, refreshInterval, falsePositiveRate);
+    }
+
+    RevokedTokenRegistry(ReactiveStringRedisTemplate redisTemplate, Duration refreshInterval, double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = redisTemplate != null;
+        this.refreshInterval = refreshInterval;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Token revocation check disabled");
+            return;
+        }
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> reload()
+                        .onErrorResume(e -> {
+                            log.warn("Failed to reload revoked token families: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * 만료된 항목 정리 후 유효한 폐기 패밀리로 Bloom filter 재구성
+     */
+    Mono<Void> reload() {
+        double now = System.currentTimeMillis();
+        return redisTemplate.opsForZSet()
+                .removeRangeByScore(REVOKED_KEY, Range.closed(0d, now))
+                .thenMany(redisTemplate.opsForZSet()
+                        .rangeByScore(REVOKED_KEY, Range.rightUnbounded(Range.Bound.exclusive(now))))
+                .collectList()
+                .doOnNext(familyIds -> {
+                    bloomFilter = BloomFilter.of(familyIds, falsePositiveRate);
+                    log.debug("Revoked token families reloaded: {}", familyIds.size());
+                })
+                .then();
+    }
+
+    public Mono<Boolean> isRevoked(String familyId) {
+        if (!enabled || familyId == null || !bloomFilter.mightContain(familyId)) {
+            return Mono.just(false);
+        }
+        return redisTemplate.opsForZSet().score(REVOKED_KEY, familyId)
+                .map(revokedUntil -> revokedUntil > System.currentTimeMillis())
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    // Redis 장애 시 가용성 우선 (Access Token 서명 검증은 이미 통과)
+                    log.warn("Revocation lookup failed, allowing request: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    int knownRevokedCount() {
+        return bloomFilter.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.interviewcoach.gateway.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UpstreamHttpClientConfig 단위 테스트")
+class UpstreamHttpClientConfigTest {
+
+    private ConnectionProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.dispose();
+        }
+    }
+
+    private UpstreamHttpClientProperties.ServicePool servicePool(int maxConnections) {
+        UpstreamHttpClientProperties.ServicePool servicePool = new UpstreamHttpClientProperties.ServicePool();
+        servicePool.setMaxConnections(maxConnections);
+        return servicePool;
+    }
+
+    @Nested
+    @DisplayName("커넥션 풀 구성")
+    class ConnectionProviderTest {
+
+        @Test
+        @DisplayName("서비스별 풀 크기가 호스트 단위로 적용됨")
+        void perServicePool_AppliedPerHost() {
+            // given
+            UpstreamHttpClientProperties properties = new UpstreamHttpClientProperties();
+            properties.setMetrics(false);
+            properties.getPool().setMaxConnections(200);
+            properties.getServices().put("user-service", servicePool(50));
+            properties.getServices().put("feedback-service", servicePool(300));
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty("services.user-service.url", "http://user-service:8081")
+                    .withProperty("services.feedback-service.url", "http://feedback-service:8084");
+
+            // when
+            provider = UpstreamHttpClientConfig.buildConnectionProvider(properties, environment);
+
+            // then
+            assertThat(provider.maxConnections()).isEqualTo(200);
+            assertThat(provider.maxConnectionsPerHost())
+                    .containsEntry(InetSocketAddress.createUnresolved("user-service", 8081), 50)
+                    .containsEntry(InetSocketAddress.createUnresolved("feedback-service", 8084), 300);
+        }
+
+        @Test
+        @DisplayName("URL이 없는 서비스 설정은 무시")
+        void unknownService_Ignored() {
+            // given
+            UpstreamHttpClientProperties properties = new UpstreamHttpClientProperties();
+            properties.setMetrics(false);
+            properties.getServices().put("unknown-service", servicePool(10));
+
+            // when
+            provider = UpstreamHttpClientConfig.buildConnectionProvider(properties, new MockEnvironment());
+
+            // then
+            assertThat(provider.maxConnectionsPerHost()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("유틸리티")
+    class UtilityTest {
+
+        @Test
+        @DisplayName("포트가 없는 URL은 스킴 기본 포트 사용")
+        void toAddress_DefaultPort() {
+            assertThat(UpstreamHttpClientConfig.toAddress("http://question-service"))
+                    .isEqualTo(InetSocketAddress.createUnresolved("question-service", 80));
+            assertThat(UpstreamHttpClientConfig.toAddress("https://question-service"))
+                    .isEqualTo(InetSocketAddress.createUnresolved("question-service", 443));
+        }
+
+        @Test
+        @DisplayName("메트릭 URI 태그는 ID와 쿼리스트링 제거")
+        void normalizeUri_RemovesIdsAndQuery() {
+            assertThat(UpstreamHttpClientConfig.normalizeUri("/api/v1/jd/123?page=1"))
+                    .isEqualTo("/api/v1/jd/{id}");
+            assertThat(UpstreamHttpClientConfig.normalizeUri("/api/v1/interviews/5/qna/2/feedback"))
+                    .isEqualTo("/api/v1/interviews/{id}/qna/{id}/feedback");
+            assertThat(UpstreamHttpClientConfig.normalizeUri("/api/v1/jd/import/3f2b9c1e-8a4d-4e6f-9b2a-1c5d7e9f0a3b"))
+                    .isEqualTo("/api/v1/jd/import/{id}");
+        }
+    }
+}
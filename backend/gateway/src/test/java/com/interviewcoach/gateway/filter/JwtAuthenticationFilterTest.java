@@ -1,5 +1,6 @@
 package com.interviewcoach.gateway.filter;
 
+import com.interviewcoach.gateway.revocation.RevokedTokenRegistry;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("JwtAuthenticationFilter 단위 테스트")
 class JwtAuthenticationFilterTest {
@@ -33,7 +36,10 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new JwtAuthenticationFilter(SECRET_KEY);
+        // 폐기 목록이 비어 있는 레지스트리
+        RevokedTokenRegistry revokedTokenRegistry = mock(RevokedTokenRegistry.class);
+        given(revokedTokenRegistry.isRevoked(any())).willReturn(Mono.just(false));
+        filter = new JwtAuthenticationFilter(SECRET_KEY, revokedTokenRegistry);
         chain = mock(GatewayFilterChain.class);
         secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
         given(chain.filter(any())).willReturn(Mono.empty());
@@ -194,6 +200,43 @@ class JwtAuthenticationFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("폐기된 토큰")
+    class RevokedTokenTest {
+
+        @Test
+        @DisplayName("폐기된 패밀리의 토큰 - 401 Unauthorized")
+        void revokedFamily_Returns401() {
+            // given
+            RevokedTokenRegistry registry = mock(RevokedTokenRegistry.class);
+            given(registry.isRevoked("family-1")).willReturn(Mono.just(true));
+            JwtAuthenticationFilter revocationFilter = new JwtAuthenticationFilter(SECRET_KEY, registry);
+
+            String token = Jwts.builder()
+                    .subject("1")
+                    .claim("email", "user@test.com")
+                    .claim("type", "access")
+                    .claim("fid", "family-1")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + 3600000))
+                    .signWith(secretKey)
+                    .compact();
+            MockServerHttpRequest request = MockServerHttpRequest
+                    .get("/api/v1/interviews")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .build();
+            MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+            // when
+            Mono<Void> result = revocationFilter.apply(new JwtAuthenticationFilter.Config()).filter(exchange, chain);
+
+            // then
+            StepVerifier.create(result).verifyComplete();
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+            verify(chain, never()).filter(any());
+        }
+    }
+
     @Nested
     @DisplayName("Authorization 헤더 형식")
     class AuthHeaderFormatTest {
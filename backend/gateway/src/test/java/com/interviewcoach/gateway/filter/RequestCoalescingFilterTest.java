@@ -0,0 +1,234 @@
+package com.interviewcoach.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestCoalescingFilter 단위 테스트")
+class RequestCoalescingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger upstreamCalls;
+    private Sinks.Empty<Void> upstreamRelease;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamCalls = new AtomicInteger();
+        upstreamRelease = Sinks.empty();
+    }
+
+    private GatewayFilter createFilter(DataSize maxBodySize) {
+        return new RequestCoalescingFilter(true, maxBodySize, meterRegistry)
+                .apply(new RequestCoalescingFilter.Config());
+    }
+
+    // upstreamRelease가 완료될 때까지 응답을 지연시키는 다운스트림
+    private GatewayFilterChain upstreamChain(String body) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return upstreamRelease.asMono().then(Mono.defer(() -> writeBody(exchange, body)));
+        };
+    }
+
+    private Mono<Void> writeBody(ServerWebExchange exchange, String body) {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes)));
+    }
+
+    private MockServerWebExchange getExchange(String path, String userId) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get(path);
+        if (userId != null) {
+            builder.header("X-User-Id", userId);
+        }
+        return MockServerWebExchange.from(builder.build());
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("gateway.coalescing.requests").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("요청 병합")
+    class CoalescingTest {
+
+        @Test
+        @DisplayName("동일 사용자의 동시 GET 요청은 다운스트림을 한 번만 호출")
+        void concurrentSameRequests_CallsUpstreamOnce() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofKilobytes(256));
+            GatewayFilterChain chain = upstreamChain("{\"id\":1}");
+            MockServerWebExchange leader = getExchange("/api/v1/jd/1", "1");
+            MockServerWebExchange follower = getExchange("/api/v1/jd/1", "1");
+
+            // when
+            Mono<Void> leaderResult = filter.filter(leader, chain);
+            Mono<Void> followerResult = filter.filter(follower, chain);
+            leaderResult.subscribe();
+            followerResult.subscribe();
+            upstreamRelease.tryEmitEmpty();
+
+            // then
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            StepVerifier.create(leader.getResponse().getBodyAsString())
+                    .expectNext("{\"id\":1}")
+                    .verifyComplete();
+            StepVerifier.create(follower.getResponse().getBodyAsString())
+                    .expectNext("{\"id\":1}")
+                    .verifyComplete();
+            assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(counter("coalesced")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("사용자가 다르면 병합하지 않음")
+        void differentUsers_NotCoalesced() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofKilobytes(256));
+            GatewayFilterChain chain = upstreamChain("{}");
+
+            // when
+            filter.filter(getExchange("/api/v1/questions/jd/1", "1"), chain).subscribe();
+            filter.filter(getExchange("/api/v1/questions/jd/1", "2"), chain).subscribe();
+            upstreamRelease.tryEmitEmpty();
+
+            // then
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("완료된 요청 이후의 요청은 다시 다운스트림 호출")
+        void sequentialRequests_NotCoalesced() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofKilobytes(256));
+            upstreamRelease.tryEmitEmpty();
+            GatewayFilterChain chain = upstreamChain("{}");
+
+            // when
+            StepVerifier.create(filter.filter(getExchange("/api/v1/jd/1", "1"), chain)).verifyComplete();
+            StepVerifier.create(filter.filter(getExchange("/api/v1/jd/1", "1"), chain)).verifyComplete();
+
+            // then
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("업스트림 오류")
+    class UpstreamErrorTest {
+
+        @Test
+        @DisplayName("본문 수신 중 오류 - follower에게 빈 본문 대신 오류 전파")
+        void bodyErrorMidStream_PropagatesErrorToFollowers() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofKilobytes(256));
+            IllegalStateException failure = new IllegalStateException("connection reset");
+            GatewayFilterChain chain = exchange -> {
+                upstreamCalls.incrementAndGet();
+                return upstreamRelease.asMono().then(Mono.defer(() -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.OK);
+                    DataBuffer partial = exchange.getResponse().bufferFactory()
+                            .wrap("{\"id\":".getBytes(StandardCharsets.UTF_8));
+                    return exchange.getResponse().writeWith(Flux.just(partial).concatWith(Flux.error(failure)));
+                }));
+            };
+            MockServerWebExchange leader = getExchange("/api/v1/jd/1", "1");
+            MockServerWebExchange follower = getExchange("/api/v1/jd/1", "1");
+
+            // when
+            Mono<Void> leaderResult = filter.filter(leader, chain);
+            Mono<Void> followerResult = filter.filter(follower, chain);
+            StepVerifier leaderVerifier = StepVerifier.create(leaderResult).expectErrorMessage("connection reset").verifyLater();
+            StepVerifier followerVerifier = StepVerifier.create(followerResult).expectErrorMessage("connection reset").verifyLater();
+            upstreamRelease.tryEmitEmpty();
+
+            // then
+            leaderVerifier.verify();
+            followerVerifier.verify();
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(counter("coalesced")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("병합 제외")
+    class BypassTest {
+
+        @Test
+        @DisplayName("응답 본문이 한도를 넘으면 follower는 직접 다운스트림 호출")
+        void largeBody_FollowerBypasses() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofBytes(4));
+            GatewayFilterChain chain = upstreamChain("large-response-body");
+            MockServerWebExchange leader = getExchange("/api/v1/jd/1", "1");
+            MockServerWebExchange follower = getExchange("/api/v1/jd/1", "1");
+
+            // when
+            filter.filter(leader, chain).subscribe();
+            filter.filter(follower, chain).subscribe();
+            upstreamRelease.tryEmitEmpty();
+
+            // then
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+            StepVerifier.create(leader.getResponse().getBodyAsString())
+                    .expectNext("large-response-body")
+                    .verifyComplete();
+            StepVerifier.create(follower.getResponse().getBodyAsString())
+                    .expectNext("large-response-body")
+                    .verifyComplete();
+            assertThat(counter("bypass")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("대상 경로가 아니면 병합하지 않음")
+        void nonCoalescingPath_NotCoalesced() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofKilobytes(256));
+            GatewayFilterChain chain = upstreamChain("[]");
+
+            // when
+            filter.filter(getExchange("/api/v1/jd", "1"), chain).subscribe();
+            filter.filter(getExchange("/api/v1/jd", "1"), chain).subscribe();
+            upstreamRelease.tryEmitEmpty();
+
+            // then
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("X-User-Id 헤더가 없으면 병합하지 않음")
+        void noUserId_NotCoalesced() {
+            // given
+            GatewayFilter filter = createFilter(DataSize.ofKilobytes(256));
+            GatewayFilterChain chain = upstreamChain("{}");
+
+            // when
+            filter.filter(getExchange("/api/v1/jd/1", null), chain).subscribe();
+            filter.filter(getExchange("/api/v1/jd/1", null), chain).subscribe();
+            upstreamRelease.tryEmitEmpty();
+
+            // then
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+        }
+    }
+}
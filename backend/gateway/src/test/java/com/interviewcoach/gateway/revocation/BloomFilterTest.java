@@ -0,0 +1,60 @@
+package com.interviewcoach.gateway.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("등록된 값은 항상 mightContain == true")
+    void registeredValues_NoFalseNegative() {
+        // given
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+
+        // when
+        BloomFilter filter = BloomFilter.of(values, 0.01);
+
+        // then
+        assertThat(values).allMatch(filter::mightContain);
+        assertThat(filter.size()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("미등록 값의 오탐률은 설정값 근처로 유지")
+    void unregisteredValues_FalsePositiveRateBounded() {
+        // given
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+        BloomFilter filter = BloomFilter.of(values, 0.01);
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("빈 필터와 null 값은 false")
+    void emptyFilter_ReturnsFalse() {
+        assertThat(BloomFilter.empty().mightContain("family")).isFalse();
+        assertThat(BloomFilter.of(List.of("family"), 0.01).mightContain(null)).isFalse();
+    }
+}
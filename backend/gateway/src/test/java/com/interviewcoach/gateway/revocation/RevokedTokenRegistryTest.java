@@ -0,0 +1,93 @@
+package com.interviewcoach.gateway.revocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RevokedTokenRegistry 단위 테스트")
+class RevokedTokenRegistryTest {
+
+    private ReactiveZSetOperations<String, String> zSetOperations;
+    private RevokedTokenRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        zSetOperations = mock(ReactiveZSetOperations.class);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.removeRangeByScore(eq(RevokedTokenRegistry.REVOKED_KEY), any(Range.class)))
+                .willReturn(Mono.just(0L));
+        given(zSetOperations.rangeByScore(eq(RevokedTokenRegistry.REVOKED_KEY), any(Range.class)))
+                .willReturn(Flux.just("revoked-family"));
+        registry = new RevokedTokenRegistry(redisTemplate, Duration.ofSeconds(5), 0.01);
+    }
+
+    @Test
+    @DisplayName("Bloom miss면 Redis 조회 없이 통과")
+    void bloomMiss_SkipsRedisLookup() {
+        // given
+        registry.reload().block();
+
+        // when & then
+        StepVerifier.create(registry.isRevoked("active-family"))
+                .expectNext(false)
+                .verifyComplete();
+        verify(zSetOperations, never()).score(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Bloom hit이고 폐기 유지 시각 이전이면 폐기")
+    void bloomHit_ConfirmedByRedis() {
+        // given
+        registry.reload().block();
+        given(zSetOperations.score(RevokedTokenRegistry.REVOKED_KEY, "revoked-family"))
+                .willReturn(Mono.just((double) System.currentTimeMillis() + 60_000));
+
+        // when & then
+        StepVerifier.create(registry.isRevoked("revoked-family"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Bloom hit이지만 Redis에서 이미 정리된 항목이면 통과")
+    void bloomHit_ExpiredInRedis_NotRevoked() {
+        // given
+        registry.reload().block();
+        given(zSetOperations.score(RevokedTokenRegistry.REVOKED_KEY, "revoked-family"))
+                .willReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(registry.isRevoked("revoked-family"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("fid 없는 토큰과 비활성화된 레지스트리는 통과")
+    void missingFamilyOrDisabled_NotRevoked() {
+        StepVerifier.create(registry.isRevoked(null))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(new RevokedTokenRegistry(null, Duration.ZERO, 0.01).isRevoked("revoked-family"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,27 @@
+package com.interviewcoach.interview.application.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+/**
+ * [B-20] feedback-service가 발행하는 채점 완료 이벤트 (Redis Stream payload)
+ * 서비스 간 공유 모듈이 없으므로 발행 측 FeedbackGeneratedEvent와 필드를 맞춰 중복 정의
+ * gradedAt: 채점 시각(epoch ms) - 재전달/순서 뒤바뀜 시 최신 결과 판별 기준
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FeedbackGeneratedEvent(
+        Long sessionId,
+        Long qnaId,
+        Integer questionOrder,
+        Long userId,
+        String answerText,
+        Map<String, Object> feedback,
+        int followUpDepth,
+        boolean appendFollowUp,
+        String followUpQuestion,
+        String followUpFocusArea,
+        Long gradedAt
+) {
+    public static final String TYPE = "FeedbackGenerated";
+}
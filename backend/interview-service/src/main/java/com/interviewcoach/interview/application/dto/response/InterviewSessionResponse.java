@@ -19,6 +19,8 @@ public class InterviewSessionResponse {
     private String status;
     private Integer totalQuestions;
     private BigDecimal avgScore;
+    private BigDecimal currentAvgScore; // [B-22] 진행 중 세션의 실시간 평균 (QnA 조회 없이 누적값으로 계산)
+    private Integer scoredCount;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
     private List<QnaResponse> qnaList;
@@ -32,6 +34,8 @@ public class InterviewSessionResponse {
                 .status(session.getStatus())
                 .totalQuestions(session.getTotalQuestions())
                 .avgScore(session.getAvgScore())
+                .currentAvgScore(session.getCurrentAvgScore())
+                .scoredCount(session.getScoredCount())
                 .startedAt(session.getStartedAt())
                 .completedAt(session.getCompletedAt())
                 .build();
@@ -46,6 +50,8 @@ public class InterviewSessionResponse {
                 .status(session.getStatus())
                 .totalQuestions(session.getTotalQuestions())
                 .avgScore(session.getAvgScore())
+                .currentAvgScore(session.getCurrentAvgScore())
+                .scoredCount(session.getScoredCount())
                 .startedAt(session.getStartedAt())
                 .completedAt(session.getCompletedAt())
                 .qnaList(session.getQnaList().stream()
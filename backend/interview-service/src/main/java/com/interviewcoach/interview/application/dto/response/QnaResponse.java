@@ -17,6 +17,8 @@ public class QnaResponse {
     private String questionText;
     private String answerText;
     private Map<String, Object> feedback;
+    private Integer score;
+    private String focusArea;
     private LocalDateTime answeredAt;
     private Long parentQnaId;
     private Integer followUpDepth;
@@ -30,6 +32,8 @@ public class QnaResponse {
                 .questionText(qna.getQuestionText())
                 .answerText(qna.getAnswerText())
                 .feedback(qna.getFeedback())
+                .score(qna.getScore())
+                .focusArea(qna.getFocusArea())
                 .answeredAt(qna.getAnsweredAt())
                 .parentQnaId(qna.getParentQnaId())
                 .followUpDepth(qna.getFollowUpDepth())
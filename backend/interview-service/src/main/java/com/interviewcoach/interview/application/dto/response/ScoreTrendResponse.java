@@ -0,0 +1,34 @@
+package com.interviewcoach.interview.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * [B-23] 점수 추이 - interview_qna.score 컬럼 SQL 집계 결과
+ */
+@Getter
+@Builder
+public class ScoreTrendResponse {
+
+    private List<WeeklyScore> weekly;
+    private List<FocusAreaScore> weakAreas; // 평균 점수 오름차순 (가장 취약한 영역 먼저)
+
+    @Getter
+    @Builder
+    public static class WeeklyScore {
+        private LocalDate weekStart;
+        private Double avgScore;
+        private Long scoredCount;
+    }
+
+    @Getter
+    @Builder
+    public static class FocusAreaScore {
+        private String focusArea;
+        private Double avgScore;
+        private Long scoredCount;
+    }
+}
@@ -1,25 +1,38 @@
 package com.interviewcoach.interview.application.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.interview.application.dto.event.FeedbackGeneratedEvent;
 import com.interviewcoach.interview.application.dto.request.AddFollowUpRequest;
 import com.interviewcoach.interview.application.dto.request.StartInterviewRequest;
 import com.interviewcoach.interview.application.dto.request.SubmitAnswerRequest;
 import com.interviewcoach.interview.application.dto.response.InterviewListResponse;
 import com.interviewcoach.interview.application.dto.response.InterviewSessionResponse;
 import com.interviewcoach.interview.application.dto.response.QnaResponse;
+import com.interviewcoach.interview.application.dto.response.ScoreTrendResponse;
 import com.interviewcoach.interview.domain.entity.InterviewQna;
 import com.interviewcoach.interview.domain.entity.InterviewSession;
+import com.interviewcoach.interview.domain.repository.InterviewQnaBatchRepository.GradedAnswerUpdate;
 import com.interviewcoach.interview.domain.repository.InterviewQnaRepository;
 import com.interviewcoach.interview.domain.repository.InterviewSessionRepository;
 import com.interviewcoach.interview.exception.InterviewAlreadyCompletedException;
 import com.interviewcoach.interview.exception.InterviewNotFoundException;
 import com.interviewcoach.interview.exception.QnaNotFoundException;
+import com.interviewcoach.interview.infrastructure.cache.SessionStateCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +41,20 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class InterviewService {
 
+    private static final int FOCUS_AREA_MAX_LENGTH = 50;
+    private static final String STATUS_IN_PROGRESS = "in_progress";
+    private static final String STATUS_PAUSED = "paused";
+
     private final InterviewSessionRepository sessionRepository;
     private final InterviewQnaRepository qnaRepository;
-
+    private final ObjectMapper objectMapper;
+    private final SessionStateCache sessionStateCache;
+
+    /**
+     * [B-24] 세션 시작 - save 1회
+     * Before: 세션 save → 질문 addQna → save 재호출, IDENTITY라 질문 INSERT가 건별 전송 (질문 N개 = N+1 round trip)
+     * After: 질문을 모두 붙인 뒤 save 1회, cascade INSERT가 JDBC batch로 묶여 전송 (batch_size 50)
+     */
     @Transactional
     public InterviewSessionResponse startInterview(Long userId, StartInterviewRequest request) {
         InterviewSession session = InterviewSession.builder()
@@ -39,8 +63,6 @@ public class InterviewService {
                 .interviewType(request.getInterviewType())
                 .build();
 
-        InterviewSession savedSession = sessionRepository.save(session);
-
         // 질문이 제공된 경우 추가
         if (request.getQuestions() != null && !request.getQuestions().isEmpty()) {
             int order = 1;
@@ -50,11 +72,13 @@ public class InterviewService {
                         .questionType(q.getQuestionType())
                         .questionText(q.getQuestionText())
                         .build();
-                savedSession.addQna(qna);
+                session.addQna(qna);
             }
-            sessionRepository.save(savedSession);
         }
 
+        InterviewSession savedSession = sessionRepository.save(session);
+        sessionStateCache.transition(savedSession.getId(), savedSession.getStatus());
+
         log.info("Started interview session: id={}, userId={}, jdId={}, type={}",
                 savedSession.getId(), userId, request.getJdId(), request.getInterviewType());
 
@@ -101,12 +125,44 @@ public class InterviewService {
                 .build();
     }
 
+    /**
+     * [B-23] 주간 평균 점수 + 취약 영역 집계
+     * Before: 세션/QnA 전체 로드 후 feedback jsonb마다 score 역직렬화
+     * After: score SMALLINT 컬럼 GROUP BY 2회 (부분 인덱스로 채점된 QnA만 스캔)
+     */
+    @Transactional(readOnly = true)
+    public ScoreTrendResponse getScoreTrend(Long userId, int weeks) {
+        LocalDateTime since = LocalDate.now()
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .minusWeeks(weeks - 1L)
+                .atStartOfDay();
+
+        List<ScoreTrendResponse.WeeklyScore> weekly = qnaRepository.findWeeklyScoresByUserId(userId, since).stream()
+                .map(row -> ScoreTrendResponse.WeeklyScore.builder()
+                        .weekStart(row.getWeekStart().toLocalDate())
+                        .avgScore(row.getAvgScore())
+                        .scoredCount(row.getScoredCount())
+                        .build())
+                .toList();
+
+        List<ScoreTrendResponse.FocusAreaScore> weakAreas = qnaRepository.findFocusAreaScoresByUserId(userId).stream()
+                .map(row -> ScoreTrendResponse.FocusAreaScore.builder()
+                        .focusArea(row.getFocusArea())
+                        .avgScore(row.getAvgScore())
+                        .scoredCount(row.getScoredCount())
+                        .build())
+                .toList();
+
+        return ScoreTrendResponse.builder()
+                .weekly(weekly)
+                .weakAreas(weakAreas)
+                .build();
+    }
+
     @Transactional
     public QnaResponse submitAnswer(Long sessionId, SubmitAnswerRequest request) {
-        InterviewSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new InterviewNotFoundException(sessionId));
-
-        if (!session.canAnswer()) {
+        // [B-26] 세션 행 조회 대신 상태 캐시로 가드
+        if (!STATUS_IN_PROGRESS.equals(currentStatus(sessionId))) {
             throw new InterviewAlreadyCompletedException(sessionId);
         }
 
@@ -123,94 +179,197 @@ public class InterviewService {
 
     @Transactional
     public QnaResponse updateFeedback(Long sessionId, Integer questionOrder, Map<String, Object> feedback) {
-        InterviewQna qna = qnaRepository.findBySessionIdAndQuestionOrder(sessionId, questionOrder)
+        // [B-22] QnA 행 잠금 후 이전 점수 조회 → 같은 QnA 동시 재채점이 같은 이전 점수로 증감을 중복 반영하지 않음
+        // (잠금 순서는 일괄 반영 SQL과 같이 QnA → 세션)
+        InterviewQna qna = qnaRepository.findBySessionIdAndQuestionOrderForUpdate(sessionId, questionOrder)
                 .orElseThrow(() -> new QnaNotFoundException(sessionId, questionOrder));
 
+        Integer previousScore = qna.getScore();
         qna.setFeedback(feedback);
+        applyScoreDelta(sessionId, previousScore, qna.getScore());
         log.info("Updated feedback: sessionId={}, questionOrder={}, score={}",
                 sessionId, questionOrder, feedback.get("score"));
 
         return QnaResponse.from(qna);
     }
 
+    // [B-22] 재채점 시 이전 점수를 빼고 새 점수를 더함 (변화 없으면 UPDATE 생략)
+    private void applyScoreDelta(Long sessionId, Integer previousScore, Integer newScore) {
+        long sumDelta = (newScore != null ? newScore : 0) - (previousScore != null ? previousScore : 0);
+        int countDelta = (newScore != null ? 1 : 0) - (previousScore != null ? 1 : 0);
+        if (sumDelta != 0 || countDelta != 0) {
+            sessionRepository.addScore(sessionId, sumDelta, countDelta);
+        }
+    }
+
+    /**
+     * [B-21] 채점 완료 이벤트 일괄 반영 (Redis Stream 컨슈머가 배치 단위로 호출)
+     * Before: 이벤트 1건 = 세션/QnA 조회 + dirty checking UPDATE + 트랜잭션 1회
+     * After: N건 = JDBC batch UPDATE 1회 + 트랜잭션 1회 (꼬리 질문 추가 요청 건만 엔티티 조회)
+     *
+     * 멱등성: qnaId 기준으로 배치 내 중복 제거 (마지막 이벤트 우선), UPDATE는 gradedAt이 더 최신일 때만 반영
+     * → 같은 이벤트가 재전달되어도 결과 동일, 꼬리 질문은 부모 QnA당 1개만 추가
+     *
+     * @return 실제 반영된 건수 (종료된 세션, 다른 사용자의 세션, 이미 최신 결과가 있는 QnA는 건너뜀)
+     */
+    @Transactional
+    public int applyGradedAnswers(List<FeedbackGeneratedEvent> events) {
+        Map<String, FeedbackGeneratedEvent> latestByQna = new LinkedHashMap<>();
+        for (FeedbackGeneratedEvent event : events) {
+            latestByQna.merge(idempotencyKey(event), event,
+                    (previous, current) -> gradedAt(current).isBefore(gradedAt(previous)) ? previous : current);
+        }
+        List<FeedbackGeneratedEvent> deduplicated = new ArrayList<>(latestByQna.values());
+
+        int[] counts = qnaRepository.batchApplyGradedAnswers(deduplicated.stream()
+                .map(event -> new GradedAnswerUpdate(event.sessionId(), event.userId(), event.questionOrder(), event.answerText(),
+                        toJson(event.feedback()), InterviewQna.scoreOf(event.feedback()), gradedAt(event)))
+                .toList());
+
+        int applied = 0;
+        for (int i = 0; i < deduplicated.size(); i++) {
+            // SUCCESS_NO_INFO(-2): 드라이버가 건별 행 수를 주지 않는 경우 반영된 것으로 간주
+            if (counts[i] == 0) {
+                continue;
+            }
+            applied++;
+            FeedbackGeneratedEvent event = deduplicated.get(i);
+            if (event.appendFollowUp() && event.followUpQuestion() != null && !event.followUpQuestion().isBlank()) {
+                appendFollowUpOnce(event);
+            }
+        }
+
+        log.info("Applied graded answers: received={}, deduplicated={}, applied={}",
+                events.size(), deduplicated.size(), applied);
+        return applied;
+    }
+
+    private String idempotencyKey(FeedbackGeneratedEvent event) {
+        return event.qnaId() != null
+                ? "qna:" + event.qnaId()
+                : "order:" + event.sessionId() + ":" + event.questionOrder();
+    }
+
+    private LocalDateTime gradedAt(FeedbackGeneratedEvent event) {
+        return event.gradedAt() != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(event.gradedAt()), ZoneId.systemDefault())
+                : LocalDateTime.now();
+    }
+
+    private String toJson(Map<String, Object> feedback) {
+        try {
+            return objectMapper.writeValueAsString(feedback);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid feedback payload", e);
+        }
+    }
+
+    private void appendFollowUpOnce(FeedbackGeneratedEvent event) {
+        InterviewQna parent = qnaRepository.findBySessionIdAndQuestionOrder(event.sessionId(), event.questionOrder())
+                .orElse(null);
+        if (parent == null) {
+            return;
+        }
+        // [B-25] 세션 행 잠금 후 중복 확인 → 같은 부모에 대한 동시 추가도 1건만 반영
+        sessionRepository.findByIdForUpdate(event.sessionId()).ifPresent(session -> {
+            if (!qnaRepository.existsBySessionIdAndParentQnaId(event.sessionId(), parent.getId())) {
+                appendFollowUp(session, parent.getId(), event.followUpQuestion(), event.followUpDepth() + 1,
+                        event.followUpFocusArea());
+            }
+        });
+    }
+
     @Transactional
     public InterviewSessionResponse completeInterview(Long sessionId) {
-        InterviewSession session = sessionRepository.findById(sessionId)
+        // [B-22] 세션 행 잠금 후 조회 → 진행 중인 채점 반영(addScore / 일괄 반영 SQL)이 커밋된 뒤의 누적 점수로 평균 계산
+        // (잠금 없이 읽으면 평균이 이전 값 기준, 동시 꼬리 질문 추가의 total_questions 증가도 덮어씀)
+        InterviewSession session = sessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new InterviewNotFoundException(sessionId));
 
         if (!session.isInProgress() && !session.isPaused()) {
             throw new InterviewAlreadyCompletedException(sessionId);
         }
 
-        // 평균 점수 계산
-        List<InterviewQna> qnaList = session.getQnaList();
-        BigDecimal avgScore = calculateAvgScore(qnaList);
+        // [B-22] 누적 점수로 평균 계산 - qnaList 로딩 없음
+        BigDecimal avgScore = session.getCurrentAvgScore();
 
+        sessionStateCache.transition(sessionId, "completed");
         session.complete(avgScore);
         sessionRepository.save(session);
 
         log.info("Completed interview: sessionId={}, avgScore={}", sessionId, avgScore);
 
-        return InterviewSessionResponse.fromWithQna(session);
+        return InterviewSessionResponse.from(session);
     }
 
     // [A-2] 면접 일시정지
     @Transactional
     public InterviewSessionResponse pauseInterview(Long sessionId) {
-        InterviewSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new InterviewNotFoundException(sessionId));
-
-        if (!session.isInProgress()) {
+        // [B-26] 조건부 UPDATE로 전이 (세션 조회 없음), 실패한 경우에만 원인 확인용 조회
+        sessionStateCache.transition(sessionId, STATUS_PAUSED);
+        if (sessionRepository.transitionStatus(sessionId, STATUS_IN_PROGRESS, STATUS_PAUSED) == 0) {
+            requireExists(sessionId);
             throw new InterviewAlreadyCompletedException(sessionId);
         }
-
-        session.pause();
         log.info("Paused interview: sessionId={}", sessionId);
 
-        return InterviewSessionResponse.fromWithQna(session);
+        return statusResponse(sessionId, STATUS_PAUSED);
     }
 
     // [A-2] 면접 재개
     @Transactional
     public InterviewSessionResponse resumeInterview(Long sessionId) {
-        InterviewSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new InterviewNotFoundException(sessionId));
-
-        if (!session.isPaused()) {
+        sessionStateCache.transition(sessionId, STATUS_IN_PROGRESS);
+        if (sessionRepository.transitionStatus(sessionId, STATUS_PAUSED, STATUS_IN_PROGRESS) == 0) {
+            requireExists(sessionId);
             throw new IllegalStateException("면접이 일시정지 상태가 아닙니다. sessionId=" + sessionId);
         }
-
-        session.resume();
         log.info("Resumed interview: sessionId={}", sessionId);
 
-        return InterviewSessionResponse.fromWithQna(session);
+        return statusResponse(sessionId, STATUS_IN_PROGRESS);
+    }
+
+    // [B-26] 캐시 우선 상태 조회, 미스 시 status 컬럼만 조회 후 적재
+    private String currentStatus(Long sessionId) {
+        return sessionStateCache.getStatus(sessionId).orElseGet(() -> {
+            String status = sessionRepository.findStatusById(sessionId)
+                    .orElseThrow(() -> new InterviewNotFoundException(sessionId));
+            sessionStateCache.fill(sessionId, status);
+            return status;
+        });
+    }
+
+    private void requireExists(Long sessionId) {
+        if (sessionRepository.findStatusById(sessionId).isEmpty()) {
+            throw new InterviewNotFoundException(sessionId);
+        }
+    }
+
+    // 일시정지/재개 응답은 전이 결과(상태)만 포함 - 클라이언트는 본문을 사용하지 않음
+    private InterviewSessionResponse statusResponse(Long sessionId, String status) {
+        return InterviewSessionResponse.builder()
+                .id(sessionId)
+                .status(status)
+                .build();
     }
 
     @Transactional
     public QnaResponse addFollowUpQuestion(Long sessionId, AddFollowUpRequest request) {
-        InterviewSession session = sessionRepository.findById(sessionId)
+        InterviewSession session = sessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new InterviewNotFoundException(sessionId));
 
         if (!session.canAnswer()) {
             throw new InterviewAlreadyCompletedException(sessionId);
         }
 
-        InterviewQna parentQna = qnaRepository.findById(request.getParentQnaId())
-                .orElseThrow(() -> new QnaNotFoundException(sessionId, request.getParentQnaId().intValue()));
-
-        int nextOrder = session.getQnaList().size() + 1;
-
-        InterviewQna followUpQna = InterviewQna.builder()
-                .questionOrder(nextOrder)
-                .questionType("follow_up")
-                .questionText(request.getQuestionText())
-                .parentQnaId(request.getParentQnaId())
-                .followUpDepth(request.getFollowUpDepth())
-                .isFollowUp(true)
-                .build();
+        // 부모 QnA는 같은 세션 소속이어야 함 (다른 세션의 QnA id로 꼬리 질문을 연결하지 않도록)
+        if (!qnaRepository.existsByIdAndSessionId(request.getParentQnaId(), sessionId)) {
+            throw new QnaNotFoundException(sessionId, request.getParentQnaId().intValue());
+        }
 
-        session.addQna(followUpQna);
-        sessionRepository.save(session);
+        InterviewQna followUpQna = appendFollowUp(
+                session, request.getParentQnaId(), request.getQuestionText(), request.getFollowUpDepth(),
+                request.getFocusArea());
 
         log.info("Added follow-up question to session={}, parentQnaId={}, depth={}",
                 sessionId, request.getParentQnaId(), request.getFollowUpDepth());
@@ -218,27 +377,34 @@ public class InterviewService {
         return QnaResponse.from(followUpQna);
     }
 
-    private BigDecimal calculateAvgScore(List<InterviewQna> qnaList) {
-        if (qnaList.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        double totalScore = qnaList.stream()
-                .filter(qna -> qna.getFeedback() != null)
-                .mapToDouble(qna -> {
-                    Object score = qna.getFeedback().get("score");
-                    return score instanceof Number ? ((Number) score).doubleValue() : 0;
-                })
-                .sum();
+    /**
+     * [B-25] 꼬리 질문 append-only INSERT
+     * Before: session.getQnaList().size()로 순번 계산 (QnA 전체 로딩) + 세션 aggregate 전체 save
+     * After: 세션 카운터로 순번 할당 + QnA INSERT 1회 → 세션 길이/꼬리 질문 깊이와 무관하게 일정한 비용
+     */
+    private InterviewQna appendFollowUp(InterviewSession session, Long parentQnaId, String questionText,
+                                        Integer followUpDepth, String focusArea) {
+        InterviewQna followUpQna = InterviewQna.builder()
+                .session(session)
+                .questionOrder(session.nextQuestionOrder())
+                .questionType("follow_up")
+                .questionText(questionText)
+                .parentQnaId(parentQnaId)
+                .followUpDepth(followUpDepth)
+                .isFollowUp(true)
+                .focusArea(normalizeFocusArea(focusArea))
+                .build();
 
-        long count = qnaList.stream()
-                .filter(qna -> qna.getFeedback() != null && qna.getFeedback().get("score") != null)
-                .count();
+        qnaRepository.save(followUpQna);
+        return followUpQna;
+    }
 
-        if (count == 0) {
-            return BigDecimal.ZERO;
+    // [B-23] focus_area는 집계 키 - 빈 값은 NULL, LLM이 만든 긴 문자열은 컬럼 길이에 맞춰 자름
+    private String normalizeFocusArea(String focusArea) {
+        if (focusArea == null || focusArea.isBlank()) {
+            return null;
         }
-
-        return BigDecimal.valueOf(totalScore / count).setScale(1, RoundingMode.HALF_UP);
+        String trimmed = focusArea.strip();
+        return trimmed.length() > FOCUS_AREA_MAX_LENGTH ? trimmed.substring(0, FOCUS_AREA_MAX_LENGTH) : trimmed;
     }
 }
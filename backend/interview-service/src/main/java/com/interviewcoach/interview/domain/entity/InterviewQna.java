@@ -16,8 +16,10 @@ import java.util.Map;
 @Builder
 public class InterviewQna {
 
+    // [B-24] 세션과 같은 이유로 SEQUENCE 사용 - 질문 INSERT를 batch로 묶기 위함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_qna_seq")
+    @SequenceGenerator(name = "interview_qna_seq", sequenceName = "interview_qna_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,6 +43,14 @@ public class InterviewQna {
     @Column(columnDefinition = "jsonb")
     private Map<String, Object> feedback; // {score, strengths, improvements, tips}
 
+    // [B-23] feedback.score 정규화 컬럼 - 점수 집계를 jsonb 파싱 없이 SQL로 처리 (setFeedback에서 함께 갱신)
+    @JdbcTypeCode(SqlTypes.SMALLINT)
+    @Column(name = "score")
+    private Integer score;
+
+    @Column(name = "focus_area", length = 50)
+    private String focusArea; // 꼬리 질문이 탐구하는 영역 (구체적 사례, 기술적 깊이 등)
+
     @Column(name = "answered_at")
     private LocalDateTime answeredAt;
 
@@ -62,6 +72,15 @@ public class InterviewQna {
 
     public void setFeedback(Map<String, Object> feedback) {
         this.feedback = feedback;
+        this.score = scoreOf(feedback);
+    }
+
+    // [B-22] 숫자가 아닌 score는 채점되지 않은 것으로 간주
+    public static Integer scoreOf(Map<String, Object> feedback) {
+        if (feedback == null || !(feedback.get("score") instanceof Number score)) {
+            return null;
+        }
+        return (int) Math.round(score.doubleValue());
     }
 
     public boolean isAnswered() {
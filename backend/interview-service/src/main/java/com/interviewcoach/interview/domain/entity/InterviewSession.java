@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,8 +17,12 @@ import java.util.List;
 @Builder
 public class InterviewSession {
 
+    // [B-24] IDENTITY → SEQUENCE (pooled-lo, 50개 단위 선할당)
+    // IDENTITY는 INSERT 실행 후에야 id를 알 수 있어 Hibernate가 JDBC batch를 끔 → 질문 N개 = INSERT N회
+    // 시퀀스 50개 단위 할당으로 id를 먼저 채우고 INSERT를 batch로 묶어 전송
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_session_seq")
+    @SequenceGenerator(name = "interview_session_seq", sequenceName = "interview_sessions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -40,6 +45,17 @@ public class InterviewSession {
     @Column(name = "avg_score", precision = 3, scale = 1)
     private BigDecimal avgScore;
 
+    // [B-22] 채점 결과 누적 (피드백 반영 시 DB에서 원자적으로 증감)
+    // 완료/진행 중 평균 점수를 QnA 조회 없이 계산
+    // updatable = false: 증감은 addScore / 일괄 반영 SQL로만 수행 → 엔티티 flush가 읽어둔 이전 값으로 덮어쓰지 않음
+    @Column(name = "score_sum", nullable = false, updatable = false)
+    @Builder.Default
+    private Long scoreSum = 0L;
+
+    @Column(name = "scored_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer scoredCount = 0;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
@@ -63,12 +79,36 @@ public class InterviewSession {
         this.totalQuestions = this.qnaList.size();
     }
 
+    /**
+     * [B-25] 질문 추가 시 다음 순번 할당 (total_questions를 카운터로 사용)
+     * Before: qnaList.size() + 1 → 세션의 QnA 전체(답변 텍스트 포함) 지연 로딩
+     * After: 카운터 증가만 수행, QnA는 호출 측에서 직접 INSERT
+     * 동시 추가 시 순번 중복을 막으려면 세션 행을 잠근 상태(findByIdForUpdate)에서 호출
+     */
+    public int nextQuestionOrder() {
+        this.totalQuestions = this.totalQuestions + 1;
+        return this.totalQuestions;
+    }
+
     public void complete(BigDecimal avgScore) {
         this.status = "completed";
         this.avgScore = avgScore;
         this.completedAt = LocalDateTime.now();
     }
 
+    /**
+     * [B-22] 누적 합계 기반 현재 평균 점수
+     * Before: qnaList 전체 로드 후 feedback jsonb의 score 합산 (O(질문 수))
+     * After: scoreSum / scoredCount (O(1), QnA 조회 없음)
+     */
+    public BigDecimal getCurrentAvgScore() {
+        if (scoredCount == null || scoredCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(scoreSum)
+                .divide(BigDecimal.valueOf(scoredCount), 1, RoundingMode.HALF_UP);
+    }
+
     public void cancel() {
         this.status = "cancelled";
         this.completedAt = LocalDateTime.now();
@@ -0,0 +1,28 @@
+package com.interviewcoach.interview.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * [B-21] 채점 결과 일괄 반영 (JDBC batch)
+ */
+public interface InterviewQnaBatchRepository {
+
+    /**
+     * 진행 중(in_progress/paused)이고 userId가 소유한 세션의 QnA에만 반영, gradedAt보다 최신 답변이 이미 있으면 건너뜀
+     * [B-22] 반영된 건은 세션 score_sum/scored_count도 같은 문장에서 증감
+     *
+     * @return 건별 반영 행 수 (0 = 건너뜀)
+     */
+    int[] batchApplyGradedAnswers(List<GradedAnswerUpdate> updates);
+
+    record GradedAnswerUpdate(
+            Long sessionId,
+            Long userId,
+            Integer questionOrder,
+            String answerText,
+            String feedbackJson,
+            Integer score,
+            LocalDateTime gradedAt
+    ) {}
+}
@@ -0,0 +1,70 @@
+package com.interviewcoach.interview.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * [B-21] Spring Data 커스텀 구현 (InterviewQnaRepository에 합성됨)
+ *
+ * - 엔티티 조회 없이 UPDATE만 batch 전송 → N건을 1 트랜잭션, 1 round trip으로 처리
+ * - answered_at <= gradedAt 조건: 같은 이벤트 재전달(at-least-once)이나 늦게 도착한 이전 채점이 최신 결과를 덮어쓰지 않음
+ * - 세션 소유자(user_id) 조건: 이벤트의 userId와 세션 소유자가 다르면 반영하지 않음
+ */
+@RequiredArgsConstructor
+public class InterviewQnaBatchRepositoryImpl implements InterviewQnaBatchRepository {
+
+    // [B-22] QnA 갱신과 세션 누적 점수 증감을 한 문장으로 처리
+    // target에서 이전 점수를 행 잠금과 함께 읽어, 재채점 시 이전 점수를 빼고 새 점수를 더함
+    // [B-23] 이전 점수는 jsonb 파싱 대신 score 컬럼에서 읽고, jsonb와 score 컬럼을 함께 갱신
+    private static final String APPLY_GRADED_ANSWER_SQL = """
+            WITH target AS (
+                SELECT q.id, q.session_id, q.score AS old_score
+                  FROM interview_qna q
+                 WHERE q.session_id = ? AND q.question_order = ?
+                   AND (q.answered_at IS NULL OR q.answered_at <= ?)
+                   AND EXISTS (SELECT 1 FROM interview_sessions s
+                                WHERE s.id = q.session_id AND s.user_id = ?
+                                  AND s.status IN ('in_progress', 'paused'))
+                   FOR UPDATE OF q
+            ), updated AS (
+                UPDATE interview_qna q
+                   SET answer_text = ?, feedback = CAST(? AS jsonb), score = CAST(? AS SMALLINT), answered_at = ?
+                  FROM target t
+                 WHERE q.id = t.id
+             RETURNING t.session_id, t.old_score
+            )
+            UPDATE interview_sessions s
+               SET score_sum = s.score_sum + COALESCE(CAST(? AS INTEGER), 0) - COALESCE(u.old_score, 0),
+                   scored_count = s.scored_count
+                                  + CASE WHEN CAST(? AS INTEGER) IS NULL THEN 0 ELSE 1 END
+                                  - CASE WHEN u.old_score IS NULL THEN 0 ELSE 1 END
+              FROM updated u
+             WHERE s.id = u.session_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] batchApplyGradedAnswers(List<GradedAnswerUpdate> updates) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(APPLY_GRADED_ANSWER_SQL, updates, updates.size(), (ps, update) -> {
+            Timestamp gradedAt = Timestamp.valueOf(update.gradedAt());
+            ps.setLong(1, update.sessionId());
+            ps.setInt(2, update.questionOrder());
+            ps.setTimestamp(3, gradedAt);
+            ps.setObject(4, update.userId(), Types.BIGINT);
+            ps.setString(5, update.answerText());
+            ps.setString(6, update.feedbackJson());
+            ps.setObject(7, update.score(), Types.INTEGER);
+            ps.setTimestamp(8, gradedAt);
+            ps.setObject(9, update.score(), Types.INTEGER);
+            ps.setObject(10, update.score(), Types.INTEGER);
+        })[0];
+    }
+}
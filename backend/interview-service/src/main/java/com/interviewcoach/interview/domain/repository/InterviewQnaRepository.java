@@ -1,16 +1,62 @@
 package com.interviewcoach.interview.domain.repository;
 
 import com.interviewcoach.interview.domain.entity.InterviewQna;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.sql.Date;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface InterviewQnaRepository extends JpaRepository<InterviewQna, Long> {
+public interface InterviewQnaRepository extends JpaRepository<InterviewQna, Long>, InterviewQnaBatchRepository {
 
     List<InterviewQna> findBySessionIdOrderByQuestionOrderAsc(Long sessionId);
 
     Optional<InterviewQna> findBySessionIdAndQuestionOrder(Long sessionId, Integer questionOrder);
 
+    // [B-22] 재채점 시 이전 점수 기준 증감 계산용 행 잠금 (SELECT ... FOR UPDATE)
+    // 같은 QnA 동시 재채점이 둘 다 이전 점수를 읽고 scored_count를 중복 증가시키지 않도록
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM InterviewQna q WHERE q.session.id = :sessionId AND q.questionOrder = :questionOrder")
+    Optional<InterviewQna> findBySessionIdAndQuestionOrderForUpdate(@Param("sessionId") Long sessionId,
+                                                                  @Param("questionOrder") Integer questionOrder);
+
     long countBySessionId(Long sessionId);
+
+    boolean existsBySessionIdAndParentQnaId(Long sessionId, Long parentQnaId);
+
+    boolean existsByIdAndSessionId(Long id, Long sessionId);
+
+    // [B-23] 점수 집계는 score 컬럼 + 부분 인덱스(idx_qna_scored)로 처리 - feedback jsonb는 읽지 않음
+    @Query(value = "SELECT CAST(date_trunc('week', q.answered_at) AS DATE) AS \"weekStart\", " +
+                   "ROUND(AVG(q.score), 1) AS \"avgScore\", COUNT(*) AS \"scoredCount\" " +
+                   "FROM interview_qna q JOIN interview_sessions s ON s.id = q.session_id " +
+                   "WHERE s.user_id = :userId AND q.score IS NOT NULL AND q.answered_at >= :since " +
+                   "GROUP BY 1 ORDER BY 1",
+           nativeQuery = true)
+    List<WeeklyScoreRow> findWeeklyScoresByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Query(value = "SELECT q.focus_area AS \"focusArea\", " +
+                   "ROUND(AVG(q.score), 1) AS \"avgScore\", COUNT(*) AS \"scoredCount\" " +
+                   "FROM interview_qna q JOIN interview_sessions s ON s.id = q.session_id " +
+                   "WHERE s.user_id = :userId AND q.score IS NOT NULL AND q.focus_area IS NOT NULL " +
+                   "GROUP BY q.focus_area ORDER BY 2, 1",
+           nativeQuery = true)
+    List<FocusAreaScoreRow> findFocusAreaScoresByUserId(@Param("userId") Long userId);
+
+    interface WeeklyScoreRow {
+        Date getWeekStart();
+        Double getAvgScore();
+        Long getScoredCount();
+    }
+
+    interface FocusAreaScoreRow {
+        String getFocusArea();
+        Double getAvgScore();
+        Long getScoredCount();
+    }
 }
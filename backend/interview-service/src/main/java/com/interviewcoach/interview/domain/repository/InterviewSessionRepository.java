@@ -1,7 +1,10 @@
 package com.interviewcoach.interview.domain.repository;
 
 import com.interviewcoach.interview.domain.entity.InterviewSession;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -33,4 +36,24 @@ public interface InterviewSessionRepository extends JpaRepository<InterviewSessi
            "LOWER(q.answerText) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
            "ORDER BY s.startedAt DESC")
     List<InterviewSession> searchByKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
+
+    // [B-22] 누적 점수 원자적 증감 - 세션 엔티티를 읽지 않고 UPDATE 1회 (동시 채점 반영 시 lost update 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterviewSession s SET s.scoreSum = s.scoreSum + :sumDelta, " +
+           "s.scoredCount = s.scoredCount + :countDelta WHERE s.id = :id")
+    int addScore(@Param("id") Long id, @Param("sumDelta") long sumDelta, @Param("countDelta") int countDelta);
+
+    // [B-25] 질문 순번 할당용 행 잠금 (SELECT ... FOR UPDATE) - QnA 컬렉션은 로딩하지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InterviewSession s WHERE s.id = :id")
+    Optional<InterviewSession> findByIdForUpdate(@Param("id") Long id);
+
+    // [B-26] 가드용 상태 조회 - 세션 캐시 미스 시 status 컬럼만 조회
+    @Query("SELECT s.status FROM InterviewSession s WHERE s.id = :id")
+    Optional<String> findStatusById(@Param("id") Long id);
+
+    // [B-26] 조건부 상태 전이 - 조회 없이 UPDATE 1회, 현재 상태가 from일 때만 반영 (0 = 전이 불가)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterviewSession s SET s.status = :to WHERE s.id = :id AND s.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
 }
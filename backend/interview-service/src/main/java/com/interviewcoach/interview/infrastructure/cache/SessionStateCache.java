@@ -0,0 +1,93 @@
+package com.interviewcoach.interview.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * [B-26] 진행 중 면접 세션 상태 캐시 (write-through)
+ *
+ * 문제: 답변 제출마다 세션 행을 조회해 status만 확인 (진행 중인 면접 1건에 분당 수 회)
+ *
+ * 해결:
+ *       - interview:session-state:{id} = status (TTL)
+ *       - 상태 전이(시작/일시정지/재개/완료)는 캐시를 즉시 비우고 DB 커밋 후 기록 → 롤백된 상태가 캐시에 남지 않음
+ *       - 전이 자체는 조건부 UPDATE (WHERE status = 현재 상태)로 처리 → 동시 전이 중 하나만 성공
+ *       - Redis 장애 시 캐시 미스로 간주 → DB 조회로 폴백 (가드 판단은 항상 가능)
+ */
+@Slf4j
+@Component
+public class SessionStateCache {
+
+    static final String KEY_PREFIX = "interview:session-state:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public SessionStateCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${interview.session-cache.ttl:30m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    public Optional<String> getStatus(Long sessionId) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + sessionId));
+        } catch (DataAccessException e) {
+            log.warn("Session state cache read failed: sessionId={}, error={}", sessionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 캐시 미스 후 DB에서 읽은 상태 적재 - SET NX: 그 사이 커밋된 전이 결과를 이전 상태로 덮어쓰지 않음
+    public void fill(Long sessionId, String status) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + sessionId, status, ttl);
+        } catch (DataAccessException e) {
+            log.warn("Session state cache fill failed: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 상태 전이 기록: 즉시 삭제 후 DB 커밋 이후에 새 상태 기록
+     * (커밋 전 구간은 캐시 미스 → DB 조회로 판단, 캐시가 없을 때와 같은 결과)
+     */
+    public void transition(Long sessionId, String status) {
+        delete(sessionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(sessionId, status);
+                }
+            });
+        } else {
+            write(sessionId, status);
+        }
+    }
+
+    private void write(Long sessionId, String status) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + sessionId, status, ttl);
+        } catch (DataAccessException e) {
+            log.warn("Session state cache write failed: sessionId={}, error={}", sessionId, e.getMessage());
+            delete(sessionId);
+        }
+    }
+
+    private void delete(Long sessionId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + sessionId);
+        } catch (DataAccessException e) {
+            log.warn("Session state cache evict failed: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+}
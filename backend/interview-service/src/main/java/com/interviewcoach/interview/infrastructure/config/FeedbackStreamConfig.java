@@ -0,0 +1,60 @@
+package com.interviewcoach.interview.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.interview.application.service.InterviewService;
+import com.interviewcoach.interview.infrastructure.stream.FeedbackStreamConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * [B-20] 채점 완료 이벤트 스트림 구독 설정
+ *
+ * - 컨슈머 그룹: 파드 수만큼 수평 확장, 이벤트는 그룹 내 한 파드에만 전달
+ * - 컨슈머 이름: 파드 이름(HOSTNAME) → 재시작 후 같은 이름으로 자신의 pending 이벤트 확인 가능
+ * - [B-21] 배치 컨슈머 (batch-size 단위 트랜잭션), claim-min-idle 이상 방치된 pending은 다른 파드가 인수
+ * - max-deliveries 이상 전달되고도 ACK 되지 않은 이벤트는 dead-letter-key 스트림으로 이동
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "interview.feedback-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FeedbackStreamConfig {
+
+    @Value("${interview.feedback-stream.key:interview:feedback-generated}")
+    private String streamKey;
+
+    @Value("${interview.feedback-stream.group:interview-service}")
+    private String group;
+
+    @Value("${interview.feedback-stream.consumer:${HOSTNAME:interview-service}}")
+    private String consumerName;
+
+    @Value("${interview.feedback-stream.batch-size:100}")
+    private int batchSize;
+
+    @Value("${interview.feedback-stream.poll-timeout:2s}")
+    private Duration pollTimeout;
+
+    @Value("${interview.feedback-stream.claim-min-idle:30s}")
+    private Duration claimMinIdle;
+
+    @Value("${interview.feedback-stream.max-deliveries:5}")
+    private int maxDeliveries;
+
+    @Value("${interview.feedback-stream.dead-letter-key:interview:feedback-generated:dlq}")
+    private String deadLetterKey;
+
+    @Bean
+    public FeedbackStreamConsumer feedbackStreamConsumer(
+            InterviewService interviewService,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new FeedbackStreamConsumer(interviewService, redisTemplate, objectMapper, meterRegistry,
+                streamKey, group, consumerName, batchSize, pollTimeout, claimMinIdle, maxDeliveries, deadLetterKey);
+    }
+}
@@ -0,0 +1,362 @@
+package com.interviewcoach.interview.infrastructure.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.interview.application.dto.event.FeedbackGeneratedEvent;
+import com.interviewcoach.interview.application.service.InterviewService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [B-21] 채점 완료 이벤트 배치 컨슈머 (Redis Stream 컨슈머 그룹)
+ *
+ * 문제: 레코드 1건마다 트랜잭션 1회 + 엔티티 조회/dirty checking UPDATE
+ *       처리 중 파드가 죽으면 해당 컨슈머의 pending 이벤트가 방치됨
+ *
+ * 해결:
+ *       - XREADGROUP COUNT N → 배치 1건을 트랜잭션 1회 (JDBC batch UPDATE)로 반영 후 XACK 1회
+ *       - at-least-once: 반영 성공 후에만 ACK, 실패 시 pending 유지 → 시작 시와 주기적으로 자신의 PEL(0부터 읽기) 재처리
+ *       - 죽은 파드의 pending은 min-idle이 지나면 XCLAIM으로 인수
+ *       - 배치 실패 시 건별 재시도로 불량 이벤트 격리 (무결성 위반 등 영구 실패는 ACK 후 폐기)
+ *       - 재처리 주기마다 XPENDING 전달 횟수 확인 → max-deliveries 이상 실패한 이벤트는 DLQ 스트림으로 옮기고 ACK
+ *         (일시 장애로 분류된 예외가 계속 나는 이벤트가 무한히 재전달/인수되지 않도록)
+ *       - 지표: interview.feedback.stream.lag (XADD → 반영 지연), interview.feedback.stream.pending (미 ACK 건수),
+ *               interview.feedback.stream.events{result=dead_lettered}
+ */
+@Slf4j
+public class FeedbackStreamConsumer implements SmartLifecycle {
+
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_PAYLOAD = "payload";
+    static final String FIELD_ORIGINAL_ID = "originalId";
+    static final String FIELD_DELIVERIES = "deliveries";
+
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final InterviewService interviewService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String streamKey;
+    private final String group;
+    private final String consumerName;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final Duration claimMinIdle;
+    private final int maxDeliveries;
+    private final String deadLetterKey;
+
+    private final Timer lagTimer;
+    private final Counter appliedCounter;
+    private final Counter skippedCounter;
+    private final Counter droppedCounter;
+    private final Counter deadLetteredCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public FeedbackStreamConsumer(InterviewService interviewService, StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  String streamKey, String group, String consumerName,
+                                  int batchSize, Duration pollTimeout, Duration claimMinIdle,
+                                  int maxDeliveries, String deadLetterKey) {
+        this.interviewService = interviewService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.streamKey = streamKey;
+        this.group = group;
+        this.consumerName = consumerName;
+        this.batchSize = batchSize;
+        this.pollTimeout = pollTimeout;
+        this.claimMinIdle = claimMinIdle;
+        this.maxDeliveries = maxDeliveries;
+        this.deadLetterKey = deadLetterKey;
+
+        this.lagTimer = Timer.builder("interview.feedback.stream.lag")
+                .description("Delay between FeedbackGenerated XADD and its persistence")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.appliedCounter = eventCounter(meterRegistry, "applied");
+        this.skippedCounter = eventCounter(meterRegistry, "skipped");
+        this.droppedCounter = eventCounter(meterRegistry, "dropped");
+        this.deadLetteredCounter = eventCounter(meterRegistry, "dead_lettered");
+        Gauge.builder("interview.feedback.stream.pending", pendingCount, AtomicLong::get)
+                .description("FeedbackGenerated events delivered but not yet acknowledged")
+                .register(meterRegistry);
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("interview.feedback.stream.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        createGroupIfAbsent();
+        running = true;
+        worker = Thread.ofPlatform().name("feedback-stream-consumer").daemon().start(this::pollLoop);
+        log.info("Feedback stream consumer started: key={}, group={}, consumer={}", streamKey, group, consumerName);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(pollTimeout.toMillis() + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        long nextRecoveryAt = 0;
+
+        while (running) {
+            try {
+                // 시작 직후 + min-idle 주기마다 pending 재처리 (실패한 이벤트가 새 이벤트를 막지 않도록 주기적으로만)
+                if (System.currentTimeMillis() >= nextRecoveryAt) {
+                    recoverPending();
+                    nextRecoveryAt = System.currentTimeMillis() + claimMinIdle.toMillis();
+                }
+
+                List<MapRecord<String, String, String>> records = readNew();
+                if (!records.isEmpty() && !handle(records)) {
+                    sleep(ERROR_BACKOFF);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Feedback stream polling failed: {}", e.getMessage());
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    private void recoverPending() {
+        // 재전달 한도를 넘긴 이벤트는 다시 읽기 전에 DLQ로 격리 (자신/다른 컨슈머 PEL 모두)
+        deadLetterExhausted();
+
+        // 자신의 PEL: 이전 실행/이전 배치에서 ACK 못한 이벤트 (모두 ACK 되면 다음 묶음, 실패하면 다음 주기로)
+        List<MapRecord<String, String, String>> own = readOwnPending();
+        while (running && !own.isEmpty() && handle(own)) {
+            own = readOwnPending();
+        }
+
+        List<MapRecord<String, String, String>> claimed = claimIdlePending();
+        if (!claimed.isEmpty()) {
+            handle(claimed);
+        }
+        refreshPendingCount();
+    }
+
+    /**
+     * @return 전달된 모든 이벤트가 ACK 되었으면 true (false면 pending으로 남은 이벤트 있음)
+     */
+    boolean handle(List<MapRecord<String, String, String>> records) {
+        List<RecordId> acknowledged = new ArrayList<>();
+        List<MapRecord<String, String, String>> eventRecords = new ArrayList<>();
+        List<FeedbackGeneratedEvent> events = new ArrayList<>();
+
+        for (MapRecord<String, String, String> record : records) {
+            String type = record.getValue().get(FIELD_TYPE);
+            if (!FeedbackGeneratedEvent.TYPE.equals(type)) {
+                log.debug("Skipping unknown stream event type: {}, id: {}", type, record.getId());
+                acknowledged.add(record.getId());
+                continue;
+            }
+            try {
+                events.add(objectMapper.readValue(record.getValue().get(FIELD_PAYLOAD), FeedbackGeneratedEvent.class));
+                eventRecords.add(record);
+            } catch (JsonProcessingException e) {
+                log.warn("Dropping malformed FeedbackGenerated event {}: {}", record.getId(), e.getMessage());
+                droppedCounter.increment();
+                acknowledged.add(record.getId());
+            }
+        }
+
+        boolean allAcknowledged = true;
+        if (!events.isEmpty()) {
+            try {
+                recordApplied(events.size(), interviewService.applyGradedAnswers(events));
+                eventRecords.forEach(record -> {
+                    acknowledged.add(record.getId());
+                    recordLag(record);
+                });
+            } catch (Exception e) {
+                log.warn("Batch apply failed ({} events), retrying one by one: {}", events.size(), e.getMessage());
+                allAcknowledged = applyOneByOne(eventRecords, events, acknowledged);
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(streamKey, group, acknowledged.toArray(RecordId[]::new));
+        }
+        return allAcknowledged;
+    }
+
+    private boolean applyOneByOne(List<MapRecord<String, String, String>> eventRecords,
+                                  List<FeedbackGeneratedEvent> events, List<RecordId> acknowledged) {
+        boolean allAcknowledged = true;
+        for (int i = 0; i < events.size(); i++) {
+            MapRecord<String, String, String> record = eventRecords.get(i);
+            try {
+                recordApplied(1, interviewService.applyGradedAnswers(List.of(events.get(i))));
+                acknowledged.add(record.getId());
+                recordLag(record);
+            } catch (DataIntegrityViolationException | IllegalArgumentException e) {
+                // 재시도해도 성공할 수 없는 이벤트 → ACK 후 폐기
+                log.error("Dropping FeedbackGenerated event {}: {}", record.getId(), e.getMessage());
+                droppedCounter.increment();
+                acknowledged.add(record.getId());
+            } catch (Exception e) {
+                // ACK 하지 않음 → pending으로 남아 재처리 대상
+                log.error("Failed to apply FeedbackGenerated event {}: {}", record.getId(), e.getMessage());
+                allAcknowledged = false;
+            }
+        }
+        return allAcknowledged;
+    }
+
+    private void recordApplied(int received, int applied) {
+        appliedCounter.increment(applied);
+        skippedCounter.increment(Math.max(0, received - applied));
+    }
+
+    private void recordLag(MapRecord<String, String, String> record) {
+        long lagMillis = System.currentTimeMillis() - record.getId().getTimestamp();
+        lagTimer.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private List<MapRecord<String, String, String>> readNew() {
+        return read(StreamReadOptions.empty().count(batchSize).block(pollTimeout), ReadOffset.lastConsumed());
+    }
+
+    private List<MapRecord<String, String, String>> readOwnPending() {
+        return read(StreamReadOptions.empty().count(batchSize), ReadOffset.from("0"));
+    }
+
+    private List<MapRecord<String, String, String>> read(StreamReadOptions options, ReadOffset offset) {
+        List<MapRecord<String, String, String>> records = streamOps().read(
+                Consumer.from(group, consumerName), options, StreamOffset.create(streamKey, offset));
+        return records != null ? records : List.of();
+    }
+
+    // 다른 컨슈머(죽은 파드)에 min-idle 이상 묶여 있는 이벤트 인수
+    private List<MapRecord<String, String, String>> claimIdlePending() {
+        PendingMessages pending = streamOps().pending(streamKey, group, Range.unbounded(), batchSize);
+        RecordId[] idle = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idle.length == 0) {
+            return List.of();
+        }
+        log.info("Claiming {} idle FeedbackGenerated events", idle.length);
+        List<MapRecord<String, String, String>> claimed = streamOps().claim(streamKey, group, consumerName, claimMinIdle, idle);
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * XPENDING의 전달 횟수(XREADGROUP 0 재읽기, XCLAIM마다 증가)가 max-deliveries 이상인 이벤트를
+     * DLQ 스트림에 원본 필드 + 원래 id/전달 횟수와 함께 XADD 후 원본 그룹에서 ACK
+     * pending은 id 순이므로 한도를 넘긴 이벤트가 앞쪽에 남아 있으면 다음 묶음까지 이어서 처리
+     */
+    private void deadLetterExhausted() {
+        while (running) {
+            PendingMessages pending = streamOps().pending(streamKey, group, Range.unbounded(), batchSize);
+            List<PendingMessage> exhausted = pending.stream()
+                    .filter(message -> message.getTotalDeliveryCount() >= maxDeliveries)
+                    .toList();
+            if (exhausted.isEmpty()) {
+                return;
+            }
+            for (PendingMessage message : exhausted) {
+                moveToDeadLetter(message);
+            }
+        }
+    }
+
+    private void moveToDeadLetter(PendingMessage message) {
+        RecordId id = message.getId();
+        List<MapRecord<String, String, String>> records = streamOps().range(streamKey, Range.closed(id.getValue(), id.getValue()));
+        if (records != null && !records.isEmpty()) {
+            Map<String, String> fields = new HashMap<>(records.get(0).getValue());
+            fields.put(FIELD_ORIGINAL_ID, id.getValue());
+            fields.put(FIELD_DELIVERIES, String.valueOf(message.getTotalDeliveryCount()));
+            streamOps().add(StreamRecords.string(fields).withStreamKey(deadLetterKey));
+        }
+        streamOps().acknowledge(streamKey, group, id);
+        deadLetteredCounter.increment();
+        log.error("Moved FeedbackGenerated event {} to {} after {} deliveries",
+                id, deadLetterKey, message.getTotalDeliveryCount());
+    }
+
+    private void refreshPendingCount() {
+        PendingMessagesSummary summary = streamOps().pending(streamKey, group);
+        pendingCount.set(summary != null ? summary.getTotalPendingMessages() : 0);
+    }
+
+    // 스트림이 아직 없어도(MKSTREAM) 그룹 생성, 처음부터(0) 읽어 컨슈머 배포 전 발행된 이벤트도 처리
+    private void createGroupIfAbsent() {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    ((StringRedisConnection) connection).xGroupCreate(streamKey, ReadOffset.from("0"), group, true));
+        } catch (DataAccessException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
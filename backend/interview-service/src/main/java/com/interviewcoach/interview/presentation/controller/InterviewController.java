@@ -6,11 +6,14 @@ import com.interviewcoach.interview.application.dto.request.SubmitAnswerRequest;
 import com.interviewcoach.interview.application.dto.response.InterviewListResponse;
 import com.interviewcoach.interview.application.dto.response.InterviewSessionResponse;
 import com.interviewcoach.interview.application.dto.response.QnaResponse;
+import com.interviewcoach.interview.application.dto.response.ScoreTrendResponse;
 import com.interviewcoach.interview.application.service.InterviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -58,6 +61,17 @@ public class InterviewController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "점수 추이 조회", description = "주간 평균 점수와 취약 영역 (score 컬럼 SQL 집계)")
+    @ApiResponse(responseCode = "200", description = "점수 추이 반환")
+    // [B-23] 점수 추이
+    @GetMapping("/score-trend")
+    public ResponseEntity<ScoreTrendResponse> getScoreTrend(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(defaultValue = "12") @Min(value = 1, message = "조회 기간은 1주 이상이어야 합니다") @Max(value = 52, message = "조회 기간은 52주 이하여야 합니다") int weeks) {
+        ScoreTrendResponse response = interviewService.getScoreTrend(userId, weeks);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "면접 상세 조회", description = "면접 세션 ID로 상세 정보 조회 (Fetch Join)")
     @ApiResponse(responseCode = "200", description = "면접 상세 정보 반환")
     @ApiResponse(responseCode = "404", description = "면접 세션을 찾을 수 없음")
@@ -1,36 +1,53 @@
 package com.interviewcoach.interview.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.interview.application.dto.event.FeedbackGeneratedEvent;
+import com.interviewcoach.interview.application.dto.request.AddFollowUpRequest;
 import com.interviewcoach.interview.application.dto.request.StartInterviewRequest;
 import com.interviewcoach.interview.application.dto.request.SubmitAnswerRequest;
 import com.interviewcoach.interview.application.dto.response.InterviewListResponse;
 import com.interviewcoach.interview.application.dto.response.InterviewSessionResponse;
 import com.interviewcoach.interview.application.dto.response.QnaResponse;
+import com.interviewcoach.interview.application.dto.response.ScoreTrendResponse;
 import com.interviewcoach.interview.domain.entity.InterviewQna;
 import com.interviewcoach.interview.domain.entity.InterviewSession;
+import com.interviewcoach.interview.domain.repository.InterviewQnaBatchRepository.GradedAnswerUpdate;
 import com.interviewcoach.interview.domain.repository.InterviewQnaRepository;
+import com.interviewcoach.interview.domain.repository.InterviewQnaRepository.FocusAreaScoreRow;
+import com.interviewcoach.interview.domain.repository.InterviewQnaRepository.WeeklyScoreRow;
 import com.interviewcoach.interview.domain.repository.InterviewSessionRepository;
 import com.interviewcoach.interview.exception.InterviewAlreadyCompletedException;
 import com.interviewcoach.interview.exception.InterviewNotFoundException;
 import com.interviewcoach.interview.exception.QnaNotFoundException;
+import com.interviewcoach.interview.infrastructure.cache.SessionStateCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -44,6 +61,12 @@ class InterviewServiceTest {
     @Mock
     private InterviewQnaRepository qnaRepository;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private SessionStateCache sessionStateCache;
+
     @InjectMocks
     private InterviewService interviewService;
 
@@ -95,7 +118,13 @@ class InterviewServiceTest {
 
             // then
             assertThat(response).isNotNull();
-            verify(sessionRepository, times(2)).save(any(InterviewSession.class)); // 초기 저장 + 질문 추가 후 저장
+            // [B-24] 질문을 모두 붙인 뒤 save 1회 (cascade INSERT batch)
+            ArgumentCaptor<InterviewSession> captor = ArgumentCaptor.forClass(InterviewSession.class);
+            verify(sessionRepository, times(1)).save(captor.capture());
+            assertThat(captor.getValue().getQnaList())
+                    .extracting(InterviewQna::getQuestionOrder, InterviewQna::getQuestionType)
+                    .containsExactly(tuple(1, "technical"), tuple(2, "behavioral"));
+            assertThat(captor.getValue().getTotalQuestions()).isEqualTo(2);
         }
     }
 
@@ -182,7 +211,7 @@ class InterviewServiceTest {
             InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
             InterviewQna qna = createQna(1L, session, 1, "technical", "Java의 GC에 대해 설명해주세요.");
 
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionStateCache.getStatus(SESSION_ID)).willReturn(Optional.of("in_progress"));
             given(qnaRepository.findBySessionIdAndQuestionOrder(SESSION_ID, 1)).willReturn(Optional.of(qna));
 
             // when
@@ -201,9 +230,7 @@ class InterviewServiceTest {
             // given
             SubmitAnswerRequest request = createSubmitRequest(1, "답변 내용");
 
-            InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "completed");
-
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionStateCache.getStatus(SESSION_ID)).willReturn(Optional.of("completed"));
 
             // when & then
             assertThatThrownBy(() -> interviewService.submitAnswer(SESSION_ID, request))
@@ -216,15 +243,335 @@ class InterviewServiceTest {
             // given
             SubmitAnswerRequest request = createSubmitRequest(99, "답변 내용");
 
-            InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
-
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionStateCache.getStatus(SESSION_ID)).willReturn(Optional.of("in_progress"));
             given(qnaRepository.findBySessionIdAndQuestionOrder(SESSION_ID, 99)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> interviewService.submitAnswer(SESSION_ID, request))
                     .isInstanceOf(QnaNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("[B-26] 캐시 적중 시 세션 행을 조회하지 않음")
+        void submitAnswer_CacheHit_NoSessionRead() throws Exception {
+            // given
+            InterviewQna qna = createQna(1L, null, 1, "technical", "질문");
+            given(sessionStateCache.getStatus(SESSION_ID)).willReturn(Optional.of("in_progress"));
+            given(qnaRepository.findBySessionIdAndQuestionOrder(SESSION_ID, 1)).willReturn(Optional.of(qna));
+
+            // when
+            interviewService.submitAnswer(SESSION_ID, createSubmitRequest(1, "답변"));
+
+            // then
+            verifyNoInteractions(sessionRepository);
+        }
+
+        @Test
+        @DisplayName("[B-26] 캐시 미스 시 status 컬럼만 조회 후 캐시 적재")
+        void submitAnswer_CacheMiss_LoadsStatusAndFills() throws Exception {
+            // given
+            InterviewQna qna = createQna(1L, null, 1, "technical", "질문");
+            given(sessionStateCache.getStatus(SESSION_ID)).willReturn(Optional.empty());
+            given(sessionRepository.findStatusById(SESSION_ID)).willReturn(Optional.of("in_progress"));
+            given(qnaRepository.findBySessionIdAndQuestionOrder(SESSION_ID, 1)).willReturn(Optional.of(qna));
+
+            // when
+            interviewService.submitAnswer(SESSION_ID, createSubmitRequest(1, "답변"));
+
+            // then
+            verify(sessionStateCache).fill(SESSION_ID, "in_progress");
+            verify(sessionRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("[B-26] 존재하지 않는 세션에 답변 제출 시 예외 발생")
+        void submitAnswer_SessionNotFound() throws Exception {
+            // given
+            given(sessionStateCache.getStatus(SESSION_ID)).willReturn(Optional.empty());
+            given(sessionRepository.findStatusById(SESSION_ID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> interviewService.submitAnswer(SESSION_ID, createSubmitRequest(1, "답변")))
+                    .isInstanceOf(InterviewNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-26] pauseInterview / resumeInterview 메서드")
+    class PauseResumeTest {
+
+        @Test
+        @DisplayName("일시정지 - 조건부 UPDATE로 전이하고 캐시에 기록")
+        void pauseInterview_ConditionalUpdate() {
+            // given
+            given(sessionRepository.transitionStatus(SESSION_ID, "in_progress", "paused")).willReturn(1);
+
+            // when
+            InterviewSessionResponse response = interviewService.pauseInterview(SESSION_ID);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo("paused");
+            verify(sessionStateCache).transition(SESSION_ID, "paused");
+            verify(sessionRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("진행 중이 아닌 세션 일시정지 시 예외 발생")
+        void pauseInterview_NotInProgress() {
+            // given
+            given(sessionRepository.transitionStatus(SESSION_ID, "in_progress", "paused")).willReturn(0);
+            given(sessionRepository.findStatusById(SESSION_ID)).willReturn(Optional.of("completed"));
+
+            // when & then
+            assertThatThrownBy(() -> interviewService.pauseInterview(SESSION_ID))
+                    .isInstanceOf(InterviewAlreadyCompletedException.class);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 세션 재개 시 예외 발생")
+        void resumeInterview_NotFound() {
+            // given
+            given(sessionRepository.transitionStatus(SESSION_ID, "paused", "in_progress")).willReturn(0);
+            given(sessionRepository.findStatusById(SESSION_ID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> interviewService.resumeInterview(SESSION_ID))
+                    .isInstanceOf(InterviewNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("일시정지 상태가 아닌 세션 재개 시 예외 발생")
+        void resumeInterview_NotPaused() {
+            // given
+            given(sessionRepository.transitionStatus(SESSION_ID, "paused", "in_progress")).willReturn(0);
+            given(sessionRepository.findStatusById(SESSION_ID)).willReturn(Optional.of("in_progress"));
+
+            // when & then
+            assertThatThrownBy(() -> interviewService.resumeInterview(SESSION_ID))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-21] applyGradedAnswers 메서드")
+    class ApplyGradedAnswersTest {
+
+        private FeedbackGeneratedEvent gradedEvent(Long qnaId, int questionOrder, int score, long gradedAt,
+                                                   boolean appendFollowUp) {
+            return new FeedbackGeneratedEvent(SESSION_ID, qnaId, questionOrder, USER_ID, "답변 " + score,
+                    Map.of("score", score), 0, appendFollowUp, appendFollowUp ? "꼬리 질문" : null, "GC", gradedAt);
+        }
+
+        @Test
+        @DisplayName("여러 이벤트를 batch UPDATE 1회로 반영 - 같은 qnaId는 최신 gradedAt만 남김")
+        @SuppressWarnings("unchecked")
+        void applyGradedAnswers_DeduplicatesByQnaId() {
+            // given
+            List<FeedbackGeneratedEvent> events = List.of(
+                    gradedEvent(1L, 1, 60, 2_000L, false),
+                    gradedEvent(2L, 2, 70, 1_000L, false),
+                    gradedEvent(1L, 1, 90, 3_000L, false),
+                    gradedEvent(2L, 2, 50, 500L, false));
+            given(qnaRepository.batchApplyGradedAnswers(anyList())).willReturn(new int[]{1, 1});
+
+            // when
+            int applied = interviewService.applyGradedAnswers(events);
+
+            // then
+            assertThat(applied).isEqualTo(2);
+            ArgumentCaptor<List<GradedAnswerUpdate>> captor = ArgumentCaptor.forClass(List.class);
+            verify(qnaRepository).batchApplyGradedAnswers(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(GradedAnswerUpdate::questionOrder, GradedAnswerUpdate::answerText)
+                    .containsExactly(tuple(1, "답변 90"), tuple(2, "답변 70"));
+            assertThat(captor.getValue().get(0).feedbackJson()).isEqualTo("{\"score\":90}");
+            assertThat(captor.getValue()).extracting(GradedAnswerUpdate::score).containsExactly(90, 70);
+            assertThat(captor.getValue()).extracting(GradedAnswerUpdate::userId).containsOnly(USER_ID);
+            verifyNoInteractions(sessionRepository);
+        }
+
+        @Test
+        @DisplayName("반영되지 않은 건(종료 세션/이미 최신)은 건수에서 제외하고 꼬리 질문도 추가하지 않음")
+        void applyGradedAnswers_SkippedRows() {
+            // given
+            given(qnaRepository.batchApplyGradedAnswers(anyList())).willReturn(new int[]{0});
+
+            // when
+            int applied = interviewService.applyGradedAnswers(List.of(gradedEvent(1L, 1, 80, 1_000L, true)));
+
+            // then
+            assertThat(applied).isZero();
+            verify(qnaRepository, never()).findBySessionIdAndQuestionOrder(anyLong(), anyInt());
+            verifyNoInteractions(sessionRepository);
+        }
+
+        @Test
+        @DisplayName("꼬리 질문 추가 요청 - 부모 QnA당 1개만 추가 (재전달 시 중복 추가 없음)")
+        void applyGradedAnswers_AppendsFollowUpOnce() throws Exception {
+            // given
+            InterviewSession session = createSessionWithQnas(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress", 2);
+            setField(session, "totalQuestions", 2);
+            InterviewQna parent = session.getQnaList().get(1);
+            given(qnaRepository.batchApplyGradedAnswers(anyList())).willReturn(new int[]{1});
+            given(qnaRepository.findBySessionIdAndQuestionOrder(SESSION_ID, 2)).willReturn(Optional.of(parent));
+            given(qnaRepository.existsBySessionIdAndParentQnaId(SESSION_ID, parent.getId())).willReturn(false, true);
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
+
+            // when
+            interviewService.applyGradedAnswers(List.of(gradedEvent(2L, 2, 80, 1_000L, true)));
+            interviewService.applyGradedAnswers(List.of(gradedEvent(2L, 2, 80, 1_000L, true)));
+
+            // then
+            ArgumentCaptor<InterviewQna> captor = ArgumentCaptor.forClass(InterviewQna.class);
+            verify(qnaRepository, times(1)).save(captor.capture());
+            InterviewQna followUp = captor.getValue();
+            assertThat(followUp.getQuestionOrder()).isEqualTo(3);
+            assertThat(followUp.getQuestionType()).isEqualTo("follow_up");
+            assertThat(followUp.getParentQnaId()).isEqualTo(parent.getId());
+            assertThat(followUp.getFollowUpDepth()).isEqualTo(1);
+            assertThat(followUp.getFocusArea()).isEqualTo("GC");
+            assertThat(session.getTotalQuestions()).isEqualTo(3);
+            verify(sessionRepository, never()).save(any(InterviewSession.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-23] getScoreTrend 메서드")
+    class GetScoreTrendTest {
+
+        @Test
+        @DisplayName("score 컬럼 집계 결과를 주간/취약 영역 응답으로 변환")
+        void getScoreTrend_MapsAggregates() {
+            // given
+            WeeklyScoreRow weeklyRow = mock(WeeklyScoreRow.class);
+            given(weeklyRow.getWeekStart()).willReturn(java.sql.Date.valueOf(LocalDate.of(2026, 10, 12)));
+            given(weeklyRow.getAvgScore()).willReturn(72.5);
+            given(weeklyRow.getScoredCount()).willReturn(4L);
+            FocusAreaScoreRow areaRow = mock(FocusAreaScoreRow.class);
+            given(areaRow.getFocusArea()).willReturn("기술적 깊이");
+            given(areaRow.getAvgScore()).willReturn(55.0);
+            given(areaRow.getScoredCount()).willReturn(2L);
+            given(qnaRepository.findWeeklyScoresByUserId(eq(USER_ID), any(LocalDateTime.class))).willReturn(List.of(weeklyRow));
+            given(qnaRepository.findFocusAreaScoresByUserId(USER_ID)).willReturn(List.of(areaRow));
+
+            // when
+            ScoreTrendResponse response = interviewService.getScoreTrend(USER_ID, 4);
+
+            // then
+            assertThat(response.getWeekly()).singleElement()
+                    .satisfies(week -> {
+                        assertThat(week.getWeekStart()).isEqualTo(LocalDate.of(2026, 10, 12));
+                        assertThat(week.getAvgScore()).isEqualTo(72.5);
+                    });
+            assertThat(response.getWeakAreas()).extracting(ScoreTrendResponse.FocusAreaScore::getFocusArea)
+                    .containsExactly("기술적 깊이");
+            ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(qnaRepository).findWeeklyScoresByUserId(eq(USER_ID), since.capture());
+            assertThat(since.getValue().getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+            assertThat(since.getValue()).isAfter(LocalDateTime.now().minusWeeks(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-22] updateFeedback 메서드")
+    class UpdateFeedbackTest {
+
+        @Test
+        @DisplayName("첫 채점 - 세션 누적 점수에 점수와 건수를 더함")
+        void updateFeedback_FirstScore_AddsToSession() throws Exception {
+            // given
+            InterviewSession session = createSessionWithQnas(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress", 1);
+            InterviewQna qna = session.getQnaList().get(0);
+            given(qnaRepository.findBySessionIdAndQuestionOrderForUpdate(SESSION_ID, 1)).willReturn(Optional.of(qna));
+
+            // when
+            interviewService.updateFeedback(SESSION_ID, 1, Map.of("score", 80));
+
+            // then - 이전 점수는 잠금 조회로 읽음 (동시 재채점 시 건수 중복 증가 방지)
+            verify(sessionRepository).addScore(SESSION_ID, 80L, 1);
+            verify(qnaRepository, never()).findBySessionIdAndQuestionOrder(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("재채점 - 이전 점수를 빼고 새 점수를 더하며 건수는 유지")
+        void updateFeedback_Regrade_AppliesDelta() throws Exception {
+            // given
+            InterviewSession session = createSessionWithQnas(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress", 1);
+            InterviewQna qna = session.getQnaList().get(0);
+            qna.setFeedback(Map.of("score", 70));
+            given(qnaRepository.findBySessionIdAndQuestionOrderForUpdate(SESSION_ID, 1)).willReturn(Optional.of(qna));
+
+            // when
+            interviewService.updateFeedback(SESSION_ID, 1, Map.of("score", 90));
+
+            // then
+            verify(sessionRepository).addScore(SESSION_ID, 20L, 0);
+        }
+
+        @Test
+        @DisplayName("점수 변화가 없으면 세션 UPDATE 생략")
+        void updateFeedback_SameScore_SkipsUpdate() throws Exception {
+            // given
+            InterviewSession session = createSessionWithQnas(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress", 1);
+            InterviewQna qna = session.getQnaList().get(0);
+            qna.setFeedback(Map.of("score", 80));
+            given(qnaRepository.findBySessionIdAndQuestionOrderForUpdate(SESSION_ID, 1)).willReturn(Optional.of(qna));
+
+            // when
+            interviewService.updateFeedback(SESSION_ID, 1, Map.of("score", 80, "tips", List.of("팁")));
+
+            // then
+            verify(sessionRepository, never()).addScore(anyLong(), anyLong(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("[B-25] addFollowUpQuestion 메서드")
+    class AddFollowUpQuestionTest {
+
+        @Test
+        @DisplayName("QnA 목록을 로딩하지 않고 세션 카운터로 순번을 할당해 INSERT")
+        void addFollowUpQuestion_UsesCounterWithoutLoadingQnaList() throws Exception {
+            // given
+            InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
+            setField(session, "totalQuestions", 7);
+            setField(session, "qnaList", null); // qnaList 접근 시 NPE
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
+            given(qnaRepository.existsByIdAndSessionId(7L, SESSION_ID)).willReturn(true);
+            AddFollowUpRequest request = new AddFollowUpRequest();
+            setField(request, "parentQnaId", 7L);
+            setField(request, "questionText", "조금 더 구체적으로 설명해주세요.");
+            setField(request, "followUpDepth", 2);
+            setField(request, "focusArea", "  기술적 깊이  ");
+
+            // when
+            QnaResponse response = interviewService.addFollowUpQuestion(SESSION_ID, request);
+
+            // then
+            assertThat(response.getQuestionOrder()).isEqualTo(8);
+            assertThat(response.getFocusArea()).isEqualTo("기술적 깊이");
+            assertThat(session.getTotalQuestions()).isEqualTo(8);
+            verify(qnaRepository).save(any(InterviewQna.class));
+            verify(sessionRepository, never()).save(any(InterviewSession.class));
+        }
+
+        @Test
+        @DisplayName("다른 세션의 QnA를 부모로 지정하면 QnaNotFoundException")
+        void addFollowUpQuestion_ParentFromOtherSession_Throws() throws Exception {
+            // given
+            InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
+            given(qnaRepository.existsByIdAndSessionId(99L, SESSION_ID)).willReturn(false);
+            AddFollowUpRequest request = new AddFollowUpRequest();
+            setField(request, "parentQnaId", 99L);
+            setField(request, "questionText", "꼬리 질문");
+            setField(request, "followUpDepth", 1);
+
+            // when & then
+            assertThatThrownBy(() -> interviewService.addFollowUpQuestion(SESSION_ID, request))
+                    .isInstanceOf(QnaNotFoundException.class);
+            verify(qnaRepository, never()).save(any(InterviewQna.class));
+        }
     }
 
     @Nested
@@ -236,7 +583,7 @@ class InterviewServiceTest {
         void completeInterview_Success() throws Exception {
             // given
             InterviewSession session = createSessionWithQnasAndFeedback(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
 
             // when
             InterviewSessionResponse response = interviewService.completeInterview(SESSION_ID);
@@ -252,7 +599,7 @@ class InterviewServiceTest {
         void completeInterview_AlreadyCompleted() throws Exception {
             // given
             InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "completed");
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
 
             // when & then
             assertThatThrownBy(() -> interviewService.completeInterview(SESSION_ID))
@@ -264,7 +611,7 @@ class InterviewServiceTest {
         void completeInterview_NoQuestions() throws Exception {
             // given
             InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
 
             // when
             InterviewSessionResponse response = interviewService.completeInterview(SESSION_ID);
@@ -272,6 +619,27 @@ class InterviewServiceTest {
             // then
             assertThat(response.getAvgScore()).isEqualByComparingTo(BigDecimal.ZERO);
         }
+
+        @Test
+        @DisplayName("[B-22] QnA를 조회하지 않고 누적 점수로 평균 계산")
+        void completeInterview_UsesRunningTotals() throws Exception {
+            // given
+            InterviewSession session = createSession(SESSION_ID, USER_ID, JD_ID, "technical", "in_progress");
+            setField(session, "scoreSum", 255L);
+            setField(session, "scoredCount", 3);
+            setField(session, "qnaList", null); // qnaList 접근 시 NPE
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
+
+            // when
+            InterviewSessionResponse response = interviewService.completeInterview(SESSION_ID);
+
+            // then
+            assertThat(response.getAvgScore()).isEqualByComparingTo(new BigDecimal("85.0"));
+            assertThat(response.getQnaList()).isNull();
+            verifyNoInteractions(qnaRepository);
+            // 잠금 조회만 사용 (잠금 없는 findById → 동시 채점 반영 전 누적 점수로 평균 계산)
+            verify(sessionRepository, never()).findById(anyLong());
+        }
     }
 
     @Nested
@@ -351,7 +719,7 @@ class InterviewServiceTest {
         void completeInterview_AvgScoreCalculatedCorrectly() throws Exception {
             // given
             InterviewSession session = createSessionWithVariousScores(SESSION_ID, USER_ID, JD_ID);
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
 
             // when
             InterviewSessionResponse response = interviewService.completeInterview(SESSION_ID);
@@ -366,7 +734,7 @@ class InterviewServiceTest {
         void completeInterview_ExcludesQnaWithoutFeedback() throws Exception {
             // given
             InterviewSession session = createSessionWithPartialFeedback(SESSION_ID, USER_ID, JD_ID);
-            given(sessionRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+            given(sessionRepository.findByIdForUpdate(SESSION_ID)).willReturn(Optional.of(session));
 
             // when
             InterviewSessionResponse response = interviewService.completeInterview(SESSION_ID);
@@ -442,6 +810,7 @@ class InterviewServiceTest {
             qna.setFeedback(Map.of("score", 80, "strengths", List.of("좋음"), "improvements", List.of("개선점")));
         }
 
+        accumulateScores(session);
         return session;
     }
 
@@ -509,6 +878,7 @@ class InterviewServiceTest {
             session.getQnaList().add(qna);
         }
 
+        accumulateScores(session);
         return session;
     }
 
@@ -540,9 +910,20 @@ class InterviewServiceTest {
         qna3.setFeedback(Map.of("score", 90, "strengths", List.of("좋음"), "improvements", List.of("개선점")));
         session.getQnaList().add(qna3);
 
+        accumulateScores(session);
         return session;
     }
 
+    // [B-22] 피드백 반영 시 DB에서 증감되는 누적 점수를 테스트 세션에 재현
+    private void accumulateScores(InterviewSession session) throws Exception {
+        List<Integer> scores = session.getQnaList().stream()
+                .map(InterviewQna::getScore)
+                .filter(Objects::nonNull)
+                .toList();
+        setField(session, "scoreSum", scores.stream().mapToLong(Integer::longValue).sum());
+        setField(session, "scoredCount", scores.size());
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
         Field field = target.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
@@ -0,0 +1,117 @@
+package com.interviewcoach.interview.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.interview.application.dto.request.StartInterviewRequest;
+import com.interviewcoach.interview.domain.repository.InterviewQnaRepository;
+import com.interviewcoach.interview.domain.repository.InterviewSessionRepository;
+import com.interviewcoach.interview.infrastructure.cache.SessionStateCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * [B-24] 질문 수별 면접 세션 시작(startInterview) 벤치마크
+ *
+ * 실행: RUN_INTERVIEW_BENCHMARK=true ./gradlew :interview-service:test --tests '*StartInterviewBenchmarkTest'
+ * 출력: 질문 수별 세션 1건당 평균 소요 시간(flush 포함), JDBC statement 준비 횟수 (batch 1회 = 1)
+ * H2 in-memory 기준이라 절대 시간보다 statement 수(= PostgreSQL round trip 수)를 비교 지표로 사용
+ */
+@DataJpaTest(properties = "spring.datasource.url=" + StartInterviewBenchmarkTest.JDBC_URL)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "RUN_INTERVIEW_BENCHMARK", matches = "true")
+class StartInterviewBenchmarkTest {
+
+    // H2에 jsonb 타입이 없어 JSON 도메인으로 대체 (interview_qna 테이블 생성용)
+    static final String JDBC_URL =
+            "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON";
+
+    private static final int[] QUESTION_COUNTS = {5, 20, 50};
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private InterviewSessionRepository sessionRepository;
+
+    @Autowired
+    private InterviewQnaRepository qnaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void startInterviewByQuestionCount() throws Exception {
+        InterviewService interviewService = new InterviewService(
+                sessionRepository, qnaRepository, new ObjectMapper(), mock(SessionStateCache.class));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        System.out.println("=== startInterview benchmark ===");
+        System.out.printf("%-10s %12s %18s %14s%n", "questions", "ms/session", "statements/session", "entities/session");
+
+        for (int questionCount : QUESTION_COUNTS) {
+            StartInterviewRequest request = createRequest(questionCount);
+            for (int i = 0; i < WARM_UP; i++) {
+                startAndFlush(interviewService, request);
+            }
+
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                startAndFlush(interviewService, request);
+            }
+            double msPerSession = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+            double statementsPerSession = (double) statistics.getPrepareStatementCount() / ITERATIONS;
+            double entitiesPerSession = (double) statistics.getEntityInsertCount() / ITERATIONS;
+
+            System.out.printf("%-10d %12.2f %18.2f %14.1f%n",
+                    questionCount, msPerSession, statementsPerSession, entitiesPerSession);
+
+            assertThat(entitiesPerSession).isEqualTo(questionCount + 1.0);
+        }
+    }
+
+    private void startAndFlush(InterviewService interviewService, StartInterviewRequest request) {
+        interviewService.startInterview(1L, request);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private StartInterviewRequest createRequest(int questionCount) throws Exception {
+        List<StartInterviewRequest.QuestionInput> questions = new ArrayList<>();
+        for (int i = 1; i <= questionCount; i++) {
+            StartInterviewRequest.QuestionInput input = new StartInterviewRequest.QuestionInput();
+            setField(input, "questionType", "technical");
+            setField(input, "questionText", "질문 " + i);
+            questions.add(input);
+        }
+        StartInterviewRequest request = new StartInterviewRequest();
+        setField(request, "jdId", 1L);
+        setField(request, "interviewType", "technical");
+        setField(request, "questions", questions);
+        return request;
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
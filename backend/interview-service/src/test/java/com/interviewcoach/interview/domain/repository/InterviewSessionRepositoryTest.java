@@ -288,6 +288,33 @@ class InterviewSessionRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("[B-22] 누적 점수와 면접 완료 동시 처리")
+    class ScoreTotalsTest {
+
+        @Test
+        @DisplayName("조회 이후 반영된 addScore를 엔티티 flush가 이전 값으로 덮어쓰지 않음")
+        void addScore_ThenFlushStaleEntity_KeepsTotals() {
+            // given - 세션을 읽어둔 뒤 다른 채점이 누적 점수 반영
+            InterviewSession session = createAndSaveSession(USER_ID, "in_progress", LocalDateTime.now());
+            entityManager.flush();
+            entityManager.clear();
+            InterviewSession loaded = sessionRepository.findById(session.getId()).orElseThrow();
+            sessionRepository.addScore(session.getId(), 90, 1);
+
+            // when - 읽어둔 엔티티로 완료 처리 (score_sum/scored_count는 이전 값 0)
+            loaded.complete(loaded.getCurrentAvgScore());
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            InterviewSession found = sessionRepository.findById(session.getId()).orElseThrow();
+            assertThat(found.getStatus()).isEqualTo("completed");
+            assertThat(found.getScoreSum()).isEqualTo(90L);
+            assertThat(found.getScoredCount()).isEqualTo(1);
+        }
+    }
+
     // Helper method
     private InterviewSession createAndSaveSession(Long userId, String status, LocalDateTime startedAt) {
         InterviewSession session = InterviewSession.builder()
@@ -0,0 +1,96 @@
+package com.interviewcoach.interview.domain.repository;
+
+import com.interviewcoach.interview.domain.entity.InterviewSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [B-22] 채점 반영(addScore)과 면접 완료가 겹칠 때 완료 처리는 세션 행 잠금 후 최신 누적 점수를 읽음
+ * 트랜잭션 2개가 필요하므로 테스트 트랜잭션 없이 실행
+ * 잠금 조회 SQL(FOR NO KEY UPDATE)은 PostgreSQL 문법이라 이 테스트만 H2 방언 사용
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InterviewSession 누적 점수 잠금 테스트")
+class InterviewSessionScoreLockTest {
+
+    @Autowired
+    private InterviewSessionRepository sessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        tx.executeWithoutResult(status -> sessionRepository.deleteAllInBatch());
+    }
+
+    @Test
+    @DisplayName("채점 트랜잭션이 커밋될 때까지 완료 처리가 대기한 뒤 반영된 점수로 평균 계산")
+    void complete_WaitsForInFlightScore() throws Exception {
+        // given
+        tx = new TransactionTemplate(transactionManager);
+        Long sessionId = tx.execute(status -> sessionRepository.save(InterviewSession.builder()
+                .userId(1L)
+                .jdId(10L)
+                .interviewType("technical")
+                .build()).getId());
+        CountDownLatch scoreApplied = new CountDownLatch(1);
+        CountDownLatch releaseGrading = new CountDownLatch(1);
+
+        // when - 채점 트랜잭션이 세션 행을 잠근 상태에서 완료 처리 시작
+        Future<?> grading = executor.submit(() -> tx.executeWithoutResult(status -> {
+            sessionRepository.addScore(sessionId, 90, 1);
+            scoreApplied.countDown();
+            awaitQuietly(releaseGrading);
+        }));
+        assertThat(scoreApplied.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<BigDecimal> completing = executor.submit(() -> tx.execute(status -> {
+            InterviewSession session = sessionRepository.findByIdForUpdate(sessionId).orElseThrow();
+            session.complete(session.getCurrentAvgScore());
+            return session.getAvgScore();
+        }));
+        Thread.sleep(200);
+        assertThat(completing.isDone()).isFalse();
+        releaseGrading.countDown();
+        grading.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(completing.get(5, TimeUnit.SECONDS)).isEqualByComparingTo(new BigDecimal("90.0"));
+        InterviewSession found = sessionRepository.findById(sessionId).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo("completed");
+        assertThat(found.getScoreSum()).isEqualTo(90L);
+        assertThat(found.getScoredCount()).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.interviewcoach.interview.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [B-26] 세션 상태 캐시 - 커밋 후 기록, 캐시 미스 적재가 전이 결과를 덮어쓰지 않음
+ */
+@DisplayName("SessionStateCache 통합 테스트 (Embedded Redis)")
+class SessionStateCacheIntegrationTest {
+
+    private static final Long SESSION_ID = 100L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final SessionStateCache cache = new SessionStateCache(redisTemplate, Duration.ofMinutes(1));
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        redisTemplate.delete(SessionStateCache.KEY_PREFIX + SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 전이는 즉시 비우고 커밋 이후에 기록")
+    void transition_WritesAfterCommit() {
+        // given
+        cache.fill(SESSION_ID, "in_progress");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.transition(SESSION_ID, "completed");
+
+        // then
+        assertThat(cache.getStatus(SESSION_ID)).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.getStatus(SESSION_ID)).contains("completed");
+    }
+
+    @Test
+    @DisplayName("커밋 전 DB에서 읽은 이전 상태 적재는 커밋 후 기록된 상태를 덮어쓰지 않음")
+    void fill_DoesNotOverwriteTransition() {
+        // given
+        cache.transition(SESSION_ID, "completed");
+
+        // when
+        cache.fill(SESSION_ID, "in_progress");
+
+        // then
+        assertThat(cache.getStatus(SESSION_ID)).contains("completed");
+    }
+}
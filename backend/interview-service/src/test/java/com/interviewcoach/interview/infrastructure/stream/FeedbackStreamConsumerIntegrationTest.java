@@ -0,0 +1,242 @@
+package com.interviewcoach.interview.infrastructure.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.interview.application.dto.event.FeedbackGeneratedEvent;
+import com.interviewcoach.interview.application.service.InterviewService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * [B-21] 채점 이벤트 배치 컨슈머 - 배치 반영, at-least-once 재처리, 죽은 컨슈머 pending 인수, lag 지표
+ */
+@DisplayName("FeedbackStreamConsumer 통합 테스트 (Embedded Redis)")
+class FeedbackStreamConsumerIntegrationTest {
+
+    private static final String GROUP = "interview-service";
+    private static final long VERIFY_TIMEOUT_MS = 5000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InterviewService interviewService;
+    private SimpleMeterRegistry meterRegistry;
+    private FeedbackStreamConsumer consumer;
+    private String streamKey;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        interviewService = mock(InterviewService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        streamKey = "test:feedback-generated:" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (consumer != null) {
+            consumer.stop();
+        }
+    }
+
+    private FeedbackStreamConsumer newConsumer(Duration claimMinIdle) {
+        return newConsumer(claimMinIdle, 5);
+    }
+
+    private FeedbackStreamConsumer newConsumer(Duration claimMinIdle, int maxDeliveries) {
+        return new FeedbackStreamConsumer(interviewService, redisTemplate, objectMapper, meterRegistry,
+                streamKey, GROUP, "pod-a", 10, Duration.ofMillis(100), claimMinIdle,
+                maxDeliveries, deadLetterKey());
+    }
+
+    private String deadLetterKey() {
+        return streamKey + ":dlq";
+    }
+
+    private void publish(long qnaId) throws Exception {
+        FeedbackGeneratedEvent event = new FeedbackGeneratedEvent(1L, qnaId, (int) qnaId, 7L, "답변",
+                Map.of("score", 80), 0, false, null, null, System.currentTimeMillis());
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                FeedbackStreamConsumer.FIELD_TYPE, FeedbackGeneratedEvent.TYPE,
+                FeedbackStreamConsumer.FIELD_PAYLOAD, objectMapper.writeValueAsString(event))).withStreamKey(streamKey));
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(streamKey, GROUP).getTotalPendingMessages();
+    }
+
+    private void awaitNoPending() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + VERIFY_TIMEOUT_MS;
+        while (pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트를 배치 1회로 반영하고 ACK, lag 지표 기록")
+    void consumesInBatches() throws Exception {
+        // given - 컨슈머 배포 전에 발행된 이벤트 (그룹은 0부터 읽음)
+        given(interviewService.applyGradedAnswers(anyList())).willAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        for (long i = 1; i <= 3; i++) {
+            publish(i);
+        }
+
+        // when
+        consumer = newConsumer(Duration.ofSeconds(30));
+        consumer.start();
+
+        // then
+        verify(interviewService, timeout(VERIFY_TIMEOUT_MS)).applyGradedAnswers(argThat(events -> events.size() == 3));
+        awaitNoPending();
+        assertThat(meterRegistry.get("interview.feedback.stream.lag").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("interview.feedback.stream.events").tag("result", "applied").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 ACK 하지 않고 재처리 주기에 다시 시도 (at-least-once)")
+    void retriesPendingAfterFailure() throws Exception {
+        // given - 배치 시도 + 건별 재시도 모두 실패 후 복구
+        consumer = newConsumer(Duration.ofMillis(200));
+        given(interviewService.applyGradedAnswers(anyList()))
+                .willThrow(new IllegalStateException("db down"))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(1);
+        consumer.start();
+
+        // when
+        publish(1);
+
+        // then
+        verify(interviewService, timeout(VERIFY_TIMEOUT_MS).times(3)).applyGradedAnswers(anyList());
+        awaitNoPending();
+    }
+
+    @Test
+    @DisplayName("죽은 컨슈머에 묶인 pending 이벤트는 min-idle 후 인수하여 반영")
+    void claimsIdlePendingFromDeadConsumer() throws Exception {
+        // given - dead-pod가 읽고 ACK 못한 채 종료
+        consumer = newConsumer(Duration.ofMillis(100));
+        consumer.start();
+        consumer.stop();
+        publish(1);
+        redisTemplate.opsForStream().read(Consumer.from(GROUP, "dead-pod"),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+        assertThat(pendingCount()).isEqualTo(1);
+        Thread.sleep(150);
+        given(interviewService.applyGradedAnswers(anyList())).willReturn(1);
+
+        // when
+        consumer = newConsumer(Duration.ofMillis(100));
+        consumer.start();
+
+        // then
+        verify(interviewService, timeout(VERIFY_TIMEOUT_MS)).applyGradedAnswers(anyList());
+        awaitNoPending();
+    }
+
+    @Test
+    @DisplayName("max-deliveries 이상 반영 실패한 이벤트는 DLQ 스트림으로 옮기고 ACK")
+    void movesExhaustedEventsToDeadLetter() throws Exception {
+        // given - 일시 장애로 분류되는 예외가 계속 발생
+        given(interviewService.applyGradedAnswers(anyList())).willThrow(new IllegalStateException("db down"));
+        consumer = newConsumer(Duration.ofMillis(100), 3);
+        consumer.start();
+
+        // when
+        publish(1);
+
+        // then
+        long deadline = System.currentTimeMillis() + VERIFY_TIMEOUT_MS;
+        while (redisTemplate.opsForStream().size(deadLetterKey()) < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        List<MapRecord<String, Object, Object>> deadLetters = redisTemplate.opsForStream()
+                .range(deadLetterKey(), Range.unbounded());
+        assertThat(deadLetters).hasSize(1);
+        assertThat(pendingCount()).isZero();
+        assertThat(deadLetters.get(0).getValue())
+                .containsEntry(FeedbackStreamConsumer.FIELD_TYPE, FeedbackGeneratedEvent.TYPE)
+                .containsEntry(FeedbackStreamConsumer.FIELD_DELIVERIES, "3")
+                .containsKey(FeedbackStreamConsumer.FIELD_ORIGINAL_ID)
+                .containsKey(FeedbackStreamConsumer.FIELD_PAYLOAD);
+        assertThat(meterRegistry.get("interview.feedback.stream.events").tag("result", "dead_lettered").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("역직렬화 불가 이벤트는 반영하지 않고 ACK 후 폐기")
+    void dropsMalformedEvents() throws Exception {
+        // given
+        consumer = newConsumer(Duration.ofSeconds(30));
+        consumer.start();
+
+        // when
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                FeedbackStreamConsumer.FIELD_TYPE, FeedbackGeneratedEvent.TYPE,
+                FeedbackStreamConsumer.FIELD_PAYLOAD, "{not-json")).withStreamKey(streamKey));
+
+        // then
+        awaitNoPending();
+        long deadline = System.currentTimeMillis() + VERIFY_TIMEOUT_MS;
+        while (meterRegistry.get("interview.feedback.stream.events").tag("result", "dropped").counter().count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.get("interview.feedback.stream.events").tag("result", "dropped").counter().count())
+                .isEqualTo(1);
+        verifyNoInteractions(interviewService);
+    }
+}
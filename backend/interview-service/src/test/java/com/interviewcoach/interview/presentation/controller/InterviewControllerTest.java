@@ -6,6 +6,7 @@ import com.interviewcoach.interview.application.dto.request.SubmitAnswerRequest;
 import com.interviewcoach.interview.application.dto.response.InterviewListResponse;
 import com.interviewcoach.interview.application.dto.response.InterviewSessionResponse;
 import com.interviewcoach.interview.application.dto.response.QnaResponse;
+import com.interviewcoach.interview.application.dto.response.ScoreTrendResponse;
 import com.interviewcoach.interview.application.service.InterviewService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -200,6 +202,48 @@ class InterviewControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("[B-23] GET /api/v1/interviews/score-trend - 점수 추이")
+    class ScoreTrendTest {
+
+        @Test
+        @DisplayName("주간 평균과 취약 영역 반환")
+        void getScoreTrend_Success() throws Exception {
+            // given
+            ScoreTrendResponse response = ScoreTrendResponse.builder()
+                    .weekly(List.of(ScoreTrendResponse.WeeklyScore.builder()
+                            .weekStart(LocalDate.of(2026, 10, 12))
+                            .avgScore(72.5)
+                            .scoredCount(4L)
+                            .build()))
+                    .weakAreas(List.of(ScoreTrendResponse.FocusAreaScore.builder()
+                            .focusArea("기술적 깊이")
+                            .avgScore(55.0)
+                            .scoredCount(2L)
+                            .build()))
+                    .build();
+            given(interviewService.getScoreTrend(USER_ID, 4)).willReturn(response);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/interviews/score-trend")
+                            .header("X-User-Id", USER_ID)
+                            .param("weeks", "4"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.weekly[0].weekStart").value("2026-10-12"))
+                    .andExpect(jsonPath("$.weekly[0].avgScore").value(72.5))
+                    .andExpect(jsonPath("$.weakAreas[0].focusArea").value("기술적 깊이"));
+        }
+
+        @Test
+        @DisplayName("조회 기간이 52주를 넘으면 400")
+        void getScoreTrend_TooManyWeeks() throws Exception {
+            mockMvc.perform(get("/api/v1/interviews/score-trend")
+                            .header("X-User-Id", USER_ID)
+                            .param("weeks", "53"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/interviews/{id} - 면접 상세 조회")
     class GetInterviewTest {
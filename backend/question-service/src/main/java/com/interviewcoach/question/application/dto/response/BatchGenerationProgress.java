@@ -0,0 +1,21 @@
+package com.interviewcoach.question.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * [B-32] 일괄 생성 JD별 진행 이벤트 (SSE progress)
+ */
+@Getter
+@Builder
+public class BatchGenerationProgress {
+
+    public enum Status { COMPLETED, FAILED }
+
+    private Long jdId;
+    private Status status;
+    private int questionCount;
+    private int completed;
+    private int total;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.interviewcoach.question.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * [B-32] 일괄 생성 최종 결과 (SSE complete)
+ */
+@Getter
+@Builder
+public class BatchGenerationResponse {
+
+    private int totalJds;
+    private int succeeded;
+    private List<Long> failedJdIds;
+    private int totalQuestions;
+    private int llmPrompts;
+    private long elapsedMillis;
+}
@@ -0,0 +1,34 @@
+package com.interviewcoach.question.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * [B-33] JD 일괄 등록 작업 진행 상황 (Redis 저장 → 어느 파드에서든 조회)
+ */
+@Getter
+@Builder
+@Jacksonized
+public class JdImportJobResponse {
+
+    public enum Status {
+        IMPORTING, ANALYZING, COMPLETED
+    }
+
+    private String jobId;
+    private Long userId;
+    private Status status;
+    private String format;
+    private int totalRows;
+    private int imported;
+    private int invalid;
+    private int analyzed;
+    private int analysisFailed;
+    private List<String> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -3,6 +3,7 @@ package com.interviewcoach.question.application.dto.response;
 import com.interviewcoach.question.domain.entity.JobDescription;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class JdResponse implements Serializable {
 
     private static final long serialVersionUID = 1L;
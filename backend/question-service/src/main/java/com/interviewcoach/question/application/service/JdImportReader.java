@@ -0,0 +1,200 @@
+package com.interviewcoach.question.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.request.CreateJdRequest;
+import com.interviewcoach.question.exception.InvalidImportFileException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * [B-33] JD 일괄 등록 파일을 한 행씩 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+ *
+ * - JSONL: 한 줄 = CreateJdRequest JSON 1건 (빈 줄 무시)
+ * - CSV: 첫 행은 헤더 (companyName, position, originalText, originalUrl - 순서 무관)
+ *        큰따옴표 필드 안의 쉼표 / 줄바꿈 / "" 이스케이프 지원 (JD 원문은 여러 줄)
+ * 행 단위 형식 오류는 Row.error로 돌려주고 다음 행을 계속 읽음
+ */
+class JdImportReader implements Closeable {
+
+    enum Format {
+        JSONL, CSV;
+
+        static Format detect(String filename, String contentType) {
+            String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            if (name.endsWith(".csv") || "text/csv".equalsIgnoreCase(contentType)) {
+                return CSV;
+            }
+            if ("application/x-ndjson".equalsIgnoreCase(contentType)) {
+                return JSONL;
+            }
+            throw new InvalidImportFileException("지원하지 않는 파일 형식입니다 (JSONL 또는 CSV)");
+        }
+    }
+
+    record Row(int lineNumber, CreateJdRequest request, String error) {
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private static final String REQUIRED_COLUMN = "originalText";
+
+    private final Format format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private int line;
+
+    private JdImportReader(Format format, InputStream inputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    static JdImportReader open(Format format, InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        JdImportReader importReader = new JdImportReader(format, inputStream, objectMapper);
+        if (format == Format.CSV) {
+            importReader.readHeader();
+        }
+        return importReader;
+    }
+
+    /**
+     * @return 다음 행 (파일 끝이면 null)
+     */
+    Row next() throws IOException {
+        return format == Format.JSONL ? nextJson() : nextCsv();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row nextJson() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return new Row(line, objectMapper.readValue(stripBom(text), CreateJdRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(line, null, "JSON 형식이 올바르지 않습니다");
+            }
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        CsvRecord record = readRecord();
+        if (record == null || record.error() != null) {
+            throw new InvalidImportFileException("CSV 헤더를 읽을 수 없습니다");
+        }
+        header = record.fields().stream().map(name -> stripBom(name).trim()).toList();
+        if (!header.contains(REQUIRED_COLUMN)) {
+            throw new InvalidImportFileException("CSV 헤더에 " + REQUIRED_COLUMN + " 컬럼이 필요합니다");
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        CsvRecord record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.error() == null && record.fields().size() == 1 && record.fields().get(0).isBlank());
+
+        if (record.error() != null) {
+            return new Row(record.lineNumber(), null, record.error());
+        }
+        if (record.fields().size() != header.size()) {
+            return new Row(record.lineNumber(), null,
+                    "컬럼 수가 헤더와 다릅니다 (" + record.fields().size() + "/" + header.size() + ")");
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = record.fields().get(i);
+            values.put(header.get(i), value.isBlank() ? null : value);
+        }
+        try {
+            return new Row(record.lineNumber(), objectMapper.convertValue(values, CreateJdRequest.class), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(record.lineNumber(), null, "알 수 없는 컬럼이 있습니다");
+        }
+    }
+
+    /**
+     * RFC 4180 레코드 1건 (따옴표 안 줄바꿈 포함), 파일 끝이면 null
+     */
+    private CsvRecord readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        int startLine = ++line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (c == -1) {
+                fields.add(field.toString());
+                return new CsvRecord(startLine, fields, quoted ? "닫히지 않은 따옴표가 있습니다" : null);
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return new CsvRecord(startLine, fields, null);
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String stripBom(String text) {
+        return !text.isEmpty() && text.charAt(0) == '\uFEFF' ? text.substring(1) : text;
+    }
+
+    private record CsvRecord(int lineNumber, List<String> fields, String error) {
+    }
+}
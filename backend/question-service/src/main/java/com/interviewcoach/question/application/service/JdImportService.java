@@ -0,0 +1,423 @@
+package com.interviewcoach.question.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.request.CreateJdRequest;
+import com.interviewcoach.question.application.dto.response.JdImportJobResponse;
+import com.interviewcoach.question.domain.entity.JobDescription;
+import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
+import com.interviewcoach.question.exception.JdImportJobNotFoundException;
+import com.interviewcoach.question.infrastructure.config.CacheConfig;
+import com.interviewcoach.question.infrastructure.config.JdImportProperties;
+import com.interviewcoach.question.infrastructure.jdimport.JdImportJobStore;
+import com.interviewcoach.question.infrastructure.llm.LlmClient;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * [B-33] JD 일괄 등록 (JSONL / CSV 업로드)
+ *
+ * 문제: 조직 단위 온보딩 시 JD 수천 건을 createJd 1건씩 요청 → 요청마다 INSERT 1회 + jd-list 무효화,
+ *       analyzeJd도 JD마다 동기 LLM 호출 (클라이언트가 완료까지 대기)
+ *
+ * 해결:
+ *       - 업로드 파일을 한 행씩 읽어 검증 → chunk-size 단위 saveAll (SEQUENCE id 선할당 → JDBC batch INSERT)
+ *       - 저장된 JD는 분석 풀(스레드 수 = LLM 동시 호출 상한)에 바로 투입, 업로드 응답은 202 + 작업 ID
+ *       - 행 수 / 등록 / 검증 실패 / 분석 완료·실패를 작업 스냅샷으로 Redis에 저장 → GET /jd/import/{jobId}
+ *         (스냅샷마다 단조 증가 버전 → Redis에는 더 높은 버전만 반영)
+ *       - 분석까지 끝나면 jd-list를 한 번만 다시 적재 (JD마다 무효화하지 않음)
+ *       - 종료 시 시작하지 않은 분석은 실패로 집계 (대기열은 파드 메모리에만 있음)
+ *
+ * 등록된 JD의 소유자는 업로드한 사용자 (권한 체계가 사용자 단위라 다른 사용자 명의 등록은 허용하지 않음)
+ */
+@Slf4j
+@Service
+public class JdImportService {
+
+    private final JobDescriptionRepository jdRepository;
+    private final JdService jdService;
+    private final LlmClient llmClient;
+    private final JdImportJobStore jobStore;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final JdImportProperties properties;
+    private final Executor analysisExecutor;
+    private final Set<AnalysisTask> pendingAnalyses = ConcurrentHashMap.newKeySet();
+
+    public JdImportService(
+            JobDescriptionRepository jdRepository,
+            JdService jdService,
+            LlmClient llmClient,
+            JdImportJobStore jobStore,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            JdImportProperties properties,
+            @Qualifier("jdAnalysisExecutor") Executor analysisExecutor) {
+        this.jdRepository = jdRepository;
+        this.jdService = jdService;
+        this.llmClient = llmClient;
+        this.jobStore = jobStore;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.analysisExecutor = analysisExecutor;
+    }
+
+    /**
+     * 파일의 모든 행을 등록하고 분석 작업을 투입한 뒤 반환 (분석은 비동기로 계속 진행)
+     */
+    public JdImportJobResponse importJds(Long userId, MultipartFile file) throws IOException {
+        JdImportReader.Format format = JdImportReader.Format.detect(file.getOriginalFilename(), file.getContentType());
+
+        try (JdImportReader reader = JdImportReader.open(format, file.getInputStream(), objectMapper)) {
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId, format.name(), properties.getMaxErrors());
+            save(job);
+            log.info("JD import started: jobId={}, userId={}, format={}", job.jobId, userId, format);
+
+            readAndInsert(reader, job);
+
+            if (job.insertFinished()) {
+                finish(job);
+            } else {
+                // 분석 전 상태라도 새 JD가 목록에 바로 보이도록 먼저 한 번 적재
+                warmJdList(job);
+                save(job);
+            }
+            return job.snapshot();
+        }
+    }
+
+    public JdImportJobResponse getJob(Long userId, String jobId) {
+        return jobStore.find(jobId)
+                .filter(job -> userId.equals(job.getUserId()))
+                .orElseThrow(() -> new JdImportJobNotFoundException(jobId));
+    }
+
+    private void readAndInsert(JdImportReader reader, ImportJob job) {
+        List<JdImportReader.Row> chunk = new ArrayList<>(properties.getChunkSize());
+        try {
+            JdImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (job.totalRows() >= properties.getMaxRows()) {
+                    job.error("최대 " + properties.getMaxRows() + "행까지 등록할 수 있어 이후 행은 무시했습니다");
+                    break;
+                }
+                String error = row.isValid() ? validate(row.request()) : row.error();
+                if (error != null) {
+                    job.invalid(row.lineNumber() + "행: " + error);
+                    continue;
+                }
+                job.rowAccepted();
+                chunk.add(row);
+                if (chunk.size() >= properties.getChunkSize()) {
+                    insertChunk(chunk, job);
+                    chunk = new ArrayList<>(properties.getChunkSize());
+                }
+            }
+        } catch (IOException e) {
+            log.error("JD import read failed: jobId={}, error={}", job.jobId, e.getMessage());
+            job.error("파일을 읽는 중 오류가 발생해 중단했습니다 (이전 행은 등록됨)");
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, job);
+        }
+    }
+
+    private String validate(CreateJdRequest request) {
+        Set<ConstraintViolation<CreateJdRequest>> violations = validator.validate(request);
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .reduce((first, second) -> first + ", " + second)
+                .orElse(null);
+    }
+
+    /**
+     * chunk 1개 = 트랜잭션 1회 (실패해도 이전 chunk는 유지)
+     */
+    private void insertChunk(List<JdImportReader.Row> chunk, ImportJob job) {
+        List<JobDescription> jds = chunk.stream()
+                .map(row -> JobDescription.builder()
+                        .userId(job.userId)
+                        .companyName(row.request().getCompanyName())
+                        .position(row.request().getPosition())
+                        .originalText(row.request().getOriginalText())
+                        .originalUrl(row.request().getOriginalUrl())
+                        .build())
+                .toList();
+
+        List<JobDescription> saved;
+        try {
+            saved = transactionTemplate.execute(status -> jdRepository.saveAll(jds));
+        } catch (DataAccessException e) {
+            log.error("JD import chunk failed: jobId={}, lines={}~{}, error={}", job.jobId,
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e.getMessage());
+            job.chunkFailed(chunk.size(), chunk.get(0).lineNumber() + "~" + chunk.get(chunk.size() - 1).lineNumber()
+                    + "행: 저장에 실패했습니다");
+            return;
+        }
+
+        job.imported(saved.size());
+        save(job);
+        saved.forEach(jd -> enqueueAnalysis(job, jd.getId(), jd.getOriginalText()));
+    }
+
+    private void enqueueAnalysis(ImportJob job, Long jdId, String jdText) {
+        AnalysisTask task = new AnalysisTask(job, jdId, jdText);
+        pendingAnalyses.add(task);
+        try {
+            analysisExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            pendingAnalyses.remove(task);
+            log.warn("JD analysis queue full: jobId={}, jdId={}", job.jobId, jdId);
+            analysisDone(job, false, "JD " + jdId + ": 분석 대기열이 가득 차 분석하지 못했습니다");
+        }
+    }
+
+    /**
+     * 분석 대기열은 파드 메모리에만 있으므로 종료 시 아직 시작하지 않은 분석을 실패로 집계
+     * → 작업이 ANALYZING으로 남지 않고 COMPLETED + 실패 건수로 끝남 (JD는 등록된 상태, /analyze로 재시도)
+     * 분석 풀보다 먼저 호출됨 (이 Bean이 풀에 의존) → 이후 풀이 실행하는 대기 작업은 아무것도 하지 않음
+     * 이미 분석 중인 JD는 풀 종료 대기(awaitTermination) 안에 끝나면 그대로 반영
+     */
+    @PreDestroy
+    public void abandonPendingAnalyses() {
+        Map<ImportJob, Integer> abandoned = new HashMap<>();
+        for (AnalysisTask task : pendingAnalyses) {
+            if (pendingAnalyses.remove(task)) {
+                abandoned.merge(task.job, 1, Integer::sum);
+            }
+        }
+        abandoned.forEach((job, count) -> {
+            log.warn("JD analysis abandoned on shutdown: jobId={}, pending={}", job.jobId, count);
+            if (job.analysesAbandoned(count, "서버 종료로 JD " + count + "건을 분석하지 못했습니다 (/analyze로 다시 분석)")) {
+                finish(job);
+            } else {
+                save(job);
+            }
+        });
+    }
+
+    /**
+     * LLM 호출은 트랜잭션 밖, 결과 반영만 짧은 트랜잭션으로 수행
+     */
+    private void analyze(ImportJob job, Long jdId, String jdText) {
+        try {
+            LlmClient.JdAnalysisResult result = llmClient.analyzeJd(jdText);
+            transactionTemplate.executeWithoutResult(status -> {
+                jdRepository.findById(jdId)
+                        .ifPresent(jd -> jd.updateParsedData(result.skills(), result.requirements()));
+                // [B-31] 다른 파드의 JobDescription 2차 캐시까지 무효화 (jd-detail 무효화 메시지)
+                Cache jdDetail = cacheManager.getCache(CacheConfig.JD_DETAIL);
+                if (jdDetail != null) {
+                    jdDetail.evict(jdId);
+                }
+            });
+            analysisDone(job, true, null);
+        } catch (Exception e) {
+            log.warn("JD import analysis failed: jobId={}, jdId={}, error={}", job.jobId, jdId, e.getMessage());
+            analysisDone(job, false, "JD " + jdId + ": 분석에 실패했습니다");
+        }
+    }
+
+    private void analysisDone(ImportJob job, boolean success, String error) {
+        if (job.analysisDone(success, error)) {
+            finish(job);
+        } else {
+            save(job);
+        }
+    }
+
+    /**
+     * 스냅샷은 락 안에서 버전과 함께 만들고 Redis에는 더 높은 버전만 반영
+     * (락 밖 저장 순서가 뒤바뀌어도 이전 스냅샷이 최신 상태를 덮어쓰지 않음)
+     */
+    private JdImportJobResponse save(ImportJob job) {
+        ImportJob.VersionedSnapshot versioned = job.versionedSnapshot();
+        jobStore.save(versioned.snapshot(), versioned.version());
+        return versioned.snapshot();
+    }
+
+    private void finish(ImportJob job) {
+        warmJdList(job);
+        JdImportJobResponse snapshot = save(job);
+        log.info("JD import completed: jobId={}, rows={}, imported={}, invalid={}, analyzed={}, analysisFailed={}",
+                job.jobId, snapshot.getTotalRows(), snapshot.getImported(), snapshot.getInvalid(),
+                snapshot.getAnalyzed(), snapshot.getAnalysisFailed());
+    }
+
+    private void warmJdList(ImportJob job) {
+        if (job.snapshot().getImported() == 0) {
+            return;
+        }
+        try {
+            jdService.warmJdList(job.userId);
+        } catch (Exception e) {
+            log.warn("jd-list warm-up failed: userId={}, error={}", job.userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 아직 대기 중인 분석을 회수할 수 있도록 시작 여부를 pendingAnalyses 제거로 판정
+     * (종료 처리와 워커 중 먼저 제거한 쪽만 집계)
+     */
+    private final class AnalysisTask implements Runnable {
+
+        private final ImportJob job;
+        private final Long jdId;
+        private final String jdText;
+
+        private AnalysisTask(ImportJob job, Long jdId, String jdText) {
+            this.job = job;
+            this.jdId = jdId;
+            this.jdText = jdText;
+        }
+
+        @Override
+        public void run() {
+            if (pendingAnalyses.remove(this)) {
+                analyze(job, jdId, jdText);
+            }
+        }
+    }
+
+    /**
+     * 작업 집계 - 업로드 스레드와 분석 스레드에서 호출되므로 동기화
+     * 완료 판정(등록 종료 + 분석 완료 수 == 등록 수)은 정확히 한 호출에서만 true
+     */
+    private static final class ImportJob {
+
+        private final String jobId;
+        private final Long userId;
+        private final String format;
+        private final int maxErrors;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final List<String> errors = new ArrayList<>();
+        private JdImportJobResponse.Status status = JdImportJobResponse.Status.IMPORTING;
+        private int totalRows;
+        private int imported;
+        private int invalid;
+        private int analyzed;
+        private int analysisFailed;
+        private LocalDateTime finishedAt;
+        private long version;
+
+        private ImportJob(String jobId, Long userId, String format, int maxErrors) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.format = format;
+            this.maxErrors = maxErrors;
+        }
+
+        synchronized int totalRows() {
+            return totalRows;
+        }
+
+        synchronized void rowAccepted() {
+            totalRows++;
+        }
+
+        synchronized void invalid(String error) {
+            totalRows++;
+            invalid++;
+            error(error);
+        }
+
+        synchronized void chunkFailed(int rows, String error) {
+            invalid += rows;
+            error(error);
+        }
+
+        synchronized void imported(int rows) {
+            imported += rows;
+        }
+
+        synchronized void error(String error) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+
+        synchronized boolean analysisDone(boolean success, String error) {
+            if (success) {
+                analyzed++;
+            } else {
+                analysisFailed++;
+                error(error);
+            }
+            return completeIfDone();
+        }
+
+        synchronized boolean analysesAbandoned(int count, String error) {
+            analysisFailed += count;
+            error(error);
+            return completeIfDone();
+        }
+
+        synchronized boolean insertFinished() {
+            status = JdImportJobResponse.Status.ANALYZING;
+            return completeIfDone();
+        }
+
+        private boolean completeIfDone() {
+            if (status != JdImportJobResponse.Status.ANALYZING || analyzed + analysisFailed < imported) {
+                return false;
+            }
+            status = JdImportJobResponse.Status.COMPLETED;
+            finishedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized VersionedSnapshot versionedSnapshot() {
+            return new VersionedSnapshot(++version, snapshot());
+        }
+
+        synchronized JdImportJobResponse snapshot() {
+            return JdImportJobResponse.builder()
+                    .jobId(jobId)
+                    .userId(userId)
+                    .status(status)
+                    .format(format)
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .invalid(invalid)
+                    .analyzed(analyzed)
+                    .analysisFailed(analysisFailed)
+                    .errors(List.copyOf(errors))
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+
+        private record VersionedSnapshot(long version, JdImportJobResponse snapshot) {
+        }
+    }
+}
@@ -6,11 +6,16 @@ import com.interviewcoach.question.application.dto.response.JdResponse;
 import com.interviewcoach.question.domain.entity.JobDescription;
 import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
 import com.interviewcoach.question.exception.JdNotFoundException;
+import com.interviewcoach.question.infrastructure.cache.QuestionSetCache;
+import com.interviewcoach.question.infrastructure.config.CacheConfig;
 import com.interviewcoach.question.infrastructure.llm.LlmClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +29,8 @@ public class JdService {
 
     private final JobDescriptionRepository jdRepository;
     private final LlmClient llmClient;
+    private final QuestionSetCache questionSetCache;
+    private final CacheManager cacheManager;
 
     @Transactional
     @CacheEvict(value = "jd-list", key = "#userId")
@@ -45,21 +52,39 @@ public class JdService {
     // [B-4] Redis 캐싱 적용 (TTL 5분)
     // Before: 매 요청마다 DB 조회 → P50 50ms
     // After: @Cacheable → 캐시 히트 시 8ms, 히트율 90%+
-    @Cacheable(value = "jd-list", key = "#userId")
+    // [B-30] sync = true → NearCache 로더 경로 (키별 합류 + 만료 전 조기 재계산)
+    @Cacheable(value = "jd-list", key = "#userId", sync = true)
     public List<JdResponse> getJdList(Long userId) {
         return jdRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
                 .map(JdResponse::from)
                 .toList();
     }
 
+    /**
+     * [B-33] 일괄 등록 후 목록 캐시 워밍
+     * evict(pub/sub로 다른 파드 L1까지 무효화) 후 새 목록 적재 → 커밋 이후 순서대로 반영, 다음 조회는 DB 미스 없음
+     */
+    public List<JdResponse> warmJdList(Long userId) {
+        List<JdResponse> jds = jdRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(JdResponse::from)
+                .toList();
+        Cache jdList = cacheManager.getCache(CacheConfig.JD_LIST);
+        if (jdList != null) {
+            jdList.evict(userId);
+            jdList.put(userId, jds);
+        }
+        return jds;
+    }
+
     // [B-4] 단건 조회도 캐싱 적용
-    @Cacheable(value = "jd-detail", key = "#jdId")
+    @Cacheable(value = "jd-detail", key = "#jdId", sync = true)
     public JdResponse getJd(Long jdId) {
         JobDescription jd = jdRepository.findById(jdId)
                 .orElseThrow(() -> new JdNotFoundException(jdId));
         return JdResponse.from(jd);
     }
 
+    // [B-28] 분석 결과(parsedSkills 등)는 목록 응답에도 포함 → 소유자의 jd-list도 함께 무효화
     @Transactional
     @CacheEvict(value = {"jd-detail"}, key = "#jdId")
     public JdAnalysisResponse analyzeJd(Long jdId) {
@@ -73,6 +98,7 @@ public class JdService {
 
         // 분석 결과 저장
         jd.updateParsedData(result.skills(), result.requirements());
+        evictJdList(jd.getUserId());
 
         log.info("JD analysis completed: id={}, skills={}, requirements={}",
                 jdId, result.skills().size(), result.requirements().size());
@@ -85,8 +111,13 @@ public class JdService {
                 .build();
     }
 
+    // [B-28] Before: allEntries = true → 한 사용자의 삭제가 전체 사용자 캐시를 비워 DB 미스 폭주
+    // After: 삭제한 사용자의 목록 + 해당 JD 단건만 무효화
     @Transactional
-    @CacheEvict(value = {"jd-list", "jd-detail"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "jd-list", key = "#userId"),
+            @CacheEvict(value = "jd-detail", key = "#jdId")
+    })
     public void deleteJd(Long userId, Long jdId) {
         JobDescription jd = jdRepository.findById(jdId)
                 .orElseThrow(() -> new JdNotFoundException(jdId));
@@ -97,6 +128,15 @@ public class JdService {
         }
 
         jdRepository.delete(jd);
+        questionSetCache.invalidateAfterCommit(jdId);
         log.info("Deleted JD: id={}, userId={}", jdId, userId);
     }
+
+    // 트랜잭션 인지 캐시(CacheConfig)이므로 실제 삭제는 커밋 이후에 수행
+    private void evictJdList(Long userId) {
+        Cache jdList = cacheManager.getCache(CacheConfig.JD_LIST);
+        if (jdList != null) {
+            jdList.evict(userId);
+        }
+    }
 }
@@ -0,0 +1,384 @@
+package com.interviewcoach.question.application.service;
+
+import com.interviewcoach.question.application.dto.request.BatchGenerateQuestionsRequest;
+import com.interviewcoach.question.application.dto.response.BatchGenerationProgress;
+import com.interviewcoach.question.application.dto.response.BatchGenerationResponse;
+import com.interviewcoach.question.application.dto.response.QuestionResponse;
+import com.interviewcoach.question.domain.entity.GeneratedQuestion;
+import com.interviewcoach.question.domain.entity.JobDescription;
+import com.interviewcoach.question.domain.repository.GeneratedQuestionRepository;
+import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
+import com.interviewcoach.question.exception.BatchGenerationBusyException;
+import com.interviewcoach.question.infrastructure.cache.QuestionSetCache;
+import com.interviewcoach.question.infrastructure.config.BatchGenerationProperties;
+import com.interviewcoach.question.infrastructure.llm.LlmClient;
+import com.interviewcoach.question.infrastructure.llm.LlmClient.BatchJdInput;
+import com.interviewcoach.question.infrastructure.rag.QuestionEmbeddingService;
+import com.interviewcoach.question.infrastructure.rag.SimilarQuestionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * [B-32] 여러 JD 질문 일괄 생성
+ *
+ * 문제: JD를 수십 개 올린 뒤 /generate를 JD마다 순차 호출
+ *       → JD마다 RAG 검색 1회 + LLM 호출 1회(공통 지시문 반복) + DELETE/INSERT 다수 round trip
+ *
+ * 해결:
+ *       - JD 조회 findAllById 1회 (요청자 소유 JD만 대상, 나머지는 FAILED), RAG 검색은 워커 풀에서 병렬
+ *       - 프롬프트 1회에 여러 JD를 묶어 생성 (공통 지시문 / 유사 질문은 한 번만 포함)
+ *       - 프롬프트 단위로 DELETE 1문장 + saveAll(JDBC batch), 임베딩은 embedAll + addAll 1회
+ *       - JD별 완료/실패를 SSE progress 이벤트로 전송, 마지막에 complete 이벤트로 요약
+ *       - LLM 호출은 트랜잭션 밖에서 수행 (DB 커넥션은 저장 구간에만 점유)
+ */
+@Slf4j
+@Service
+public class QuestionBatchGenerationService {
+
+    private static final int RAG_SIMILAR_QUESTION_LIMIT = 5;
+    private static final List<String> DEFAULT_SKILLS = List.of("Java", "Spring Boot", "JPA");
+
+    private final JobDescriptionRepository jdRepository;
+    private final GeneratedQuestionRepository questionRepository;
+    private final LlmClient llmClient;
+    private final QuestionEmbeddingService embeddingService;
+    private final QuestionSetCache questionSetCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchGenerationProperties properties;
+    private final Executor coordinatorExecutor;
+    private final Executor workerExecutor;
+
+    public QuestionBatchGenerationService(
+            JobDescriptionRepository jdRepository,
+            GeneratedQuestionRepository questionRepository,
+            LlmClient llmClient,
+            QuestionEmbeddingService embeddingService,
+            QuestionSetCache questionSetCache,
+            PlatformTransactionManager transactionManager,
+            BatchGenerationProperties properties,
+            @Qualifier("batchCoordinatorExecutor") Executor coordinatorExecutor,
+            @Qualifier("batchWorkerExecutor") Executor workerExecutor) {
+        this.jdRepository = jdRepository;
+        this.questionRepository = questionRepository;
+        this.llmClient = llmClient;
+        this.embeddingService = embeddingService;
+        this.questionSetCache = questionSetCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.coordinatorExecutor = coordinatorExecutor;
+        this.workerExecutor = workerExecutor;
+    }
+
+    /**
+     * 일괄 생성을 코디네이터 풀에서 시작하고 진행 상황을 SSE로 전송
+     * 클라이언트가 끊겨도 생성/저장은 끝까지 진행
+     */
+    public SseEmitter streamBatch(Long userId, BatchGenerateQuestionsRequest request) {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        ProgressStream stream = new ProgressStream(emitter);
+
+        try {
+            coordinatorExecutor.execute(() -> {
+                try {
+                    stream.complete(generateBatch(userId, request, stream::progress));
+                } catch (Exception e) {
+                    log.error("Batch question generation failed: userId={}, error={}", userId, e.getMessage(), e);
+                    stream.fail(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new BatchGenerationBusyException();
+        }
+        return emitter;
+    }
+
+    public BatchGenerationResponse generateBatch(Long userId, BatchGenerateQuestionsRequest request,
+                                                 Consumer<BatchGenerationProgress> listener) {
+        long startTime = System.nanoTime();
+        List<Long> jdIds = request.getJdIds().stream().distinct().toList();
+        String questionType = request.getQuestionType() != null ? request.getQuestionType() : "mixed";
+        int count = request.getCount();
+        int difficulty = request.getDifficulty();
+        ProgressTracker tracker = new ProgressTracker(jdIds.size(), listener);
+
+        log.info("Batch generating questions: userId={}, jds={}, type={}, count={}, difficulty={}",
+                userId, jdIds.size(), questionType, count, difficulty);
+
+        // 다른 사용자의 JD는 없는 JD와 같게 처리 (존재 여부를 노출하지 않음)
+        Map<Long, JobDescription> jdsById = jdRepository.findAllById(jdIds).stream()
+                .filter(jd -> userId.equals(jd.getUserId()))
+                .collect(Collectors.toMap(JobDescription::getId, Function.identity()));
+        jdIds.stream()
+                .filter(jdId -> !jdsById.containsKey(jdId))
+                .forEach(jdId -> tracker.failed(jdId, "JD를 찾을 수 없습니다: " + jdId));
+
+        // RAG 검색 병렬 (요청 순서 유지)
+        List<CompletableFuture<BatchJdInput>> inputFutures = jdIds.stream()
+                .map(jdsById::get)
+                .filter(Objects::nonNull)
+                .map(jd -> CompletableFuture.supplyAsync(() -> toBatchInput(jd, questionType), workerExecutor))
+                .toList();
+        List<BatchJdInput> inputs = inputFutures.stream().map(CompletableFuture::join).toList();
+
+        List<List<BatchJdInput>> prompts = packIntoPrompts(inputs, count);
+        CompletableFuture.allOf(prompts.stream()
+                .map(prompt -> CompletableFuture.runAsync(
+                        () -> generateAndStore(prompt, jdsById, questionType, count, difficulty, tracker),
+                        workerExecutor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("Batch generation finished: jds={}, succeeded={}, questions={}, prompts={}, {}ms",
+                jdIds.size(), tracker.succeeded(), tracker.totalQuestions(), prompts.size(), elapsedMillis);
+
+        return BatchGenerationResponse.builder()
+                .totalJds(jdIds.size())
+                .succeeded(tracker.succeeded())
+                .failedJdIds(tracker.failedJdIds())
+                .totalQuestions(tracker.totalQuestions())
+                .llmPrompts(prompts.size())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * JD별 질문 수와 원문 길이 기준으로 프롬프트 단위 분할 (요청 순서 유지)
+     */
+    List<List<BatchJdInput>> packIntoPrompts(List<BatchJdInput> inputs, int count) {
+        int jdsPerPrompt = properties.jdsPerPrompt(count);
+        List<List<BatchJdInput>> prompts = new ArrayList<>();
+        List<BatchJdInput> current = new ArrayList<>();
+        int currentChars = 0;
+
+        for (BatchJdInput input : inputs) {
+            int chars = input.jdText() != null ? input.jdText().length() : 0;
+            if (!current.isEmpty()
+                    && (current.size() >= jdsPerPrompt || currentChars + chars > properties.getMaxJdCharsPerPrompt())) {
+                prompts.add(current);
+                current = new ArrayList<>();
+                currentChars = 0;
+            }
+            current.add(input);
+            currentChars += chars;
+        }
+        if (!current.isEmpty()) {
+            prompts.add(current);
+        }
+        return prompts;
+    }
+
+    private BatchJdInput toBatchInput(JobDescription jd, String questionType) {
+        List<String> skills = jd.getParsedSkills();
+        if (skills == null || skills.isEmpty()) {
+            skills = DEFAULT_SKILLS;
+        }
+        return new BatchJdInput(jd.getId(), jd.getOriginalText(), skills,
+                findSimilarQuestionsForContext(jd.getOriginalText(), questionType, skills));
+    }
+
+    private List<SimilarQuestionResult> findSimilarQuestionsForContext(
+            String jdText, String questionType, List<String> skills) {
+        if (!embeddingService.isAvailable()) {
+            return List.of();
+        }
+
+        try {
+            return embeddingService.findSimilarQuestions(jdText, questionType, skills, RAG_SIMILAR_QUESTION_LIMIT);
+        } catch (Exception e) {
+            log.warn("Failed to find similar questions: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void generateAndStore(List<BatchJdInput> prompt, Map<Long, JobDescription> jdsById,
+                                  String questionType, int count, int difficulty, ProgressTracker tracker) {
+        Map<Long, List<GeneratedQuestion>> savedByJd;
+        try {
+            Map<Long, List<LlmClient.GeneratedQuestionResult>> results =
+                    llmClient.generateQuestionsBatch(prompt, questionType, count, difficulty);
+            savedByJd = replaceQuestions(results);
+        } catch (Exception e) {
+            log.error("Batch prompt failed: jdIds={}, error={}",
+                    prompt.stream().map(BatchJdInput::jdId).toList(), e.getMessage());
+            prompt.forEach(input -> tracker.failed(input.jdId(), "질문 생성에 실패했습니다"));
+            return;
+        }
+
+        storeEmbeddings(savedByJd, jdsById);
+        savedByJd.forEach((jdId, questions) -> tracker.completed(jdId, questions.size()));
+    }
+
+    /**
+     * 프롬프트에 포함된 JD들의 질문을 트랜잭션 1회로 교체
+     * DELETE 1문장 + saveAll (SEQUENCE id 선할당 → JDBC batch INSERT)
+     */
+    private Map<Long, List<GeneratedQuestion>> replaceQuestions(
+            Map<Long, List<LlmClient.GeneratedQuestionResult>> results) {
+        return transactionTemplate.execute(status -> {
+            questionRepository.deleteAllByJdIdIn(results.keySet());
+
+            List<GeneratedQuestion> questions = results.entrySet().stream()
+                    .flatMap(entry -> entry.getValue().stream().map(r -> GeneratedQuestion.builder()
+                            .jdId(entry.getKey())
+                            .questionType(r.questionType())
+                            .skillCategory(r.skillCategory())
+                            .questionText(r.questionText())
+                            .hint(r.hint())
+                            .idealAnswer(r.idealAnswer())
+                            .difficulty(r.difficulty())
+                            .build()))
+                    .toList();
+            List<GeneratedQuestion> saved = questionRepository.saveAll(questions);
+
+            Map<Long, List<GeneratedQuestion>> savedByJd = new LinkedHashMap<>();
+            results.keySet().forEach(jdId -> savedByJd.put(jdId, new ArrayList<>()));
+            saved.forEach(question -> savedByJd.get(question.getJdId()).add(question));
+
+            // [B-27] 커밋 이후 버전 증가 + 새 세트로 교체
+            savedByJd.forEach((jdId, jdQuestions) -> questionSetCache.replaceAfterCommit(jdId,
+                    jdQuestions.stream().map(QuestionResponse::from).toList()));
+            return savedByJd;
+        });
+    }
+
+    private void storeEmbeddings(Map<Long, List<GeneratedQuestion>> savedByJd, Map<Long, JobDescription> jdsById) {
+        if (!embeddingService.isAvailable()) {
+            return;
+        }
+
+        try {
+            savedByJd.keySet().forEach(embeddingService::deleteByJdId);
+            List<GeneratedQuestion> questions = savedByJd.values().stream().flatMap(List::stream).toList();
+            embeddingService.storeQuestionsForJds(questions, jdsById);
+        } catch (Exception e) {
+            // 임베딩 저장 실패는 로그만 남기고 진행
+            log.error("Failed to store batch question embeddings: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * JD별 완료/실패 집계 - 여러 워커 스레드에서 호출되므로 동기화
+     */
+    private static final class ProgressTracker {
+
+        private final int total;
+        private final Consumer<BatchGenerationProgress> listener;
+        private final List<Long> failedJdIds = new ArrayList<>();
+        private int completed;
+        private int succeeded;
+        private int totalQuestions;
+
+        private ProgressTracker(int total, Consumer<BatchGenerationProgress> listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        synchronized void completed(Long jdId, int questionCount) {
+            succeeded++;
+            totalQuestions += questionCount;
+            publish(BatchGenerationProgress.builder()
+                    .jdId(jdId)
+                    .status(BatchGenerationProgress.Status.COMPLETED)
+                    .questionCount(questionCount));
+        }
+
+        synchronized void failed(Long jdId, String message) {
+            failedJdIds.add(jdId);
+            publish(BatchGenerationProgress.builder()
+                    .jdId(jdId)
+                    .status(BatchGenerationProgress.Status.FAILED)
+                    .message(message));
+        }
+
+        synchronized int succeeded() {
+            return succeeded;
+        }
+
+        synchronized int totalQuestions() {
+            return totalQuestions;
+        }
+
+        synchronized List<Long> failedJdIds() {
+            return List.copyOf(failedJdIds);
+        }
+
+        private void publish(BatchGenerationProgress.BatchGenerationProgressBuilder progress) {
+            completed++;
+            try {
+                listener.accept(progress.completed(completed).total(total).build());
+            } catch (Exception e) {
+                log.debug("Batch progress listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * SSE 전송 - 연결이 끊기면 이후 이벤트는 버리고 생성은 계속 진행
+     */
+    private static final class ProgressStream {
+
+        private final SseEmitter emitter;
+        private long eventId;
+        private boolean closed;
+
+        private ProgressStream(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(e -> close());
+        }
+
+        synchronized void progress(BatchGenerationProgress progress) {
+            send("progress", progress);
+        }
+
+        synchronized void complete(BatchGenerationResponse summary) {
+            send("complete", summary);
+            if (!closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+
+        synchronized void fail(Exception e) {
+            if (!closed) {
+                closed = true;
+                emitter.completeWithError(e);
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+        }
+
+        private void send(String name, Object data) {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().id(String.valueOf(++eventId)).name(name).data(data));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Batch progress stream closed: {}", e.getMessage());
+                closed = true;
+            }
+        }
+    }
+}
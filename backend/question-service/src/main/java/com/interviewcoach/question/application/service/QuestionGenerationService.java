@@ -8,6 +8,7 @@ import com.interviewcoach.question.domain.entity.JobDescription;
 import com.interviewcoach.question.domain.repository.GeneratedQuestionRepository;
 import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
 import com.interviewcoach.question.exception.JdNotFoundException;
+import com.interviewcoach.question.infrastructure.cache.QuestionSetCache;
 import com.interviewcoach.question.infrastructure.llm.LlmClient;
 import com.interviewcoach.question.infrastructure.rag.QuestionEmbeddingService;
 import com.interviewcoach.question.infrastructure.rag.SimilarQuestionResult;
@@ -29,6 +30,7 @@ public class QuestionGenerationService {
     private final GeneratedQuestionRepository questionRepository;
     private final LlmClient llmClient;
     private final QuestionEmbeddingService embeddingService;
+    private final QuestionSetCache questionSetCache;
 
     @Transactional
     public GeneratedQuestionsResponse generateQuestions(Long userId, GenerateQuestionsRequest request) {
@@ -115,6 +117,9 @@ public class QuestionGenerationService {
                 .map(QuestionResponse::from)
                 .toList();
 
+        // [B-27] 커밋 이후 버전 증가 + 새 세트로 교체 (이전 세트를 읽은 요청의 캐시 저장은 거부됨)
+        questionSetCache.replaceAfterCommit(jd.getId(), questionResponses);
+
         return GeneratedQuestionsResponse.builder()
                 .jdId(jd.getId())
                 .totalCount(questionResponses.size())
@@ -157,10 +162,15 @@ public class QuestionGenerationService {
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * [B-27] JD별 질문 조회 (면접 시작마다 호출)
+     * Before: 매 호출 Postgres 조회
+     * After: Redis 1 round trip (버전 + 데이터), 미스 시에만 DB 조회 후 버전이 그대로일 때만 저장
+     * [B-30] 같은 JD의 동시 미스는 DB 조회 1회에 합류
+     */
     public List<QuestionResponse> getQuestionsByJd(Long jdId) {
-        return questionRepository.findByJdId(jdId).stream()
+        return questionSetCache.getOrLoad(jdId, () -> questionRepository.findByJdId(jdId).stream()
                 .map(QuestionResponse::from)
-                .toList();
+                .toList());
     }
 }
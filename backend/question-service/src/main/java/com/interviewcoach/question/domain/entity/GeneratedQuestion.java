@@ -1,11 +1,17 @@
 package com.interviewcoach.question.domain.entity;
 
+import com.interviewcoach.question.infrastructure.cache.EntityCacheInvalidation;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
+// [B-31] 2차 캐시 - 생성 후 수정 없음 (재생성은 삭제 + 삽입)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = EntityCacheInvalidation.GENERATED_QUESTION_REGION)
 @Table(name = "generated_questions")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -13,8 +19,10 @@ import java.time.LocalDateTime;
 @Builder
 public class GeneratedQuestion {
 
+    // [B-32] IDENTITY는 INSERT마다 id를 돌려받아야 해서 JDBC batch 불가 → SEQUENCE(pooled-lo)로 id 선할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "generated_question_seq")
+    @SequenceGenerator(name = "generated_question_seq", sequenceName = "generated_questions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "jd_id")
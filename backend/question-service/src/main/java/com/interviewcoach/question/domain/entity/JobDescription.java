@@ -1,7 +1,10 @@
 package com.interviewcoach.question.domain.entity;
 
+import com.interviewcoach.question.infrastructure.cache.EntityCacheInvalidation;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -9,7 +12,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// [B-31] 2차 캐시 - 분석(updateParsedData) 시 리전 갱신, 다른 파드는 jd-detail 무효화 메시지로 evict
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheInvalidation.JOB_DESCRIPTION_REGION)
 @Table(name = "job_descriptions")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,8 +23,10 @@ import java.util.List;
 @Builder
 public class JobDescription {
 
+    // [B-33] 일괄 등록 INSERT batch를 위해 SEQUENCE(pooled-lo)로 id 선할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_description_seq")
+    @SequenceGenerator(name = "job_description_seq", sequenceName = "job_descriptions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
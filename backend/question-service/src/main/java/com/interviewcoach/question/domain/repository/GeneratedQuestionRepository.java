@@ -1,15 +1,33 @@
 package com.interviewcoach.question.domain.repository;
 
 import com.interviewcoach.question.domain.entity.GeneratedQuestion;
+import com.interviewcoach.question.infrastructure.cache.EntityCacheInvalidation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GeneratedQuestionRepository extends JpaRepository<GeneratedQuestion, Long> {
 
+    // [B-31] 쿼리 캐시 - 같은 파드의 삭제/삽입은 Hibernate가, 다른 파드는 questions-by-jd 무효화 메시지가 evict
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheInvalidation.QUESTIONS_BY_JD_QUERY_REGION)
+    })
     List<GeneratedQuestion> findByJdId(Long jdId);
 
     List<GeneratedQuestion> findByJdIdAndQuestionType(Long jdId, String questionType);
 
     void deleteByJdId(Long jdId);
+
+    // [B-32] 일괄 재생성용 - 파생 delete(엔티티 조회 후 1건씩 DELETE) 대신 DELETE 1문장
+    @Modifying
+    @Query("DELETE FROM GeneratedQuestion q WHERE q.jdId IN :jdIds")
+    int deleteAllByJdIdIn(@Param("jdIds") Collection<Long> jdIds);
 }
@@ -0,0 +1,8 @@
+package com.interviewcoach.question.exception;
+
+public class BatchGenerationBusyException extends RuntimeException {
+
+    public BatchGenerationBusyException() {
+        super("진행 중인 일괄 생성 요청이 많아 잠시 후 다시 시도해주세요");
+    }
+}
@@ -0,0 +1,8 @@
+package com.interviewcoach.question.exception;
+
+public class JdImportJobNotFoundException extends RuntimeException {
+
+    public JdImportJobNotFoundException(String jobId) {
+        super("JD 일괄 등록 작업을 찾을 수 없습니다: " + jobId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [B-30] 캐시 값 + XFetch 메타데이터 (L1/L2 공통 저장 형태)
+ *
+ * @param value       캐시 값
+ * @param deltaMillis 값 재계산(로더 실행)에 걸린 시간
+ * @param expiresAt   논리 만료 시각 (epoch ms, Redis TTL과 동일 시점)
+ */
+public record CacheEnvelope<T>(
+        @JsonProperty("v") T value,
+        @JsonProperty("d") long deltaMillis,
+        @JsonProperty("e") long expiresAt
+) {
+
+    /**
+     * XFetch (Vattani et al.): now - delta * beta * ln(rand) >= expiry 이면 만료 전에 미리 재계산
+     * 재계산 비용(delta)이 크고 만료가 가까울수록 확률이 올라가며, 동시 요청 중 소수만 재계산
+     */
+    public boolean shouldRefreshEarly(long now, double beta) {
+        if (deltaMillis <= 0 || beta <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return now - deltaMillis * beta * Math.log(random) >= expiresAt;
+    }
+}
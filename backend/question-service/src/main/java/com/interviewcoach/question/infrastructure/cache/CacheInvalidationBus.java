@@ -0,0 +1,108 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * [B-29] L1 무효화 pub/sub (파드 간)
+ *
+ * 문제: 파드 로컬 L1은 다른 파드의 evict를 알 수 없음 → L1 TTL 동안 이전 값 응답
+ *
+ * 해결:
+ *       - evict/clear 시 question:cache-invalidation 채널에 {origin, cache, key} 발행 (key 없음 = 전체)
+ *       - 모든 파드가 구독 → 자신이 보낸 메시지는 무시하고 해당 L1 키만 제거
+ *       - pub/sub은 전달 보장이 없음 (재연결 중 유실 등) → 유실 시 불일치는 L1 TTL 이내로 제한
+ *
+ * [B-31] 캐시 이름별로 여러 핸들러 등록 가능 (L1 + Hibernate 2차 캐시 리전)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "question:cache-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, List<InvalidationHandler>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void register(LocalCacheTier tier) {
+        register(tier.getName(), key -> {
+            if (key == null) {
+                tier.invalidateAll();
+            } else {
+                tier.invalidate(key);
+            }
+        });
+    }
+
+    public void register(String cacheName, InvalidationHandler handler) {
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * @param key null이면 캐시 전체 무효화
+     */
+    public void publish(String cacheName, String key) {
+        Map<String, String> message = new HashMap<>();
+        message.put("origin", instanceId);
+        message.put("cache", cacheName);
+        message.put("key", key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 다른 파드의 L1은 TTL 이내에 만료
+            log.warn("Cache invalidation publish failed: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Map<String, String> fields;
+        try {
+            fields = objectMapper.readValue(message.getBody(),
+                    objectMapper.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            return;
+        }
+
+        if (instanceId.equals(fields.get("origin"))) {
+            return;
+        }
+        String key = fields.get("key");
+        for (InvalidationHandler handler : handlers.getOrDefault(fields.get("cache"), List.of())) {
+            try {
+                handler.invalidate(key);
+            } catch (Exception e) {
+                log.warn("Cache invalidation handler failed: cache={}, key={}, error={}",
+                        fields.get("cache"), key, e.getMessage());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface InvalidationHandler {
+
+        /**
+         * @param key null이면 캐시 전체 무효화
+         */
+        void invalidate(String key);
+    }
+}
@@ -0,0 +1,69 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [B-29] tier별 히트/미스 + 조회 지연 집계
+ *
+ * - cache.tier.gets{tier=l1|l2, result=hit|miss}
+ *   L1 히트율 = l1 hit / (l1 hit + l1 miss), L2 히트율은 L1 미스 중 L2 히트 비율
+ * - cache.tier.latency{tier=l1|l2} (FunctionTimer → 평균 지연 = rate(sum) / rate(count))
+ */
+public class CacheTierStats {
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder l1Nanos = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder l2Nanos = new LongAdder();
+
+    public void recordL1(boolean hit, long nanos) {
+        (hit ? l1Hits : l1Misses).increment();
+        l1Nanos.add(nanos);
+    }
+
+    public void recordL2(boolean hit, long nanos) {
+        (hit ? l2Hits : l2Misses).increment();
+        l2Nanos.add(nanos);
+    }
+
+    // 캐시 전체 기준: 어느 tier든 히트면 히트, L2까지 미스면 미스
+    public long hits() {
+        return l1Hits.sum() + l2Hits.sum();
+    }
+
+    public long misses() {
+        return l2Misses.sum();
+    }
+
+    public void bindTo(MeterRegistry registry, Iterable<Tag> tags) {
+        bindTier(registry, tags, "l1", l1Hits, l1Misses, l1Nanos);
+        bindTier(registry, tags, "l2", l2Hits, l2Misses, l2Nanos);
+    }
+
+    private void bindTier(MeterRegistry registry, Iterable<Tag> tags, String tier,
+                          LongAdder hits, LongAdder misses, LongAdder nanos) {
+        Tags tierTags = Tags.concat(tags, "tier", tier);
+        FunctionCounter.builder("cache.tier.gets", hits, LongAdder::sum)
+                .tags(tierTags).tag("result", "hit")
+                .description("Cache lookups per tier")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.gets", misses, LongAdder::sum)
+                .tags(tierTags).tag("result", "miss")
+                .description("Cache lookups per tier")
+                .register(registry);
+        FunctionTimer.builder("cache.tier.latency", this,
+                        stats -> hits.sum() + misses.sum(), stats -> nanos.sum(), TimeUnit.NANOSECONDS)
+                .tags(tierTags)
+                .description("Cache lookup latency per tier")
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.interviewcoach.question.domain.entity.JobDescription;
+import com.interviewcoach.question.infrastructure.config.CacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * [B-31] Hibernate 2차 캐시(파드 로컬) 파드 간 무효화
+ *
+ * 문제: READ_WRITE 전략은 변경한 파드의 리전만 갱신 → 다른 파드는 리전 TTL 동안 이전 엔티티 응답
+ *       (예: 다른 파드에서 분석한 JD를 jd-detail 재적재 시 이전 parsedSkills로 다시 캐싱)
+ *
+ * 해결: 이미 발행되는 애플리케이션 캐시 무효화 메시지에 리전 무효화를 연결
+ *       - jd-detail {jdId}      → JobDescription 엔티티 evict (분석 / 삭제)
+ *       - questions-by-jd {jdId} → JD별 질문 쿼리 캐시 리전 evict (재생성 / JD 삭제)
+ */
+@Component
+public class EntityCacheInvalidation {
+
+    public static final String JOB_DESCRIPTION_REGION = "job-description";
+    public static final String GENERATED_QUESTION_REGION = "generated-question";
+    public static final String QUESTIONS_BY_JD_QUERY_REGION = "generated-questions-by-jd";
+
+    public EntityCacheInvalidation(CacheInvalidationBus invalidationBus, EntityManagerFactory entityManagerFactory) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        invalidationBus.register(CacheConfig.JD_DETAIL, key -> {
+            if (key == null) {
+                sessionFactory.getCache().evictEntityData(JobDescription.class);
+            } else {
+                sessionFactory.getCache().evictEntityData(JobDescription.class, Long.valueOf(key));
+            }
+        });
+        // 쿼리 결과는 키 단위로 지울 수 없으므로 리전 전체 evict (재생성 빈도가 낮아 비용 작음)
+        invalidationBus.register(QuestionSetCache.CACHE_NAME,
+                key -> sessionFactory.getCache().evictQueryRegion(QUESTIONS_BY_JD_QUERY_REGION));
+    }
+}
@@ -0,0 +1,70 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [B-29] 파드 로컬 L1 (Caffeine, 캐시 이름별 TTL / 최대 크기)
+ *
+ * 키는 Redis 키와 같은 문자열 표현으로 통일 → pub/sub 무효화 메시지의 키로 그대로 사용
+ *
+ * L2 조회 도중 무효화가 도착하면 조회 결과(이전 값)가 무효화 이후에 적재될 수 있음
+ * → 무효화마다 epoch 증가, 조회 시작 시점의 epoch와 다르면 적재하지 않음
+ */
+public class LocalCacheTier {
+
+    private final String name;
+    private final Cache<String, Object> cache;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public LocalCacheTier(String name, Duration ttl, long maximumSize) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long epoch() {
+        return epoch.get();
+    }
+
+    public void put(String key, Object value) {
+        cache.put(key, value);
+    }
+
+    /**
+     * L2에서 읽은 값 적재 - 조회 시작(epochAtLookup) 이후 무효화가 있었다면 버림
+     */
+    public void putIfUnchanged(String key, Object value, long epochAtLookup) {
+        cache.put(key, value);
+        if (epoch.get() != epochAtLookup) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidate(String key) {
+        epoch.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
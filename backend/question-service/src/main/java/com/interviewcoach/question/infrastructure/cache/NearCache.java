@@ -0,0 +1,249 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [B-28] 로컬(Caffeine) + Redis 2단 캐시
+ *
+ * 문제: @Cacheable 히트마다 Redis round trip + 역직렬화 (같은 JD를 여러 번 조회하는 면접 준비 화면)
+ *
+ * 해결:
+ *       - L1: 파드 로컬 Caffeine (LocalCacheTier, 캐시 이름별 TTL)
+ *       - L2: 기존 공유 Redis 캐시 (미스 시 L1에 채움)
+ *       - [B-29] evict/clear는 CacheInvalidationBus로 다른 파드의 L1에도 전파
+ *       - Redis 장애 / 역직렬화 실패(이전 포맷 값)는 미스로 처리 → DB 조회로 대체
+ *       - Redis 쓰기/삭제 실패도 로그만 남기고 진행 → 로더 결과는 그대로 반환 (L1에는 적재, 다른 파드는 TTL로 수렴)
+ *       - 캐시 전체 히트/미스 + tier별 히트/지연(CacheTierStats)을 NearCacheMetrics로 노출
+ *
+ * [B-30] 캐시 스탬피드 방지 (@Cacheable(sync = true) → get(key, valueLoader) 경로)
+ *       - 값은 CacheEnvelope(값, 재계산 시간, 만료 시각)로 저장
+ *       - XFetch: 만료 전에 확률적으로 한 요청만 미리 재계산, 나머지는 기존 값 응답
+ *       - 같은 파드의 동시 미스는 키별로 하나의 로더 실행에 합류 (request coalescing)
+ */
+@Slf4j
+public class NearCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final LocalCacheTier local;
+    private final RedisCache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final long ttlMillis;
+    private final double earlyRefreshBeta;
+    private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final CacheTierStats tierStats = new CacheTierStats();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    public NearCache(String name, LocalCacheTier local, RedisCache remote, CacheInvalidationBus invalidationBus,
+                     Duration ttl, double earlyRefreshBeta) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.ttlMillis = ttl.toMillis();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheEnvelope<?> envelope = lookupEnvelope(key);
+        return envelope != null ? envelope.value() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope<?> envelope = lookupEnvelope(key);
+        if (envelope != null) {
+            if (!envelope.shouldRefreshEarly(System.currentTimeMillis(), earlyRefreshBeta)) {
+                return (T) fromStoreValue(envelope.value());
+            }
+            earlyRefreshes.increment();
+        }
+        return (T) load(key, valueLoader, envelope);
+    }
+
+    /**
+     * 키별 로더 단일 실행 - 먼저 도착한 요청만 로더 실행, 나머지는 결과를 기다림
+     * 조기 재계산 중에는 기다리지 않고 기존 값 응답 (stale-while-revalidate)
+     */
+    private Object load(Object key, Callable<?> valueLoader, CacheEnvelope<?> current) {
+        String localKey = String.valueOf(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(localKey, mine);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return current != null ? current.value() : await(inFlight, key, valueLoader);
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            Object loaded = valueLoader.call();
+            store(key, loaded, System.currentTimeMillis() - start);
+            mine.complete(loaded);
+            return loaded;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlightLoads.remove(localKey, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> inFlight, Object key, Callable<?> valueLoader) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // 로더 시간을 모르는 직접 put → 조기 재계산 대상 아님 (delta = 0)
+        store(key, value, 0L);
+    }
+
+    private void store(Object key, Object value, long deltaMillis) {
+        CacheEnvelope<Object> envelope = new CacheEnvelope<>(
+                toStoreValue(value), deltaMillis, System.currentTimeMillis() + ttlMillis);
+        try {
+            remote.put(key, envelope);
+        } catch (DataAccessException e) {
+            log.warn("Redis cache write failed: cache={}, key={}, error={}", name, key, e.getMessage());
+        }
+        local.put(String.valueOf(key), envelope);
+        puts.increment();
+    }
+
+    private CacheEnvelope<?> lookupEnvelope(Object key) {
+        String localKey = String.valueOf(key);
+
+        long start = System.nanoTime();
+        CacheEnvelope<?> envelope = (CacheEnvelope<?>) local.get(localKey);
+        tierStats.recordL1(envelope != null, System.nanoTime() - start);
+        if (envelope != null) {
+            return envelope;
+        }
+
+        long epoch = local.epoch();
+        start = System.nanoTime();
+        envelope = lookupRemote(key);
+        tierStats.recordL2(envelope != null, System.nanoTime() - start);
+        if (envelope != null) {
+            local.putIfUnchanged(localKey, envelope, epoch);
+        }
+        return envelope;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = String.valueOf(key);
+        evictRemote(key);
+        local.invalidate(localKey);
+        invalidationBus.publish(name, localKey);
+        evictions.increment();
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } catch (DataAccessException e) {
+            log.warn("Redis cache clear failed: cache={}, error={}", name, e.getMessage());
+        }
+        local.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    private CacheEnvelope<?> lookupRemote(Object key) {
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper == null) {
+                return null;
+            }
+            CacheEnvelope<?> envelope = (CacheEnvelope<?>) wrapper.get();
+            if (envelope == null || envelope.value() == null) {
+                // 봉투(CacheEnvelope) 도입 이전 형식 → 필드가 매핑되지 않아 value가 비어 있음
+                evictRemote(key);
+                return null;
+            }
+            return envelope;
+        } catch (SerializationException e) {
+            // 직렬화 포맷 변경 이전에 저장된 값 → 삭제 후 재적재
+            log.warn("Dropping unreadable cache entry: cache={}, key={}", name, key);
+            evictRemote(key);
+            return null;
+        } catch (DataAccessException e) {
+            log.warn("Redis cache read failed: cache={}, key={}, error={}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    // Redis 삭제 실패 시 남은 값은 Redis TTL 이내에 만료
+    private void evictRemote(Object key) {
+        try {
+            remote.evict(key);
+        } catch (DataAccessException e) {
+            log.warn("Redis cache evict failed: cache={}, key={}, error={}", name, key, e.getMessage());
+        }
+    }
+
+    CacheTierStats tierStats() {
+        return tierStats;
+    }
+
+    long hitCount() {
+        return tierStats.hits();
+    }
+
+    long missCount() {
+        return tierStats.misses();
+    }
+
+    long putCount() {
+        return puts.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    long coalescedLoadCount() {
+        return coalescedLoads.sum();
+    }
+
+    long earlyRefreshCount() {
+        return earlyRefreshes.sum();
+    }
+
+    long localSize() {
+        return local.size();
+    }
+}
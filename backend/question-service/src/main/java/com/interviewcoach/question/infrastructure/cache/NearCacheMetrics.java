@@ -0,0 +1,65 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * [B-28] NearCache 메트릭 (cache.gets{result=hit|miss}, cache.puts, cache.evictions, cache.size)
+ * 캐시별 히트율 = rate(cache_gets_total{result="hit"}) / rate(cache_gets_total)
+ * [B-29] tier별 히트/지연: cache.tier.gets{tier, result}, cache.tier.latency{tier}
+ * [B-30] 스탬피드 방지: cache.stampede{type=coalesced|early_refresh}
+ */
+public class NearCacheMetrics extends CacheMeterBinder<NearCache> {
+
+    public NearCacheMetrics(NearCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        NearCache cache = getCache();
+        return cache != null ? cache.localSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        NearCache cache = getCache();
+        return cache != null ? cache.hitCount() : 0L;
+    }
+
+    @Override
+    protected Long missCount() {
+        NearCache cache = getCache();
+        return cache != null ? cache.missCount() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        NearCache cache = getCache();
+        return cache != null ? cache.evictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        NearCache cache = getCache();
+        return cache != null ? cache.putCount() : 0L;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        NearCache cache = getCache();
+        if (cache != null) {
+            cache.tierStats().bindTo(registry, getTagsWithCacheName());
+            FunctionCounter.builder("cache.stampede", cache, NearCache::coalescedLoadCount)
+                    .tags(getTagsWithCacheName()).tag("type", "coalesced")
+                    .description("Loads joined to an in-flight load or served stale while refreshing")
+                    .register(registry);
+            FunctionCounter.builder("cache.stampede", cache, NearCache::earlyRefreshCount)
+                    .tags(getTagsWithCacheName()).tag("type", "early_refresh")
+                    .description("Probabilistic early recomputations (XFetch)")
+                    .register(registry);
+        }
+    }
+}
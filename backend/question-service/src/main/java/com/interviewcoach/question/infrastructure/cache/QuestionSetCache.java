@@ -0,0 +1,317 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.response.QuestionResponse;
+import com.interviewcoach.question.infrastructure.config.NearCacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * [B-27] JD별 생성 질문 캐시 (questions-by-jd, 버전 스탬프)
+ *
+ * 문제: 면접 시작마다 getQuestionsByJd → Postgres 조회 (질문 세트는 재생성 시에만 바뀜)
+ *       단순 @Cacheable + @CacheEvict는 "재생성 전 DB를 읽은 요청이 evict 이후에 캐시를 채우는" 경합으로
+ *       이전 세트가 TTL 동안 남을 수 있음
+ *
+ * 해결:
+ *       - questions-by-jd:{jdId}:version = 세트 버전 (재생성마다 INCR)
+ *       - questions-by-jd:{jdId}:data    = 압축 JSON (jdId는 키에 있으므로 제외, null 필드 생략, 짧은 필드명)
+ *       - 조회: 버전 + 데이터를 Lua 1 round trip으로 읽고, 미스 시 DB 조회 후 "버전이 그대로일 때만" 저장
+ *       - 재생성: 커밋 이후 INCR + 새 세트 SET을 Lua로 원자 처리 → 이전 버전으로 읽은 요청의 저장은 거부됨
+ *       - {jdId} 해시 태그로 두 키를 같은 슬롯에 배치 (Redis Cluster에서도 Lua 실행 가능)
+ *
+ * [B-29] 파드 로컬 L1 추가: Redis 히트 결과만 L1에 적재, 교체/삭제 시 CacheInvalidationBus로 전 파드 L1 무효화
+ *        (버전 확인 없이 L1에서 응답 → 메시지 유실 시 이전 세트 노출은 L1 TTL 이내)
+ *
+ * [B-30] getOrLoad: 같은 파드의 같은 jdId 동시 미스는 하나의 DB 조회에 합류 (NearCache와 같은 request coalescing)
+ *        cache.stampede{cache=questions-by-jd, type=coalesced}
+ */
+@Slf4j
+@Component
+public class QuestionSetCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "questions-by-jd";
+    static final String KEY_PREFIX = CACHE_NAME + ":";
+
+    private static final TypeReference<List<CompactQuestion>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    // KEYS[1]=version, KEYS[2]=data
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[1]) or '0'
+            local data = redis.call('GET', KEYS[2]) or ''
+            return {version, data}
+            """, List.class);
+
+    // KEYS[1]=version, KEYS[2]=data / ARGV[1]=읽은 버전, ARGV[2]=payload, ARGV[3]=TTL(ms)
+    private static final RedisScript<Long> PUT_IF_CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=version, KEYS[2]=data / ARGV[1]=버전 TTL(ms), ARGV[2]=payload('' = 삭제만), ARGV[3]=TTL(ms)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            if ARGV[2] == '' then
+                redis.call('DEL', KEYS[2])
+            else
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            end
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration versionTtl;
+    private final LocalCacheTier local;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheTierStats tierStats = new CacheTierStats();
+    private final Map<Long, CompletableFuture<List<QuestionResponse>>> inFlightLoads = new ConcurrentHashMap<>();
+    private final LongAdder coalescedLoads = new LongAdder();
+
+    public QuestionSetCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            CacheInvalidationBus invalidationBus,
+            NearCacheProperties nearCacheProperties,
+            @Value("${question.cache.questions-by-jd.ttl:10m}") Duration ttl,
+            @Value("${question.cache.questions-by-jd.version-ttl:24h}") Duration versionTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.ttl = ttl;
+        this.versionTtl = versionTtl;
+        this.local = new LocalCacheTier(
+                CACHE_NAME, nearCacheProperties.ttlFor(CACHE_NAME), nearCacheProperties.getMaximumSize());
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(local);
+    }
+
+    /**
+     * 캐시 조회 → 미스 시 jdId별 로더 단일 실행 후 읽은 버전이 그대로일 때만 저장
+     * 먼저 도착한 요청만 로더 실행, 나머지는 그 결과를 기다림
+     */
+    public List<QuestionResponse> getOrLoad(Long jdId, Supplier<List<QuestionResponse>> loader) {
+        Lookup cached = get(jdId);
+        if (cached.isHit()) {
+            return cached.questions();
+        }
+
+        CompletableFuture<List<QuestionResponse>> mine = new CompletableFuture<>();
+        CompletableFuture<List<QuestionResponse>> inFlight = inFlightLoads.putIfAbsent(jdId, mine);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return await(inFlight);
+        }
+
+        try {
+            List<QuestionResponse> loaded = loader.get();
+            putIfCurrent(jdId, cached, loaded);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(jdId, mine);
+        }
+    }
+
+    private List<QuestionResponse> await(CompletableFuture<List<QuestionResponse>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return 캐시된 세트 (questions == null 이면 미스, version은 putIfCurrent에 그대로 전달)
+     */
+    @SuppressWarnings("unchecked")
+    public Lookup get(Long jdId) {
+        String localKey = String.valueOf(jdId);
+        long start = System.nanoTime();
+        List<QuestionResponse> cached = (List<QuestionResponse>) local.get(localKey);
+        tierStats.recordL1(cached != null, System.nanoTime() - start);
+        if (cached != null) {
+            // L1 히트는 저장하지 않으므로 버전 불필요
+            return new Lookup(null, cached);
+        }
+
+        long epoch = local.epoch();
+        start = System.nanoTime();
+        Lookup lookup = getRemote(jdId);
+        tierStats.recordL2(lookup.isHit(), System.nanoTime() - start);
+        if (lookup.isHit()) {
+            local.putIfUnchanged(localKey, lookup.questions(), epoch);
+        }
+        return lookup;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Lookup getRemote(Long jdId) {
+        try {
+            List<String> result = redisTemplate.execute(GET_SCRIPT, keys(jdId));
+            if (result == null || result.size() < 2) {
+                return Lookup.UNAVAILABLE;
+            }
+            String payload = result.get(1);
+            return new Lookup(result.get(0), payload.isEmpty() ? null : decode(jdId, payload));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Question set cache read failed: jdId={}, error={}", jdId, e.getMessage());
+            return Lookup.UNAVAILABLE;
+        }
+    }
+
+    public void putIfCurrent(Long jdId, Lookup lookup, List<QuestionResponse> questions) {
+        if (lookup.version() == null) {
+            return;
+        }
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_CURRENT_SCRIPT, keys(jdId),
+                    lookup.version(), encode(questions), String.valueOf(ttl.toMillis()));
+            if (stored == null || stored == 0L) {
+                log.debug("Question set changed while loading, skip cache fill: jdId={}", jdId);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Question set cache write failed: jdId={}, error={}", jdId, e.getMessage());
+        }
+    }
+
+    /**
+     * 질문 세트 교체 - 트랜잭션 커밋 이후 버전 증가 + 새 세트 저장
+     */
+    public void replaceAfterCommit(Long jdId, List<QuestionResponse> questions) {
+        afterCommit(() -> replace(jdId, questions));
+    }
+
+    /**
+     * 질문 세트 삭제 (JD 삭제 등) - 커밋 이후 버전 증가 + 데이터 삭제
+     */
+    public void invalidateAfterCommit(Long jdId) {
+        afterCommit(() -> replace(jdId, null));
+    }
+
+    private void replace(Long jdId, List<QuestionResponse> questions) {
+        try {
+            String payload = questions != null ? encode(questions) : "";
+            redisTemplate.execute(REPLACE_SCRIPT, keys(jdId),
+                    String.valueOf(versionTtl.toMillis()), payload, String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 이전 세트는 TTL 이내에 만료
+            log.error("Question set cache invalidation failed: jdId={}, error={}", jdId, e.getMessage());
+        }
+
+        String localKey = String.valueOf(jdId);
+        local.invalidate(localKey);
+        invalidationBus.publish(CACHE_NAME, localKey);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        tierStats.bindTo(registry, Tags.of("cache", CACHE_NAME));
+        FunctionCounter.builder("cache.stampede", coalescedLoads, LongAdder::sum)
+                .tags(Tags.of("cache", CACHE_NAME)).tag("type", "coalesced")
+                .description("Loads joined to an in-flight load or served stale while refreshing")
+                .register(registry);
+    }
+
+    long coalescedLoadCount() {
+        return coalescedLoads.sum();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private List<String> keys(Long jdId) {
+        String base = KEY_PREFIX + "{" + jdId + "}";
+        return List.of(base + ":version", base + ":data");
+    }
+
+    private String encode(List<QuestionResponse> questions) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(questions.stream().map(CompactQuestion::from).toList());
+    }
+
+    private List<QuestionResponse> decode(Long jdId, String payload) throws JsonProcessingException {
+        return objectMapper.readValue(payload, PAYLOAD_TYPE).stream()
+                .map(question -> question.toResponse(jdId))
+                .toList();
+    }
+
+    public record Lookup(String version, List<QuestionResponse> questions) {
+        // Redis 장애 시: 미스로 처리하되 저장도 시도하지 않음
+        static final Lookup UNAVAILABLE = new Lookup(null, null);
+
+        public boolean isHit() {
+            return questions != null;
+        }
+    }
+
+    record CompactQuestion(
+            @JsonProperty("i") Long id,
+            @JsonProperty("t") String questionType,
+            @JsonProperty("c") String skillCategory,
+            @JsonProperty("q") String questionText,
+            @JsonProperty("h") String hint,
+            @JsonProperty("d") Integer difficulty
+    ) {
+        static CompactQuestion from(QuestionResponse response) {
+            return new CompactQuestion(response.getId(), response.getQuestionType(), response.getSkillCategory(),
+                    response.getQuestionText(), response.getHint(), response.getDifficulty());
+        }
+
+        QuestionResponse toResponse(Long jdId) {
+            return QuestionResponse.builder()
+                    .id(id)
+                    .jdId(jdId)
+                    .questionType(questionType)
+                    .skillCategory(skillCategory)
+                    .questionText(questionText)
+                    .hint(hint)
+                    .difficulty(difficulty)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * [B-28] 캐시 값 전용 Smile(바이너리 JSON) 직렬화
+ *
+ * 문제: 기본 JDK 직렬화는 클래스 메타데이터 + 필드 디스크립터가 값마다 붙어 JSON보다도 큼
+ *       범용 JSON 직렬화는 @class 타입 정보를 값마다 기록
+ *
+ * 해결: 캐시별로 값 타입(JavaType)을 고정해 타입 정보 없이 Smile로 기록
+ *       (반복되는 필드명은 Smile back-reference로 한 번만 기록 → 목록 캐시에서 효과가 큼)
+ */
+public class SmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ObjectMapper smileMapper;
+    private final JavaType type;
+
+    public SmileRedisSerializer(ObjectMapper smileMapper, JavaType type) {
+        this.smileMapper = smileMapper;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        try {
+            return smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return smileMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * [B-32] 질문 일괄 생성 전용 스레드 풀
+ *
+ * - batchCoordinatorExecutor: 일괄 요청 1건 = 작업 1개, 대기열 없음 → 포화 시 즉시 거절 (503)
+ * - batchWorkerExecutor: RAG 검색 / 프롬프트 단위 LLM 호출 + 저장
+ *   코디네이터가 워커 작업 완료를 기다리므로 풀을 분리 (같은 풀이면 포화 시 교착)
+ *   대기열 초과 시 CallerRunsPolicy → 코디네이터 스레드가 직접 실행 (거절 없이 속도만 조절)
+ */
+@Configuration
+@EnableConfigurationProperties(BatchGenerationProperties.class)
+public class BatchGenerationConfig {
+
+    @Bean(name = "batchCoordinatorExecutor")
+    public Executor batchCoordinatorExecutor(BatchGenerationProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxConcurrentBatches());
+        executor.setMaxPoolSize(properties.getMaxConcurrentBatches());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("question-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "batchWorkerExecutor")
+    public Executor batchWorkerExecutor(BatchGenerationProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkerThreads());
+        executor.setMaxPoolSize(properties.getWorkerThreads());
+        executor.setQueueCapacity(properties.getWorkerThreads() * 8);
+        executor.setThreadNamePrefix("question-batch-worker-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * [B-32] 질문 일괄 생성 설정
+ *
+ * 프롬프트당 JD 수 = min(max-jds-per-prompt, max-questions-per-prompt / JD별 질문 수)
+ * → 응답이 max-tokens를 넘어 잘리지 않도록 질문 수 기준으로도 제한
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "question.batch")
+public class BatchGenerationProperties {
+
+    private int maxJdsPerPrompt = 5;
+
+    private int maxQuestionsPerPrompt = 20;
+
+    private int maxJdCharsPerPrompt = 24_000;
+
+    private int maxConcurrentBatches = 4;
+
+    private int workerThreads = 8;
+
+    private Duration streamTimeout = Duration.ofMinutes(10);
+
+    public int jdsPerPrompt(int questionsPerJd) {
+        return Math.max(1, Math.min(maxJdsPerPrompt, maxQuestionsPerPrompt / Math.max(1, questionsPerJd)));
+    }
+}
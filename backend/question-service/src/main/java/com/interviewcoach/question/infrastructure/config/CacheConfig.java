@@ -0,0 +1,112 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.interviewcoach.question.application.dto.response.JdResponse;
+import com.interviewcoach.question.infrastructure.cache.CacheEnvelope;
+import com.interviewcoach.question.infrastructure.cache.CacheInvalidationBus;
+import com.interviewcoach.question.infrastructure.cache.LocalCacheTier;
+import com.interviewcoach.question.infrastructure.cache.NearCache;
+import com.interviewcoach.question.infrastructure.cache.NearCacheMetrics;
+import com.interviewcoach.question.infrastructure.cache.SmileRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [B-28] JD 캐시 구성 (jd-list, jd-detail)
+ *
+ * Before: spring.cache.type=redis 기본 구성 (JDK 직렬화, Redis 단일 tier, 메트릭 없음)
+ * After:
+ *       - 값 직렬화: 캐시별 타입 고정 Smile (JDK 직렬화 대비 payload 축소)
+ *       - Caffeine near-cache → Redis 순으로 조회
+ *       - [B-29] L1 TTL은 캐시 이름별 설정, evict는 pub/sub으로 다른 파드의 L1까지 무효화
+ *       - [B-30] 값은 CacheEnvelope로 감싸 저장 (XFetch 조기 재계산 + 키별 로더 합류)
+ *         새 캐시도 여기 등록하고 @Cacheable(sync = true)로 선언하면 스탬피드 방지가 적용됨
+ *       - TransactionAwareCacheDecorator: evict/put을 커밋 이후로 미뤄 커밋 전 재적재 경합 방지
+ *       - cache.gets{cache=jd-list|jd-detail} 등 캐시별 메트릭 → Prometheus
+ */
+@Configuration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class CacheConfig {
+
+    public static final String JD_LIST = "jd-list";
+    public static final String JD_DETAIL = "jd-detail";
+
+    @Bean
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus invalidationBus,
+            NearCacheProperties nearCacheProperties,
+            @Value("${question.cache.jd.ttl:5m}") Duration ttl,
+            @Value("${question.cache.early-refresh.beta:1.0}") double earlyRefreshBeta) {
+        ObjectMapper smileMapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        Map<String, JavaType> valueTypes = Map.of(
+                JD_LIST, smileMapper.getTypeFactory().constructCollectionType(List.class, JdResponse.class),
+                JD_DETAIL, smileMapper.constructType(JdResponse.class));
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .disableCreateOnMissingCache();
+        valueTypes.forEach((name, type) -> builder.withCacheConfiguration(name, RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .disableCachingNullValues()
+                .serializeValuesWith(SerializationPair.fromSerializer(new SmileRedisSerializer<>(smileMapper,
+                        smileMapper.getTypeFactory().constructParametricType(CacheEnvelope.class, type))))));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        List<Cache> caches = valueTypes.keySet().stream()
+                .sorted()
+                .<Cache>map(name -> {
+                    LocalCacheTier local = new LocalCacheTier(
+                            name, nearCacheProperties.ttlFor(name), nearCacheProperties.getMaximumSize());
+                    invalidationBus.register(local);
+                    return new TransactionAwareCacheDecorator(new NearCache(
+                            name, local, (RedisCache) redisCacheManager.getCache(name), invalidationBus,
+                            ttl, earlyRefreshBeta));
+                })
+                .toList();
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<NearCache> nearCacheMeterBinderProvider() {
+        return NearCacheMetrics::new;
+    }
+}
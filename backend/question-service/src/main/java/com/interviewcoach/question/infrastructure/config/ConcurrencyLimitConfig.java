@@ -0,0 +1,48 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.infrastructure.limit.AimdConcurrencyLimiter;
+import com.interviewcoach.question.infrastructure.limit.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * [B-13] 적응형 동시성 제한 필터 등록
+ *
+ * question-service는 질문 생성(LLM, 5-8초)과 단건 조회가 섞여 있으므로
+ * timeout은 LLM 호출 기준으로 잡고, 최대 한도는 Tomcat 스레드(200) 이내로 제한
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AimdConcurrencyLimiter concurrencyLimiter(
+            @Value("${concurrency-limit.initial-limit:50}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${concurrency-limit.timeout:10s}") Duration timeout) {
+        return new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, timeout.toNanos());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AimdConcurrencyLimiter concurrencyLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.retry-after-seconds:2}") long retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper, retryAfterSeconds, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
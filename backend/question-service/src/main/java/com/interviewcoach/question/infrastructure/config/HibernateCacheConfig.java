@@ -0,0 +1,58 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * [B-31] Hibernate 2차 캐시 (JCache + Caffeine)
+ *
+ * Before: JD / 생성 질문 조회마다 Postgres (생성 경로의 findById, jd-detail·questions-by-jd 미스 적재)
+ * After:
+ *       - JobDescription (READ_WRITE), GeneratedQuestion (READ_ONLY, 수정 없음) 엔티티 캐시
+ *       - findByJdId 쿼리 캐시 (generated-questions-by-jd 리전)
+ *       - 리전 크기 / TTL은 question.cache.entity.regions에서 명시, 누락 리전은 기동 실패
+ *       - 통계는 generate_statistics + hibernate-micrometer → hibernate.second.level.cache.* 메트릭
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class HibernateCacheConfig {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("question-service:hibernate");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            if (region.getTtl() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
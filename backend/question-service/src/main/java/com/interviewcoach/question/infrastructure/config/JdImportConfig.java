@@ -0,0 +1,33 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * [B-33] JD 일괄 등록 분석 풀
+ *
+ * - 스레드 수 = LLM 동시 분석 상한 (등록 건수와 무관하게 고정)
+ * - 대기열 초과 시 AbortPolicy → 해당 JD만 분석 실패로 집계 (업로드 요청 스레드가 LLM을 직접 호출하지 않도록)
+ * - 종료 시 대기 중인 분석은 JdImportService가 먼저 실패로 집계, 풀은 분석 중인 작업만 최대 30초 대기
+ */
+@Configuration
+@EnableConfigurationProperties(JdImportProperties.class)
+public class JdImportConfig {
+
+    @Bean(name = "jdAnalysisExecutor")
+    public Executor jdAnalysisExecutor(JdImportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getAnalysisConcurrency());
+        executor.setMaxPoolSize(properties.getAnalysisConcurrency());
+        executor.setQueueCapacity(properties.getAnalysisQueueCapacity());
+        executor.setThreadNamePrefix("jd-analysis-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
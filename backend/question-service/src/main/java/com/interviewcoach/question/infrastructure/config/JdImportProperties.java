@@ -0,0 +1,31 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * [B-33] JD 일괄 등록 설정
+ *
+ * analysis-concurrency = LLM 동시 분석 호출 상한 (분석 풀 스레드 수)
+ * analysis-queue-capacity 초과분은 분석 실패로 집계 → JD는 등록된 상태로 남고 /analyze로 재시도 가능
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "question.jd-import")
+public class JdImportProperties {
+
+    private int chunkSize = 50;
+
+    private int maxRows = 10_000;
+
+    private int analysisConcurrency = 4;
+
+    private int analysisQueueCapacity = 10_000;
+
+    private int maxErrors = 20;
+
+    private Duration jobTtl = Duration.ofHours(24);
+}
@@ -0,0 +1,35 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import dev.langchain4j.model.anthropic.AnthropicChatModel;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM 관련 Bean 설정
+ *
+ * - ChatLanguageModel: Claude (API 키가 없으면 null → ClaudeLlmClient는 Mock 데이터 사용)
+ */
+@Slf4j
+@Configuration
+public class LlmConfig {
+
+    @Bean
+    public ChatLanguageModel chatLanguageModel(
+            @Value("${langchain4j.anthropic.api-key:}") String apiKey,
+            @Value("${langchain4j.anthropic.model-name:claude-3-sonnet-20240229}") String modelName) {
+        if (apiKey == null || apiKey.isBlank()) {
+            log.warn("Claude API key not configured. LLM features will use mock data.");
+            return null;
+        }
+
+        log.info("Initializing Claude chat model (model: {})", modelName);
+        return AnthropicChatModel.builder()
+                .apiKey(apiKey)
+                .modelName(modelName)
+                .maxTokens(4096)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.interviewcoach.question.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [B-29] 파드 로컬 L1 설정
+ *
+ * ttl 하위 키는 캐시 이름 (jd-list, jd-detail, questions-by-jd), 없으면 default-ttl
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "question.cache.near")
+public class NearCacheProperties {
+
+    private Duration defaultTtl = Duration.ofSeconds(10);
+
+    private long maximumSize = 1000;
+
+    private Map<String, Duration> ttl = new LinkedHashMap<>();
+
+    public Duration ttlFor(String cacheName) {
+        return ttl.getOrDefault(cacheName, defaultTtl);
+    }
+}
@@ -0,0 +1,82 @@
+package com.interviewcoach.question.infrastructure.jdimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.response.JdImportJobResponse;
+import com.interviewcoach.question.infrastructure.config.JdImportProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * [B-33] JD 일괄 등록 작업 진행 상황 저장소
+ *
+ * 작업은 업로드를 받은 파드의 분석 풀에서 진행되지만 조회 요청은 다른 파드로 갈 수 있으므로
+ * 스냅샷(JSON)을 Redis에 저장 (jd-import:{jobId} 해시의 data 필드, TTL = question.jd-import.job-ttl)
+ * Redis 장애 시 진행 상황만 조회 불가, 등록/분석은 계속 진행
+ *
+ * 스냅샷은 여러 분석 스레드가 저장하므로 도착 순서가 생성 순서와 다를 수 있음
+ * → 작업별 단조 증가 버전을 함께 저장하고 더 높은 버전만 반영 (늦게 도착한 ANALYZING이 COMPLETED를 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+public class JdImportJobStore {
+
+    static final String KEY_PREFIX = "jd-import:";
+    private static final String DATA_FIELD = "data";
+
+    // KEYS[1]=jd-import:{jobId} / ARGV[1]=버전, ARGV[2]=스냅샷, ARGV[3]=TTL(ms)
+    private static final RedisScript<Long> SAVE_IF_NEWER_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '0')
+            if current >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'version', ARGV[1])
+            redis.call('HSET', KEYS[1], 'data', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JdImportProperties properties;
+
+    public JdImportJobStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                            JdImportProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * @param version 작업별 단조 증가 버전 (저장된 버전 이하이면 무시)
+     */
+    public void save(JdImportJobResponse job, long version) {
+        try {
+            redisTemplate.execute(SAVE_IF_NEWER_SCRIPT, List.of(KEY_PREFIX + job.getJobId()),
+                    String.valueOf(version), objectMapper.writeValueAsString(job),
+                    String.valueOf(properties.getJobTtl().toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("JD import job save failed: jobId={}, error={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    public Optional<JdImportJobResponse> find(String jobId) {
+        try {
+            Object payload = redisTemplate.opsForHash().get(KEY_PREFIX + jobId, DATA_FIELD);
+            if (payload == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue((String) payload, JdImportJobResponse.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("JD import job read failed: jobId={}, error={}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
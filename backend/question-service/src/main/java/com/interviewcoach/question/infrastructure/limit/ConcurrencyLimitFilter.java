@@ -0,0 +1,179 @@
+package com.interviewcoach.question.infrastructure.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.exception.GlobalExceptionHandler.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [B-13] 적응형 동시성 제한 필터 (Load Shedding)
+ *
+ * 문제: 질문 생성(LLM) 요청이 몰리면 Tomcat 스레드와 Hikari 커넥션(15)을 장시간 점유
+ *       → 단순 조회 요청까지 커넥션 대기 후 타임아웃
+ *
+ * 해결: 컨트롤러 진입 전 AIMD 한도로 즉시 503 + Retry-After 반환
+ *       - DB 트랜잭션 생성 전에 거부
+ *       - 비동기 요청은 AsyncContext 종료 시점까지 슬롯 점유
+ *       - [B-32] SSE 스트림(일괄 생성 진행 상황 등)은 수 분간 열려 있으므로 지연을 한도 조정에 반영하지 않음
+ *       - http.server.concurrency.limit / inflight / rejected 메트릭 노출
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH_PREFIX = "/api/";
+
+    private final AimdConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitFilter(AimdConcurrencyLimiter limiter, ObjectMapper objectMapper,
+                                  long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+        Gauge.builder("http.server.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.inflight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency slot")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("http.server.concurrency.rejected")
+                .description("Requests rejected by the concurrency limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("Request rejected by concurrency limiter: {} {} (limit={})",
+                    request.getMethod(), request.getRequestURI(), limiter.getLimit());
+            writeRejection(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        SlotRelease release = new SlotRelease(start);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            release.dropped();
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            // 비동기 응답: 종료 시점까지 슬롯 유지
+            // SSE 스트림은 수 분간 열려 있고 타임아웃/연결 끊김도 정상 종료 → 슬롯만 반환, 한도 조정 없음
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    if (isEventStream(response)) {
+                        release.ignored();
+                    } else {
+                        release.completed(response.getStatus());
+                    }
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    endAbnormally(release, response);
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    endAbnormally(release, response);
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else {
+            release.completed(response.getStatus());
+        }
+    }
+
+    private void endAbnormally(SlotRelease release, HttpServletResponse response) {
+        if (isEventStream(response)) {
+            release.ignored();
+        } else {
+            release.dropped();
+        }
+    }
+
+    private boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private void writeRejection(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                ErrorResponse.of(status, "요청이 많아 잠시 후 다시 시도해주세요"));
+    }
+
+    /**
+     * 슬롯 반환을 한 번만 수행 (비동기 완료/에러 리스너 중복 호출 방지)
+     */
+    private class SlotRelease {
+
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SlotRelease(long start) {
+            this.start = start;
+        }
+
+        void completed(int status) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (status >= 500) {
+                limiter.onDropped();
+            } else if (status >= 400) {
+                limiter.onIgnore();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        }
+
+        void ignored() {
+            if (released.compareAndSet(false, true)) {
+                limiter.onIgnore();
+            }
+        }
+
+        void dropped() {
+            if (released.compareAndSet(false, true)) {
+                limiter.onDropped();
+            }
+        }
+    }
+}
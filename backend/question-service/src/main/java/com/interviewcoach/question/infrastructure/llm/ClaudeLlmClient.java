@@ -5,16 +5,17 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interviewcoach.question.application.dto.request.GenerateQuestionsRequest;
 import com.interviewcoach.question.infrastructure.rag.SimilarQuestionResult;
-import dev.langchain4j.model.anthropic.AnthropicChatModel;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,22 +26,11 @@ public class ClaudeLlmClient implements LlmClient {
     private final ObjectMapper objectMapper;
 
     public ClaudeLlmClient(
-            @Value("${langchain4j.anthropic.api-key:}") String apiKey,
-            @Value("${langchain4j.anthropic.model-name:claude-3-sonnet-20240229}") String modelName,
+            @org.springframework.lang.Nullable ChatLanguageModel chatModel,
             ObjectMapper objectMapper) {
-
-        if (apiKey != null && !apiKey.isBlank()) {
-            this.chatModel = AnthropicChatModel.builder()
-                    .apiKey(apiKey)
-                    .modelName(modelName)
-                    .maxTokens(4096)
-                    .build();
-            log.info("ClaudeLlmClient initialized with Claude API (model: {})", modelName);
-        } else {
-            this.chatModel = null;
-            log.warn("Claude API key not configured. LLM features will use mock data.");
-        }
+        this.chatModel = chatModel;
         this.objectMapper = objectMapper;
+        log.info("ClaudeLlmClient initialized ({})", chatModel != null ? "Claude API" : "mock data");
     }
 
     @Override
@@ -380,6 +370,141 @@ public class ClaudeLlmClient implements LlmClient {
         }
     }
 
+    @Override
+    public Map<Long, List<GeneratedQuestionResult>> generateQuestionsBatch(
+            List<BatchJdInput> jds,
+            String questionType,
+            int count,
+            int difficulty) {
+
+        Map<Long, List<GeneratedQuestionResult>> results = new LinkedHashMap<>();
+        if (jds.isEmpty()) {
+            return results;
+        }
+
+        if (chatModel == null) {
+            jds.forEach(jd -> results.put(jd.jdId(), createMockQuestions(questionType, count, difficulty)));
+            return results;
+        }
+
+        if (jds.size() == 1) {
+            BatchJdInput jd = jds.get(0);
+            results.put(jd.jdId(), generateQuestionsWithContext(
+                    jd.jdText(), jd.skills(), questionType, count, difficulty, jd.similarQuestions()));
+            return results;
+        }
+
+        String jdSections = jds.stream()
+                .map(jd -> """
+                    ## JD %d
+                    필요 기술: %s
+                    내용:
+                    %s
+                    """.formatted(jd.jdId(), String.join(", ", jd.skills()), jd.jdText()))
+                .collect(Collectors.joining("\n"));
+
+        // 유사 JD가 겹치면 같은 질문이 여러 번 검색됨 → 한 번만 포함
+        Set<String> similarQuestionLines = new LinkedHashSet<>();
+        jds.stream()
+                .filter(jd -> jd.similarQuestions() != null)
+                .flatMap(jd -> jd.similarQuestions().stream())
+                .forEach(sq -> similarQuestionLines.add(String.format("- [%s/%s] %s",
+                        sq.getQuestionType(), sq.getSkillCategory(), sq.getContent())));
+
+        String similarQuestionsText = "";
+        if (!similarQuestionLines.isEmpty()) {
+            similarQuestionsText = """
+
+                ## 참고할 기존 질문 (중복 방지용)
+                다음은 유사한 JD에서 사용된 기존 면접 질문들입니다.
+                이 질문들과 **중복되지 않는** 새롭고 창의적인 질문을 생성해주세요.
+
+                %s
+                """.formatted(String.join("\n", similarQuestionLines));
+        }
+
+        String prompt = """
+            다음 %d개 채용 공고 각각에 대해 면접 질문을 생성해주세요.
+
+            요청 사항 (모든 JD 공통):
+            - %s
+            - 난이도: %s
+            - JD별 질문 개수: %d개
+            - 각 JD의 내용과 필요 기술에 맞는 질문을 생성하고, JD 간 같은 질문을 반복하지 마세요
+
+            %s%s
+            다음 JSON 객체 형식으로 응답해주세요. 키는 위의 JD 번호(문자열), 값은 해당 JD의 질문 배열입니다:
+            {
+                "JD 번호": [
+                    {
+                        "questionType": "technical 또는 behavioral",
+                        "skillCategory": "아래 카테고리 중 하나만 선택",
+                        "questionText": "면접 질문",
+                        "hint": "답변 힌트 (1-2문장)",
+                        "idealAnswer": "모범 답변 요약 (2-3문장)",
+                        "difficulty": %d
+                    }
+                ]
+            }
+
+            skillCategory는 반드시 다음 중 하나만 사용하세요:
+            - 기술역량 (코딩, 알고리즘, 자료구조, 프로그래밍 언어 관련)
+            - 시스템설계 (아키텍처, 인프라, 확장성, 성능 관련)
+            - 문제해결 (트러블슈팅, 디버깅, 분석력 관련)
+            - 협업 (팀워크, 커뮤니케이션, 리더십 관련)
+            - 프로젝트경험 (실제 프로젝트 경험, 성과 관련)
+
+            JSON 객체만 응답하고 다른 텍스트는 포함하지 마세요.
+            """.formatted(
+                jds.size(),
+                describeQuestionType(questionType),
+                describeDifficulty(difficulty),
+                count,
+                jdSections,
+                similarQuestionsText,
+                difficulty);
+
+        try {
+            String response = chatModel.generate(prompt);
+            results.putAll(parseBatchQuestionsResponse(response, jds, count));
+            log.info("Generated questions for {}/{} JDs in one prompt", results.size(), jds.size());
+        } catch (Exception e) {
+            log.error("Failed to generate batch questions with Claude: {}", e.getMessage());
+        }
+
+        // 응답에서 누락되었거나 비어 있는 JD는 단건 생성으로 보완 (입력 순서 유지)
+        Map<Long, List<GeneratedQuestionResult>> ordered = new LinkedHashMap<>();
+        for (BatchJdInput jd : jds) {
+            List<GeneratedQuestionResult> generated = results.get(jd.jdId());
+            if (generated == null || generated.isEmpty()) {
+                log.warn("JD {} missing from batch response, falling back to single generation", jd.jdId());
+                generated = generateQuestionsWithContext(
+                        jd.jdText(), jd.skills(), questionType, count, difficulty, jd.similarQuestions());
+            }
+            ordered.put(jd.jdId(), generated);
+        }
+        return ordered;
+    }
+
+    private String describeDifficulty(int difficulty) {
+        return switch (difficulty) {
+            case 1 -> "매우 쉬움 (신입 레벨)";
+            case 2 -> "쉬움 (1-2년차)";
+            case 3 -> "보통 (3-5년차)";
+            case 4 -> "어려움 (5-7년차)";
+            case 5 -> "매우 어려움 (시니어/리드)";
+            default -> "보통";
+        };
+    }
+
+    private String describeQuestionType(String questionType) {
+        return switch (questionType) {
+            case "technical" -> "기술적인 질문만 생성해주세요 (코딩, 시스템 설계, 알고리즘 등)";
+            case "behavioral" -> "행동 면접 질문만 생성해주세요 (경험, 상황 대처, 팀워크 등)";
+            default -> "기술 질문과 행동 면접 질문을 섞어서 생성해주세요";
+        };
+    }
+
     private JdAnalysisResult parseAnalysisResponse(String response) {
         try {
             String json = extractJsonObject(response);
@@ -404,14 +529,7 @@ public class ClaudeLlmClient implements LlmClient {
             List<Map<String, Object>> questions = objectMapper.readValue(json, new TypeReference<>() {});
 
             return questions.stream()
-                    .map(q -> new GeneratedQuestionResult(
-                            (String) q.getOrDefault("questionType", "technical"),
-                            (String) q.getOrDefault("skillCategory", "general"),
-                            (String) q.getOrDefault("questionText", ""),
-                            (String) q.getOrDefault("hint", ""),
-                            (String) q.getOrDefault("idealAnswer", ""),
-                            ((Number) q.getOrDefault("difficulty", 3)).intValue()
-                    ))
+                    .map(this::toQuestionResult)
                     .toList();
         } catch (JsonProcessingException e) {
             log.error("Failed to parse questions response: {}", e.getMessage());
@@ -419,6 +537,53 @@ public class ClaudeLlmClient implements LlmClient {
         }
     }
 
+    /**
+     * [B-32] {"jdId": [질문...]} 응답 파싱 - 요청하지 않은 JD 키는 무시, JD별 최대 count개
+     * 파싱 실패 시 빈 결과 → 호출부에서 JD별 단건 생성으로 보완
+     */
+    private Map<Long, List<GeneratedQuestionResult>> parseBatchQuestionsResponse(
+            String response, List<BatchJdInput> jds, int count) {
+        Set<Long> requestedIds = jds.stream().map(BatchJdInput::jdId).collect(Collectors.toSet());
+        Map<Long, List<GeneratedQuestionResult>> results = new LinkedHashMap<>();
+        try {
+            String json = extractJsonObject(response);
+            Map<String, List<Map<String, Object>>> questionsByJd = objectMapper.readValue(json, new TypeReference<>() {});
+
+            questionsByJd.forEach((key, questions) -> {
+                Long jdId = parseJdId(key);
+                if (jdId == null || !requestedIds.contains(jdId) || questions == null) {
+                    return;
+                }
+                results.put(jdId, questions.stream()
+                        .limit(count)
+                        .map(this::toQuestionResult)
+                        .toList());
+            });
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse batch questions response: {}", e.getMessage());
+        }
+        return results;
+    }
+
+    private Long parseJdId(String key) {
+        try {
+            return Long.valueOf(key.replaceAll("[^0-9]", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private GeneratedQuestionResult toQuestionResult(Map<String, Object> q) {
+        return new GeneratedQuestionResult(
+                (String) q.getOrDefault("questionType", "technical"),
+                (String) q.getOrDefault("skillCategory", "general"),
+                (String) q.getOrDefault("questionText", ""),
+                (String) q.getOrDefault("hint", ""),
+                (String) q.getOrDefault("idealAnswer", ""),
+                ((Number) q.getOrDefault("difficulty", 3)).intValue()
+        );
+    }
+
     private String extractJson(String response) {
         // Try to find JSON object first
         int objStart = response.indexOf('{');
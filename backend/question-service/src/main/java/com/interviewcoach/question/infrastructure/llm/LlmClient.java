@@ -4,6 +4,7 @@ import com.interviewcoach.question.application.dto.request.GenerateQuestionsRequ
 import com.interviewcoach.question.infrastructure.rag.SimilarQuestionResult;
 
 import java.util.List;
+import java.util.Map;
 
 public interface LlmClient {
 
@@ -54,6 +55,29 @@ public interface LlmClient {
             List<SimilarQuestionResult> similarQuestions,
             List<GenerateQuestionsRequest.WeakCategoryInfo> weakCategories);
 
+    /**
+     * [B-32] 여러 JD의 면접 질문을 프롬프트 1회로 생성
+     * 공통 지시문(형식, 카테고리)과 중복 방지용 유사 질문을 한 번만 포함하여 JD별 호출 대비 입력 토큰 절감
+     *
+     * @param jds JD 목록 (jdId, 원문, 스킬, RAG 유사 질문)
+     * @param questionType 질문 유형 (technical, behavioral, mixed)
+     * @param count JD별 생성할 질문 수
+     * @param difficulty 난이도 (1-5)
+     * @return jdId → 생성된 질문 목록 (응답에서 누락된 JD는 단건 생성으로 보완, 입력 순서 유지)
+     */
+    Map<Long, List<GeneratedQuestionResult>> generateQuestionsBatch(
+            List<BatchJdInput> jds,
+            String questionType,
+            int count,
+            int difficulty);
+
+    record BatchJdInput(
+            Long jdId,
+            String jdText,
+            List<String> skills,
+            List<SimilarQuestionResult> similarQuestions
+    ) {}
+
     record JdAnalysisResult(
             List<String> skills,
             List<String> requirements,
@@ -16,6 +16,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -92,29 +94,52 @@ public class ChromaQuestionEmbeddingService implements QuestionEmbeddingService
 
         log.info("Storing {} question embeddings for company={}, position={}",
                 questions.size(), jdCompany, jdPosition);
+        JdContext context = new JdContext(jdCompany, jdPosition);
+        storeBatch(questions, question -> context);
+    }
+
+    /**
+     * [B-32] 여러 JD의 질문을 embedAll 1회 + addAll 1회로 저장 (JD별 storeQuestions 반복 대비 round trip 1/N)
+     */
+    @Override
+    public void storeQuestionsForJds(List<GeneratedQuestion> questions, Map<Long, JobDescription> jdsById) {
+        if (!available || questions.isEmpty()) {
+            return;
+        }
+
+        log.info("Storing {} question embeddings for {} JDs", questions.size(), jdsById.size());
+        storeBatch(questions, question -> {
+            JobDescription jd = jdsById.get(question.getJdId());
+            return jd != null ? new JdContext(jd.getCompanyName(), jd.getPosition()) : new JdContext(null, null);
+        });
+    }
 
+    private void storeBatch(List<GeneratedQuestion> questions, Function<GeneratedQuestion, JdContext> contextOf) {
         long startTime = System.nanoTime();
 
         // [B-10] 배치 임베딩 최적화
         // Before: 1개씩 순차 embed() 호출 → 20개 = 2.0s
         // After: embedAll() 배치 호출 → 20개 = 0.4s (-80%)
+        List<GeneratedQuestion> prepared = new ArrayList<>();
         List<TextSegment> segments = new ArrayList<>();
         List<String> textsToEmbed = new ArrayList<>();
 
         for (GeneratedQuestion question : questions) {
             try {
-                String textToEmbed = buildEmbeddingText(question, jdCompany, jdPosition);
-                textsToEmbed.add(textToEmbed);
+                JdContext context = contextOf.apply(question);
+                String textToEmbed = buildEmbeddingText(question, context.company(), context.position());
 
                 Metadata metadata = Metadata.from(METADATA_QUESTION_ID, question.getId().toString())
                         .put(METADATA_JD_ID, question.getJdId().toString())
                         .put(METADATA_QUESTION_TYPE, question.getQuestionType())
                         .put(METADATA_SKILL_CATEGORY, question.getSkillCategory())
                         .put(METADATA_DIFFICULTY, question.getDifficulty().toString())
-                        .put(METADATA_COMPANY, jdCompany != null ? jdCompany : "")
-                        .put(METADATA_POSITION, jdPosition != null ? jdPosition : "");
+                        .put(METADATA_COMPANY, context.company() != null ? context.company() : "")
+                        .put(METADATA_POSITION, context.position() != null ? context.position() : "");
 
                 segments.add(TextSegment.from(question.getQuestionText(), metadata));
+                textsToEmbed.add(textToEmbed);
+                prepared.add(question);
             } catch (Exception e) {
                 log.error("Failed to prepare question for embedding: questionId={}, error={}",
                         question.getId(), e.getMessage());
@@ -136,7 +161,7 @@ public class ChromaQuestionEmbeddingService implements QuestionEmbeddingService
             } catch (Exception e) {
                 log.error("Failed to batch embed/store: {}", e.getMessage());
                 // Fallback: 순차 처리
-                fallbackSequentialStore(questions, jdCompany, jdPosition, segments);
+                fallbackSequentialStore(prepared, textsToEmbed, segments);
             }
         }
     }
@@ -144,17 +169,16 @@ public class ChromaQuestionEmbeddingService implements QuestionEmbeddingService
     /**
      * 배치 실패 시 순차 처리 폴백
      */
-    private void fallbackSequentialStore(List<GeneratedQuestion> questions, String jdCompany, String jdPosition, List<TextSegment> segments) {
+    private void fallbackSequentialStore(List<GeneratedQuestion> questions, List<String> textsToEmbed, List<TextSegment> segments) {
         log.warn("Falling back to sequential embedding for {} questions", questions.size());
         List<Embedding> embeddings = new ArrayList<>();
 
-        for (GeneratedQuestion question : questions) {
+        for (int i = 0; i < questions.size(); i++) {
             try {
-                String textToEmbed = buildEmbeddingText(question, jdCompany, jdPosition);
-                Embedding embedding = embeddingModel.embed(textToEmbed).content();
+                Embedding embedding = embeddingModel.embed(textsToEmbed.get(i)).content();
                 embeddings.add(embedding);
             } catch (Exception e) {
-                log.error("Sequential embed failed for questionId={}: {}", question.getId(), e.getMessage());
+                log.error("Sequential embed failed for questionId={}: {}", questions.get(i).getId(), e.getMessage());
             }
         }
 
@@ -334,4 +358,6 @@ public class ChromaQuestionEmbeddingService implements QuestionEmbeddingService
             return null;
         }
     }
+
+    private record JdContext(String company, String position) {}
 }
@@ -1,8 +1,10 @@
 package com.interviewcoach.question.infrastructure.rag;
 
 import com.interviewcoach.question.domain.entity.GeneratedQuestion;
+import com.interviewcoach.question.domain.entity.JobDescription;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 질문 임베딩 서비스 인터페이스
@@ -28,6 +30,14 @@ public interface QuestionEmbeddingService {
      */
     void storeQuestions(List<GeneratedQuestion> questions, String jdCompany, String jdPosition);
 
+    /**
+     * 여러 JD의 질문을 한 번에 일괄 저장 (일괄 생성용)
+     *
+     * @param questions 저장할 질문 목록 (여러 JD 혼합)
+     * @param jdsById 질문의 jdId → JD (회사명 / 포지션 메타데이터)
+     */
+    void storeQuestionsForJds(List<GeneratedQuestion> questions, Map<Long, JobDescription> jdsById);
+
     /**
      * 쿼리 텍스트 기반 유사 질문 검색
      *
@@ -2,7 +2,9 @@ package com.interviewcoach.question.presentation.controller;
 
 import com.interviewcoach.question.application.dto.request.CreateJdRequest;
 import com.interviewcoach.question.application.dto.response.JdAnalysisResponse;
+import com.interviewcoach.question.application.dto.response.JdImportJobResponse;
 import com.interviewcoach.question.application.dto.response.JdResponse;
+import com.interviewcoach.question.application.service.JdImportService;
 import com.interviewcoach.question.application.service.JdService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,10 +13,13 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "JD 관리", description = "채용공고 등록, 분석, 삭제")
@@ -25,6 +30,7 @@ import java.util.List;
 public class JdController {
 
     private final JdService jdService;
+    private final JdImportService jdImportService;
 
     @Operation(summary = "JD 등록", description = "새로운 채용공고(JD)를 등록")
     @ApiResponse(responseCode = "201", description = "JD 등록 성공")
@@ -36,6 +42,29 @@ public class JdController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // [B-33] 대량 등록 - 등록까지 끝낸 뒤 202 응답, 분석은 작업 ID로 진행 상황 조회
+    @Operation(summary = "JD 일괄 등록", description = "JSONL 또는 CSV 파일의 JD를 일괄 등록하고 분석 작업을 비동기로 진행")
+    @ApiResponse(responseCode = "202", description = "등록 완료, 분석 진행 중")
+    @ApiResponse(responseCode = "400", description = "지원하지 않는 파일 형식 또는 CSV 헤더 오류")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<JdImportJobResponse> importJds(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        JdImportJobResponse response = jdImportService.importJds(userId, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @Operation(summary = "JD 일괄 등록 진행 상황", description = "등록 / 검증 실패 / 분석 완료 건수 조회")
+    @ApiResponse(responseCode = "200", description = "작업 진행 상황 반환")
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<JdImportJobResponse> getImportJob(
+            @RequestHeader("X-User-Id") Long userId,
+            @PathVariable String jobId) {
+        JdImportJobResponse response = jdImportService.getJob(userId, jobId);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "JD 목록 조회", description = "사용자의 JD 목록 조회 (Redis 캐싱)")
     @ApiResponse(responseCode = "200", description = "JD 목록 반환")
     @GetMapping
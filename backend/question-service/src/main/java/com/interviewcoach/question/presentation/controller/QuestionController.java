@@ -1,9 +1,11 @@
 package com.interviewcoach.question.presentation.controller;
 
+import com.interviewcoach.question.application.dto.request.BatchGenerateQuestionsRequest;
 import com.interviewcoach.question.application.dto.request.GenerateQuestionsRequest;
 import com.interviewcoach.question.application.dto.response.GeneratedQuestionsResponse;
 import com.interviewcoach.question.application.dto.response.QuestionResponse;
 import com.interviewcoach.question.application.dto.response.SimilarQuestionsResponse;
+import com.interviewcoach.question.application.service.QuestionBatchGenerationService;
 import com.interviewcoach.question.application.service.QuestionGenerationService;
 import com.interviewcoach.question.application.service.SimilarQuestionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,9 +19,11 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -32,6 +36,7 @@ import java.util.Map;
 public class QuestionController {
 
     private final QuestionGenerationService questionGenerationService;
+    private final QuestionBatchGenerationService questionBatchGenerationService;
     private final SimilarQuestionService similarQuestionService;
 
     @Operation(summary = "면접 질문 생성", description = "JD 기반 AI 면접 질문 생성 (RAG, 취약 분야 우선 반영)")
@@ -44,6 +49,16 @@ public class QuestionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "면접 질문 일괄 생성", description = "여러 JD의 질문을 한 번에 생성 (SSE: JD별 progress 이벤트, 마지막에 complete 요약)")
+    @ApiResponse(responseCode = "200", description = "SSE 스트림 연결 성공")
+    @ApiResponse(responseCode = "503", description = "진행 중인 일괄 생성 요청 포화")
+    @PostMapping(value = "/generate/batch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter generateQuestionsBatch(
+            @RequestHeader("X-User-Id") Long userId,
+            @Valid @RequestBody BatchGenerateQuestionsRequest request) {
+        return questionBatchGenerationService.streamBatch(userId, request);
+    }
+
     @Operation(summary = "JD별 질문 목록 조회", description = "특정 JD에 대해 생성된 질문 목록 조회")
     @ApiResponse(responseCode = "200", description = "질문 목록 반환")
     @GetMapping("/jd/{jdId}")
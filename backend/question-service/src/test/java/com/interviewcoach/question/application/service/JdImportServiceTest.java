@@ -0,0 +1,339 @@
+package com.interviewcoach.question.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.response.JdImportJobResponse;
+import com.interviewcoach.question.domain.entity.JobDescription;
+import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
+import com.interviewcoach.question.exception.InvalidImportFileException;
+import com.interviewcoach.question.exception.JdImportJobNotFoundException;
+import com.interviewcoach.question.infrastructure.config.JdImportProperties;
+import com.interviewcoach.question.infrastructure.jdimport.JdImportJobStore;
+import com.interviewcoach.question.infrastructure.llm.LlmClient;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JdImportService 단위 테스트")
+class JdImportServiceTest {
+
+    @Mock
+    private JobDescriptionRepository jdRepository;
+
+    @Mock
+    private JdService jdService;
+
+    @Mock
+    private LlmClient llmClient;
+
+    @Mock
+    private JdImportJobStore jobStore;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static jakarta.validation.ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private JdImportProperties properties;
+    private JdImportService service;
+    private final AtomicLong idSequence = new AtomicLong();
+
+    private static final Long USER_ID = 1L;
+    private static final String JD_TEXT = "Java, Spring Boot 경력 3년 이상, JPA/Hibernate 경험 우대, PostgreSQL 및 Redis 사용 경험";
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new JdImportProperties();
+        properties.setChunkSize(2);
+        // 분석 풀은 호출 스레드에서 바로 실행
+        service = createService(Runnable::run);
+    }
+
+    private JdImportService createService(Executor analysisExecutor) {
+        return new JdImportService(jdRepository, jdService, llmClient, jobStore, cacheManager, new ObjectMapper(),
+                validator, transactionManager, properties, analysisExecutor);
+    }
+
+    @Nested
+    @DisplayName("importJds 메서드")
+    class ImportJdsTest {
+
+        @Test
+        @DisplayName("JSONL - chunk 단위 saveAll, 검증 실패 행은 건너뛰고 분석 후 jd-list 1회 워밍")
+        void importJds_Jsonl_InsertsInChunksAndAnalyzes() throws Exception {
+            // given
+            String content = String.join("\n",
+                    jsonRow("네이버"),
+                    jsonRow("카카오"),
+                    "",
+                    "{\"companyName\": \"라인\", \"originalText\": \"너무 짧음\"}",
+                    "{not json",
+                    jsonRow("쿠팡"));
+            givenSaveAllAssignsIds();
+            givenAnalysisSucceeds();
+
+            // when
+            JdImportJobResponse response = service.importJds(USER_ID, file("jds.jsonl", content));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(JdImportJobResponse.Status.COMPLETED);
+            assertThat(response.getFormat()).isEqualTo("JSONL");
+            assertThat(response.getTotalRows()).isEqualTo(5);
+            assertThat(response.getImported()).isEqualTo(3);
+            assertThat(response.getInvalid()).isEqualTo(2);
+            assertThat(response.getAnalyzed()).isEqualTo(3);
+            assertThat(response.getAnalysisFailed()).isZero();
+            assertThat(response.getErrors()).containsExactly(
+                    "4행: originalText: JD 내용은 50자 이상 10000자 이내여야 합니다",
+                    "5행: JSON 형식이 올바르지 않습니다");
+            assertThat(response.getFinishedAt()).isNotNull();
+
+            verify(jdRepository, times(2)).saveAll(anyList());
+            verify(llmClient, times(3)).analyzeJd(JD_TEXT);
+            verify(jdService, times(1)).warmJdList(USER_ID);
+        }
+
+        @Test
+        @DisplayName("CSV - 따옴표 안 쉼표/줄바꿈/\"\" 이스케이프 처리, 컬럼 순서는 헤더 기준")
+        void importJds_Csv_ParsesQuotedFields() throws Exception {
+            // given
+            String multiline = "담당 업무:\n- 결제 API 개발, 운영\n- \"대용량\" 트래픽 처리 " + JD_TEXT;
+            String content = "\uFEFForiginalText,companyName,position,originalUrl\r\n"
+                    + "\"" + multiline.replace("\"", "\"\"") + "\",토스,백엔드 개발자,\r\n"
+                    + "\r\n"
+                    + "내용,당근\r\n";
+            givenSaveAllAssignsIds();
+            givenAnalysisSucceeds();
+
+            // when
+            JdImportJobResponse response = service.importJds(USER_ID, file("jds.csv", content));
+
+            // then
+            assertThat(response.getFormat()).isEqualTo("CSV");
+            assertThat(response.getImported()).isEqualTo(1);
+            assertThat(response.getInvalid()).isEqualTo(1);
+            assertThat(response.getErrors()).containsExactly("6행: 컬럼 수가 헤더와 다릅니다 (2/4)");
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<JobDescription>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdRepository).saveAll(captor.capture());
+            JobDescription saved = captor.getValue().get(0);
+            assertThat(saved.getUserId()).isEqualTo(USER_ID);
+            assertThat(saved.getCompanyName()).isEqualTo("토스");
+            assertThat(saved.getPosition()).isEqualTo("백엔드 개발자");
+            assertThat(saved.getOriginalText()).isEqualTo(multiline);
+            assertThat(saved.getOriginalUrl()).isNull();
+        }
+
+        @Test
+        @DisplayName("분석은 비동기 - 등록 후 ANALYZING으로 응답, 마지막 분석 완료 시 COMPLETED + 재워밍")
+        void importJds_AsyncAnalysis_CompletesWhenLastAnalysisFinishes() throws Exception {
+            // given
+            List<Runnable> queued = new ArrayList<>();
+            JdImportService asyncService = createService(queued::add);
+            givenSaveAllAssignsIds();
+            given(llmClient.analyzeJd(JD_TEXT))
+                    .willReturn(new LlmClient.JdAnalysisResult(List.of("Java"), List.of("3년 이상"), "요약"))
+                    .willThrow(new RuntimeException("LLM timeout"));
+            given(jdRepository.findById(anyLong())).willAnswer(invocation -> Optional.of(createJd(invocation.getArgument(0))));
+
+            // when
+            JdImportJobResponse response = asyncService.importJds(USER_ID,
+                    file("jds.jsonl", jsonRow("네이버") + "\n" + jsonRow("카카오")));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(JdImportJobResponse.Status.ANALYZING);
+            assertThat(response.getImported()).isEqualTo(2);
+            assertThat(queued).hasSize(2);
+            verify(jdService, times(1)).warmJdList(USER_ID);
+            verifyNoInteractions(llmClient);
+
+            // when - 분석 풀 실행
+            queued.forEach(Runnable::run);
+
+            // then
+            ArgumentCaptor<JdImportJobResponse> captor = ArgumentCaptor.forClass(JdImportJobResponse.class);
+            ArgumentCaptor<Long> versions = ArgumentCaptor.forClass(Long.class);
+            verify(jobStore, atLeastOnce()).save(captor.capture(), versions.capture());
+            assertThat(versions.getAllValues()).isSorted().doesNotHaveDuplicates();
+            JdImportJobResponse last = captor.getValue();
+            assertThat(last.getStatus()).isEqualTo(JdImportJobResponse.Status.COMPLETED);
+            assertThat(last.getAnalyzed()).isEqualTo(1);
+            assertThat(last.getAnalysisFailed()).isEqualTo(1);
+            assertThat(last.getErrors()).singleElement().asString().contains("분석에 실패했습니다");
+            verify(jdService, times(2)).warmJdList(USER_ID);
+        }
+
+        @Test
+        @DisplayName("종료 시 시작하지 않은 분석은 실패로 집계하고 작업 완료 - 이후 풀이 실행해도 LLM 호출 없음")
+        void abandonPendingAnalyses_CountsQueuedAsFailed() throws Exception {
+            // given
+            List<Runnable> queued = new ArrayList<>();
+            JdImportService asyncService = createService(queued::add);
+            givenSaveAllAssignsIds();
+            asyncService.importJds(USER_ID, file("jds.jsonl", jsonRow("네이버") + "\n" + jsonRow("카카오")));
+
+            // when
+            asyncService.abandonPendingAnalyses();
+            queued.forEach(Runnable::run);
+
+            // then
+            ArgumentCaptor<JdImportJobResponse> captor = ArgumentCaptor.forClass(JdImportJobResponse.class);
+            verify(jobStore, atLeastOnce()).save(captor.capture(), anyLong());
+            JdImportJobResponse last = captor.getValue();
+            assertThat(last.getStatus()).isEqualTo(JdImportJobResponse.Status.COMPLETED);
+            assertThat(last.getAnalysisFailed()).isEqualTo(2);
+            assertThat(last.getErrors()).singleElement().asString().contains("서버 종료로 JD 2건");
+            verifyNoInteractions(llmClient);
+            verify(jdService, times(2)).warmJdList(USER_ID);
+        }
+
+        @Test
+        @DisplayName("분석 대기열 포화 - 해당 JD는 분석 실패로 집계하고 등록은 유지")
+        void importJds_AnalysisQueueFull_CountsAsFailed() throws Exception {
+            // given
+            JdImportService saturated = createService(task -> {
+                throw new RejectedExecutionException("queue full");
+            });
+            givenSaveAllAssignsIds();
+
+            // when
+            JdImportJobResponse response = saturated.importJds(USER_ID, file("jds.jsonl", jsonRow("네이버")));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(JdImportJobResponse.Status.COMPLETED);
+            assertThat(response.getImported()).isEqualTo(1);
+            assertThat(response.getAnalysisFailed()).isEqualTo(1);
+            verifyNoInteractions(llmClient);
+        }
+
+        @Test
+        @DisplayName("max-rows 초과 행은 무시")
+        void importJds_ExceedsMaxRows_IgnoresRest() throws Exception {
+            // given
+            properties.setMaxRows(1);
+            givenSaveAllAssignsIds();
+            givenAnalysisSucceeds();
+
+            // when
+            JdImportJobResponse response = service.importJds(USER_ID,
+                    file("jds.jsonl", jsonRow("네이버") + "\n" + jsonRow("카카오")));
+
+            // then
+            assertThat(response.getTotalRows()).isEqualTo(1);
+            assertThat(response.getImported()).isEqualTo(1);
+            assertThat(response.getErrors()).singleElement().asString().contains("최대 1행");
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식 / originalText 헤더 없는 CSV - InvalidImportFileException")
+        void importJds_InvalidFile_ThrowsException() {
+            assertThatThrownBy(() -> service.importJds(USER_ID, file("jds.xlsx", "x")))
+                    .isInstanceOf(InvalidImportFileException.class);
+            assertThatThrownBy(() -> service.importJds(USER_ID, file("jds.csv", "companyName,text\n네이버,내용\n")))
+                    .isInstanceOf(InvalidImportFileException.class)
+                    .hasMessageContaining("originalText");
+            verifyNoInteractions(jdRepository, jobStore);
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob 메서드")
+    class GetJobTest {
+
+        @Test
+        @DisplayName("다른 사용자의 작업은 조회 불가 - JdImportJobNotFoundException")
+        void getJob_OtherUser_ThrowsException() {
+            // given
+            JdImportJobResponse job = JdImportJobResponse.builder().jobId("job-1").userId(2L).build();
+            given(jobStore.find("job-1")).willReturn(Optional.of(job));
+
+            // when & then
+            assertThatThrownBy(() -> service.getJob(USER_ID, "job-1"))
+                    .isInstanceOf(JdImportJobNotFoundException.class);
+            assertThat(service.getJob(2L, "job-1")).isSameAs(job);
+        }
+    }
+
+    // Helper methods
+    private void givenSaveAllAssignsIds() {
+        given(jdRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<JobDescription> jds = invocation.getArgument(0);
+            for (JobDescription jd : jds) {
+                setField(jd, "id", idSequence.incrementAndGet());
+            }
+            return jds;
+        });
+    }
+
+    private void givenAnalysisSucceeds() {
+        given(llmClient.analyzeJd(anyString()))
+                .willReturn(new LlmClient.JdAnalysisResult(List.of("Java"), List.of("3년 이상"), "요약"));
+        given(jdRepository.findById(anyLong())).willAnswer(invocation -> Optional.of(createJd(invocation.getArgument(0))));
+    }
+
+    private String jsonRow(String companyName) {
+        return "{\"companyName\": \"" + companyName + "\", \"position\": \"백엔드 개발자\", \"originalText\": \"" + JD_TEXT + "\"}";
+    }
+
+    private MockMultipartFile file(String filename, String content) {
+        return new MockMultipartFile("file", filename, null, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private JobDescription createJd(Long id) throws Exception {
+        JobDescription jd = JobDescription.builder()
+                .userId(USER_ID)
+                .originalText(JD_TEXT)
+                .build();
+        setField(jd, "id", id);
+        return jd;
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -6,6 +6,7 @@ import com.interviewcoach.question.application.dto.response.JdResponse;
 import com.interviewcoach.question.domain.entity.JobDescription;
 import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
 import com.interviewcoach.question.exception.JdNotFoundException;
+import com.interviewcoach.question.infrastructure.cache.QuestionSetCache;
 import com.interviewcoach.question.infrastructure.llm.LlmClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
@@ -38,6 +41,12 @@ class JdServiceTest {
     @Mock
     private LlmClient llmClient;
 
+    @Mock
+    private QuestionSetCache questionSetCache;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private JdService jdService;
 
@@ -173,8 +182,11 @@ class JdServiceTest {
                     "백엔드 개발자 포지션입니다."
             );
 
+            Cache jdListCache = mock(Cache.class);
+
             given(jdRepository.findById(JD_ID)).willReturn(Optional.of(jd));
             given(llmClient.analyzeJd(anyString())).willReturn(mockResult);
+            given(cacheManager.getCache("jd-list")).willReturn(jdListCache);
 
             // when
             JdAnalysisResponse response = jdService.analyzeJd(JD_ID);
@@ -186,6 +198,8 @@ class JdServiceTest {
             assertThat(response.getRequirements()).containsExactly("3년 이상 경험", "RESTful API 설계");
             assertThat(response.getSummary()).isEqualTo("백엔드 개발자 포지션입니다.");
             verify(llmClient, times(1)).analyzeJd(anyString());
+            // [B-28] 분석 결과가 목록 응답에도 반영되도록 소유자의 jd-list 무효화
+            verify(jdListCache).evict(USER_ID);
         }
 
         @Test
@@ -217,6 +231,7 @@ class JdServiceTest {
 
             // then
             verify(jdRepository, times(1)).delete(jd);
+            verify(questionSetCache).invalidateAfterCommit(JD_ID);
         }
 
         @Test
@@ -232,6 +247,7 @@ class JdServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("해당 JD를 삭제할 권한이 없습니다.");
             verify(jdRepository, never()).delete(any());
+            verify(questionSetCache, never()).invalidateAfterCommit(any());
         }
 
         @Test
@@ -0,0 +1,311 @@
+package com.interviewcoach.question.application.service;
+
+import com.interviewcoach.question.application.dto.request.BatchGenerateQuestionsRequest;
+import com.interviewcoach.question.application.dto.response.BatchGenerationProgress;
+import com.interviewcoach.question.application.dto.response.BatchGenerationResponse;
+import com.interviewcoach.question.domain.entity.GeneratedQuestion;
+import com.interviewcoach.question.domain.entity.JobDescription;
+import com.interviewcoach.question.domain.repository.GeneratedQuestionRepository;
+import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
+import com.interviewcoach.question.exception.BatchGenerationBusyException;
+import com.interviewcoach.question.infrastructure.cache.QuestionSetCache;
+import com.interviewcoach.question.infrastructure.config.BatchGenerationProperties;
+import com.interviewcoach.question.infrastructure.llm.LlmClient;
+import com.interviewcoach.question.infrastructure.llm.LlmClient.BatchJdInput;
+import com.interviewcoach.question.infrastructure.rag.QuestionEmbeddingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionBatchGenerationService 단위 테스트")
+class QuestionBatchGenerationServiceTest {
+
+    @Mock
+    private JobDescriptionRepository jdRepository;
+
+    @Mock
+    private GeneratedQuestionRepository questionRepository;
+
+    @Mock
+    private LlmClient llmClient;
+
+    @Mock
+    private QuestionEmbeddingService embeddingService;
+
+    @Mock
+    private QuestionSetCache questionSetCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchGenerationProperties properties;
+    private QuestionBatchGenerationService service;
+
+    private static final Long USER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BatchGenerationProperties();
+        properties.setMaxJdsPerPrompt(2);
+        properties.setMaxQuestionsPerPrompt(20);
+        service = createService(Runnable::run);
+    }
+
+    private QuestionBatchGenerationService createService(Executor coordinatorExecutor) {
+        // 워커 풀은 호출 스레드에서 바로 실행
+        return new QuestionBatchGenerationService(jdRepository, questionRepository, llmClient, embeddingService,
+                questionSetCache, transactionManager, properties, coordinatorExecutor, Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("generateBatch 메서드")
+    class GenerateBatchTest {
+
+        @Test
+        @DisplayName("여러 JD를 프롬프트 단위로 묶어 생성하고 프롬프트마다 DELETE 1회 + saveAll 1회")
+        void generateBatch_PacksJdsIntoPrompts() throws Exception {
+            // given
+            BatchGenerateQuestionsRequest request = createRequest(List.of(1L, 2L, 3L), 5);
+            given(jdRepository.findAllById(List.of(1L, 2L, 3L)))
+                    .willReturn(List.of(createJd(1L), createJd(2L), createJd(3L)));
+            given(embeddingService.isAvailable()).willReturn(false);
+            given(llmClient.generateQuestionsBatch(anyList(), eq("mixed"), eq(5), eq(3)))
+                    .willAnswer(invocation -> resultsFor(invocation.getArgument(0)));
+            given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            List<BatchGenerationProgress> events = new ArrayList<>();
+
+            // when
+            BatchGenerationResponse response = service.generateBatch(USER_ID, request, events::add);
+
+            // then
+            assertThat(response.getTotalJds()).isEqualTo(3);
+            assertThat(response.getSucceeded()).isEqualTo(3);
+            assertThat(response.getFailedJdIds()).isEmpty();
+            assertThat(response.getTotalQuestions()).isEqualTo(6);
+            assertThat(response.getLlmPrompts()).isEqualTo(2);
+
+            verify(llmClient, times(2)).generateQuestionsBatch(anyList(), anyString(), anyInt(), anyInt());
+            verify(questionRepository).deleteAllByJdIdIn(argThat((Collection<Long> ids) -> ids.containsAll(List.of(1L, 2L))));
+            verify(questionRepository).deleteAllByJdIdIn(argThat((Collection<Long> ids) -> ids.equals(Set.of(3L))));
+            verify(questionRepository, times(2)).saveAll(anyList());
+            verify(questionSetCache, times(3)).replaceAfterCommit(anyLong(), argThat(list -> list.size() == 2));
+
+            assertThat(events).extracting(BatchGenerationProgress::getJdId).containsExactly(1L, 2L, 3L);
+            assertThat(events).extracting(BatchGenerationProgress::getCompleted).containsExactly(1, 2, 3);
+            assertThat(events).allMatch(event -> event.getStatus() == BatchGenerationProgress.Status.COMPLETED
+                    && event.getTotal() == 3 && event.getQuestionCount() == 2);
+        }
+
+        @Test
+        @DisplayName("없는 JD는 FAILED 이벤트, 나머지 JD는 계속 생성")
+        void generateBatch_MissingJd_ReportsFailure() throws Exception {
+            // given
+            BatchGenerateQuestionsRequest request = createRequest(List.of(1L, 999L), 5);
+            given(jdRepository.findAllById(List.of(1L, 999L))).willReturn(List.of(createJd(1L)));
+            given(embeddingService.isAvailable()).willReturn(false);
+            given(llmClient.generateQuestionsBatch(anyList(), anyString(), anyInt(), anyInt()))
+                    .willAnswer(invocation -> resultsFor(invocation.getArgument(0)));
+            given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            List<BatchGenerationProgress> events = new ArrayList<>();
+
+            // when
+            BatchGenerationResponse response = service.generateBatch(USER_ID, request, events::add);
+
+            // then
+            assertThat(response.getSucceeded()).isEqualTo(1);
+            assertThat(response.getFailedJdIds()).containsExactly(999L);
+            assertThat(events).hasSize(2);
+            assertThat(events.get(0).getJdId()).isEqualTo(999L);
+            assertThat(events.get(0).getStatus()).isEqualTo(BatchGenerationProgress.Status.FAILED);
+            assertThat(events.get(0).getMessage()).contains("JD를 찾을 수 없습니다");
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 JD는 생성하지 않고 FAILED 이벤트")
+        void generateBatch_OtherUsersJd_ReportsFailure() throws Exception {
+            // given
+            BatchGenerateQuestionsRequest request = createRequest(List.of(1L, 2L), 5);
+            JobDescription othersJd = createJd(2L);
+            setField(othersJd, "userId", 99L);
+            given(jdRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(createJd(1L), othersJd));
+            given(embeddingService.isAvailable()).willReturn(false);
+            given(llmClient.generateQuestionsBatch(anyList(), anyString(), anyInt(), anyInt()))
+                    .willAnswer(invocation -> resultsFor(invocation.getArgument(0)));
+            given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            List<BatchGenerationProgress> events = new ArrayList<>();
+
+            // when
+            BatchGenerationResponse response = service.generateBatch(USER_ID, request, events::add);
+
+            // then
+            assertThat(response.getSucceeded()).isEqualTo(1);
+            assertThat(response.getFailedJdIds()).containsExactly(2L);
+            assertThat(events.get(0).getJdId()).isEqualTo(2L);
+            assertThat(events.get(0).getStatus()).isEqualTo(BatchGenerationProgress.Status.FAILED);
+            verify(llmClient).generateQuestionsBatch(
+                    argThat((List<BatchJdInput> prompt) -> prompt.stream().map(BatchJdInput::jdId).toList().equals(List.of(1L))),
+                    anyString(), anyInt(), anyInt());
+            verify(questionRepository, never()).deleteAllByJdIdIn(argThat((Collection<Long> ids) -> ids.contains(2L)));
+        }
+
+        @Test
+        @DisplayName("LLM 호출 실패 시 해당 프롬프트의 JD만 FAILED, 저장하지 않음")
+        void generateBatch_LlmFailure_FailsPromptJds() throws Exception {
+            // given
+            BatchGenerateQuestionsRequest request = createRequest(List.of(1L, 2L), 5);
+            given(jdRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(createJd(1L), createJd(2L)));
+            given(embeddingService.isAvailable()).willReturn(false);
+            given(llmClient.generateQuestionsBatch(anyList(), anyString(), anyInt(), anyInt()))
+                    .willThrow(new RuntimeException("LLM unavailable"));
+            List<BatchGenerationProgress> events = new ArrayList<>();
+
+            // when
+            BatchGenerationResponse response = service.generateBatch(USER_ID, request, events::add);
+
+            // then
+            assertThat(response.getSucceeded()).isZero();
+            assertThat(response.getFailedJdIds()).containsExactly(1L, 2L);
+            assertThat(events).allMatch(event -> event.getStatus() == BatchGenerationProgress.Status.FAILED);
+            verify(questionRepository, never()).saveAll(anyList());
+            verifyNoInteractions(questionSetCache);
+        }
+
+        @Test
+        @DisplayName("RAG 사용 가능 시 JD별 유사 질문을 함께 전달하고 임베딩은 한 번에 저장")
+        void generateBatch_WithRag_StoresEmbeddingsOnce() throws Exception {
+            // given
+            BatchGenerateQuestionsRequest request = createRequest(List.of(1L, 2L), 5);
+            given(jdRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(createJd(1L), createJd(2L)));
+            given(embeddingService.isAvailable()).willReturn(true);
+            given(embeddingService.findSimilarQuestions(anyString(), eq("mixed"), anyList(), eq(5))).willReturn(List.of());
+            given(llmClient.generateQuestionsBatch(anyList(), anyString(), anyInt(), anyInt()))
+                    .willAnswer(invocation -> resultsFor(invocation.getArgument(0)));
+            given(questionRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            service.generateBatch(USER_ID, request, event -> { });
+
+            // then
+            verify(embeddingService, times(2)).findSimilarQuestions(anyString(), anyString(), anyList(), anyInt());
+            verify(embeddingService).storeQuestionsForJds(argThat((List<GeneratedQuestion> questions) -> questions.size() == 4),
+                    argThat((Map<Long, JobDescription> jds) -> jds.keySet().equals(Set.of(1L, 2L))));
+        }
+    }
+
+    @Nested
+    @DisplayName("packIntoPrompts 메서드")
+    class PackIntoPromptsTest {
+
+        @Test
+        @DisplayName("JD별 질문 수가 많으면 프롬프트당 JD 수를 줄임 (질문 20개 / 10개 = 2개)")
+        void pack_LimitedByQuestionCount() {
+            // given
+            properties.setMaxJdsPerPrompt(5);
+            List<BatchJdInput> inputs = List.of(input(1L, 100), input(2L, 100), input(3L, 100));
+
+            // when
+            List<List<BatchJdInput>> prompts = service.packIntoPrompts(inputs, 10);
+
+            // then
+            assertThat(prompts).hasSize(2);
+            assertThat(prompts.get(0)).extracting(BatchJdInput::jdId).containsExactly(1L, 2L);
+            assertThat(prompts.get(1)).extracting(BatchJdInput::jdId).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("JD 원문 합계가 한도를 넘으면 다음 프롬프트로 분리 (한도보다 긴 JD는 단독)")
+        void pack_LimitedByJdChars() {
+            // given
+            properties.setMaxJdsPerPrompt(5);
+            properties.setMaxJdCharsPerPrompt(1000);
+            List<BatchJdInput> inputs = List.of(input(1L, 600), input(2L, 600), input(3L, 1500), input(4L, 300));
+
+            // when
+            List<List<BatchJdInput>> prompts = service.packIntoPrompts(inputs, 2);
+
+            // then
+            assertThat(prompts).extracting(prompt -> prompt.stream().map(BatchJdInput::jdId).toList())
+                    .containsExactly(List.of(1L), List.of(2L), List.of(3L), List.of(4L));
+        }
+    }
+
+    @Nested
+    @DisplayName("streamBatch 메서드")
+    class StreamBatchTest {
+
+        @Test
+        @DisplayName("일괄 생성 풀 포화 시 BatchGenerationBusyException")
+        void streamBatch_Saturated_ThrowsBusy() throws Exception {
+            // given
+            QuestionBatchGenerationService saturated = createService(task -> {
+                throw new RejectedExecutionException("full");
+            });
+            BatchGenerateQuestionsRequest request = createRequest(List.of(1L), 5);
+
+            // when & then
+            assertThatThrownBy(() -> saturated.streamBatch(USER_ID, request))
+                    .isInstanceOf(BatchGenerationBusyException.class);
+            verifyNoInteractions(llmClient);
+        }
+    }
+
+    // Helper methods
+    private Map<Long, List<LlmClient.GeneratedQuestionResult>> resultsFor(List<BatchJdInput> prompt) {
+        Map<Long, List<LlmClient.GeneratedQuestionResult>> results = new LinkedHashMap<>();
+        prompt.forEach(input -> results.put(input.jdId(), List.of(
+                new LlmClient.GeneratedQuestionResult("technical", "기술역량", "JD " + input.jdId() + " 질문 1", "힌트", "답변", 3),
+                new LlmClient.GeneratedQuestionResult("behavioral", "협업", "JD " + input.jdId() + " 질문 2", "힌트", "답변", 3))));
+        return results;
+    }
+
+    private BatchJdInput input(Long jdId, int textLength) {
+        return new BatchJdInput(jdId, "a".repeat(textLength), List.of("Java"), List.of());
+    }
+
+    private BatchGenerateQuestionsRequest createRequest(List<Long> jdIds, int count) throws Exception {
+        BatchGenerateQuestionsRequest request = new BatchGenerateQuestionsRequest();
+        setField(request, "jdIds", jdIds);
+        setField(request, "count", count);
+        return request;
+    }
+
+    private JobDescription createJd(Long id) throws Exception {
+        JobDescription jd = JobDescription.builder()
+                .userId(USER_ID)
+                .companyName("회사 " + id)
+                .position("백엔드 개발자")
+                .originalText("JD 내용 " + id)
+                .parsedSkills(new ArrayList<>(List.of("Java", "Spring Boot")))
+                .build();
+        setField(jd, "id", id);
+        return jd;
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
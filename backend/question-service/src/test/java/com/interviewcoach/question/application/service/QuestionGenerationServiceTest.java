@@ -8,6 +8,7 @@ import com.interviewcoach.question.domain.entity.JobDescription;
 import com.interviewcoach.question.domain.repository.GeneratedQuestionRepository;
 import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
 import com.interviewcoach.question.exception.JdNotFoundException;
+import com.interviewcoach.question.infrastructure.cache.QuestionSetCache;
 import com.interviewcoach.question.infrastructure.llm.LlmClient;
 import com.interviewcoach.question.infrastructure.rag.QuestionEmbeddingService;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,6 +51,9 @@ class QuestionGenerationServiceTest {
     @Mock
     private QuestionEmbeddingService embeddingService;
 
+    @Mock
+    private QuestionSetCache questionSetCache;
+
     @InjectMocks
     private QuestionGenerationService questionGenerationService;
 
@@ -103,6 +108,9 @@ class QuestionGenerationServiceTest {
                     eq(3),
                     eq(3)
             );
+
+            // [B-27] 커밋 이후 질문 세트 캐시 교체
+            verify(questionSetCache).replaceAfterCommit(eq(JD_ID), argThat(cached -> cached.size() == 2));
         }
 
         @Test
@@ -180,14 +188,20 @@ class QuestionGenerationServiceTest {
     @DisplayName("getQuestionsByJd 메서드")
     class GetQuestionsByJdTest {
 
+        private void givenCacheMiss() {
+            given(questionSetCache.getOrLoad(eq(JD_ID), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<List<QuestionResponse>>>getArgument(1).get());
+        }
+
         @Test
-        @DisplayName("JD별 질문 목록 조회 성공")
+        @DisplayName("JD별 질문 목록 조회 성공 - 캐시 미스 시 로더로 DB 조회")
         void getQuestionsByJd_Success() throws Exception {
             // given
             List<GeneratedQuestion> questions = List.of(
                     createGeneratedQuestion(1L, JD_ID, "technical", "Java", "질문 1", 3),
                     createGeneratedQuestion(2L, JD_ID, "behavioral", "Soft Skills", "질문 2", 2)
             );
+            givenCacheMiss();
             given(questionRepository.findByJdId(JD_ID)).willReturn(questions);
 
             // when
@@ -203,6 +217,7 @@ class QuestionGenerationServiceTest {
         @DisplayName("질문이 없는 JD 조회 시 빈 목록 반환")
         void getQuestionsByJd_Empty() {
             // given
+            givenCacheMiss();
             given(questionRepository.findByJdId(JD_ID)).willReturn(List.of());
 
             // when
@@ -211,6 +226,22 @@ class QuestionGenerationServiceTest {
             // then
             assertThat(responses).isEmpty();
         }
+
+        @Test
+        @DisplayName("캐시 히트 시 DB 조회 없이 반환")
+        void getQuestionsByJd_CacheHit() {
+            // given
+            List<QuestionResponse> cached = List.of(QuestionResponse.builder()
+                    .id(1L).jdId(JD_ID).questionType("technical").questionText("질문 1").build());
+            given(questionSetCache.getOrLoad(eq(JD_ID), any())).willReturn(cached);
+
+            // when
+            List<QuestionResponse> responses = questionGenerationService.getQuestionsByJd(JD_ID);
+
+            // then
+            assertThat(responses).isSameAs(cached);
+            verifyNoInteractions(questionRepository);
+        }
     }
 
     // Helper methods
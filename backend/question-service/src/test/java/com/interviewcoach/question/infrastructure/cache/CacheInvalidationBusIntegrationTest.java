@@ -0,0 +1,157 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.response.QuestionResponse;
+import com.interviewcoach.question.infrastructure.config.NearCacheProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [B-29] 두 인스턴스(파드)가 하나의 Redis를 공유할 때 L1 무효화 전파 검증
+ */
+@DisplayName("CacheInvalidationBus 멀티 인스턴스 통합 테스트 (Embedded Redis)")
+class CacheInvalidationBusIntegrationTest {
+
+    private static final Long JD_ID = 200L;
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private Instance podA;
+    private Instance podB;
+
+    private static final class Instance {
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final StringRedisTemplate redisTemplate;
+        private final CacheInvalidationBus invalidationBus;
+        private final QuestionSetCache questionSetCache;
+        private final LocalCacheTier jdDetail = new LocalCacheTier("jd-detail", Duration.ofMinutes(1), 100);
+
+        private Instance(int port) {
+            connectionFactory = new LettuceConnectionFactory("localhost", port);
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            redisTemplate = new StringRedisTemplate(connectionFactory);
+            invalidationBus = new CacheInvalidationBus(redisTemplate, new ObjectMapper());
+            invalidationBus.register(jdDetail);
+            questionSetCache = new QuestionSetCache(redisTemplate, new ObjectMapper(), invalidationBus,
+                    new NearCacheProperties(), Duration.ofMinutes(1), Duration.ofHours(1));
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(invalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+            container.afterPropertiesSet();
+            container.start();
+        }
+
+        private void close() throws Exception {
+            container.stop();
+            container.destroy();
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        podA = new Instance(redisPort);
+        podB = new Instance(redisPort);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        podA.redisTemplate.delete(List.of(
+                QuestionSetCache.KEY_PREFIX + "{" + JD_ID + "}:version",
+                QuestionSetCache.KEY_PREFIX + "{" + JD_ID + "}:data"));
+        podA.close();
+        podB.close();
+    }
+
+    @Test
+    @DisplayName("다른 파드의 질문 재생성 후 이 파드의 L1 대신 새 세트를 응답")
+    void replaceOnOtherPod_InvalidatesLocalTier() {
+        // given - podA의 L1에 이전 세트 적재
+        podA.questionSetCache.putIfCurrent(JD_ID, podA.questionSetCache.get(JD_ID), List.of(question("이전 질문")));
+        assertThat(podA.questionSetCache.get(JD_ID).isHit()).isTrue();
+        assertThat(podA.questionSetCache.get(JD_ID).version()).isNull(); // L1 히트
+
+        // when - podB에서 재생성
+        podB.questionSetCache.replaceAfterCommit(JD_ID, List.of(question("새 질문")));
+
+        // then
+        awaitTrue(() -> "새 질문".equals(podA.questionSetCache.get(JD_ID).questions().get(0).getQuestionText()));
+    }
+
+    @Test
+    @DisplayName("발행한 파드 자신의 L1은 메시지로 다시 무효화하지 않음")
+    void publish_InvalidatesOtherPodsOnly() throws Exception {
+        // given
+        podA.jdDetail.put("1", "detail-a");
+        podB.jdDetail.put("1", "detail-b");
+        long publisherEpoch = podB.jdDetail.epoch();
+
+        // when
+        podB.invalidationBus.publish("jd-detail", "1");
+
+        // then
+        awaitTrue(() -> podA.jdDetail.get("1") == null);
+        Thread.sleep(200);
+        assertThat(podB.jdDetail.get("1")).isEqualTo("detail-b");
+        assertThat(podB.jdDetail.epoch()).isEqualTo(publisherEpoch);
+    }
+
+    private void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 3s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private QuestionResponse question(String text) {
+        return QuestionResponse.builder()
+                .id(1L)
+                .jdId(JD_ID)
+                .questionType("technical")
+                .questionText(text)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.interviewcoach.question.domain.entity.GeneratedQuestion;
+import com.interviewcoach.question.domain.entity.JobDescription;
+import com.interviewcoach.question.domain.repository.GeneratedQuestionRepository;
+import com.interviewcoach.question.domain.repository.JobDescriptionRepository;
+import com.interviewcoach.question.infrastructure.config.CacheConfig;
+import com.interviewcoach.question.infrastructure.config.HibernateCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.MockReset;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * [B-31] Hibernate 2차 캐시 - 엔티티/쿼리 캐시 히트, 다른 파드 무효화 메시지 수신 시 리전 evict
+ */
+@DataJpaTest(properties = "spring.datasource.url=" + EntityCacheIntegrationTest.JDBC_URL)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({HibernateCacheConfig.class, EntityCacheInvalidation.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Hibernate 2차 캐시 통합 테스트 (H2)")
+class EntityCacheIntegrationTest {
+
+    // H2에 jsonb 타입이 없어 VARCHAR 도메인으로 대체 (JSON 도메인은 재조회 시 문자열로 이중 인코딩됨)
+    static final String JDBC_URL =
+            "jdbc:h2:mem:entity-cache;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS VARCHAR";
+
+    @Autowired
+    private JobDescriptionRepository jdRepository;
+
+    @Autowired
+    private GeneratedQuestionRepository questionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 핸들러 등록은 컨텍스트 생성 시 1회뿐이므로 테스트 간 호출 기록 유지
+    @MockBean(reset = MockReset.NONE)
+    private CacheInvalidationBus invalidationBus;
+
+    private TransactionTemplate tx;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("JD 재조회는 2차 캐시 히트, 다른 파드의 jd-detail 무효화 수신 시 evict")
+    void jobDescription_CachedAndEvictedByRemoteInvalidation() {
+        // given
+        Long jdId = tx.execute(status -> jdRepository.save(JobDescription.builder()
+                .userId(1L).companyName("카카오").position("백엔드").originalText("JD 내용").build()).getId());
+
+        // when
+        tx.executeWithoutResult(status -> jdRepository.findById(jdId));
+        tx.executeWithoutResult(status -> jdRepository.findById(jdId));
+
+        // then
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheInvalidation.JOB_DESCRIPTION_REGION)
+                .getHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(sessionFactory.getCache().containsEntity(JobDescription.class, jdId)).isTrue();
+
+        registeredHandler(CacheConfig.JD_DETAIL).invalidate(String.valueOf(jdId));
+        assertThat(sessionFactory.getCache().containsEntity(JobDescription.class, jdId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("JD별 질문 조회는 쿼리 캐시 히트, 다른 파드의 questions-by-jd 무효화 수신 시 리전 evict")
+    void questionsByJd_QueryCachedAndEvictedByRemoteInvalidation() {
+        // given
+        Long jdId = 100L;
+        tx.executeWithoutResult(status -> questionRepository.saveAll(List.of(
+                question(jdId, "질문 1"), question(jdId, "질문 2"))));
+
+        // when
+        tx.executeWithoutResult(status -> questionRepository.findByJdId(jdId));
+        tx.executeWithoutResult(status -> questionRepository.findByJdId(jdId));
+
+        // then
+        assertThat(statistics.getQueryRegionStatistics(EntityCacheInvalidation.QUESTIONS_BY_JD_QUERY_REGION)
+                .getHitCount()).isEqualTo(1);
+
+        registeredHandler(QuestionSetCache.CACHE_NAME).invalidate(String.valueOf(jdId));
+        tx.executeWithoutResult(status -> questionRepository.findByJdId(jdId));
+        assertThat(statistics.getQueryRegionStatistics(EntityCacheInvalidation.QUESTIONS_BY_JD_QUERY_REGION)
+                .getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 파드의 질문 재생성(삭제 + 삽입)은 쿼리 캐시를 즉시 무효화")
+    void questionsByJd_LocalReplaceInvalidatesQueryCache() {
+        // given
+        Long jdId = 200L;
+        tx.executeWithoutResult(status -> questionRepository.saveAll(List.of(question(jdId, "이전 질문"))));
+        tx.executeWithoutResult(status -> questionRepository.findByJdId(jdId));
+
+        // when
+        tx.executeWithoutResult(status -> {
+            questionRepository.deleteByJdId(jdId);
+            questionRepository.saveAll(List.of(question(jdId, "새 질문")));
+        });
+
+        // then
+        List<GeneratedQuestion> questions = tx.execute(status -> questionRepository.findByJdId(jdId));
+        assertThat(questions).extracting(GeneratedQuestion::getQuestionText).containsExactly("새 질문");
+    }
+
+    private CacheInvalidationBus.InvalidationHandler registeredHandler(String cacheName) {
+        ArgumentCaptor<CacheInvalidationBus.InvalidationHandler> captor =
+                ArgumentCaptor.forClass(CacheInvalidationBus.InvalidationHandler.class);
+        verify(invalidationBus).register(eq(cacheName), captor.capture());
+        return captor.getValue();
+    }
+
+    private GeneratedQuestion question(Long jdId, String text) {
+        return GeneratedQuestion.builder()
+                .jdId(jdId)
+                .questionType("technical")
+                .questionText(text)
+                .difficulty(3)
+                .build();
+    }
+}
@@ -0,0 +1,356 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.interviewcoach.question.application.dto.response.JdResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCache 단위 테스트")
+class NearCacheTest {
+
+    private static final Long KEY = 1L;
+
+    @Mock
+    private RedisCache remote;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private LocalCacheTier local;
+    private NearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = new LocalCacheTier("jd-detail", Duration.ofMinutes(1), 100);
+        cache = new NearCache("jd-detail", local, remote, invalidationBus, Duration.ofMinutes(5), 1.0);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class GetTest {
+
+        @Test
+        @DisplayName("Redis 히트 값은 로컬에 채워 다음 조회는 Redis를 거치지 않음")
+        void get_RemoteHitFillsLocal() {
+            // given
+            JdResponse jd = jdResponse(KEY);
+            given(remote.get(KEY)).willReturn(new SimpleValueWrapper(envelope(jd, 0L, Duration.ofMinutes(5))));
+
+            // when
+            Object first = cache.get(KEY).get();
+            Object second = cache.get(KEY).get();
+
+            // then
+            assertThat(first).isSameAs(jd);
+            assertThat(second).isSameAs(jd);
+            verify(remote, times(1)).get(KEY);
+            assertThat(cache.hitCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Redis 조회 중 무효화가 도착하면 읽은 값을 L1에 적재하지 않음")
+        void get_InvalidatedDuringRemoteLookup_NotCachedLocally() {
+            // given - 이전 값을 읽는 사이 다른 파드의 무효화 메시지 도착
+            JdResponse stale = jdResponse(KEY);
+            given(remote.get(KEY)).willAnswer(invocation -> {
+                local.invalidate(String.valueOf(KEY));
+                return new SimpleValueWrapper(envelope(stale, 0L, Duration.ofMinutes(5)));
+            });
+
+            // when
+            cache.get(KEY);
+
+            // then
+            assertThat(local.get(String.valueOf(KEY))).isNull();
+        }
+
+        @Test
+        @DisplayName("이전 포맷 값(역직렬화 실패)은 미스로 처리하고 Redis에서 삭제")
+        void get_UnreadableEntryIsMiss() {
+            // given
+            given(remote.get(KEY)).willThrow(new SerializationException("Could not read Smile"));
+
+            // when & then
+            assertThat(cache.get(KEY)).isNull();
+            verify(remote).evict(KEY);
+            assertThat(cache.missCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 미스로 처리하고 로더 결과를 반환")
+        void get_RedisDownFallsBackToLoader() {
+            // given
+            JdResponse jd = jdResponse(KEY);
+            given(remote.get(KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            JdResponse loaded = cache.get(KEY, () -> jd);
+
+            // then
+            assertThat(loaded).isSameAs(jd);
+            verify(remote).put(eq(KEY), argThat(stored -> ((CacheEnvelope<?>) stored).value() == jd));
+        }
+
+        @Test
+        @DisplayName("Redis 쓰기 실패 시에도 로더 결과를 반환하고 L1에는 적재")
+        void get_RedisWriteFailureStillReturnsLoadedValue() {
+            // given
+            JdResponse jd = jdResponse(KEY);
+            given(remote.get(KEY)).willThrow(new RedisConnectionFailureException("down"));
+            willThrow(new RedisConnectionFailureException("down")).given(remote).put(eq(KEY), any());
+
+            // when
+            JdResponse loaded = cache.get(KEY, () -> jd);
+
+            // then
+            assertThat(loaded).isSameAs(jd);
+            assertThat(cache.localSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("봉투 도입 이전 형식(value 없음)은 미스로 처리하고 Redis에서 삭제")
+        void get_LegacyEntryWithoutEnvelopeIsMiss() {
+            // given
+            given(remote.get(KEY)).willReturn(new SimpleValueWrapper(new CacheEnvelope<>(null, 0L, 0L)));
+
+            // when & then
+            assertThat(cache.get(KEY)).isNull();
+            verify(remote).evict(KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("스탬피드 방지")
+    class StampedeTest {
+
+        @Test
+        @DisplayName("같은 키의 동시 미스는 로더 1회 실행 결과를 공유")
+        void get_ConcurrentMisses_CoalescedIntoSingleLoad() throws Exception {
+            // given
+            given(remote.get(KEY)).willReturn(null);
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            JdResponse jd = jdResponse(KEY);
+            Callable<JdResponse> slowLoader = () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                release.await(3, TimeUnit.SECONDS);
+                return jd;
+            };
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                // when - 첫 요청이 로더 실행 중일 때 나머지 요청 도착
+                Future<JdResponse> first = executor.submit(() -> cache.get(KEY, slowLoader));
+                assertThat(loaderStarted.await(3, TimeUnit.SECONDS)).isTrue();
+                List<Future<JdResponse>> others = List.of(
+                        executor.submit(() -> cache.get(KEY, slowLoader)),
+                        executor.submit(() -> cache.get(KEY, slowLoader)),
+                        executor.submit(() -> cache.get(KEY, slowLoader)));
+                while (cache.coalescedLoadCount() < others.size()) {
+                    Thread.sleep(10);
+                }
+                release.countDown();
+
+                // then
+                assertThat(first.get(3, TimeUnit.SECONDS)).isSameAs(jd);
+                for (Future<JdResponse> other : others) {
+                    assertThat(other.get(3, TimeUnit.SECONDS)).isSameAs(jd);
+                }
+                assertThat(loads.get()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("만료 직전 + 재계산 비용이 큰 값은 만료 전에 미리 재계산 (XFetch)")
+        void get_NearExpiry_RefreshedEarly() throws Exception {
+            // given - 1ms 후 만료, 재계산 10초
+            JdResponse stale = jdResponse(KEY);
+            JdResponse fresh = jdResponse(2L);
+            given(remote.get(KEY)).willReturn(new SimpleValueWrapper(envelope(stale, 10_000L, Duration.ofMillis(1))));
+
+            // when
+            JdResponse result = cache.get(KEY, () -> fresh);
+
+            // then
+            assertThat(result).isSameAs(fresh);
+            assertThat(cache.earlyRefreshCount()).isEqualTo(1);
+            verify(remote).put(eq(KEY), argThat(stored -> ((CacheEnvelope<?>) stored).value() == fresh));
+        }
+
+        @Test
+        @DisplayName("만료까지 충분히 남은 값은 로더를 실행하지 않음")
+        void get_FarFromExpiry_ServedFromCache() throws Exception {
+            // given
+            JdResponse jd = jdResponse(KEY);
+            given(remote.get(KEY)).willReturn(new SimpleValueWrapper(envelope(jd, 5L, Duration.ofMinutes(5))));
+
+            // when
+            JdResponse result = cache.get(KEY, () -> {
+                throw new IllegalStateException("loader must not run");
+            });
+
+            // then
+            assertThat(result).isSameAs(jd);
+            assertThat(cache.earlyRefreshCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("evict는 두 tier에서 모두 삭제")
+    void evict_RemovesBothTiers() {
+        // given
+        cache.put(KEY, jdResponse(KEY));
+
+        // when
+        cache.evict(KEY);
+
+        // then
+        verify(remote).evict(KEY);
+        verify(invalidationBus).publish("jd-detail", "1");
+        assertThat(cache.localSize()).isZero();
+        given(remote.get(KEY)).willReturn(null);
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 삭제 실패 시에도 L1 무효화와 전파는 수행")
+    void evict_RedisDownStillInvalidatesLocal() {
+        // given
+        cache.put(KEY, jdResponse(KEY));
+        willThrow(new RedisConnectionFailureException("down")).given(remote).evict(KEY);
+
+        // when
+        cache.evict(KEY);
+
+        // then
+        verify(invalidationBus).publish("jd-detail", "1");
+        assertThat(cache.localSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시별 히트/미스 + tier별 히트/지연 메트릭 노출")
+    void metrics_ExposeHitAndMiss() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new NearCacheMetrics(cache, List.of()).bindTo(registry);
+        cache.put(KEY, jdResponse(KEY));
+        given(remote.get(2L)).willReturn(null);
+
+        // when
+        cache.get(KEY);
+        cache.get(2L);
+
+        // then
+        assertThat(registry.get("cache.gets").tags("cache", "jd-detail", "result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tags("cache", "jd-detail", "result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.puts").tags("cache", "jd-detail")
+                .functionCounter()).extracting(FunctionCounter::count).isEqualTo(1.0);
+        assertThat(registry.get("cache.tier.gets").tags("cache", "jd-detail", "tier", "l1", "result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.tier.gets").tags("cache", "jd-detail", "tier", "l2", "result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.tier.latency").tags("cache", "jd-detail", "tier", "l2")
+                .functionTimer().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화는 JDK 직렬화보다 작고 왕복 시 값이 보존됨")
+    void smileSerializer_RoundTripAndCompact() throws Exception {
+        // given
+        ObjectMapper smileMapper = SmileMapper.builder().addModule(new JavaTimeModule()).build();
+        JavaType listType = smileMapper.getTypeFactory().constructCollectionType(List.class, JdResponse.class);
+        SmileRedisSerializer<List<JdResponse>> serializer = new SmileRedisSerializer<>(smileMapper, listType);
+        List<JdResponse> list = List.of(jdResponse(1L), jdResponse(2L), jdResponse(3L));
+
+        // when
+        byte[] smile = serializer.serialize(list);
+        List<JdResponse> restored = serializer.deserialize(smile);
+
+        // then
+        assertThat(restored).usingRecursiveFieldByFieldElementComparator().isEqualTo(list);
+        ByteArrayOutputStream jdk = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(jdk)) {
+            out.writeObject(new java.util.ArrayList<>(list));
+        }
+        assertThat(smile.length).isLessThan(jdk.size());
+    }
+
+    @Test
+    @DisplayName("CacheEnvelope Smile 왕복 - 값 타입과 XFetch 메타데이터 보존")
+    void smileSerializer_EnvelopeRoundTrip() {
+        // given
+        ObjectMapper smileMapper = SmileMapper.builder().addModule(new JavaTimeModule()).build();
+        JavaType envelopeType = smileMapper.getTypeFactory().constructParametricType(
+                CacheEnvelope.class, smileMapper.getTypeFactory().constructCollectionType(List.class, JdResponse.class));
+        SmileRedisSerializer<CacheEnvelope<List<JdResponse>>> serializer =
+                new SmileRedisSerializer<>(smileMapper, envelopeType);
+        CacheEnvelope<List<JdResponse>> envelope = new CacheEnvelope<>(List.of(jdResponse(1L)), 42L, 1_000L);
+
+        // when
+        CacheEnvelope<List<JdResponse>> restored = serializer.deserialize(serializer.serialize(envelope));
+
+        // then
+        assertThat(restored.deltaMillis()).isEqualTo(42L);
+        assertThat(restored.expiresAt()).isEqualTo(1_000L);
+        assertThat(restored.value()).singleElement().isInstanceOf(JdResponse.class);
+    }
+
+    private CacheEnvelope<JdResponse> envelope(JdResponse value, long deltaMillis, Duration expiresIn) {
+        return new CacheEnvelope<>(value, deltaMillis, System.currentTimeMillis() + expiresIn.toMillis());
+    }
+
+    private JdResponse jdResponse(Long id) {
+        return JdResponse.builder()
+                .id(id)
+                .userId(10L)
+                .companyName("카카오")
+                .position("백엔드 개발자")
+                .originalText("Java, Spring Boot 기반 백엔드 개발")
+                .parsedSkills(List.of("Java", "Spring Boot"))
+                .parsedRequirements(List.of("3년 이상 경험"))
+                .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.interviewcoach.question.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.application.dto.response.QuestionResponse;
+import com.interviewcoach.question.infrastructure.config.NearCacheProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [B-27] 질문 세트 캐시 - 압축 직렬화 왕복, 재생성 이후 이전 세트 저장 거부
+ */
+@DisplayName("QuestionSetCache 통합 테스트 (Embedded Redis)")
+class QuestionSetCacheIntegrationTest {
+
+    private static final Long JD_ID = 100L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final QuestionSetCache cache = new QuestionSetCache(
+            redisTemplate, new ObjectMapper(), new CacheInvalidationBus(redisTemplate, new ObjectMapper()),
+            new NearCacheProperties(), Duration.ofMinutes(1), Duration.ofHours(1));
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        redisTemplate.delete(List.of(
+                QuestionSetCache.KEY_PREFIX + "{" + JD_ID + "}:version",
+                QuestionSetCache.KEY_PREFIX + "{" + JD_ID + "}:data"));
+    }
+
+    @Test
+    @DisplayName("미스 후 저장한 세트를 그대로 복원 (jdId는 키에서 복원, null 필드 유지)")
+    void putIfCurrent_RoundTrip() {
+        // given
+        QuestionSetCache.Lookup miss = cache.get(JD_ID);
+        List<QuestionResponse> questions = List.of(
+                question(1L, "Java GC를 설명해주세요.", "힌트"),
+                question(2L, "팀 갈등 경험을 말해주세요.", null));
+
+        // when
+        cache.putIfCurrent(JD_ID, miss, questions);
+        QuestionSetCache.Lookup hit = cache.get(JD_ID);
+
+        // then
+        assertThat(miss.isHit()).isFalse();
+        assertThat(hit.isHit()).isTrue();
+        assertThat(hit.questions()).usingRecursiveFieldByFieldElementComparator().isEqualTo(questions);
+        assertThat(redisTemplate.opsForValue().get(QuestionSetCache.KEY_PREFIX + "{" + JD_ID + "}:data"))
+                .doesNotContain("jdId", "questionText", "null");
+    }
+
+    @Test
+    @DisplayName("재생성 이전에 읽은 버전으로는 이전 세트를 저장할 수 없음")
+    void putIfCurrent_RejectedAfterReplace() {
+        // given - 재생성 전에 캐시 미스 + DB 조회 시작
+        QuestionSetCache.Lookup staleMiss = cache.get(JD_ID);
+        List<QuestionResponse> newQuestions = List.of(question(3L, "새 질문", null));
+        TransactionSynchronizationManager.initSynchronization();
+        cache.replaceAfterCommit(JD_ID, newQuestions);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // when - 이전 세트 저장 시도
+        cache.putIfCurrent(JD_ID, staleMiss, List.of(question(1L, "이전 질문", null)));
+
+        // then
+        assertThat(cache.get(JD_ID).questions())
+                .extracting(QuestionResponse::getQuestionText)
+                .containsExactly("새 질문");
+    }
+
+    @Test
+    @DisplayName("같은 JD의 동시 미스는 로더를 한 번만 실행하고 결과를 공유")
+    void getOrLoad_CoalescesConcurrentMisses() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<QuestionResponse> questions = List.of(question(1L, "Java GC를 설명해주세요.", null));
+
+        try {
+            // when - 첫 로더가 끝나기 전에 나머지 요청이 모두 합류
+            List<Future<List<QuestionResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.getOrLoad(JD_ID, () -> {
+                    loads.incrementAndGet();
+                    awaitQuietly(release);
+                    return questions;
+                })));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (cache.coalescedLoadCount() < callers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            for (Future<List<QuestionResponse>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(questions);
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(cache.coalescedLoadCount()).isEqualTo(callers - 1);
+            assertThat(cache.get(JD_ID).isHit()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋 이후에만 반영")
+    void invalidateAfterCommit_AppliesOnCommit() {
+        // given
+        cache.putIfCurrent(JD_ID, cache.get(JD_ID), List.of(question(1L, "질문", null)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.invalidateAfterCommit(JD_ID);
+
+        // then
+        assertThat(cache.get(JD_ID).isHit()).isTrue();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get(JD_ID).isHit()).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private QuestionResponse question(Long id, String text, String hint) {
+        return QuestionResponse.builder()
+                .id(id)
+                .jdId(JD_ID)
+                .questionType("technical")
+                .skillCategory("Java")
+                .questionText(text)
+                .hint(hint)
+                .difficulty(3)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.interviewcoach.question.infrastructure.jdimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.interviewcoach.question.application.dto.response.JdImportJobResponse;
+import com.interviewcoach.question.infrastructure.config.JdImportProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [B-33] JD 일괄 등록 작업 저장소 - 늦게 도착한 이전 스냅샷이 최신 상태를 덮어쓰지 않음
+ */
+@DisplayName("JdImportJobStore 통합 테스트 (Embedded Redis)")
+class JdImportJobStoreIntegrationTest {
+
+    private static final String JOB_ID = "job-1";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final JdImportJobStore store = new JdImportJobStore(
+            redisTemplate, new ObjectMapper().registerModule(new JavaTimeModule()), new JdImportProperties());
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(JdImportJobStore.KEY_PREFIX + JOB_ID));
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷을 그대로 조회하고 TTL을 설정")
+    void save_RoundTrip() {
+        // when
+        store.save(job(JdImportJobResponse.Status.ANALYZING, 1), 1);
+
+        // then
+        assertThat(store.find(JOB_ID)).get()
+                .extracting(JdImportJobResponse::getStatus, JdImportJobResponse::getAnalyzed)
+                .containsExactly(JdImportJobResponse.Status.ANALYZING, 1);
+        assertThat(redisTemplate.getExpire(JdImportJobStore.KEY_PREFIX + JOB_ID)).isPositive();
+    }
+
+    @Test
+    @DisplayName("저장된 버전 이하의 스냅샷은 무시 - 늦게 도착한 ANALYZING이 COMPLETED를 덮어쓰지 않음")
+    void save_OlderVersion_Ignored() {
+        // given
+        store.save(job(JdImportJobResponse.Status.COMPLETED, 2), 5);
+
+        // when
+        store.save(job(JdImportJobResponse.Status.ANALYZING, 1), 4);
+        store.save(job(JdImportJobResponse.Status.ANALYZING, 1), 5);
+
+        // then
+        assertThat(store.find(JOB_ID)).get()
+                .extracting(JdImportJobResponse::getStatus)
+                .isEqualTo(JdImportJobResponse.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("없는 작업은 empty")
+    void find_Missing_ReturnsEmpty() {
+        assertThat(store.find("missing")).isEmpty();
+    }
+
+    private JdImportJobResponse job(JdImportJobResponse.Status status, int analyzed) {
+        return JdImportJobResponse.builder()
+                .jobId(JOB_ID)
+                .userId(1L)
+                .status(status)
+                .format("JSONL")
+                .imported(2)
+                .analyzed(analyzed)
+                .errors(List.of())
+                .build();
+    }
+}
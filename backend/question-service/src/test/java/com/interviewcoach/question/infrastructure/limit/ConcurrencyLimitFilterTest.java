@@ -0,0 +1,152 @@
+package com.interviewcoach.question.infrastructure.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimitFilter 단위 테스트")
+class ConcurrencyLimitFilterTest {
+
+    private AimdConcurrencyLimiter limiter;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AimdConcurrencyLimiter(2, 1, 10, 0.9, TimeUnit.SECONDS.toNanos(10));
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        filter = new ConcurrencyLimitFilter(limiter, objectMapper, 1, meterRegistry);
+    }
+
+    private MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/v1/jd/1");
+    }
+
+    @Nested
+    @DisplayName("한도 초과")
+    class RejectTest {
+
+        @Test
+        @DisplayName("한도 초과 시 컨트롤러 진입 없이 503 + Retry-After 반환")
+        void overLimit_Returns503() throws ServletException, IOException {
+            // given
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            boolean[] chainCalled = {false};
+            FilterChain chain = (req, res) -> chainCalled[0] = true;
+
+            // when
+            filter.doFilter(apiRequest(), response, chain);
+
+            // then
+            assertThat(chainCalled[0]).isFalse();
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(response.getContentAsString()).contains("\"status\":503");
+            assertThat(meterRegistry.get("http.server.concurrency.rejected").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("API 외 경로(actuator)는 제한하지 않음")
+        void actuatorPath_NotLimited() throws ServletException, IOException {
+            // given
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            boolean[] chainCalled = {false};
+
+            // when
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response,
+                    (req, res) -> chainCalled[0] = true);
+
+            // then
+            assertThat(chainCalled[0]).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("슬롯 반환")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("정상 응답 후 슬롯 반환 및 한도 증가")
+        void success_ReleasesSlot() throws ServletException, IOException {
+            // given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(apiRequest(), response, (req, res) -> assertThat(limiter.getInFlight()).isEqualTo(1));
+
+            // then
+            assertThat(limiter.getInFlight()).isZero();
+            assertThat(meterRegistry.get("http.server.concurrency.limit").gauge().value()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("5xx 응답 시 한도 감소")
+        void serverError_DecreasesLimit() throws ServletException, IOException {
+            // given
+            limiter = new AimdConcurrencyLimiter(10, 1, 10, 0.9, TimeUnit.SECONDS.toNanos(10));
+            filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), 1, new SimpleMeterRegistry());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(apiRequest(), response, (req, res) -> response.setStatus(500));
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(9);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("SSE 스트림 종료 시 슬롯만 반환하고 한도는 유지")
+        void eventStream_ReleasesSlotWithoutAdjustingLimit() throws ServletException, IOException {
+            // given
+            MockHttpServletRequest request = apiRequest();
+            request.setAsyncSupported(true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, (req, res) -> {
+                req.startAsync();
+                res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            });
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+            request.getAsyncContext().complete();
+
+            // then
+            assertThat(limiter.getInFlight()).isZero();
+            assertThat(limiter.getLimit()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("예외 발생 시에도 슬롯 반환")
+        void exception_ReleasesSlot() {
+            // given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when & then
+            assertThatThrownBy(() -> filter.doFilter(apiRequest(), response, (req, res) -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.interviewcoach.question.infrastructure.llm;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewcoach.question.infrastructure.config.LlmConfig;
+import com.interviewcoach.question.infrastructure.rag.SimilarQuestionResult;
+import dev.langchain4j.model.chat.ChatLanguageModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.ArgumentCaptor;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("ClaudeLlmClient 테스트")
 class ClaudeLlmClientTest {
@@ -29,8 +39,8 @@ class ClaudeLlmClientTest {
 
         @BeforeEach
         void setUp() {
-            // API 키 없이 초기화 -> Mock 모드
-            client = new ClaudeLlmClient("", "claude-sonnet-4-20250514", objectMapper);
+            // ChatLanguageModel 없이 초기화 (API 키 미설정) -> Mock 모드
+            client = new ClaudeLlmClient(null, objectMapper);
         }
 
         @Test
@@ -116,6 +126,97 @@ class ClaudeLlmClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("일괄 생성 (여러 JD를 프롬프트 1회로)")
+    class BatchGenerationTest {
+
+        private ChatLanguageModel chatModel;
+        private ClaudeLlmClient client;
+
+        @BeforeEach
+        void setUp() {
+            chatModel = mock(ChatLanguageModel.class);
+            client = new ClaudeLlmClient(chatModel, objectMapper);
+        }
+
+        private LlmClient.BatchJdInput jd(Long jdId, String text) {
+            return new LlmClient.BatchJdInput(jdId, text, List.of("Java"), List.of(
+                    SimilarQuestionResult.builder()
+                            .questionType("technical").skillCategory("기술역량").content("GC 동작 원리")
+                            .build()));
+        }
+
+        private String question(String text) {
+            return """
+                {"questionType": "technical", "skillCategory": "기술역량", "questionText": "%s",
+                 "hint": "힌트", "idealAnswer": "답변", "difficulty": 3}
+                """.formatted(text);
+        }
+
+        @Test
+        @DisplayName("JD별 응답을 jdId로 매핑, 공통 지시문과 중복 유사 질문은 프롬프트에 한 번만 포함")
+        void generateQuestionsBatch_SinglePrompt() {
+            // given
+            given(chatModel.generate(anyString())).willReturn("""
+                    {"10": [%s], "20": [%s, %s]}
+                    """.formatted(question("질문 A"), question("질문 B"), question("질문 C")));
+
+            // when
+            Map<Long, List<LlmClient.GeneratedQuestionResult>> results = client.generateQuestionsBatch(
+                    List.of(jd(10L, "JD 10 내용"), jd(20L, "JD 20 내용")), "technical", 2, 3);
+
+            // then
+            assertThat(results).containsOnlyKeys(10L, 20L);
+            assertThat(results.get(10L)).extracting(LlmClient.GeneratedQuestionResult::questionText)
+                    .containsExactly("질문 A");
+            assertThat(results.get(20L)).extracting(LlmClient.GeneratedQuestionResult::questionText)
+                    .containsExactly("질문 B", "질문 C");
+
+            ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+            verify(chatModel, times(1)).generate(prompt.capture());
+            assertThat(prompt.getValue()).contains("## JD 10", "## JD 20", "JD 10 내용", "JD 20 내용");
+            assertThat(prompt.getValue().split("GC 동작 원리", -1)).hasSize(2);
+            assertThat(prompt.getValue().split("skillCategory는 반드시", -1)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("응답에서 누락된 JD는 단건 생성으로 보완, 요청하지 않은 JD와 초과 질문은 무시")
+        void generateQuestionsBatch_MissingJd_FallsBackToSingle() {
+            // given
+            given(chatModel.generate(anyString()))
+                    .willReturn("""
+                            {"10": [%s, %s, %s], "99": [%s]}
+                            """.formatted(question("질문 A"), question("질문 B"), question("질문 C"), question("다른 JD")))
+                    .willReturn("[%s]".formatted(question("단건 질문")));
+
+            // when
+            Map<Long, List<LlmClient.GeneratedQuestionResult>> results = client.generateQuestionsBatch(
+                    List.of(jd(10L, "JD 10 내용"), jd(20L, "JD 20 내용")), "technical", 2, 3);
+
+            // then
+            assertThat(results.keySet()).containsExactly(10L, 20L);
+            assertThat(results.get(10L)).hasSize(2);
+            assertThat(results.get(20L)).extracting(LlmClient.GeneratedQuestionResult::questionText)
+                    .containsExactly("단건 질문");
+            verify(chatModel, times(2)).generate(anyString());
+        }
+
+        @Test
+        @DisplayName("Mock 모드에서는 JD별 Mock 질문 반환")
+        void generateQuestionsBatch_MockMode() {
+            // given
+            ClaudeLlmClient mockModeClient = new ClaudeLlmClient(null, objectMapper);
+
+            // when
+            Map<Long, List<LlmClient.GeneratedQuestionResult>> results = mockModeClient.generateQuestionsBatch(
+                    List.of(jd(10L, "JD"), jd(20L, "JD")), "technical", 2, 3);
+
+            // then
+            assertThat(results).containsOnlyKeys(10L, 20L);
+            assertThat(results.values()).allMatch(questions -> questions.size() == 2);
+        }
+    }
+
     @Nested
     @DisplayName("실제 API 테스트 (비용 발생!)")
     @EnabledIfEnvironmentVariable(named = "CLAUDE_API_KEY", matches = ".+")
@@ -126,7 +227,7 @@ class ClaudeLlmClientTest {
         @BeforeEach
         void setUp() {
             String apiKey = System.getenv("CLAUDE_API_KEY");
-            client = new ClaudeLlmClient(apiKey, "claude-sonnet-4-20250514", objectMapper);
+            client = new ClaudeLlmClient(new LlmConfig().chatLanguageModel(apiKey, "claude-sonnet-4-20250514"), objectMapper);
         }
 
         @Test
@@ -2,9 +2,13 @@ package com.interviewcoach.question.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.interviewcoach.question.application.dto.response.JdAnalysisResponse;
+import com.interviewcoach.question.application.dto.response.JdImportJobResponse;
 import com.interviewcoach.question.application.dto.response.JdResponse;
+import com.interviewcoach.question.application.service.JdImportService;
 import com.interviewcoach.question.application.service.JdService;
 import com.interviewcoach.question.exception.GlobalExceptionHandler;
+import com.interviewcoach.question.exception.InvalidImportFileException;
+import com.interviewcoach.question.exception.JdImportJobNotFoundException;
 import com.interviewcoach.question.exception.JdNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
@@ -41,6 +46,9 @@ class JdControllerTest {
     @MockBean
     private JdService jdService;
 
+    @MockBean
+    private JdImportService jdImportService;
+
     private static final Long USER_ID = 1L;
     private static final Long JD_ID = 10L;
 
@@ -254,4 +262,64 @@ class JdControllerTest {
                     .andExpect(status().isNotFound());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/jd/import - JD 일괄 등록")
+    class ImportJdsTest {
+
+        @Test
+        @DisplayName("일괄 등록 성공 - 202 Accepted + 작업 진행 상황")
+        void importJds_Success() throws Exception {
+            // given
+            MockMultipartFile file = new MockMultipartFile("file", "jds.jsonl", "application/x-ndjson",
+                    "{\"originalText\": \"...\"}".getBytes());
+            JdImportJobResponse response = JdImportJobResponse.builder()
+                    .jobId("job-1")
+                    .userId(USER_ID)
+                    .status(JdImportJobResponse.Status.ANALYZING)
+                    .format("JSONL")
+                    .totalRows(1)
+                    .imported(1)
+                    .errors(List.of())
+                    .build();
+
+            given(jdImportService.importJds(eq(USER_ID), any())).willReturn(response);
+
+            // when & then
+            mockMvc.perform(multipart("/api/v1/jd/import")
+                            .file(file)
+                            .header("X-User-Id", USER_ID))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.jobId").value("job-1"))
+                    .andExpect(jsonPath("$.status").value("ANALYZING"))
+                    .andExpect(jsonPath("$.imported").value(1));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 파일 형식 - 400 Bad Request")
+        void importJds_InvalidFile() throws Exception {
+            // given
+            MockMultipartFile file = new MockMultipartFile("file", "jds.xlsx", null, new byte[]{1});
+            given(jdImportService.importJds(eq(USER_ID), any()))
+                    .willThrow(new InvalidImportFileException("지원하지 않는 파일 형식입니다 (JSONL 또는 CSV)"));
+
+            // when & then
+            mockMvc.perform(multipart("/api/v1/jd/import")
+                            .file(file)
+                            .header("X-User-Id", USER_ID))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("없는 작업 진행 상황 조회 - 404 Not Found")
+        void getImportJob_NotFound() throws Exception {
+            // given
+            given(jdImportService.getJob(USER_ID, "unknown")).willThrow(new JdImportJobNotFoundException("unknown"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jd/import/{jobId}", "unknown")
+                            .header("X-User-Id", USER_ID))
+                    .andExpect(status().isNotFound());
+        }
+    }
 }
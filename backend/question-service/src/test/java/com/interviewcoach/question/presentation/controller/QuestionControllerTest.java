@@ -5,8 +5,10 @@ import com.interviewcoach.question.application.dto.response.GeneratedQuestionsRe
 import com.interviewcoach.question.application.dto.response.QuestionResponse;
 import com.interviewcoach.question.application.dto.response.SimilarQuestionDto;
 import com.interviewcoach.question.application.dto.response.SimilarQuestionsResponse;
+import com.interviewcoach.question.application.service.QuestionBatchGenerationService;
 import com.interviewcoach.question.application.service.QuestionGenerationService;
 import com.interviewcoach.question.application.service.SimilarQuestionService;
+import com.interviewcoach.question.exception.BatchGenerationBusyException;
 import com.interviewcoach.question.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -40,6 +42,9 @@ class QuestionControllerTest {
     @MockBean
     private QuestionGenerationService questionGenerationService;
 
+    @MockBean
+    private QuestionBatchGenerationService questionBatchGenerationService;
+
     @MockBean
     private SimilarQuestionService similarQuestionService;
 
@@ -128,6 +133,37 @@ class QuestionControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/questions/generate/batch - 질문 일괄 생성")
+    class GenerateQuestionsBatchTest {
+
+        @Test
+        @DisplayName("JD 목록이 비어 있으면 400 에러")
+        void generateQuestionsBatch_EmptyJdIds() throws Exception {
+            mockMvc.perform(post("/api/v1/questions/generate/batch")
+                            .header("X-User-Id", USER_ID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"jdIds\": []}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("일괄 생성 풀 포화 시 503 + Retry-After")
+        void generateQuestionsBatch_Busy() throws Exception {
+            // given
+            given(questionBatchGenerationService.streamBatch(eq(USER_ID), any()))
+                    .willThrow(new BatchGenerationBusyException());
+
+            // when & then
+            mockMvc.perform(post("/api/v1/questions/generate/batch")
+                            .header("X-User-Id", USER_ID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"jdIds\": [10, 11]}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "5"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/questions/jd/{jdId} - JD별 질문 목록 조회")
     class GetQuestionsByJdTest {
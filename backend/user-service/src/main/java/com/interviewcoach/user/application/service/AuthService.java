@@ -10,13 +10,19 @@ import com.interviewcoach.user.domain.repository.UserRepository;
 import com.interviewcoach.user.exception.DuplicateEmailException;
 import com.interviewcoach.user.exception.InvalidCredentialsException;
 import com.interviewcoach.user.exception.InvalidTokenException;
-import com.interviewcoach.user.exception.UserNotFoundException;
 import com.interviewcoach.user.security.jwt.JwtTokenProvider;
+import com.interviewcoach.user.security.jwt.JwtTokenProvider.RefreshTokenClaims;
+import com.interviewcoach.user.security.jwt.RefreshTokenStore;
+import com.interviewcoach.user.security.jwt.RefreshTokenStore.RotationResult;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -24,6 +30,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Transactional
     public UserResponse signup(SignupRequest request) {
@@ -51,38 +58,53 @@ public class AuthService {
             throw new InvalidCredentialsException();
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail());
+        // [B-14] 레거시/구형 해시(cost 변경, 알고리즘 변경)는 로그인 성공 시 재해싱
+        // 해싱 중 DB 커넥션을 잡지 않도록 login은 트랜잭션 없이 save만 수행
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.updatePassword(passwordEncoder.encode(request.getPassword()));
+            userRepository.save(user);
+            log.info("Password hash upgraded for user: {}", user.getId());
+        }
 
-        return TokenResponse.of(
-                accessToken,
-                refreshToken,
-                jwtTokenProvider.getAccessTokenExpiration() / 1000
-        );
+        // [B-15] 로그인마다 새 토큰 패밀리 시작
+        String familyId = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+        refreshTokenStore.register(familyId, jti);
+
+        return issueTokens(user.getId(), user.getEmail(), familyId, jti);
     }
 
+    /**
+     * [B-15] Refresh Token 회전
+     * Before: JWT 검증 3회 파싱 + userRepository.existsById (DB 조회)
+     * After: JWT 1회 파싱 + Redis Lua 스크립트 1 round trip (회전 + 재사용 감지)
+     */
     public TokenResponse refresh(RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(request.getRefreshToken())
+                .orElseThrow(InvalidTokenException::new);
 
-        if (!jwtTokenProvider.validateToken(refreshToken) ||
-            !jwtTokenProvider.isRefreshToken(refreshToken)) {
+        String newJti = UUID.randomUUID().toString();
+        RotationResult result = refreshTokenStore.rotate(claims.familyId(), claims.jti(), newJti);
+        if (result != RotationResult.ROTATED) {
+            // REUSE_DETECTED: 이미 사용된 토큰 재제출 → 패밀리 전체 폐기됨
             throw new InvalidTokenException();
         }
 
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+        return issueTokens(claims.userId(), claims.email(), claims.familyId(), newJti);
+    }
 
-        // Verify user still exists
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException(userId);
-        }
+    public void logout(RefreshTokenRequest request) {
+        jwtTokenProvider.parseRefreshToken(request.getRefreshToken())
+                .ifPresent(claims -> refreshTokenStore.revokeFamily(claims.familyId()));
+    }
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(userId, email);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId, email);
+    private TokenResponse issueTokens(Long userId, String email, String familyId, String jti) {
+        String accessToken = jwtTokenProvider.createAccessToken(userId, email, familyId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, email, familyId, jti);
 
         return TokenResponse.of(
-                newAccessToken,
-                newRefreshToken,
+                accessToken,
+                refreshToken,
                 jwtTokenProvider.getAccessTokenExpiration() / 1000
         );
     }
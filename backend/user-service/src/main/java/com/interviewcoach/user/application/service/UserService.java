@@ -5,6 +5,7 @@ import com.interviewcoach.user.application.dto.response.UserResponse;
 import com.interviewcoach.user.domain.entity.User;
 import com.interviewcoach.user.domain.repository.UserRepository;
 import com.interviewcoach.user.exception.UserNotFoundException;
+import com.interviewcoach.user.infrastructure.cache.UserCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
 
     public UserResponse getMyProfile(Long userId) {
         User user = userRepository.findById(userId)
@@ -32,6 +34,8 @@ public class UserService {
                 request.getTargetPosition(),
                 request.getExperienceYears()
         );
+        // [B-31] 이 파드의 2차 캐시는 커밋 시 갱신, 다른 파드는 커밋 이후 evict
+        userCacheInvalidator.invalidateAfterCommit(userId);
 
         return UserResponse.from(user);
     }
@@ -0,0 +1,32 @@
+package com.interviewcoach.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [B-31] Hibernate 2차 캐시 리전 설정
+ *
+ * regions 하위 키는 리전 이름 (엔티티 @Cache region)
+ * 등록되지 않은 리전은 기동 실패 (missing_cache_strategy=fail) → 크기 지정 누락 방지
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.cache.entity")
+public class EntityCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maxSize = 1000;
+
+        // null이면 만료 없음
+        private Duration ttl;
+    }
+}
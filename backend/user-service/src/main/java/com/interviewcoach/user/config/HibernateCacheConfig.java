@@ -0,0 +1,71 @@
+package com.interviewcoach.user.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.interviewcoach.user.infrastructure.cache.UserCacheInvalidator;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * [B-31] Hibernate 2차 캐시 (JCache + Caffeine)
+ *
+ * Before: 프로필 조회(getMyProfile)마다 users 테이블 PK 조회
+ * After:
+ *       - User 엔티티 캐시 (READ_WRITE), 리전 크기 / TTL은 user.cache.entity.regions에서 명시
+ *       - 다른 파드의 프로필 변경은 UserCacheInvalidator(pub/sub)로 evict
+ *       - 통계는 generate_statistics + hibernate-micrometer → hibernate.second.level.cache.* 메트릭
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class HibernateCacheConfig {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("user-service:hibernate");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            if (region.getTtl() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            UserCacheInvalidator userCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userCacheInvalidator, new ChannelTopic(UserCacheInvalidator.CHANNEL));
+        return container;
+    }
+}
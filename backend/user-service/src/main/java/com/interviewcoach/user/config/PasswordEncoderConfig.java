@@ -0,0 +1,77 @@
+package com.interviewcoach.user.config;
+
+import com.interviewcoach.user.security.password.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [B-14] 비밀번호 인코더 설정
+ *
+ * - DelegatingPasswordEncoder: {bcrypt}, {argon2} prefix로 알고리즘 식별
+ *   prefix 없는 기존 BCrypt 해시는 bcrypt로 검증 후 로그인 시 재해싱
+ * - password.encoder.id 변경만으로 신규/재해싱 알고리즘 전환 (bcrypt cost 조정 포함)
+ * - 해싱은 passwordHashingExecutor(코어 수 크기)에서만 실행
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.encoder.id:bcrypt}") String encoderId,
+            @Value("${password.encoder.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${password.encoder.argon2.memory-kb:19456}") int argon2MemoryKb,
+            @Value("${password.encoder.argon2.iterations:2}") int argon2Iterations,
+            @Value("${password.encoder.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${password.hashing.timeout:3s}") Duration hashingTimeout,
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor) {
+        PasswordEncoder delegating = createDelegatingEncoder(
+                encoderId, bcryptStrength, argon2MemoryKb, argon2Iterations, argon2Parallelism);
+        return new BoundedPasswordEncoder(
+                delegating, passwordHashingExecutor.getThreadPoolExecutor(), hashingTimeout.toMillis());
+    }
+
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+
+    static PasswordEncoder createDelegatingEncoder(String encoderId, int bcryptStrength,
+                                                   int argon2MemoryKb, int argon2Iterations, int argon2Parallelism) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKb, argon2Iterations));
+
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalArgumentException("Unsupported password encoder: " + encoderId);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encoderId, encoders);
+        // prefix 없는 기존 해시($2a$10$...)는 bcrypt로 검증
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+}
@@ -0,0 +1,8 @@
+package com.interviewcoach.user.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해주세요");
+    }
+}
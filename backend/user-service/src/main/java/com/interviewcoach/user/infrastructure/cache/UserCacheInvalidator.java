@@ -0,0 +1,77 @@
+package com.interviewcoach.user.infrastructure.cache;
+
+import com.interviewcoach.user.domain.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * [B-31] User 2차 캐시(파드 로컬) 파드 간 무효화
+ *
+ * 문제: READ_WRITE 전략은 변경한 파드의 리전만 갱신 → 다른 파드는 리전 TTL 동안 이전 프로필 응답
+ *
+ * 해결:
+ *       - 커밋 이후 user:cache-invalidation 채널에 "{origin}:{userId}" 발행
+ *       - 모든 파드가 구독 → 자신이 보낸 메시지는 무시하고 해당 User 엔티티만 evict
+ *       - pub/sub은 전달 보장이 없음 → 유실 시 불일치는 리전 TTL 이내로 제한
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidator implements MessageListener {
+
+    public static final String CHANNEL = "user:cache-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SessionFactory sessionFactory;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public UserCacheInvalidator(StringRedisTemplate redisTemplate, EntityManagerFactory entityManagerFactory) {
+        this.redisTemplate = redisTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public void invalidateAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(userId);
+                }
+            });
+        } else {
+            publish(userId);
+        }
+    }
+
+    private void publish(Long userId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + userId);
+        } catch (Exception e) {
+            // 다른 파드의 리전은 TTL 이내에 만료
+            log.warn("User cache invalidation publish failed: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || instanceId.equals(body.substring(0, separator))) {
+            return;
+        }
+        try {
+            sessionFactory.getCache().evictEntityData(User.class, Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user cache invalidation message: {}", body);
+        }
+    }
+}
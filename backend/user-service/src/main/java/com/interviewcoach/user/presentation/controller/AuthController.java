@@ -15,7 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-@Tag(name = "인증", description = "회원가입, 로그인, 토큰 갱신")
+@Tag(name = "인증", description = "회원가입, 로그인, 토큰 갱신, 로그아웃")
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -49,4 +49,12 @@ public class AuthController {
         TokenResponse response = authService.refresh(request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "로그아웃", description = "Refresh Token 패밀리를 폐기하여 발급된 토큰 무효화")
+    @ApiResponse(responseCode = "204", description = "로그아웃 성공")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
 }
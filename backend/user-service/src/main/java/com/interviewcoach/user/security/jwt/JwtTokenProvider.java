@@ -11,6 +11,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -32,28 +34,55 @@ public class JwtTokenProvider {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
     }
 
-    public String createAccessToken(Long userId, String email) {
-        return createToken(userId, email, accessTokenExpiration, "access");
+    // [B-15] 토큰 패밀리(fid) 단위 폐기를 위해 Access Token에도 fid 포함
+    public String createAccessToken(Long userId, String email, String familyId) {
+        return createToken(userId, email, accessTokenExpiration, "access", UUID.randomUUID().toString(), familyId);
     }
 
-    public String createRefreshToken(Long userId, String email) {
-        return createToken(userId, email, refreshTokenExpiration, "refresh");
+    public String createRefreshToken(Long userId, String email, String familyId, String jti) {
+        return createToken(userId, email, refreshTokenExpiration, "refresh", jti, familyId);
     }
 
-    private String createToken(Long userId, String email, long expiration, String tokenType) {
+    private String createToken(Long userId, String email, long expiration, String tokenType,
+                               String jti, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .id(jti)
                 .subject(String.valueOf(userId))
                 .claim("email", email)
                 .claim("type", tokenType)
+                .claim("fid", familyId)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * [B-15] Refresh Token 1회 파싱으로 검증 + 클레임 추출
+     * 서명/만료/타입이 유효하고 jti, fid가 있는 경우에만 반환
+     */
+    public Optional<RefreshTokenClaims> parseRefreshToken(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            if (!"refresh".equals(claims.get("type", String.class))
+                    || claims.getId() == null || claims.get("fid", String.class) == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshTokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getId(),
+                    claims.get("fid", String.class)
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid refresh token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Long getUserIdFromToken(String token) {
         Claims claims = parseClaims(token);
         return Long.parseLong(claims.getSubject());
@@ -100,4 +129,10 @@ public class JwtTokenProvider {
     public long getAccessTokenExpiration() {
         return accessTokenExpiration;
     }
+
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
+    public record RefreshTokenClaims(Long userId, String email, String jti, String familyId) {}
 }
@@ -0,0 +1,102 @@
+package com.interviewcoach.user.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * [B-15] Redis 기반 Refresh Token 패밀리 저장소
+ *
+ * 문제: refresh 시마다 Postgres existsById 조회, 탈취된 토큰 폐기 수단 없음
+ *
+ * 해결:
+ *       - refresh:family:{fid} = 현재 유효한 jti (TTL = Refresh Token 만료)
+ *       - 회전(rotate): Lua 스크립트로 "현재 jti 일치 확인 + 새 jti 저장"을 1 round trip에 처리
+ *       - 재사용 감지: 이미 회전된 jti 제출 시 패밀리 삭제 + auth:revoked에 fid 등록
+ *       - auth:revoked (ZSET, score = 폐기 유지 만료 시각) → Gateway Bloom filter 원본
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    static final String REVOKED_KEY = "auth:revoked";
+
+    // KEYS[1]=family, KEYS[2]=revoked / ARGV[1]=제출 jti, ARGV[2]=새 jti, ARGV[3]=TTL(ms), ARGV[4]=fid, ARGV[5]=폐기 유지 시각(ms)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return 0
+            end
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4])
+                return -1
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=family, KEYS[2]=revoked / ARGV[1]=fid, ARGV[2]=폐기 유지 시각(ms)
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long refreshTokenTtlMillis;
+    private final long accessTokenTtlMillis;
+
+    public RefreshTokenStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${jwt.refresh-expiration}") long refreshTokenTtlMillis,
+            @Value("${jwt.expiration}") long accessTokenTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTokenTtlMillis = refreshTokenTtlMillis;
+        this.accessTokenTtlMillis = accessTokenTtlMillis;
+    }
+
+    public void register(String familyId, String jti) {
+        redisTemplate.opsForValue().set(FAMILY_KEY_PREFIX + familyId, jti, Duration.ofMillis(refreshTokenTtlMillis));
+    }
+
+    public RotationResult rotate(String familyId, String presentedJti, String newJti) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + familyId, REVOKED_KEY),
+                presentedJti, newJti, String.valueOf(refreshTokenTtlMillis),
+                familyId, String.valueOf(revokeUntil()));
+
+        if (result == null || result == 0L) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (result < 0) {
+            log.warn("Refresh token reuse detected, family revoked: {}", familyId);
+            return RotationResult.REUSE_DETECTED;
+        }
+        return RotationResult.ROTATED;
+    }
+
+    public void revokeFamily(String familyId) {
+        redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + familyId, REVOKED_KEY),
+                familyId, String.valueOf(revokeUntil()));
+    }
+
+    // 패밀리의 Access Token이 모두 만료될 때까지만 폐기 목록 유지
+    private long revokeUntil() {
+        return System.currentTimeMillis() + accessTokenTtlMillis;
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        REUSE_DETECTED,
+        NOT_FOUND
+    }
+}
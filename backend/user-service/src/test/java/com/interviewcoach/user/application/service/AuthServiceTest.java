@@ -10,8 +10,10 @@ import com.interviewcoach.user.domain.repository.UserRepository;
 import com.interviewcoach.user.exception.DuplicateEmailException;
 import com.interviewcoach.user.exception.InvalidCredentialsException;
 import com.interviewcoach.user.exception.InvalidTokenException;
-import com.interviewcoach.user.exception.UserNotFoundException;
 import com.interviewcoach.user.security.jwt.JwtTokenProvider;
+import com.interviewcoach.user.security.jwt.JwtTokenProvider.RefreshTokenClaims;
+import com.interviewcoach.user.security.jwt.RefreshTokenStore;
+import com.interviewcoach.user.security.jwt.RefreshTokenStore.RotationResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -45,6 +48,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
     @InjectMocks
     private AuthService authService;
 
@@ -148,8 +154,9 @@ class AuthServiceTest {
 
             given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(user));
             given(passwordEncoder.matches("password123", "encoded-password")).willReturn(true);
-            given(jwtTokenProvider.createAccessToken(1L, "test@test.com")).willReturn("access-token");
-            given(jwtTokenProvider.createRefreshToken(1L, "test@test.com")).willReturn("refresh-token");
+            given(jwtTokenProvider.createAccessToken(eq(1L), eq("test@test.com"), anyString())).willReturn("access-token");
+            given(jwtTokenProvider.createRefreshToken(eq(1L), eq("test@test.com"), anyString(), anyString()))
+                    .willReturn("refresh-token");
             given(jwtTokenProvider.getAccessTokenExpiration()).willReturn(3600000L);
 
             // when
@@ -160,6 +167,48 @@ class AuthServiceTest {
             assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
             assertThat(response.getTokenType()).isEqualTo("Bearer");
             assertThat(response.getExpiresIn()).isEqualTo(3600L);
+            verify(refreshTokenStore).register(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("로그인 성공 시 구형 해시는 재해싱하여 저장")
+        void login_LegacyHash_Rehashes() throws Exception {
+            // given
+            LoginRequest request = createLoginRequest();
+            User user = createTestUser(1L, "test@test.com");
+
+            given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(user));
+            given(passwordEncoder.matches("password123", "encoded-password")).willReturn(true);
+            given(passwordEncoder.upgradeEncoding("encoded-password")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willReturn("{argon2}rehashed");
+            given(jwtTokenProvider.createAccessToken(eq(1L), eq("test@test.com"), anyString())).willReturn("access-token");
+            given(jwtTokenProvider.createRefreshToken(eq(1L), eq("test@test.com"), anyString(), anyString()))
+                    .willReturn("refresh-token");
+            given(jwtTokenProvider.getAccessTokenExpiration()).willReturn(3600000L);
+
+            // when
+            authService.login(request);
+
+            // then
+            assertThat(user.getPassword()).isEqualTo("{argon2}rehashed");
+            verify(userRepository).save(user);
+        }
+
+        @Test
+        @DisplayName("잘못된 비밀번호로 로그인 시 재해싱하지 않음")
+        void login_WrongPassword_DoesNotRehash() throws Exception {
+            // given
+            LoginRequest request = createLoginRequest();
+            User user = createTestUser(1L, "test@test.com");
+
+            given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(user));
+            given(passwordEncoder.matches("password123", "encoded-password")).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(request))
+                    .isInstanceOf(InvalidCredentialsException.class);
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).save(any());
         }
 
         @Test
@@ -194,19 +243,20 @@ class AuthServiceTest {
     @DisplayName("토큰 갱신")
     class RefreshTest {
 
+        private final RefreshTokenClaims claims =
+                new RefreshTokenClaims(1L, "test@test.com", "jti-1", "family-1");
+
         @Test
-        @DisplayName("토큰 갱신 성공")
+        @DisplayName("토큰 갱신 성공 - 같은 패밀리로 회전")
         void refresh_Success() throws Exception {
             // given
             RefreshTokenRequest request = createRefreshTokenRequest("valid-refresh-token");
 
-            given(jwtTokenProvider.validateToken("valid-refresh-token")).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken("valid-refresh-token")).willReturn(true);
-            given(jwtTokenProvider.getUserIdFromToken("valid-refresh-token")).willReturn(1L);
-            given(jwtTokenProvider.getEmailFromToken("valid-refresh-token")).willReturn("test@test.com");
-            given(userRepository.existsById(1L)).willReturn(true);
-            given(jwtTokenProvider.createAccessToken(1L, "test@test.com")).willReturn("new-access-token");
-            given(jwtTokenProvider.createRefreshToken(1L, "test@test.com")).willReturn("new-refresh-token");
+            given(jwtTokenProvider.parseRefreshToken("valid-refresh-token")).willReturn(Optional.of(claims));
+            given(refreshTokenStore.rotate(eq("family-1"), eq("jti-1"), anyString())).willReturn(RotationResult.ROTATED);
+            given(jwtTokenProvider.createAccessToken(1L, "test@test.com", "family-1")).willReturn("new-access-token");
+            given(jwtTokenProvider.createRefreshToken(eq(1L), eq("test@test.com"), eq("family-1"), anyString()))
+                    .willReturn("new-refresh-token");
             given(jwtTokenProvider.getAccessTokenExpiration()).willReturn(3600000L);
 
             // when
@@ -215,6 +265,7 @@ class AuthServiceTest {
             // then
             assertThat(response.getAccessToken()).isEqualTo("new-access-token");
             assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+            verify(userRepository, never()).existsById(any());
         }
 
         @Test
@@ -222,41 +273,77 @@ class AuthServiceTest {
         void refresh_InvalidToken_ThrowsException() throws Exception {
             // given
             RefreshTokenRequest request = createRefreshTokenRequest("invalid-token");
-            given(jwtTokenProvider.validateToken("invalid-token")).willReturn(false);
+            given(jwtTokenProvider.parseRefreshToken("invalid-token")).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> authService.refresh(request))
                     .isInstanceOf(InvalidTokenException.class);
+            verify(refreshTokenStore, never()).rotate(anyString(), anyString(), anyString());
         }
 
         @Test
-        @DisplayName("Access 토큰으로 갱신 시도 실패")
-        void refresh_NotRefreshToken_ThrowsException() throws Exception {
+        @DisplayName("이미 회전된 토큰 재사용 시 실패 (패밀리 폐기)")
+        void refresh_ReuseDetected_ThrowsException() throws Exception {
             // given
-            RefreshTokenRequest request = createRefreshTokenRequest("access-token");
-            given(jwtTokenProvider.validateToken("access-token")).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken("access-token")).willReturn(false);
+            RefreshTokenRequest request = createRefreshTokenRequest("stolen-refresh-token");
+
+            given(jwtTokenProvider.parseRefreshToken("stolen-refresh-token")).willReturn(Optional.of(claims));
+            given(refreshTokenStore.rotate(eq("family-1"), eq("jti-1"), anyString()))
+                    .willReturn(RotationResult.REUSE_DETECTED);
 
             // when & then
             assertThatThrownBy(() -> authService.refresh(request))
                     .isInstanceOf(InvalidTokenException.class);
+            verify(jwtTokenProvider, never()).createAccessToken(any(), any(), any());
         }
 
         @Test
-        @DisplayName("삭제된 사용자의 토큰으로 갱신 실패")
-        void refresh_UserNotFound_ThrowsException() throws Exception {
+        @DisplayName("로그아웃/만료된 패밀리의 토큰으로 갱신 실패")
+        void refresh_FamilyNotFound_ThrowsException() throws Exception {
             // given
             RefreshTokenRequest request = createRefreshTokenRequest("valid-refresh-token");
 
-            given(jwtTokenProvider.validateToken("valid-refresh-token")).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken("valid-refresh-token")).willReturn(true);
-            given(jwtTokenProvider.getUserIdFromToken("valid-refresh-token")).willReturn(999L);
-            given(jwtTokenProvider.getEmailFromToken("valid-refresh-token")).willReturn("deleted@test.com");
-            given(userRepository.existsById(999L)).willReturn(false);
+            given(jwtTokenProvider.parseRefreshToken("valid-refresh-token")).willReturn(Optional.of(claims));
+            given(refreshTokenStore.rotate(eq("family-1"), eq("jti-1"), anyString()))
+                    .willReturn(RotationResult.NOT_FOUND);
 
             // when & then
             assertThatThrownBy(() -> authService.refresh(request))
-                    .isInstanceOf(UserNotFoundException.class);
+                    .isInstanceOf(InvalidTokenException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃")
+    class LogoutTest {
+
+        @Test
+        @DisplayName("로그아웃 시 토큰 패밀리 폐기")
+        void logout_RevokesFamily() throws Exception {
+            // given
+            RefreshTokenRequest request = createRefreshTokenRequest("valid-refresh-token");
+            given(jwtTokenProvider.parseRefreshToken("valid-refresh-token")).willReturn(Optional.of(
+                    new RefreshTokenClaims(1L, "test@test.com", "jti-1", "family-1")));
+
+            // when
+            authService.logout(request);
+
+            // then
+            verify(refreshTokenStore).revokeFamily("family-1");
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 토큰으로 로그아웃 시 무시")
+        void logout_InvalidToken_Ignored() throws Exception {
+            // given
+            RefreshTokenRequest request = createRefreshTokenRequest("invalid-token");
+            given(jwtTokenProvider.parseRefreshToken("invalid-token")).willReturn(Optional.empty());
+
+            // when
+            authService.logout(request);
+
+            // then
+            verify(refreshTokenStore, never()).revokeFamily(anyString());
         }
     }
 }
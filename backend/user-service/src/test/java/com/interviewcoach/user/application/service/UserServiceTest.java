@@ -5,6 +5,7 @@ import com.interviewcoach.user.application.dto.response.UserResponse;
 import com.interviewcoach.user.domain.entity.User;
 import com.interviewcoach.user.domain.repository.UserRepository;
 import com.interviewcoach.user.exception.UserNotFoundException;
+import com.interviewcoach.user.infrastructure.cache.UserCacheInvalidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +30,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCacheInvalidator userCacheInvalidator;
+
     @InjectMocks
     private UserService userService;
 
@@ -126,6 +131,7 @@ class UserServiceTest {
             assertThat(response.getTargetPosition()).isEqualTo("풀스택 개발자");
             assertThat(response.getExperienceYears()).isEqualTo(5);
             verify(userRepository).findById(USER_ID);
+            verify(userCacheInvalidator).invalidateAfterCommit(USER_ID);
         }
 
         @Test
@@ -156,6 +162,7 @@ class UserServiceTest {
             // when & then
             assertThatThrownBy(() -> userService.updateMyProfile(999L, request))
                     .isInstanceOf(UserNotFoundException.class);
+            verify(userCacheInvalidator, never()).invalidateAfterCommit(999L);
         }
     }
 }
@@ -0,0 +1,80 @@
+package com.interviewcoach.user.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [B-14] 인코더 설정별 로그인(matches) 처리량 벤치마크
+ *
+ * 실행: RUN_PASSWORD_BENCHMARK=true ./gradlew :user-service:test --tests '*PasswordEncoderBenchmarkTest'
+ * 출력: 설정별 단일 스레드 ops/s (= 코어당 처리량), 코어 수 스레드 동시 실행 시 전체 ops/s
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_PASSWORD_BENCHMARK", matches = "true")
+class PasswordEncoderBenchmarkTest {
+
+    private static final String RAW_PASSWORD = "Test1234!";
+    private static final int ITERATIONS_PER_THREAD = 20;
+
+    private record Scenario(String name, PasswordEncoder encoder) {}
+
+    @Test
+    void loginThroughputPerCore() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Scenario> scenarios = List.of(
+                new Scenario("bcrypt-10 (기본)", PasswordEncoderConfig.createDelegatingEncoder("bcrypt", 10, 19456, 2, 1)),
+                new Scenario("bcrypt-11", PasswordEncoderConfig.createDelegatingEncoder("bcrypt", 11, 19456, 2, 1)),
+                new Scenario("bcrypt-12", PasswordEncoderConfig.createDelegatingEncoder("bcrypt", 12, 19456, 2, 1)),
+                new Scenario("argon2id m=19MiB t=2 p=1", PasswordEncoderConfig.createDelegatingEncoder("argon2", 10, 19456, 2, 1)),
+                new Scenario("argon2id m=12MiB t=3 p=1", PasswordEncoderConfig.createDelegatingEncoder("argon2", 10, 12288, 3, 1))
+        );
+
+        System.out.println("=== Password encoder benchmark (cores: " + cores + ") ===");
+        System.out.printf("%-28s %14s %14s %12s%n", "config", "ops/s (1 core)", "ops/s (all)", "ms/op");
+
+        for (Scenario scenario : scenarios) {
+            String encoded = scenario.encoder().encode(RAW_PASSWORD);
+            // warm-up
+            for (int i = 0; i < 3; i++) {
+                scenario.encoder().matches(RAW_PASSWORD, encoded);
+            }
+
+            double singleThreadOps = measure(scenario.encoder(), encoded, 1);
+            double allCoreOps = measure(scenario.encoder(), encoded, cores);
+            System.out.printf("%-28s %14.1f %14.1f %12.1f%n",
+                    scenario.name(), singleThreadOps, allCoreOps, 1000.0 / singleThreadOps);
+
+            assertThat(singleThreadOps).isPositive();
+        }
+    }
+
+    private double measure(PasswordEncoder encoder, String encoded, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ITERATIONS_PER_THREAD; i++) {
+                        encoder.matches(RAW_PASSWORD, encoded);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return threads * ITERATIONS_PER_THREAD / seconds;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.interviewcoach.user.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordEncoderConfig 단위 테스트")
+class PasswordEncoderConfigTest {
+
+    private static final String RAW_PASSWORD = "password123";
+
+    private PasswordEncoder encoder(String id, int bcryptStrength) {
+        return PasswordEncoderConfig.createDelegatingEncoder(id, bcryptStrength, 19456, 2, 1);
+    }
+
+    @Nested
+    @DisplayName("기존 해시 호환")
+    class LegacyHashTest {
+
+        @Test
+        @DisplayName("prefix 없는 기존 BCrypt 해시 검증 성공 및 재해싱 대상")
+        void legacyBcryptHash_MatchesAndNeedsUpgrade() {
+            // given
+            String legacyHash = new BCryptPasswordEncoder().encode(RAW_PASSWORD);
+            PasswordEncoder encoder = encoder(PasswordEncoderConfig.BCRYPT, 10);
+
+            // when & then
+            assertThat(encoder.matches(RAW_PASSWORD, legacyHash)).isTrue();
+            assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+        }
+
+        @Test
+        @DisplayName("현재 설정과 같은 해시는 재해싱하지 않음")
+        void currentHash_NoUpgrade() {
+            // given
+            PasswordEncoder encoder = encoder(PasswordEncoderConfig.BCRYPT, 10);
+            String encoded = encoder.encode(RAW_PASSWORD);
+
+            // when & then
+            assertThat(encoded).startsWith("{bcrypt}");
+            assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("bcrypt cost 상향 시 기존 해시는 재해싱 대상")
+        void bcryptStrengthRaised_NeedsUpgrade() {
+            // given
+            String encoded = encoder(PasswordEncoderConfig.BCRYPT, 4).encode(RAW_PASSWORD);
+            PasswordEncoder stronger = encoder(PasswordEncoderConfig.BCRYPT, 6);
+
+            // when & then
+            assertThat(stronger.matches(RAW_PASSWORD, encoded)).isTrue();
+            assertThat(stronger.upgradeEncoding(encoded)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("알고리즘 전환")
+    class MigrationTest {
+
+        @Test
+        @DisplayName("argon2 전환 시 신규 해시는 argon2, bcrypt 해시는 재해싱 대상")
+        void switchToArgon2_BcryptHashNeedsUpgrade() {
+            // given
+            String bcryptHash = encoder(PasswordEncoderConfig.BCRYPT, 4).encode(RAW_PASSWORD);
+            PasswordEncoder argon2 = encoder(PasswordEncoderConfig.ARGON2, 10);
+
+            // when
+            String argon2Hash = argon2.encode(RAW_PASSWORD);
+
+            // then
+            assertThat(argon2Hash).startsWith("{argon2}");
+            assertThat(argon2.matches(RAW_PASSWORD, argon2Hash)).isTrue();
+            assertThat(argon2.matches(RAW_PASSWORD, bcryptHash)).isTrue();
+            assertThat(argon2.upgradeEncoding(bcryptHash)).isTrue();
+            assertThat(argon2.upgradeEncoding(argon2Hash)).isFalse();
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 인코더 ID는 예외")
+        void unsupportedEncoder_ThrowsException() {
+            assertThatThrownBy(() -> encoder("md5", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -189,4 +190,25 @@ class AuthControllerTest {
                     .andExpect(status().isUnauthorized());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/auth/logout")
+    class LogoutTest {
+
+        @Test
+        @DisplayName("로그아웃 성공 - 204 No Content")
+        void logout_Success() throws Exception {
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/logout")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                        "refreshToken": "valid-refresh-token"
+                                    }
+                                    """))
+                    .andExpect(status().isNoContent());
+
+            verify(authService).logout(any());
+        }
+    }
 }
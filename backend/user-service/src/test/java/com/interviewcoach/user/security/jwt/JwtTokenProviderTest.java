@@ -13,6 +13,7 @@ import javax.crypto.SecretKey;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,7 +52,7 @@ class JwtTokenProviderTest {
         @DisplayName("Access 토큰 생성 성공")
         void createAccessToken_Success() {
             // when
-            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "family-1");
 
             // then
             assertThat(token).isNotNull().isNotBlank();
@@ -61,7 +62,7 @@ class JwtTokenProviderTest {
         @DisplayName("Refresh 토큰 생성 성공")
         void createRefreshToken_Success() {
             // when
-            String token = jwtTokenProvider.createRefreshToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createRefreshToken(1L, "user@test.com", "family-1", "jti-1");
 
             // then
             assertThat(token).isNotNull().isNotBlank();
@@ -71,7 +72,7 @@ class JwtTokenProviderTest {
         @DisplayName("Access 토큰에 올바른 클레임 포함")
         void createAccessToken_ContainsCorrectClaims() {
             // when
-            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "family-1");
 
             // then
             Long userId = jwtTokenProvider.getUserIdFromToken(token);
@@ -85,7 +86,7 @@ class JwtTokenProviderTest {
         @DisplayName("Access 토큰 타입은 access")
         void createAccessToken_HasAccessType() {
             // when
-            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "family-1");
 
             // then
             assertThat(jwtTokenProvider.isRefreshToken(token)).isFalse();
@@ -95,7 +96,7 @@ class JwtTokenProviderTest {
         @DisplayName("Refresh 토큰 타입은 refresh")
         void createRefreshToken_HasRefreshType() {
             // when
-            String token = jwtTokenProvider.createRefreshToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createRefreshToken(1L, "user@test.com", "family-1", "jti-1");
 
             // then
             assertThat(jwtTokenProvider.isRefreshToken(token)).isTrue();
@@ -110,7 +111,7 @@ class JwtTokenProviderTest {
         @DisplayName("유효한 토큰 검증 성공")
         void validateToken_ValidToken_ReturnsTrue() {
             // given
-            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "family-1");
 
             // when & then
             assertThat(jwtTokenProvider.validateToken(token)).isTrue();
@@ -137,7 +138,7 @@ class JwtTokenProviderTest {
             setField(jwtTokenProvider, "accessTokenExpiration", 0L);
             jwtTokenProvider.init();
 
-            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com");
+            String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", "family-1");
 
             // wait briefly for token to expire
             Thread.sleep(10);
@@ -186,7 +187,7 @@ class JwtTokenProviderTest {
         @DisplayName("토큰에서 사용자 ID 추출")
         void getUserIdFromToken_Success() {
             // given
-            String token = jwtTokenProvider.createAccessToken(42L, "user@test.com");
+            String token = jwtTokenProvider.createAccessToken(42L, "user@test.com", "family-1");
 
             // when
             Long userId = jwtTokenProvider.getUserIdFromToken(token);
@@ -199,7 +200,7 @@ class JwtTokenProviderTest {
         @DisplayName("토큰에서 이메일 추출")
         void getEmailFromToken_Success() {
             // given
-            String token = jwtTokenProvider.createAccessToken(1L, "hello@world.com");
+            String token = jwtTokenProvider.createAccessToken(1L, "hello@world.com", "family-1");
 
             // when
             String email = jwtTokenProvider.getEmailFromToken(token);
@@ -208,4 +209,43 @@ class JwtTokenProviderTest {
             assertThat(email).isEqualTo("hello@world.com");
         }
     }
+
+    @Nested
+    @DisplayName("Refresh Token 패밀리")
+    class RefreshTokenFamilyTest {
+
+        @Test
+        @DisplayName("패밀리 Refresh 토큰 파싱 시 jti/fid 포함")
+        void parseRefreshToken_ReturnsFamilyClaims() {
+            // given
+            String token = jwtTokenProvider.createRefreshToken(7L, "user@test.com", "family-1", "jti-1");
+
+            // when
+            Optional<JwtTokenProvider.RefreshTokenClaims> claims = jwtTokenProvider.parseRefreshToken(token);
+
+            // then
+            assertThat(claims).contains(new JwtTokenProvider.RefreshTokenClaims(7L, "user@test.com", "jti-1", "family-1"));
+        }
+
+        @Test
+        @DisplayName("Access 토큰이나 패밀리 정보 없는 기존 Refresh 토큰은 거부")
+        void parseRefreshToken_RejectsAccessAndLegacyTokens() {
+            // given
+            String accessToken = jwtTokenProvider.createAccessToken(7L, "user@test.com", "family-1");
+            // jti / fid 클레임이 없는 [B-15] 이전 형식
+            String legacyRefreshToken = Jwts.builder()
+                    .subject("7")
+                    .claim("email", "user@test.com")
+                    .claim("type", "refresh")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
+                    .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+
+            // when & then
+            assertThat(jwtTokenProvider.parseRefreshToken(accessToken)).isEmpty();
+            assertThat(jwtTokenProvider.parseRefreshToken(legacyRefreshToken)).isEmpty();
+            assertThat(jwtTokenProvider.parseRefreshToken("invalid")).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.interviewcoach.user.security.jwt;
+
+import com.interviewcoach.user.security.jwt.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RefreshTokenStore 단위 테스트")
+class RefreshTokenStoreTest {
+
+    private static final long REFRESH_TTL = 604800000L;
+    private static final long ACCESS_TTL = 3600000L;
+    private static final List<String> FAMILY_KEYS =
+            List.of(RefreshTokenStore.FAMILY_KEY_PREFIX + "family-1", RefreshTokenStore.REVOKED_KEY);
+
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        store = new RefreshTokenStore(redisTemplate, REFRESH_TTL, ACCESS_TTL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRotateResult(Long result) {
+        given(redisTemplate.execute(any(RedisScript.class), eq(FAMILY_KEYS),
+                eq("jti-1"), eq("jti-2"), eq(String.valueOf(REFRESH_TTL)), eq("family-1"), anyString()))
+                .willReturn(result);
+    }
+
+    @Test
+    @DisplayName("등록 시 Refresh Token 만료와 같은 TTL로 현재 jti 저장")
+    @SuppressWarnings("unchecked")
+    void register_StoresCurrentJtiWithTtl() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        store.register("family-1", "jti-1");
+
+        // then
+        verify(valueOperations).set("refresh:family:family-1", "jti-1", Duration.ofMillis(REFRESH_TTL));
+    }
+
+    @Test
+    @DisplayName("스크립트 결과에 따라 회전/재사용 감지/미존재 구분")
+    void rotate_MapsScriptResult() {
+        givenRotateResult(1L);
+        assertThat(store.rotate("family-1", "jti-1", "jti-2")).isEqualTo(RotationResult.ROTATED);
+
+        givenRotateResult(-1L);
+        assertThat(store.rotate("family-1", "jti-1", "jti-2")).isEqualTo(RotationResult.REUSE_DETECTED);
+
+        givenRotateResult(0L);
+        assertThat(store.rotate("family-1", "jti-1", "jti-2")).isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("패밀리 폐기 시 Access Token 만료 시각까지 폐기 목록 유지")
+    @SuppressWarnings("unchecked")
+    void revokeFamily_RecordsUntilAccessTokenExpiry() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        store.revokeFamily("family-1");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(FAMILY_KEYS), eq("family-1"),
+                org.mockito.ArgumentMatchers.<String>argThat(until -> Long.parseLong(until) >= before + ACCESS_TTL));
+    }
+}
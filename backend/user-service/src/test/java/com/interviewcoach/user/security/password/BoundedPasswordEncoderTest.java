@@ -0,0 +1,106 @@
+package com.interviewcoach.user.security.password;
+
+import com.interviewcoach.user.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PasswordEncoder plainEncoder(CountDownLatch block) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await(block);
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await(block);
+                return encodedPassword.equals("hashed:" + rawPassword);
+            }
+        };
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱은 전용 executor에서 실행되어 결과 반환")
+    void matches_RunsOnExecutor() {
+        // given
+        AtomicReference<Thread> hashingThread = new AtomicReference<>();
+        PasswordEncoder delegate = plainEncoder(new CountDownLatch(0));
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThread.set(Thread.currentThread());
+                return delegate.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return delegate.matches(rawPassword, encodedPassword);
+            }
+        }, executor, 1000);
+
+        // when & then
+        assertThat(encoder.encode("pw")).isEqualTo("hashed:pw");
+        assertThat(encoder.matches("pw", "hashed:pw")).isTrue();
+        assertThat(hashingThread.get()).isNotEqualTo(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 시 PasswordHashingBusyException")
+    void matches_Timeout_ThrowsBusy() {
+        // given
+        CountDownLatch block = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(plainEncoder(block), executor, 50);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("pw", "hashed:pw"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        block.countDown();
+    }
+
+    @Test
+    @DisplayName("큐 포화 시 즉시 PasswordHashingBusyException")
+    void matches_QueueFull_ThrowsBusy() {
+        // given
+        CountDownLatch block = new CountDownLatch(1);
+        PasswordEncoder blocking = plainEncoder(block);
+        executor.submit(() -> blocking.encode("running"));
+        executor.submit(() -> blocking.encode("queued"));
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, executor, 1000);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("pw", "hashed:pw"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        block.countDown();
+    }
+}
@@ -6,7 +6,7 @@ import Link from 'next/link';
 import { motion } from 'motion/react';
 import { Button, Card, Textarea, Tag, ScoreRing } from '@/components/ui';
 import { useInterviewStore } from '@/stores/interview';
-import { interviewApi, feedbackApi, questionApi, statisticsApi, jdApi } from '@/lib/api';
+import { interviewApi, feedbackApi, questionApi, jdApi } from '@/lib/api';
 import {
   Brain,
   Send,
@@ -36,6 +36,9 @@ interface QuestionWithCategory {
   skillCategory: string;
 }
 
+// Re-sends of a failed grading stream (grading is idempotent per answer on the server)
+const GRADE_RETRY_LIMIT = 1;
+
 // Extended feedback type that may include idealAnswer from LLM
 interface FeedbackWithIdealAnswer extends QnaFeedback {
   idealAnswer?: string;
@@ -255,112 +258,67 @@ export default function InterviewPage() {
     setShowIdealAnswer(false);
 
     try {
-      // Submit the answer
-      await interviewApi.submitAnswer(session.id, {
-        questionOrder: currentQuestionIndex + 1,
-        answerText: answer,
-      });
-
-      // Use POST for streaming feedback (supports long answers without URL length limits)
+      // Submit + grade in one stream: the server persists the answer/feedback and records statistics
       let feedbackData: FeedbackWithIdealAnswer | null = null;
       const questionSkillCategory = questionsWithCategoryRef.current[currentQuestionIndex]?.skillCategory || currentQna.questionType || 'general';
 
-      await feedbackApi.streamPost(
-        session.id,
-        {
-          qnaId: currentQna?.id,
-          question: currentQna?.questionText,
-          answer: answer,
-          followUpDepth: currentFollowUpDepth,
-        },
-        // onFeedback callback
-        (data) => {
-          const followUp = data.followUpQuestion as FollowUpQuestion | undefined;
-          feedbackData = {
-            score: (data.score as number) || 75,
-            strengths: (data.strengths as string[]) || [],
-            improvements: (data.improvements as string[]) || [],
-            tips: Array.isArray(data.tips) ? data.tips as string[] : (data.tips ? [data.tips as string] : []),
-            followUpQuestion: followUp,
-            hasFollowUp: (data.hasFollowUp as boolean) || false,
-            idealAnswer: (data.idealAnswer as string) || undefined,
-          };
-          // Capture follow-up question for UI
-          if (followUp && data.hasFollowUp) {
-            setFollowUpQuestion(followUp);
-          } else {
-            setFollowUpQuestion(null);
-          }
-          // Display overall comment as streaming feedback
-          if (data.overallComment) {
-            setStreamingFeedback(data.overallComment as string);
-          }
-        },
-        // onComplete callback
-        async () => {
-          setIsStreaming(false);
-          if (feedbackData && session) {
-            setFeedback(feedbackData);
-            setResults((prev) => [...prev, { qna: currentQna, feedback: feedbackData!, skillCategory: questionSkillCategory }]);
-
-            // Save feedback to interview-service for persistence
-            try {
-              await interviewApi.updateFeedback(session.id, currentQuestionIndex + 1, feedbackData);
-            } catch {
-              // Non-critical: feedback persistence failure
-            }
-
-            // Record statistics immediately (don't wait until interview end)
-            try {
-              await statisticsApi.record({
-                skillCategory: questionSkillCategory,
-                isCorrect: feedbackData.score >= 60,
-                score: feedbackData.score,
-                weakPoint: feedbackData.score < 60 ? feedbackData.improvements[0] : undefined,
-              });
-            } catch {
-              // Non-critical: statistics recording failure
-            }
-          }
-        },
-        // onError callback
-        async () => {
-          // SSE stream error - fallback to placeholder feedback
-          setIsStreaming(false);
-          // If we didn't get feedback from SSE, create a placeholder
-          if (!feedbackData) {
-            feedbackData = {
-              score: 70,
-              strengths: ['답변이 제출되었습니다'],
-              improvements: ['피드백을 불러오는 중 오류가 발생했습니다'],
-              tips: [],
-            };
-            setFeedback(feedbackData);
-            setResults((prev) => [...prev, { qna: currentQna, feedback: feedbackData!, skillCategory: questionSkillCategory }]);
-
-            // Save fallback feedback
-            if (session) {
-              try {
-                await interviewApi.updateFeedback(session.id, currentQuestionIndex + 1, feedbackData);
-              } catch {
-                // Non-critical: fallback feedback persistence failure
-              }
-
-              // Record statistics even on error (so it counts in stats)
-              try {
-                await statisticsApi.record({
-                  skillCategory: questionSkillCategory,
-                  isCorrect: feedbackData.score >= 60,
-                  score: feedbackData.score,
-                  weakPoint: feedbackData.score < 60 ? feedbackData.improvements[0] : undefined,
-                });
-              } catch {
-                // Non-critical: statistics recording failure on error path
-              }
-            }
-          }
+      const gradeRequest = {
+        qnaId: currentQna?.id,
+        questionOrder: currentQuestionIndex + 1,
+        question: currentQna?.questionText,
+        answer: answer,
+        followUpDepth: currentFollowUpDepth,
+        skillCategory: questionSkillCategory,
+      };
+
+      // onFeedback callback
+      const handleFeedback = (data: Record<string, unknown>) => {
+        const followUp = data.followUpQuestion as FollowUpQuestion | undefined;
+        feedbackData = {
+          score: (data.score as number) || 75,
+          strengths: (data.strengths as string[]) || [],
+          improvements: (data.improvements as string[]) || [],
+          tips: Array.isArray(data.tips) ? data.tips as string[] : (data.tips ? [data.tips as string] : []),
+          followUpQuestion: followUp,
+          hasFollowUp: (data.hasFollowUp as boolean) || false,
+          idealAnswer: (data.idealAnswer as string) || undefined,
+        };
+        // Capture follow-up question for UI
+        if (followUp && data.hasFollowUp) {
+          setFollowUpQuestion(followUp);
+        } else {
+          setFollowUpQuestion(null);
+        }
+        // Display overall comment as streaming feedback
+        if (data.overallComment) {
+          setStreamingFeedback(data.overallComment as string);
         }
-      );
+      };
+
+      // onComplete callback
+      const handleComplete = async () => {
+        setIsStreaming(false);
+        if (feedbackData && session) {
+          setFeedback(feedbackData);
+          setResults((prev) => [...prev, { qna: currentQna, feedback: feedbackData!, skillCategory: questionSkillCategory }]);
+        }
+      };
+
+      // A stream error does not tell us whether the server already saved the answer, so never write
+      // a fallback from here. Retry the same request instead: the server replays a finished grading
+      // from its cache (statistics are counted once per answer) or joins the in-flight one.
+      for (let attempt = 0; attempt <= GRADE_RETRY_LIMIT && !feedbackData; attempt++) {
+        await feedbackApi.gradeAnswer(session.id, gradeRequest, handleFeedback, handleComplete, () => {
+          // onError: handled below once the retries are used up
+        });
+      }
+
+      if (!feedbackData) {
+        setIsStreaming(false);
+        setShowFeedback(false);
+        setError('피드백을 받지 못했습니다. 답변을 다시 제출해주세요.');
+        toast.error('피드백을 받지 못했습니다.');
+      }
 
     } catch {
       setError('답변 제출에 실패했습니다. 다시 시도해주세요.');
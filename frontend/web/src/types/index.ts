@@ -62,6 +62,8 @@ export interface InterviewSession {
   status: InterviewStatus;
   totalQuestions: number;
   avgScore?: number;
+  currentAvgScore?: number; // 채점된 QnA 기준 실시간 평균 (QnA 조회 없이 제공)
+  scoredCount?: number;
   startedAt: string;
   completedAt?: string;
   qnaList?: InterviewQna[];
@@ -75,6 +77,8 @@ export interface InterviewQna {
   questionText: string;
   answerText?: string;
   feedback?: QnaFeedback;
+  score?: number;
+  focusArea?: string;
   answeredAt?: string;
   parentQnaId?: number;
   followUpDepth?: number;
@@ -25,6 +25,9 @@ CREATE TABLE IF NOT EXISTS job_descriptions (
     created_at TIMESTAMP DEFAULT NOW()
 );
 
+-- [B-33] JPA SEQUENCE(pooled-lo, allocationSize 50)와 증가폭 일치 - JD 일괄 등록 INSERT batch용 id 선할당
+ALTER SEQUENCE job_descriptions_id_seq INCREMENT BY 50;
+
 -- Interview Sessions table
 CREATE TABLE IF NOT EXISTS interview_sessions (
     id BIGSERIAL PRIMARY KEY,
@@ -34,6 +37,8 @@ CREATE TABLE IF NOT EXISTS interview_sessions (
     status VARCHAR(20) DEFAULT 'in_progress', -- 'in_progress', 'completed', 'cancelled'
     total_questions INT DEFAULT 0,
     avg_score DECIMAL(3,1),
+    score_sum BIGINT NOT NULL DEFAULT 0, -- 채점된 QnA 점수 합계 (피드백 반영 시 증감)
+    scored_count INT NOT NULL DEFAULT 0, -- 채점된 QnA 수
     started_at TIMESTAMP DEFAULT NOW(),
     completed_at TIMESTAMP
 );
@@ -47,12 +52,18 @@ CREATE TABLE IF NOT EXISTS interview_qna (
     question_text TEXT NOT NULL,
     answer_text TEXT,
     feedback JSONB, -- {score, strengths, improvements, tips}
+    score SMALLINT, -- feedback.score 정규화 컬럼 (집계용, jsonb와 함께 갱신)
+    focus_area VARCHAR(50), -- 꼬리 질문이 탐구하는 영역 (구체적 사례, 기술적 깊이 등)
     answered_at TIMESTAMP,
     parent_qna_id BIGINT,
     follow_up_depth INT DEFAULT 0,
     is_follow_up BOOLEAN DEFAULT false
 );
 
+-- [B-24] JPA SEQUENCE(pooled-lo, allocationSize 50)와 증가폭 일치 - INSERT batch용 id 선할당
+ALTER SEQUENCE interview_sessions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE interview_qna_id_seq INCREMENT BY 50;
+
 -- User Statistics table
 CREATE TABLE IF NOT EXISTS user_statistics (
     id BIGSERIAL PRIMARY KEY,
@@ -80,6 +91,9 @@ CREATE TABLE IF NOT EXISTS generated_questions (
     created_at TIMESTAMP DEFAULT NOW()
 );
 
+-- [B-32] JPA SEQUENCE(pooled-lo, allocationSize 50)와 증가폭 일치 - 일괄 생성 INSERT batch용 id 선할당
+ALTER SEQUENCE generated_questions_id_seq INCREMENT BY 50;
+
 -- Daily Activity table
 CREATE TABLE IF NOT EXISTS daily_activity (
     id BIGSERIAL PRIMARY KEY,
@@ -91,6 +105,16 @@ CREATE TABLE IF NOT EXISTS daily_activity (
     UNIQUE(user_id, activity_date)
 );
 
+-- [B-20] 통계에 반영된 채점 답변 (세션 + 질문 순번당 1행) - 재시도 시 통계 중복 집계 방지
+CREATE TABLE IF NOT EXISTS graded_answer_records (
+    id BIGSERIAL PRIMARY KEY,
+    session_id BIGINT NOT NULL,
+    question_order INT NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    recorded_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    UNIQUE(session_id, question_order)
+);
+
 -- Indexes
 CREATE INDEX idx_jd_user_id ON job_descriptions(user_id);
 CREATE INDEX idx_session_user_id ON interview_sessions(user_id);
@@ -118,3 +142,6 @@ CREATE INDEX idx_questions_jd_type ON generated_questions(jd_id, question_type);
 -- 면접 QnA 텍스트 검색 (A-1 검색 기능 지원)
 CREATE INDEX idx_qna_question_text ON interview_qna USING gin(to_tsvector('simple', question_text));
 CREATE INDEX idx_qna_answer_text ON interview_qna USING gin(to_tsvector('simple', answer_text));
+
+-- [B-23] 채점된 QnA만 담는 부분 인덱스 - 점수 집계(세션/주간 평균, 취약 영역)를 jsonb 파싱 없이 index-only scan으로 처리
+CREATE INDEX idx_qna_scored ON interview_qna(session_id, answered_at) INCLUDE (score, focus_area) WHERE score IS NOT NULL;
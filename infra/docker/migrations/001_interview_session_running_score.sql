@@ -0,0 +1,22 @@
+-- [B-22] interview_sessions 누적 점수 컬럼 추가 + 기존 데이터 backfill
+-- init.sql은 신규 볼륨에서만 실행되므로 기존 DB에는 이 스크립트를 한 번 적용 (재실행해도 결과 동일)
+--   psql -U postgres -d interview_coach -f infra/docker/migrations/001_interview_session_running_score.sql
+
+BEGIN;
+
+ALTER TABLE interview_sessions ADD COLUMN IF NOT EXISTS score_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE interview_sessions ADD COLUMN IF NOT EXISTS scored_count INT NOT NULL DEFAULT 0;
+
+-- feedback.score가 숫자인 QnA만 채점된 것으로 집계 (애플리케이션의 InterviewQna.scoreOf와 동일한 반올림)
+UPDATE interview_sessions s
+   SET score_sum = agg.score_sum,
+       scored_count = agg.scored_count
+  FROM (SELECT session_id,
+               SUM(ROUND((feedback ->> 'score')::numeric))::bigint AS score_sum,
+               COUNT(*)::int AS scored_count
+          FROM interview_qna
+         WHERE jsonb_typeof(feedback -> 'score') = 'number'
+         GROUP BY session_id) agg
+ WHERE s.id = agg.session_id;
+
+COMMIT;
@@ -0,0 +1,25 @@
+-- [B-23] interview_qna.score / focus_area 정규화 컬럼 추가 + backfill + 부분 인덱스
+-- feedback jsonb는 상세 내용(strengths, improvements, tips) 보관용으로 유지
+--   psql -U postgres -d interview_coach -f infra/docker/migrations/002_interview_qna_score_column.sql
+
+ALTER TABLE interview_qna ADD COLUMN IF NOT EXISTS score SMALLINT;
+ALTER TABLE interview_qna ADD COLUMN IF NOT EXISTS focus_area VARCHAR(50);
+
+-- score IS NULL 조건으로 재실행/중단 후 재개 가능 (대용량 테이블은 id 범위를 나눠 실행)
+UPDATE interview_qna
+   SET score = ROUND((feedback ->> 'score')::numeric)::smallint
+ WHERE score IS NULL
+   AND jsonb_typeof(feedback -> 'score') = 'number';
+
+-- 꼬리 질문의 탐구 영역은 부모 QnA 채점 결과(followUpQuestion.focusArea)에서 복원
+UPDATE interview_qna c
+   SET focus_area = LEFT(p.feedback -> 'followUpQuestion' ->> 'focusArea', 50)
+  FROM interview_qna p
+ WHERE c.parent_qna_id = p.id
+   AND c.focus_area IS NULL
+   AND NULLIF(p.feedback -> 'followUpQuestion' ->> 'focusArea', '') IS NOT NULL;
+
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY (트랜잭션 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_qna_scored
+    ON interview_qna(session_id, answered_at) INCLUDE (score, focus_area)
+ WHERE score IS NOT NULL;
@@ -0,0 +1,6 @@
+-- [B-24] interview_sessions / interview_qna id 시퀀스 증가폭을 JPA allocationSize(50)에 맞춤
+-- Hibernate가 시작 시 증가폭 불일치를 검사하므로 interview-service 배포 전에 적용
+--   psql -U postgres -d interview_coach -f infra/docker/migrations/003_interview_id_sequence_increment.sql
+
+ALTER SEQUENCE interview_sessions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE interview_qna_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- [B-32] generated_questions id 시퀀스 증가폭을 JPA allocationSize(50)에 맞춤
+-- Hibernate가 시작 시 증가폭 불일치를 검사하므로 question-service 배포 전에 적용
+--   psql -U postgres -d interview_coach -f infra/docker/migrations/004_generated_question_id_sequence_increment.sql
+
+ALTER SEQUENCE generated_questions_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- [B-33] job_descriptions id 시퀀스 증가폭을 JPA allocationSize(50)에 맞춤
+-- Hibernate가 시작 시 증가폭 불일치를 검사하므로 question-service 배포 전에 적용
+--   psql -U postgres -d interview_coach -f infra/docker/migrations/005_job_description_id_sequence_increment.sql
+
+ALTER SEQUENCE job_descriptions_id_seq INCREMENT BY 50;
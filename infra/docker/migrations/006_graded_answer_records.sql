@@ -0,0 +1,12 @@
+-- [B-20] 통계에 반영된 채점 답변 표식 - 캐시 재생/재시도 시 user_statistics, daily_activity 중복 집계 방지
+-- feedback-service가 ddl-auto: validate로 테이블 존재를 검사하므로 배포 전에 적용
+--   psql -U postgres -d interview_coach -f infra/docker/migrations/006_graded_answer_records.sql
+
+CREATE TABLE IF NOT EXISTS graded_answer_records (
+    id BIGSERIAL PRIMARY KEY,
+    session_id BIGINT NOT NULL,
+    question_order INT NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    recorded_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    UNIQUE(session_id, question_order)
+);
@@ -0,0 +1,141 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Rate, Trend, Gauge } from 'k6/metrics';
+import { config } from '../lib/config.js';
+import { login } from '../lib/auth.js';
+import { connectSSE } from '../lib/sse-helper.js';
+
+/**
+ * [B-17] SSE Soak Test (리액티브 vs SseEmitter 피드백 스트림)
+ *
+ * 목적:
+ *   - 노드 하나가 수만 개의 동시 SSE 연결을 유지할 수 있는지 검증
+ *   - 기존 /stream (SseEmitter + feedbackExecutor)과 /stream/reactive (Flux + 스트리밍 LLM) 비교
+ *
+ * 시나리오:
+ *   1. STREAM_VUS(기본 10000)까지 램프업 후 SOAK_DURATION(기본 1h) 유지
+ *   2. 각 VU는 피드백 스트림 1개를 끝까지 수신 후 잠시 대기 → 반복
+ *   3. 1분 간격으로 힙, 라이브 스레드 수, 동시성 제한 거부 수 수집
+ *
+ * 실행:
+ *   k6 run -e ENDPOINT=reactive performance/k6/scenarios/sse-soak-test.js
+ *   k6 run -e ENDPOINT=legacy   performance/k6/scenarios/sse-soak-test.js
+ *
+ * 핵심 관찰:
+ *   - jvm.threads.live: reactive는 연결 수와 무관하게 평탄해야 함
+ *   - jvm.memory.used{area="heap"}: 연결당 메모리, 선형 증가 여부 (누수)
+ *   - http.server.concurrency.rejected: legacy는 B-13 한도에서 503, reactive는 제외 경로
+ *   - feedback_stream_completed: error/busy 이벤트 없이 complete까지 수신한 비율
+ *
+ * 주의: 부하 생성기/서버 모두 ulimit -n (열린 파일 수)을 연결 수 이상으로 올린 뒤 실행
+ */
+
+const ENDPOINT = __ENV.ENDPOINT || 'reactive';
+const STREAM_VUS = parseInt(__ENV.STREAM_VUS || '10000', 10);
+const SOAK_DURATION = __ENV.SOAK_DURATION || '1h';
+const STREAM_PATH = ENDPOINT === 'legacy' ? 'stream' : 'stream/reactive';
+
+const streamDuration = new Trend('feedback_stream_duration', true);
+const streamCompleted = new Rate('feedback_stream_completed');
+const heapMetric = new Gauge('jvm_heap_used_mb');
+const threadMetric = new Gauge('jvm_threads_live');
+const rejectedMetric = new Gauge('concurrency_rejected_total');
+
+export const options = {
+  scenarios: {
+    streams: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '10m', target: STREAM_VUS },  // 램프업
+        { duration: SOAK_DURATION, target: STREAM_VUS },  // 유지
+        { duration: '5m', target: 0 },  // 쿨다운
+      ],
+      gracefulRampDown: '2m',
+      exec: 'holdStream',
+    },
+    resource_monitor: {
+      executor: 'constant-vus',
+      vus: 1,
+      duration: '1h20m',
+      exec: 'resourceMonitor',
+    },
+  },
+
+  thresholds: {
+    feedback_stream_completed: ['rate>0.99'],
+    feedback_stream_duration: ['p(95)<30000'],
+  },
+};
+
+export function setup() {
+  const loginResult = login();
+  if (!loginResult.success) {
+    console.error('Setup failed: Could not authenticate');
+  }
+  console.log(`SSE soak: endpoint=${STREAM_PATH}, vus=${STREAM_VUS}, duration=${SOAK_DURATION}`);
+  return {
+    token: loginResult.token,
+    startTime: Date.now(),
+  };
+}
+
+export function holdStream(data) {
+  const sessionId = (__VU % 1000) + 1;
+  const qnaId = __VU * 100000 + __ITER;
+  const url = `${config.services.feedback}/api/v1/feedback/session/${sessionId}/${STREAM_PATH}`
+    + `?qnaId=${qnaId}`
+    + `&question=${encodeURIComponent('트랜잭션 격리 수준을 설명해주세요')}`
+    + `&answer=${encodeURIComponent('READ COMMITTED와 REPEATABLE READ의 차이를 MVCC 관점에서 설명하면...')}`;
+
+  const start = Date.now();
+  const result = connectSSE(url, {
+    token: data.token,
+    timeout: 120000,
+    tagName: `feedback-${ENDPOINT}`,
+  });
+  streamDuration.add(Date.now() - start);
+
+  const completed = result.success
+    && result.events.some((e) => e.event === 'feedback')
+    && !result.events.some((e) => e.event === 'error');
+  streamCompleted.add(completed);
+  check(result, { 'stream completed with feedback': () => completed });
+
+  sleep(Math.random() * 5 + 5);
+}
+
+export function resourceMonitor() {
+  const base = config.services.feedback;
+
+  const heapRes = http.get(`${base}/actuator/metrics/jvm.memory.used?tag=area:heap`,
+    { tags: { name: 'feedback-heap-memory' } });
+  if (heapRes.status === 200) {
+    const heapMb = heapRes.json('measurements')[0].value / (1024 * 1024);
+    heapMetric.add(heapMb);
+    console.log(`[feedback] Heap: ${heapMb.toFixed(1)}MB`);
+  }
+
+  const threadRes = http.get(`${base}/actuator/metrics/jvm.threads.live`,
+    { tags: { name: 'feedback-threads' } });
+  if (threadRes.status === 200) {
+    const threads = threadRes.json('measurements')[0].value;
+    threadMetric.add(threads);
+    console.log(`[feedback] Live threads: ${threads}`);
+  }
+
+  const rejectedRes = http.get(`${base}/actuator/metrics/http.server.concurrency.rejected`,
+    { tags: { name: 'feedback-concurrency-rejected' } });
+  if (rejectedRes.status === 200) {
+    rejectedMetric.add(rejectedRes.json('measurements')[0].value);
+  }
+
+  sleep(60);
+}
+
+export function teardown(data) {
+  const elapsed = ((Date.now() - data.startTime) / 1000 / 60).toFixed(1);
+  console.log(`=== SSE Soak Test 완료 (${STREAM_PATH}) ===`);
+  console.log(`실행 시간: ${elapsed}분`);
+  console.log('비교 포인트: jvm_threads_live (평탄 여부), jvm_heap_used_mb / 동시 연결 수, feedback_stream_completed');
+}
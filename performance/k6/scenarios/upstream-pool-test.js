@@ -0,0 +1,149 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Rate, Counter, Trend } from 'k6/metrics';
+import { config, httpOptions, vuScenarios } from '../lib/config.js';
+import { login, getAuthHeaders } from '../lib/auth.js';
+
+/**
+ * Upstream Connection Pool Test (B-12)
+ *
+ * 목적: Gateway → 서비스 구간 커넥션 churn 및 풀 포화 측정
+ * - stress-test.js와 동일한 단계(100 → 500 VU)로 모든 요청을 Gateway 경유
+ * - 별도 sampler 시나리오가 Gateway /actuator/prometheus를 주기적으로 수집
+ *   - reactor_netty_connection_provider_{active,idle,pending}_connections
+ *   - reactor_netty_http_client_connect_time_seconds_count (신규 커넥션 수 = churn)
+ *
+ * Before/After 비교:
+ *   GATEWAY_UPSTREAM_KEEP_ALIVE=false 로 Gateway 기동 → HTTP 커넥션 재사용 끔, 요청마다 신규 커넥션 (Before)
+ *   (TCP SO_KEEPALIVE는 GATEWAY_UPSTREAM_TCP_KEEP_ALIVE로 별도 설정, 이 비교에는 영향 없음)
+ *   기본 설정(keep-alive + 서비스별 풀)으로 Gateway 기동 → 커넥션 재사용 (After)
+ *
+ * 실행: k6 run performance/k6/scenarios/upstream-pool-test.js
+ */
+
+const POOL_NAME = 'gateway-upstream';
+const SAMPLE_INTERVAL_SECONDS = 5;
+
+export const options = {
+  scenarios: {
+    traffic: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: vuScenarios.stress.stages,
+      exec: 'traffic',
+    },
+    pool_sampler: {
+      executor: 'constant-vus',
+      vus: 1,
+      duration: '22m',
+      exec: 'samplePool',
+    },
+  },
+
+  thresholds: {
+    http_req_duration: ['p(95)<2000', 'p(99)<5000'],
+    http_req_failed: ['rate<0.1'],
+    upstream_pending_connections: ['p(95)<50'],
+  },
+
+  tags: {
+    testType: 'upstream-pool',
+  },
+};
+
+// 커스텀 메트릭
+const errorRate = new Rate('errors');
+const activeConnections = new Trend('upstream_active_connections');
+const idleConnections = new Trend('upstream_idle_connections');
+const pendingConnections = new Trend('upstream_pending_connections');
+const newConnections = new Counter('upstream_new_connections');
+
+let lastConnectCount = null;
+
+function scrapeGateway() {
+  const res = http.get(`${config.services.gateway}/actuator/prometheus`, {
+    tags: { name: 'prometheus-scrape' },
+    timeout: '10s',
+  });
+  return res.status === 200 ? res.body : '';
+}
+
+// 동일 이름의 모든 시계열 값 합산 (remote_address 별로 분리되어 있음)
+function sumMetric(body, metricName, poolOnly) {
+  let sum = 0;
+  for (const line of body.split('\n')) {
+    if (!line.startsWith(metricName)) continue;
+    if (poolOnly && !line.includes(`name="${POOL_NAME}"`)) continue;
+    const value = parseFloat(line.substring(line.lastIndexOf(' ') + 1));
+    if (!isNaN(value)) sum += value;
+  }
+  return sum;
+}
+
+export function setup() {
+  const loginResult = login();
+  const body = scrapeGateway();
+
+  return {
+    token: loginResult.token,
+    initialConnectCount: sumMetric(body, 'reactor_netty_http_client_connect_time_seconds_count', false),
+    startTime: new Date().toISOString(),
+  };
+}
+
+export function traffic(data) {
+  const headers = data.token ? getAuthHeaders(data.token) : httpOptions.headers;
+
+  const endpoints = [
+    { weight: 35, path: '/api/v1/jd', name: 'jd-list' },
+    { weight: 25, path: '/api/v1/users/me', name: 'get-profile' },
+    { weight: 20, path: '/api/v1/interviews', name: 'interview-list' },
+    { weight: 20, path: '/api/v1/statistics', name: 'statistics' },
+  ];
+
+  const random = Math.random() * 100;
+  let cumulative = 0;
+
+  for (const endpoint of endpoints) {
+    cumulative += endpoint.weight;
+    if (random < cumulative) {
+      const res = http.get(`${config.services.gateway}${endpoint.path}`, {
+        headers,
+        tags: { name: endpoint.name },
+        timeout: '30s',
+      });
+      check(res, {
+        [`${endpoint.name} ok`]: (r) => r.status === 200,
+      }) || errorRate.add(1);
+      break;
+    }
+  }
+
+  sleep(Math.random() * 2);
+}
+
+export function samplePool() {
+  const body = scrapeGateway();
+  if (body) {
+    activeConnections.add(sumMetric(body, 'reactor_netty_connection_provider_active_connections', true));
+    idleConnections.add(sumMetric(body, 'reactor_netty_connection_provider_idle_connections', true));
+    pendingConnections.add(sumMetric(body, 'reactor_netty_connection_provider_pending_connections', true));
+
+    const connectCount = sumMetric(body, 'reactor_netty_http_client_connect_time_seconds_count', false);
+    if (lastConnectCount !== null && connectCount >= lastConnectCount) {
+      newConnections.add(connectCount - lastConnectCount);
+    }
+    lastConnectCount = connectCount;
+  }
+
+  sleep(SAMPLE_INTERVAL_SECONDS);
+}
+
+export function teardown(data) {
+  const body = scrapeGateway();
+  const finalConnectCount = sumMetric(body, 'reactor_netty_http_client_connect_time_seconds_count', false);
+
+  console.log(`Upstream pool test completed. Started at: ${data.startTime}`);
+  console.log(`New upstream connections during test: ${finalConnectCount - data.initialConnectCount}`);
+  console.log('Compare upstream_new_connections / upstream_pending_connections between keep-alive on/off runs.');
+}